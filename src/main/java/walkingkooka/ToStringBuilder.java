@@ -19,6 +19,7 @@ package walkingkooka;
 
 import walkingkooka.build.Builder;
 import walkingkooka.text.CharSequences;
+import walkingkooka.text.PooledBuilder;
 
 import java.util.EnumSet;
 import java.util.Map;
@@ -804,34 +805,36 @@ final public class ToStringBuilder implements Builder<String> {
      */
     @Override
     public String toString() {
-        final StringBuilder toString = new StringBuilder();
-        toString.append(this.options);
-        toString.setLength(toString.length() - 1); // remove the closing ]
+        try (final PooledBuilder b = CharSequences.borrow()) {
+            final StringBuilder toString = b.builder();
+            toString.append(this.options);
+            toString.setLength(toString.length() - 1); // remove the closing ]
 
-        toString.append(", labelSeparator=");
-        toString.append(CharSequences.quoteAndEscape(this.labelSeparator));
+            toString.append(", labelSeparator=");
+            toString.append(CharSequences.quoteAndEscape(this.labelSeparator));
 
-        toString.append(", valueSeparator=");
-        toString.append(CharSequences.quoteAndEscape(this.valueSeparator));
+            toString.append(", valueSeparator=");
+            toString.append(CharSequences.quoteAndEscape(this.valueSeparator));
 
-        toString.append(", separator=");
-        toString.append(CharSequences.quoteAndEscape(this.separator));
+            toString.append(", separator=");
+            toString.append(CharSequences.quoteAndEscape(this.separator));
 
-        final StringBuilder buffer = this.buffer;
-        if (this.bufferLeft() >= 0) {
-            toString.append(", valueLength=");
-            toString.append(this.valueLength);
-
-            toString.append(", globalLength=");
-            toString.append(this.globalLength);
-        } else {
-            toString.append(", FULL");
+            final StringBuilder buffer = this.buffer;
+            if (this.bufferLeft() >= 0) {
+                toString.append(", valueLength=");
+                toString.append(this.valueLength);
+
+                toString.append(", globalLength=");
+                toString.append(this.globalLength);
+            } else {
+                toString.append(", FULL");
+            }
+            toString.append("] ");
+            toString.append(buffer.length());
+            toString.append("=");
+            toString.append(CharSequences.quoteAndEscape(buffer));
+            return toString.toString();
         }
-        toString.append("] ");
-        toString.append(buffer.length());
-        toString.append("=");
-        toString.append(CharSequences.quoteAndEscape(buffer));
-        return toString.toString();
     }
 
     /**
@@ -106,6 +106,13 @@ final public class Lists implements PublicStaticHelper {
         );
     }
 
+    /**
+     * Returns an empty {@link PersistentList}.
+     */
+    public static <T> PersistentList<T> persistent() {
+        return PersistentList.empty();
+    }
+
     /**
      * Returns a read only view of the given list. If the list is modified then the read only view will also contain different elements.
      */
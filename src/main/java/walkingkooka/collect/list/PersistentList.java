@@ -0,0 +1,411 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.list;
+
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An immutable {@link List} held in a trie with 32 children per node, with the last elements kept in a separate tail
+ * array. {@link #get(int)}, {@link #append(Object)}, {@link #replace(int, Object)} and {@link #withoutLast()} cost
+ * O(log32 n), which for practical sizes is a handful of small arrays, and any unchanged nodes are shared with the
+ * original list. {@link #subList(int, int)} returns a view sharing the same nodes. Many elements may be appended more
+ * cheaply using a {@link PersistentListBuilder}.
+ */
+public final class PersistentList<E> extends ImmutableList<E> {
+
+    private final static int BITS = PersistentListNode.BITS;
+
+    private final static int WIDTH = PersistentListNode.WIDTH;
+
+    private final static int MASK = PersistentListNode.MASK;
+
+    private final static Object[] EMPTY_TAIL = new Object[0];
+
+    /**
+     * The empty {@link PersistentList}.
+     */
+    private final static PersistentList<?> EMPTY = new PersistentList<>(
+            0,
+            BITS,
+            PersistentListNode.EMPTY,
+            EMPTY_TAIL
+    );
+
+    /**
+     * Returns the empty {@link PersistentList}.
+     */
+    static <E> PersistentList<E> empty() {
+        return Cast.to(EMPTY);
+    }
+
+    /**
+     * Factory used by {@link PersistentListBuilder}, the tail must not be shared.
+     */
+    static <E> PersistentList<E> with(final int size,
+                                      final int shift,
+                                      final PersistentListNode root,
+                                      final Object[] tail) {
+        return 0 == size ?
+                empty() :
+                new PersistentList<>(size, shift, root, tail);
+    }
+
+    /**
+     * Private ctor use factory.
+     */
+    private PersistentList(final int size,
+                           final int shift,
+                           final PersistentListNode root,
+                           final Object[] tail) {
+        super();
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns a list with the element added at the end.
+     */
+    public PersistentList<E> append(final E element) {
+        final int size = this.size;
+        final Object[] tail = this.tail;
+
+        final PersistentList<E> appended;
+
+        if (tail.length < WIDTH) {
+            final Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+
+            appended = new PersistentList<>(size + 1, this.shift, this.root, newTail);
+        } else {
+            final PersistentListNode tailNode = PersistentListNode.with(null, tail);
+            final int shift = this.shift;
+
+            final PersistentListNode root;
+            final int newShift;
+
+            // root is full, add another level
+            if ((size >>> BITS) > (1 << shift)) {
+                final Object[] array = new Object[WIDTH];
+                array[0] = this.root;
+                array[1] = newPath(null, shift, tailNode);
+
+                root = PersistentListNode.with(null, array);
+                newShift = shift + BITS;
+            } else {
+                root = pushTail(size, shift, this.root, tailNode, null);
+                newShift = shift;
+            }
+
+            appended = new PersistentList<>(size + 1, newShift, root, new Object[]{element});
+        }
+
+        return appended;
+    }
+
+    /**
+     * Returns a list with the element at the given index replaced, or this if the element is the same.
+     */
+    public PersistentList<E> replace(final int index,
+                                     final E element) {
+        this.checkIndex(index);
+
+        final PersistentList<E> replaced;
+
+        if (this.get(index) == element) {
+            replaced = this;
+        } else {
+            if (index >= this.tailOffset()) {
+                final Object[] tail = this.tail.clone();
+                tail[index & MASK] = element;
+
+                replaced = new PersistentList<>(this.size, this.shift, this.root, tail);
+            } else {
+                replaced = new PersistentList<>(
+                        this.size,
+                        this.shift,
+                        replace(this.shift, this.root, index, element),
+                        this.tail
+                );
+            }
+        }
+
+        return replaced;
+    }
+
+    private static PersistentListNode replace(final int level,
+                                              final PersistentListNode node,
+                                              final int index,
+                                              final Object element) {
+        final Object[] array = node.array.clone();
+
+        if (0 == level) {
+            array[index & MASK] = element;
+        } else {
+            final int child = (index >>> level) & MASK;
+            array[child] = replace(
+                    level - BITS,
+                    (PersistentListNode) array[child],
+                    index,
+                    element
+            );
+        }
+
+        return PersistentListNode.with(null, array);
+    }
+
+    /**
+     * Returns a list without the last element.
+     */
+    public PersistentList<E> withoutLast() {
+        final int size = this.size;
+        if (0 == size) {
+            throw new IllegalStateException("Empty list");
+        }
+
+        final Object[] tail = this.tail;
+        final PersistentList<E> without;
+
+        if (1 == size) {
+            without = empty();
+        } else {
+            if (tail.length > 1) {
+                without = new PersistentList<>(
+                        size - 1,
+                        this.shift,
+                        this.root,
+                        Arrays.copyOf(tail, tail.length - 1)
+                );
+            } else {
+                // the last leaf becomes the new tail
+                final Object[] newTail = this.leaf(size - 2);
+
+                int shift = this.shift;
+                PersistentListNode root = popTail(size, shift, this.root);
+                if (null == root) {
+                    root = PersistentListNode.EMPTY;
+                }
+                if (shift > BITS && null == root.array[1]) {
+                    root = (PersistentListNode) root.array[0];
+                    shift = shift - BITS;
+                }
+
+                without = new PersistentList<>(size - 1, shift, root, newTail);
+            }
+        }
+
+        return without;
+    }
+
+    /**
+     * Removes the right most leaf, returning null if the node becomes empty.
+     */
+    private static PersistentListNode popTail(final int size,
+                                              final int level,
+                                              final PersistentListNode node) {
+        final int child = ((size - 2) >>> level) & MASK;
+        final PersistentListNode popped;
+
+        if (level > BITS) {
+            final PersistentListNode newChild = popTail(size, level - BITS, (PersistentListNode) node.array[child]);
+            if (null == newChild && 0 == child) {
+                popped = null;
+            } else {
+                final Object[] array = node.array.clone();
+                array[child] = newChild;
+                popped = PersistentListNode.with(null, array);
+            }
+        } else {
+            if (0 == child) {
+                popped = null;
+            } else {
+                final Object[] array = node.array.clone();
+                array[child] = null;
+                popped = PersistentListNode.with(null, array);
+            }
+        }
+
+        return popped;
+    }
+
+    /**
+     * Returns a {@link PersistentListBuilder} starting with the elements of this list, which are not copied.
+     */
+    public PersistentListBuilder<E> builder() {
+        return PersistentListBuilder.with(
+                this.size,
+                this.shift,
+                this.root,
+                this.tail
+        );
+    }
+
+    // shared with PersistentListBuilder................................................................................
+
+    /**
+     * Adds a full tail as the right most leaf below the given node, which is updated in place if owned by the edit.
+     */
+    static PersistentListNode pushTail(final int size,
+                                       final int level,
+                                       final PersistentListNode parent,
+                                       final PersistentListNode tailNode,
+                                       final Object edit) {
+        final PersistentListNode node = parent.editable(edit);
+        final int child = ((size - 1) >>> level) & MASK;
+
+        final PersistentListNode insert;
+        if (BITS == level) {
+            insert = tailNode;
+        } else {
+            final PersistentListNode existing = (PersistentListNode) node.array[child];
+            insert = null != existing ?
+                    pushTail(size, level - BITS, existing, tailNode, edit) :
+                    newPath(edit, level - BITS, tailNode);
+        }
+
+        node.array[child] = insert;
+        return node;
+    }
+
+    /**
+     * Creates a chain of single child branches down to the given leaf.
+     */
+    static PersistentListNode newPath(final Object edit,
+                                      final int level,
+                                      final PersistentListNode node) {
+        PersistentListNode path = node;
+
+        for (int i = 0; i < level; i = i + BITS) {
+            final Object[] array = new Object[WIDTH];
+            array[0] = path;
+            path = PersistentListNode.with(edit, array);
+        }
+
+        return path;
+    }
+
+    // List.............................................................................................................
+
+    @Override
+    public E get(final int index) {
+        this.checkIndex(index);
+        return Cast.to(this.leaf(index)[index & MASK]);
+    }
+
+    /**
+     * Returns the array holding the element at the given index, either a leaf or the tail.
+     */
+    Object[] leaf(final int index) {
+        final Object[] leaf;
+
+        if (index >= this.tailOffset()) {
+            leaf = this.tail;
+        } else {
+            PersistentListNode node = this.root;
+            for (int level = this.shift; level > 0; level = level - BITS) {
+                node = (PersistentListNode) node.array[(index >>> level) & MASK];
+            }
+            leaf = node.array;
+        }
+
+        return leaf;
+    }
+
+    /**
+     * The index of the first element in the tail.
+     */
+    private int tailOffset() {
+        return this.size - this.tail.length;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between 0 and " + this.size);
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return PersistentListIterator.with(this, 0, this.size);
+    }
+
+    @Override
+    public List<E> subList(final int fromIndex,
+                           final int toIndex) {
+        return subList(this, 0, this.size, fromIndex, toIndex);
+    }
+
+    /**
+     * Shared with {@link PersistentListSubList}, returning a view of the given range of the list.
+     */
+    static <E> List<E> subList(final PersistentList<E> list,
+                               final int offset,
+                               final int size,
+                               final int fromIndex,
+                               final int toIndex) {
+        if (fromIndex < 0 || toIndex > size) {
+            throw new IndexOutOfBoundsException("Range " + fromIndex + ".." + toIndex + " must be between 0 and " + size);
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("From " + fromIndex + " > to " + toIndex);
+        }
+
+        final List<E> subList;
+
+        if (fromIndex == toIndex) {
+            subList = empty();
+        } else {
+            if (0 == offset && fromIndex == 0 && toIndex == list.size) {
+                subList = list;
+            } else {
+                subList = PersistentListSubList.with(list, offset + fromIndex, offset + toIndex);
+            }
+        }
+
+        return subList;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.size;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private final int size;
+
+    /**
+     * The number of index bits below the root.
+     */
+    private final int shift;
+
+    private final PersistentListNode root;
+
+    /**
+     * The last elements, between 1 and 32 for non empty lists.
+     */
+    private final Object[] tail;
+}
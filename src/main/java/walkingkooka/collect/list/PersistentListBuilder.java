@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.list;
+
+import walkingkooka.build.Builder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * A {@link Builder} that appends elements into nodes and a tail that it updates in place, so bulk loading many elements
+ * avoids the copying of repeated {@link PersistentList#append(Object)}. Nodes belonging to lists already built are
+ * never modified, and after each {@link #build()} further appends again copy any shared nodes. A builder must not be
+ * shared between threads.
+ */
+public final class PersistentListBuilder<E> implements Builder<PersistentList<E>> {
+
+    private final static int BITS = PersistentListNode.BITS;
+
+    private final static int WIDTH = PersistentListNode.WIDTH;
+
+    static <E> PersistentListBuilder<E> with(final int size,
+                                             final int shift,
+                                             final PersistentListNode root,
+                                             final Object[] tail) {
+        return new PersistentListBuilder<>(size, shift, root, tail);
+    }
+
+    private PersistentListBuilder(final int size,
+                                  final int shift,
+                                  final PersistentListNode root,
+                                  final Object[] tail) {
+        super();
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = Arrays.copyOf(tail, WIDTH);
+        this.tailLength = tail.length;
+        this.edit = new Object();
+    }
+
+    /**
+     * Appends the given element.
+     */
+    public PersistentListBuilder<E> add(final E element) {
+        if (WIDTH == this.tailLength) {
+            this.pushTail();
+        }
+
+        this.tail[this.tailLength++] = element;
+        this.size++;
+        return this;
+    }
+
+    /**
+     * Appends all the elements of the given {@link Collection}.
+     */
+    public PersistentListBuilder<E> addAll(final Collection<? extends E> elements) {
+        Objects.requireNonNull(elements, "elements");
+
+        for (final E element : elements) {
+            this.add(element);
+        }
+        return this;
+    }
+
+    /**
+     * Moves the full tail into the trie, adding another level when the root is full.
+     */
+    private void pushTail() {
+        final Object edit = this.edit;
+        final PersistentListNode tailNode = PersistentListNode.with(edit, this.tail);
+        final int size = this.size;
+        final int shift = this.shift;
+
+        if ((size >>> BITS) > (1 << shift)) {
+            final Object[] array = new Object[WIDTH];
+            array[0] = this.root;
+            array[1] = PersistentList.newPath(edit, shift, tailNode);
+
+            this.root = PersistentListNode.with(edit, array);
+            this.shift = shift + BITS;
+        } else {
+            this.root = PersistentList.pushTail(size, shift, this.root, tailNode, edit);
+        }
+
+        this.tail = new Object[WIDTH];
+        this.tailLength = 0;
+    }
+
+    /**
+     * The number of elements.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns a {@link PersistentList} with the elements so far. The builder may continue to be used.
+     */
+    @Override
+    public PersistentList<E> build() {
+        final PersistentList<E> list = PersistentList.with(
+                this.size,
+                this.shift,
+                this.root,
+                Arrays.copyOf(this.tail, this.tailLength)
+        );
+        this.edit = new Object();
+        return list;
+    }
+
+    private int size;
+
+    /**
+     * The number of index bits below the root.
+     */
+    private int shift;
+
+    private PersistentListNode root;
+
+    /**
+     * The last elements, which always has room for {@link PersistentListNode#WIDTH} elements.
+     */
+    private Object[] tail;
+
+    private int tailLength;
+
+    /**
+     * Identifies the nodes that may be updated in place, replaced by each {@link #build()}.
+     */
+    private Object edit;
+
+    @Override
+    public String toString() {
+        return PersistentList.with(
+                this.size,
+                this.shift,
+                this.root,
+                Arrays.copyOf(this.tail, this.tailLength)
+        ).toString();
+    }
+}
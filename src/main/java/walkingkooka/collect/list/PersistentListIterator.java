@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.list;
+
+import walkingkooka.Cast;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} over a range of a {@link PersistentList}, that walks the trie once for each leaf rather than once
+ * for each element.
+ */
+final class PersistentListIterator<E> implements Iterator<E> {
+
+    static <E> PersistentListIterator<E> with(final PersistentList<E> list,
+                                              final int from,
+                                              final int to) {
+        return new PersistentListIterator<>(list, from, to);
+    }
+
+    private PersistentListIterator(final PersistentList<E> list,
+                                   final int from,
+                                   final int to) {
+        super();
+        this.list = list;
+        this.next = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.next < this.to;
+    }
+
+    @Override
+    public E next() {
+        final int next = this.next;
+        if (next >= this.to) {
+            throw new NoSuchElementException();
+        }
+
+        final int index = next & PersistentListNode.MASK;
+        if (0 == index || null == this.leaf) {
+            this.leaf = this.list.leaf(next);
+        }
+
+        this.next = next + 1;
+        return Cast.to(this.leaf[index]);
+    }
+
+    private final PersistentList<E> list;
+
+    /**
+     * The leaf or tail holding the next element.
+     */
+    private Object[] leaf;
+
+    private int next;
+
+    private final int to;
+
+    @Override
+    public String toString() {
+        return this.list.subList(this.next, this.to).toString();
+    }
+}
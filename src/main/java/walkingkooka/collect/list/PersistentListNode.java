@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.list;
+
+import java.util.Arrays;
+
+/**
+ * A node within the trie of a {@link PersistentList}, holding up to {@link #WIDTH} children. Leaf nodes hold
+ * elements, while branches hold other nodes. Nodes created by a {@link PersistentListBuilder} record the builder edit
+ * that owns them, and only that edit may update them in place.
+ */
+final class PersistentListNode {
+
+    /**
+     * The number of index bits consumed by each level of the trie.
+     */
+    final static int BITS = 5;
+
+    /**
+     * The number of children of each node.
+     */
+    final static int WIDTH = 1 << BITS;
+
+    /**
+     * Masks the index bits for a single level.
+     */
+    final static int MASK = WIDTH - 1;
+
+    /**
+     * The empty root node, shared by all lists with no elements outside their tail.
+     */
+    final static PersistentListNode EMPTY = new PersistentListNode(null, new Object[WIDTH]);
+
+    /**
+     * Creates a new node which is owned by the given edit, which may be null.
+     */
+    static PersistentListNode with(final Object owner,
+                                   final Object[] array) {
+        return new PersistentListNode(owner, array);
+    }
+
+    private PersistentListNode(final Object owner,
+                               final Object[] array) {
+        super();
+        this.owner = owner;
+        this.array = array;
+    }
+
+    /**
+     * Returns this node if it is owned by the given edit, otherwise a copy owned by the edit.
+     */
+    PersistentListNode editable(final Object edit) {
+        return null != edit && edit == this.owner ?
+                this :
+                new PersistentListNode(edit, this.array.clone());
+    }
+
+    /**
+     * The edit that created this node, which is null for nodes created by persistent updates.
+     */
+    final Object owner;
+
+    /**
+     * The children, which are either elements or other nodes.
+     */
+    final Object[] array;
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.array);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.list;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A view of a range of a {@link PersistentList}, sharing all of its nodes.
+ */
+final class PersistentListSubList<E> extends ImmutableList<E> {
+
+    static <E> PersistentListSubList<E> with(final PersistentList<E> list,
+                                             final int from,
+                                             final int to) {
+        return new PersistentListSubList<>(list, from, to);
+    }
+
+    private PersistentListSubList(final PersistentList<E> list,
+                                  final int from,
+                                  final int to) {
+        super();
+        this.list = list;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public E get(final int index) {
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between 0 and " + this.size());
+        }
+        return this.list.get(this.from + index);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return PersistentListIterator.with(this.list, this.from, this.to);
+    }
+
+    @Override
+    public List<E> subList(final int fromIndex,
+                           final int toIndex) {
+        return PersistentList.subList(this.list, this.from, this.size(), fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return this.to - this.from;
+    }
+
+    private final PersistentList<E> list;
+
+    /**
+     * The index of the first element within the list.
+     */
+    private final int from;
+
+    /**
+     * The index after the last element within the list.
+     */
+    private final int to;
+}
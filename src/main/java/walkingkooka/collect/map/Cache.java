@@ -0,0 +1,451 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import walkingkooka.Cast;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A {@link Map} that holds entries up to a maximum total weight, evicting entries using W-TinyLFU, which keeps those
+ * that are read most often rather than those that were most recently read. Entries may also expire a fixed time
+ * after they were written.
+ * <br>
+ * Keys are spread over several segments, each with its own monitor, so reads of different keys rarely contend. Reads
+ * are recorded in a small buffer belonging to each segment and are only applied to the eviction policy by the next
+ * write or {@link #cleanUp()}. Reads made while a buffer is full are dropped, which only makes the usage estimates
+ * slightly less precise, so reads never wait for writes. Writes hold a single monitor guarding the policy.
+ * <br>
+ * {@link #computeIfAbsent(Object, Function)} runs the mapping function at most once for concurrent callers of the
+ * same key, with other callers waiting for the result. The mapping function must not update other keys of the same
+ * cache, and a mapping function that loads its own key fails with an {@link IllegalStateException}.
+ * <br>
+ * Null keys and values are not supported. Views such as {@link #entrySet()} are read only snapshots.
+ */
+public final class Cache<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * The number of segments, which must be a power of two.
+     */
+    final static int SEGMENT_COUNT = 16;
+
+    /**
+     * Creates a new empty {@link Cache}. An expireAfterWrite of {@link Long#MAX_VALUE} means entries never expire.
+     */
+    static <K, V> Cache<K, V> with(final long maxWeight,
+                                   final ToIntBiFunction<? super K, ? super V> weigher,
+                                   final long expireAfterWrite,
+                                   final LongSupplier now) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Invalid maxWeight " + maxWeight + " <= 0");
+        }
+        Objects.requireNonNull(weigher, "weigher");
+        if (expireAfterWrite <= 0) {
+            throw new IllegalArgumentException("Invalid expireAfterWrite " + expireAfterWrite + " <= 0");
+        }
+        Objects.requireNonNull(now, "now");
+
+        return new Cache<>(maxWeight, weigher, expireAfterWrite, now);
+    }
+
+    private Cache(final long maxWeight,
+                  final ToIntBiFunction<? super K, ? super V> weigher,
+                  final long expireAfterWrite,
+                  final LongSupplier now) {
+        super();
+
+        final CacheSegment<?, ?>[] segments = new CacheSegment<?, ?>[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = CacheSegment.empty();
+        }
+        this.segments = segments;
+
+        this.policy = CachePolicy.with(
+                maxWeight,
+                expireAfterWrite,
+                this::unmap
+        );
+        this.weigher = weigher;
+        this.now = now;
+    }
+
+    // Map..............................................................................................................
+
+    @Override
+    public boolean containsKey(final Object key) {
+        boolean contains = false;
+
+        if (null != key) {
+            final CacheNode<K, V> node = this.segment(key).get(key);
+            contains = this.isPresent(node);
+        }
+        return contains;
+    }
+
+    @Override
+    public V get(final Object key) {
+        V value = null;
+
+        if (null != key) {
+            final CacheSegment<K, V> segment = this.segment(key);
+            final CacheNode<K, V> node = segment.get(key);
+            if (this.isPresent(node)) {
+                value = node.value;
+                segment.hit(node);
+            } else {
+                segment.miss();
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public V put(final K key,
+                 final V value) {
+        final CacheNode<K, V> node = this.node(key, value);
+        final CacheNode<K, V> previous;
+
+        synchronized (this.policy) {
+            this.drain();
+
+            previous = this.segment(key).put(key, node);
+            this.replace(previous, node);
+        }
+        return this.isPresent(previous) ?
+                previous.value :
+                null;
+    }
+
+    @Override
+    public V putIfAbsent(final K key,
+                         final V value) {
+        final CacheNode<K, V> node = this.node(key, value);
+        final CacheSegment<K, V> segment = this.segment(key);
+        V current = null;
+
+        synchronized (this.policy) {
+            this.drain();
+
+            final CacheNode<K, V> previous = segment.get(key);
+            if (this.isPresent(previous)) {
+                current = previous.value;
+            } else {
+                segment.put(key, node);
+                this.replace(previous, node);
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        V removed = null;
+
+        if (null != key) {
+            final CacheSegment<K, V> segment = this.segment(key);
+
+            synchronized (this.policy) {
+                this.drain();
+
+                final CacheNode<K, V> node = segment.get(key);
+                if (this.isPresent(node)) {
+                    removed = node.value;
+                    segment.remove(key);
+                    this.policy.remove(node);
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the present value or loads a new value. Concurrent callers for the same key wait for a single load,
+     * while callers for other keys are not blocked.
+     */
+    @Override
+    public V computeIfAbsent(final K key,
+                             final Function<? super K, ? extends V> mappingFunction) {
+        checkKey(key);
+        Objects.requireNonNull(mappingFunction, "mappingFunction");
+
+        final CacheSegment<K, V> segment = this.segment(key);
+
+        for (; ; ) {
+            final CacheNode<K, V> node = segment.get(key);
+
+            if (null != node && node.isPlaceholder()) {
+                // waits for the loader to finish, which also happens immediately if the loader is this thread.
+                synchronized (node) {
+                    if (node.loading) {
+                        throw new IllegalStateException("Recursive load of " + key);
+                    }
+                }
+                continue;
+            }
+
+            if (this.isPresent(node)) {
+                segment.hit(node);
+                return node.value;
+            }
+
+            final CacheNode<K, V> placeholder = CacheNode.loading(key);
+            synchronized (placeholder) {
+                if (segment.replace(key, node, placeholder)) {
+                    segment.miss();
+                    return this.load(
+                            segment,
+                            placeholder,
+                            node,
+                            mappingFunction
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls the mapping function while holding the monitor of the placeholder, so concurrent callers wait. If a
+     * write replaced the placeholder during the load the loaded value is returned but not kept.
+     */
+    private V load(final CacheSegment<K, V> segment,
+                   final CacheNode<K, V> placeholder,
+                   final CacheNode<K, V> expired,
+                   final Function<? super K, ? extends V> mappingFunction) {
+        final K key = placeholder.key;
+        boolean success = false;
+
+        try {
+            final V value = mappingFunction.apply(key);
+            if (null != value) {
+                final CacheNode<K, V> node = this.node(key, value);
+
+                synchronized (this.policy) {
+                    this.drain();
+
+                    if (segment.replace(key, placeholder, node)) {
+                        this.replace(expired, node);
+                    }
+                }
+                success = true;
+            }
+            return value;
+        } finally {
+            if (!success) {
+                segment.replace(key, placeholder, null);
+            }
+            placeholder.loading = false;
+            segment.loaded(success);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (this.policy) {
+            this.policy.clear();
+
+            for (final CacheSegment<?, ?> segment : this.segments) {
+                segment.clear();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        this.cleanUp();
+
+        int size = 0;
+        for (final CacheSegment<?, ?> segment : this.segments) {
+            size += segment.count();
+        }
+        return size;
+    }
+
+    /**
+     * Returns a read only snapshot of all entries that have not expired.
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        this.cleanUp();
+
+        final Map<K, CacheNode<K, V>> nodes = Maps.hash();
+        for (final CacheSegment<?, ?> segment : this.segments) {
+            Cast.<CacheSegment<K, V>>to(segment).copy(nodes);
+        }
+
+        final long now = this.now.getAsLong();
+        final Map<K, V> entries = Maps.hash();
+        for (final CacheNode<K, V> node : nodes.values()) {
+            if (!this.policy.isExpired(node, now)) {
+                entries.put(node.key, node.value);
+            }
+        }
+        return Maps.readOnly(entries)
+                .entrySet();
+    }
+
+    // Cache............................................................................................................
+
+    /**
+     * Applies all buffered reads to the eviction policy and removes expired entries.
+     */
+    public void cleanUp() {
+        synchronized (this.policy) {
+            this.drain();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the hits, misses, loads and evictions so far.
+     */
+    public CacheStats stats() {
+        long hitCount = 0;
+        long missCount = 0;
+        long loadSuccessCount = 0;
+        long loadFailureCount = 0;
+
+        for (final CacheSegment<?, ?> segment : this.segments) {
+            hitCount += segment.hitCount();
+            missCount += segment.missCount();
+            loadSuccessCount += segment.loadSuccessCount();
+            loadFailureCount += segment.loadFailureCount();
+        }
+
+        final long evictionCount;
+        final long evictionWeight;
+        synchronized (this.policy) {
+            evictionCount = this.policy.evictionCount;
+            evictionWeight = this.policy.evictionWeight;
+        }
+
+        return CacheStats.with(
+                hitCount,
+                missCount,
+                loadSuccessCount,
+                loadFailureCount,
+                evictionCount,
+                evictionWeight
+        );
+    }
+
+    /**
+     * The total weight of all entries, which may include expired entries not yet cleaned up.
+     */
+    public long weight() {
+        synchronized (this.policy) {
+            return this.policy.weight();
+        }
+    }
+
+    // helpers..........................................................................................................
+
+    private CacheNode<K, V> node(final K key,
+                                 final V value) {
+        checkKey(key);
+        Objects.requireNonNull(value, "value");
+
+        final int weight = this.weigher.applyAsInt(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Invalid weight " + weight + " < 0 for " + key);
+        }
+
+        return CacheNode.with(
+                key,
+                value,
+                weight,
+                this.now.getAsLong()
+        );
+    }
+
+    private static void checkKey(final Object key) {
+        Objects.requireNonNull(key, "key");
+    }
+
+    /**
+     * Tests if the node holds a value that has not expired.
+     */
+    private boolean isPresent(final CacheNode<K, V> node) {
+        return null != node &&
+                !node.isPlaceholder() &&
+                !this.policy.isExpired(node, this.now.getAsLong());
+    }
+
+    /**
+     * Replaces the previous node, which may be null or a placeholder, with a new node in the policy, evicting if
+     * necessary. Must be called while holding the monitor of the policy.
+     */
+    private void replace(final CacheNode<K, V> previous,
+                         final CacheNode<K, V> node) {
+        if (null != previous && !previous.isPlaceholder()) {
+            this.policy.remove(previous);
+        }
+        this.policy.add(node);
+        this.policy.evict();
+    }
+
+    /**
+     * Applies the buffered reads of all segments and then expires entries. Must be called while holding the monitor
+     * of the policy.
+     */
+    private void drain() {
+        final CacheNode<?, ?>[] reads = this.reads;
+
+        for (final CacheSegment<?, ?> segment : this.segments) {
+            final int count = segment.drainReads(reads);
+
+            for (int i = 0; i < count; i++) {
+                this.policy.access(Cast.to(reads[i]));
+                reads[i] = null;
+            }
+        }
+
+        this.policy.expire(this.now.getAsLong());
+    }
+
+    /**
+     * Called by the policy to remove an evicted or expired node, unless the key has since been given a new node.
+     */
+    private void unmap(final CacheNode<K, V> node) {
+        final K key = node.key;
+        this.segment(key)
+                .replace(key, node, null);
+    }
+
+    private CacheSegment<K, V> segment(final Object key) {
+        final int hash = key.hashCode();
+        return Cast.to(this.segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)]);
+    }
+
+    private final CacheSegment<?, ?>[] segments;
+
+    private final CachePolicy<K, V> policy;
+
+    /**
+     * Scratch space used while draining reads, only accessed while holding the monitor of the policy.
+     */
+    private final CacheNode<?, ?>[] reads = new CacheNode<?, ?>[CacheSegment.READ_BUFFER_SIZE];
+
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+
+    private final LongSupplier now;
+}
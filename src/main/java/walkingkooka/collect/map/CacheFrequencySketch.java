@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+/**
+ * A count-min sketch estimating how often each key has been used, with four bit counters packed sixteen to a long.
+ * Each key selects one counter in each of four words, and its frequency is the smallest of the four. After a number
+ * of increments proportional to the table size every counter is halved, so that old popularity fades.
+ */
+final class CacheFrequencySketch {
+
+    /**
+     * The largest value of a counter.
+     */
+    final static int MAX_FREQUENCY = 15;
+
+    private final static int MIN_LENGTH = 8;
+
+    /**
+     * Halves all sixteen counters in a word after it has been shifted right one bit.
+     */
+    private final static long RESET_MASK = 0x7777777777777777L;
+
+    private final static int[] SEEDS = new int[]{
+            0x97CB3127,
+            0xB492B66F,
+            0x9AE16A3B,
+            0x2FD2C3A5
+    };
+
+    static CacheFrequencySketch empty() {
+        return new CacheFrequencySketch();
+    }
+
+    private CacheFrequencySketch() {
+        super();
+        this.allocate(MIN_LENGTH);
+    }
+
+    /**
+     * Grows the table when the number of keys exceeds the number of words. Words are selected using the low bits of
+     * the index, so repeating the old words across the larger table keeps the counts of every key.
+     */
+    void ensureCapacity(final int count) {
+        final long[] old = this.table;
+        final int oldLength = old.length;
+
+        if (count > oldLength) {
+            int length = oldLength;
+            while (length < count) {
+                length = length << 1;
+            }
+            final int additions = this.additions;
+            this.allocate(length);
+
+            final long[] table = this.table;
+            for (int i = 0; i < length; i += oldLength) {
+                System.arraycopy(old, 0, table, i, oldLength);
+            }
+            this.additions = additions;
+        }
+    }
+
+    private void allocate(final int length) {
+        this.table = new long[length];
+        this.mask = length - 1;
+        this.sampleSize = 10 * length;
+        this.additions = 0;
+    }
+
+    /**
+     * Returns the estimated number of times the hash was incremented, between 0 and {@link #MAX_FREQUENCY}.
+     */
+    int frequency(final int hash) {
+        final int spread = spread(hash);
+
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            final int index = index(spread, i);
+            frequency = Math.min(
+                    frequency,
+                    (int) ((this.table[this.word(index)] >>> offset(index)) & MAX_FREQUENCY)
+            );
+        }
+        return frequency;
+    }
+
+    /**
+     * Increments the counters for the hash, halving all counters once enough increments have happened.
+     */
+    void increment(final int hash) {
+        final int spread = spread(hash);
+        final long[] table = this.table;
+
+        boolean incremented = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            final int index = index(spread, i);
+            final int word = this.word(index);
+            final int offset = offset(index);
+
+            if (((table[word] >>> offset) & MAX_FREQUENCY) != MAX_FREQUENCY) {
+                table[word] += 1L << offset;
+                incremented = true;
+            }
+        }
+
+        if (incremented) {
+            this.additions++;
+            if (this.additions >= this.sampleSize) {
+                this.reset();
+            }
+        }
+    }
+
+    private void reset() {
+        final long[] table = this.table;
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        this.additions = this.additions >>> 1;
+    }
+
+    private static int spread(final int hash) {
+        int x = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+
+    private static int index(final int spread,
+                             final int i) {
+        final int seed = SEEDS[i];
+        final int x = (spread + seed) * seed;
+        return x ^ (x >>> 16);
+    }
+
+    private int word(final int index) {
+        return (index >>> 4) & this.mask;
+    }
+
+    private static int offset(final int index) {
+        return (index & 15) << 2;
+    }
+
+    private long[] table;
+
+    private int mask;
+
+    /**
+     * The number of increments that triggers a reset.
+     */
+    private int sampleSize;
+
+    private int additions;
+
+    @Override
+    public String toString() {
+        return "words=" + this.table.length + " additions=" + this.additions;
+    }
+}
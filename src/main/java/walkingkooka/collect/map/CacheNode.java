@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+/**
+ * An entry of a {@link Cache}. The key, value and weight never change, so a put replaces the node. A loading node is
+ * a placeholder held by the segment while its value is computed, and is never added to the {@link CachePolicy}.
+ * The links and queue are only accessed while holding the lock of the {@link CachePolicy}.
+ */
+final class CacheNode<K, V> {
+
+    /**
+     * New entries start in the window.
+     */
+    final static int WINDOW = 0;
+
+    /**
+     * Entries that left the window, or were demoted from protected, and may be evicted.
+     */
+    final static int PROBATION = 1;
+
+    /**
+     * Entries that were read again while in probation.
+     */
+    final static int PROTECTED = 2;
+
+    /**
+     * Creates a placeholder for a value that is being loaded.
+     */
+    static <K, V> CacheNode<K, V> loading(final K key) {
+        return new CacheNode<>(key, null, 0, 0, true);
+    }
+
+    /**
+     * Creates a node holding a value.
+     */
+    static <K, V> CacheNode<K, V> with(final K key,
+                                       final V value,
+                                       final int weight,
+                                       final long writeTime) {
+        return new CacheNode<>(key, value, weight, writeTime, false);
+    }
+
+    private CacheNode(final K key,
+                      final V value,
+                      final int weight,
+                      final long writeTime,
+                      final boolean loading) {
+        super();
+        this.key = key;
+        this.value = value;
+        this.weight = weight;
+        this.writeTime = writeTime;
+        this.loading = loading;
+    }
+
+    final K key;
+
+    final V value;
+
+    final int weight;
+
+    final long writeTime;
+
+    /**
+     * Placeholders never have a value, while all other nodes always do.
+     */
+    boolean isPlaceholder() {
+        return null == this.value;
+    }
+
+    /**
+     * True until the loading of a placeholder finishes. Only cleared while holding the monitor of this node.
+     */
+    boolean loading;
+
+    /**
+     * True while the node is held by the {@link CachePolicy}.
+     */
+    boolean alive;
+
+    /**
+     * One of {@link #WINDOW}, {@link #PROBATION} or {@link #PROTECTED}.
+     */
+    int queue;
+
+    CacheNode<K, V> previous;
+
+    CacheNode<K, V> next;
+
+    CacheNode<K, V> writePrevious;
+
+    CacheNode<K, V> writeNext;
+
+    @Override
+    public String toString() {
+        return this.isPlaceholder() ?
+                this.key + " loading" :
+                this.key + "=" + this.value;
+    }
+}
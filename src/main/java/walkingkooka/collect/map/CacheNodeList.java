@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+/**
+ * A doubly linked list of {@link CacheNode}, using either the access or the write links held by each node, so a
+ * node may belong to one list of each kind at the same time without any extra allocation.
+ */
+final class CacheNodeList<K, V> {
+
+    /**
+     * Creates a list using {@link CacheNode#previous} and {@link CacheNode#next}.
+     */
+    static <K, V> CacheNodeList<K, V> accessOrder() {
+        return new CacheNodeList<>(false);
+    }
+
+    /**
+     * Creates a list using {@link CacheNode#writePrevious} and {@link CacheNode#writeNext}.
+     */
+    static <K, V> CacheNodeList<K, V> writeOrder() {
+        return new CacheNodeList<>(true);
+    }
+
+    private CacheNodeList(final boolean writeOrder) {
+        super();
+        this.writeOrder = writeOrder;
+    }
+
+    /**
+     * The least recently added or moved node, or null when empty.
+     */
+    CacheNode<K, V> first() {
+        return this.first;
+    }
+
+    /**
+     * The most recently added or moved node, or null when empty.
+     */
+    CacheNode<K, V> last() {
+        return this.last;
+    }
+
+    void addLast(final CacheNode<K, V> node) {
+        final CacheNode<K, V> last = this.last;
+
+        this.setPrevious(node, last);
+        this.setNext(node, null);
+
+        if (null == last) {
+            this.first = node;
+        } else {
+            this.setNext(last, node);
+        }
+        this.last = node;
+    }
+
+    void moveToLast(final CacheNode<K, V> node) {
+        if (this.last != node) {
+            this.remove(node);
+            this.addLast(node);
+        }
+    }
+
+    void remove(final CacheNode<K, V> node) {
+        final CacheNode<K, V> previous = this.previous(node);
+        final CacheNode<K, V> next = this.next(node);
+
+        if (null == previous) {
+            this.first = next;
+        } else {
+            this.setNext(previous, next);
+        }
+
+        if (null == next) {
+            this.last = previous;
+        } else {
+            this.setPrevious(next, previous);
+        }
+
+        this.setPrevious(node, null);
+        this.setNext(node, null);
+    }
+
+    void clear() {
+        this.first = null;
+        this.last = null;
+    }
+
+    private CacheNode<K, V> previous(final CacheNode<K, V> node) {
+        return this.writeOrder ?
+                node.writePrevious :
+                node.previous;
+    }
+
+    private void setPrevious(final CacheNode<K, V> node,
+                             final CacheNode<K, V> previous) {
+        if (this.writeOrder) {
+            node.writePrevious = previous;
+        } else {
+            node.previous = previous;
+        }
+    }
+
+    private CacheNode<K, V> next(final CacheNode<K, V> node) {
+        return this.writeOrder ?
+                node.writeNext :
+                node.next;
+    }
+
+    private void setNext(final CacheNode<K, V> node,
+                         final CacheNode<K, V> next) {
+        if (this.writeOrder) {
+            node.writeNext = next;
+        } else {
+            node.next = next;
+        }
+    }
+
+    private CacheNode<K, V> first;
+
+    private CacheNode<K, V> last;
+
+    private final boolean writeOrder;
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+
+        String separator = "";
+        for (CacheNode<K, V> node = this.first; null != node; node = this.next(node)) {
+            b.append(separator);
+            b.append(node);
+            separator = ", ";
+        }
+
+        b.append(']');
+        return b.toString();
+    }
+}
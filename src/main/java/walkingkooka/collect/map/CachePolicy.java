@@ -0,0 +1,287 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import java.util.function.Consumer;
+
+/**
+ * The W-TinyLFU eviction policy of a {@link Cache}. New entries enter a small LRU window holding one percent of the
+ * maximum weight. Entries leaving the window join the probation segment of the main space, where they compete with
+ * the probation victim. The candidate is only admitted if the {@link CacheFrequencySketch} estimates it is used more
+ * often than the victim. Probation entries read again move to the protected segment, which holds up to eighty
+ * percent of the main space.
+ * <br>
+ * When expiry is enabled a second list holds all entries in write order, so expired entries are always found at its
+ * head. All methods must be called while holding the monitor of the policy.
+ */
+final class CachePolicy<K, V> {
+
+    static <K, V> CachePolicy<K, V> with(final long maxWeight,
+                                         final long expireAfterWrite,
+                                         final Consumer<CacheNode<K, V>> removed) {
+        return new CachePolicy<>(maxWeight, expireAfterWrite, removed);
+    }
+
+    private CachePolicy(final long maxWeight,
+                        final long expireAfterWrite,
+                        final Consumer<CacheNode<K, V>> removed) {
+        super();
+
+        this.maxWeight = maxWeight;
+        this.windowMaxWeight = Math.max(1, maxWeight / 100);
+        this.protectedMaxWeight = (maxWeight - this.windowMaxWeight) * 80 / 100;
+
+        this.expireAfterWrite = expireAfterWrite;
+        this.removed = removed;
+    }
+
+    /**
+     * Adds a new node to the window.
+     */
+    void add(final CacheNode<K, V> node) {
+        final int weight = node.weight;
+
+        this.count++;
+        this.sketch.ensureCapacity(this.count);
+        this.sketch.increment(node.key.hashCode());
+
+        node.alive = true;
+        node.queue = CacheNode.WINDOW;
+        this.window.addLast(node);
+        this.windowWeight += weight;
+        this.weight += weight;
+
+        if (this.isExpiring()) {
+            this.writeOrder.addLast(node);
+        }
+    }
+
+    /**
+     * Records a read of the node, promoting probation entries to protected.
+     */
+    void access(final CacheNode<K, V> node) {
+        if (node.alive) {
+            this.sketch.increment(node.key.hashCode());
+
+            switch (node.queue) {
+                case CacheNode.WINDOW:
+                    this.window.moveToLast(node);
+                    break;
+                case CacheNode.PROBATION:
+                    this.probation.remove(node);
+                    node.queue = CacheNode.PROTECTED;
+                    this.protectedList.addLast(node);
+                    this.protectedWeight += node.weight;
+                    this.demoteProtected();
+                    break;
+                default:
+                    this.protectedList.moveToLast(node);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Moves the least recently used protected entries back to probation until protected fits again.
+     */
+    private void demoteProtected() {
+        while (this.protectedWeight > this.protectedMaxWeight) {
+            final CacheNode<K, V> demoted = this.protectedList.first();
+            this.protectedList.remove(demoted);
+            this.protectedWeight -= demoted.weight;
+
+            demoted.queue = CacheNode.PROBATION;
+            this.probation.addLast(demoted);
+        }
+    }
+
+    /**
+     * Removes the node if it is still held by the policy.
+     */
+    void remove(final CacheNode<K, V> node) {
+        if (node.alive) {
+            node.alive = false;
+
+            final int weight = node.weight;
+            switch (node.queue) {
+                case CacheNode.WINDOW:
+                    this.window.remove(node);
+                    this.windowWeight -= weight;
+                    break;
+                case CacheNode.PROBATION:
+                    this.probation.remove(node);
+                    break;
+                default:
+                    this.protectedList.remove(node);
+                    this.protectedWeight -= weight;
+                    break;
+            }
+
+            if (this.isExpiring()) {
+                this.writeOrder.remove(node);
+            }
+
+            this.weight -= weight;
+            this.count--;
+        }
+    }
+
+    /**
+     * Moves entries overflowing the window to probation, and then evicts until the total weight fits.
+     */
+    void evict() {
+        while (this.windowWeight > this.windowMaxWeight) {
+            final CacheNode<K, V> candidate = this.window.first();
+            this.window.remove(candidate);
+            this.windowWeight -= candidate.weight;
+
+            candidate.queue = CacheNode.PROBATION;
+            this.probation.addLast(candidate);
+        }
+
+        while (this.weight > this.maxWeight) {
+            final CacheNode<K, V> victim = this.victim();
+
+            this.remove(victim);
+            this.evictionCount++;
+            this.evictionWeight += victim.weight;
+            this.removed.accept(victim);
+        }
+    }
+
+    /**
+     * Picks between the most recent probation entry, usually the candidate that just left the window, and the least
+     * recent probation entry, evicting whichever is used less often. Ties favour the incumbent.
+     */
+    private CacheNode<K, V> victim() {
+        final CacheNode<K, V> victim = this.probation.first();
+        final CacheNode<K, V> candidate = this.probation.last();
+
+        final CacheNode<K, V> evict;
+        if (null == victim) {
+            final CacheNode<K, V> protectedFirst = this.protectedList.first();
+            evict = null != protectedFirst ?
+                    protectedFirst :
+                    this.window.first();
+        } else {
+            evict = victim == candidate ||
+                    this.sketch.frequency(candidate.key.hashCode()) > this.sketch.frequency(victim.key.hashCode()) ?
+                    victim :
+                    candidate;
+        }
+        return evict;
+    }
+
+    /**
+     * Removes all entries written before the expiry time.
+     */
+    void expire(final long now) {
+        if (this.isExpiring()) {
+            for (; ; ) {
+                final CacheNode<K, V> node = this.writeOrder.first();
+                if (null == node || !this.isExpired(node, now)) {
+                    break;
+                }
+                this.remove(node);
+                this.removed.accept(node);
+            }
+        }
+    }
+
+    /**
+     * Tests if the node has expired. This only reads final fields, so it may be called without holding the monitor.
+     */
+    boolean isExpired(final CacheNode<K, V> node,
+                      final long now) {
+        return this.isExpiring() &&
+                now - node.writeTime >= this.expireAfterWrite;
+    }
+
+    private boolean isExpiring() {
+        return Long.MAX_VALUE != this.expireAfterWrite;
+    }
+
+    void clear() {
+        clear(this.window);
+        clear(this.probation);
+        clear(this.protectedList);
+        this.writeOrder.clear();
+
+        this.weight = 0;
+        this.windowWeight = 0;
+        this.protectedWeight = 0;
+        this.count = 0;
+    }
+
+    private static <K, V> void clear(final CacheNodeList<K, V> list) {
+        for (CacheNode<K, V> node = list.first(); null != node; node = node.next) {
+            node.alive = false;
+        }
+        list.clear();
+    }
+
+    /**
+     * The total weight of all entries.
+     */
+    long weight() {
+        return this.weight;
+    }
+
+    private final CacheNodeList<K, V> window = CacheNodeList.accessOrder();
+
+    private final CacheNodeList<K, V> probation = CacheNodeList.accessOrder();
+
+    private final CacheNodeList<K, V> protectedList = CacheNodeList.accessOrder();
+
+    private final CacheNodeList<K, V> writeOrder = CacheNodeList.writeOrder();
+
+    private final CacheFrequencySketch sketch = CacheFrequencySketch.empty();
+
+    private final long maxWeight;
+
+    private final long windowMaxWeight;
+
+    private final long protectedMaxWeight;
+
+    private long weight;
+
+    private long windowWeight;
+
+    private long protectedWeight;
+
+    private int count;
+
+    /**
+     * The time after a write when an entry expires, or {@link Long#MAX_VALUE} if entries never expire.
+     */
+    private final long expireAfterWrite;
+
+    /**
+     * Removes an evicted or expired node from its segment.
+     */
+    private final Consumer<CacheNode<K, V>> removed;
+
+    long evictionCount;
+
+    long evictionWeight;
+
+    @Override
+    public String toString() {
+        return "window=" + this.window + " probation=" + this.probation + " protected=" + this.protectedList;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import java.util.Map;
+
+/**
+ * One stripe of a {@link Cache}, holding the nodes for keys with the same hash bits along with a buffer of recent
+ * reads and the hit and miss counts. Every method holds the monitor of the segment, so threads using keys in
+ * different segments do not contend.
+ */
+final class CacheSegment<K, V> {
+
+    /**
+     * The maximum number of reads buffered between writes, later reads are dropped until the next write.
+     */
+    final static int READ_BUFFER_SIZE = 64;
+
+    static <K, V> CacheSegment<K, V> empty() {
+        return new CacheSegment<>();
+    }
+
+    private CacheSegment() {
+        super();
+    }
+
+    synchronized CacheNode<K, V> get(final Object key) {
+        return this.nodes.get(key);
+    }
+
+    /**
+     * Replaces the node of the key, returning the previous node which may be null.
+     */
+    synchronized CacheNode<K, V> put(final K key,
+                                     final CacheNode<K, V> node) {
+        final CacheNode<K, V> previous = this.nodes.put(key, node);
+        this.count += count(node) - count(previous);
+        return previous;
+    }
+
+    /**
+     * Replaces the node only if the key is mapped to the expected node, which may be null for absent. A null
+     * replacement removes the key.
+     */
+    synchronized boolean replace(final K key,
+                                 final CacheNode<K, V> expected,
+                                 final CacheNode<K, V> replacement) {
+        final boolean replaced = this.nodes.get(key) == expected;
+        if (replaced) {
+            if (null == replacement) {
+                this.nodes.remove(key);
+            } else {
+                this.nodes.put(key, replacement);
+            }
+            this.count += count(replacement) - count(expected);
+        }
+        return replaced;
+    }
+
+    synchronized CacheNode<K, V> remove(final Object key) {
+        final CacheNode<K, V> removed = this.nodes.remove(key);
+        this.count -= count(removed);
+        return removed;
+    }
+
+    /**
+     * Placeholders for values being loaded are not counted.
+     */
+    private static int count(final CacheNode<?, ?> node) {
+        return null == node || node.isPlaceholder() ?
+                0 :
+                1;
+    }
+
+    /**
+     * Copies all nodes holding values into the given {@link Map}.
+     */
+    synchronized void copy(final Map<K, CacheNode<K, V>> nodes) {
+        for (final CacheNode<K, V> node : this.nodes.values()) {
+            if (!node.isPlaceholder()) {
+                nodes.put(node.key, node);
+            }
+        }
+    }
+
+    synchronized int count() {
+        return this.count;
+    }
+
+    synchronized void clear() {
+        this.nodes.clear();
+        this.count = 0;
+        this.readCount = 0;
+    }
+
+    private final Map<K, CacheNode<K, V>> nodes = Maps.hash();
+
+    /**
+     * The number of nodes that are not placeholders.
+     */
+    private int count;
+
+    // reads............................................................................................................
+
+    /**
+     * Counts a hit and buffers the read. Reads are dropped while the buffer is full, so a read never waits for the
+     * {@link CachePolicy}.
+     */
+    synchronized void hit(final CacheNode<K, V> node) {
+        this.hitCount++;
+
+        final int readCount = this.readCount;
+        if (readCount < READ_BUFFER_SIZE) {
+            this.reads[readCount] = node;
+            this.readCount = readCount + 1;
+        }
+    }
+
+    /**
+     * Moves the buffered reads into the given array, returning the number of reads.
+     */
+    synchronized int drainReads(final CacheNode<?, ?>[] reads) {
+        final int count = this.readCount;
+
+        System.arraycopy(this.reads, 0, reads, 0, count);
+        for (int i = 0; i < count; i++) {
+            this.reads[i] = null;
+        }
+        this.readCount = 0;
+        return count;
+    }
+
+    private final CacheNode<?, ?>[] reads = new CacheNode<?, ?>[READ_BUFFER_SIZE];
+
+    private int readCount;
+
+    // stats............................................................................................................
+
+    synchronized void miss() {
+        this.missCount++;
+    }
+
+    synchronized void loaded(final boolean success) {
+        if (success) {
+            this.loadSuccessCount++;
+        } else {
+            this.loadFailureCount++;
+        }
+    }
+
+    synchronized long hitCount() {
+        return this.hitCount;
+    }
+
+    synchronized long missCount() {
+        return this.missCount;
+    }
+
+    synchronized long loadSuccessCount() {
+        return this.loadSuccessCount;
+    }
+
+    synchronized long loadFailureCount() {
+        return this.loadFailureCount;
+    }
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long loadSuccessCount;
+
+    private long loadFailureCount;
+
+    @Override
+    public String toString() {
+        return this.nodes.toString();
+    }
+}
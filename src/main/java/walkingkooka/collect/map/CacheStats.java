@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import java.util.Objects;
+
+/**
+ * A snapshot of the counts recorded by a {@link Cache}.
+ */
+public final class CacheStats {
+
+    public static CacheStats with(final long hitCount,
+                                  final long missCount,
+                                  final long loadSuccessCount,
+                                  final long loadFailureCount,
+                                  final long evictionCount,
+                                  final long evictionWeight) {
+        check(hitCount, "hitCount");
+        check(missCount, "missCount");
+        check(loadSuccessCount, "loadSuccessCount");
+        check(loadFailureCount, "loadFailureCount");
+        check(evictionCount, "evictionCount");
+        check(evictionWeight, "evictionWeight");
+
+        return new CacheStats(
+                hitCount,
+                missCount,
+                loadSuccessCount,
+                loadFailureCount,
+                evictionCount,
+                evictionWeight
+        );
+    }
+
+    private static void check(final long count,
+                              final String label) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Invalid " + label + " " + count + " < 0");
+        }
+    }
+
+    private CacheStats(final long hitCount,
+                       final long missCount,
+                       final long loadSuccessCount,
+                       final long loadFailureCount,
+                       final long evictionCount,
+                       final long evictionWeight) {
+        super();
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.evictionCount = evictionCount;
+        this.evictionWeight = evictionWeight;
+    }
+
+    /**
+     * The number of reads that found a value.
+     */
+    public long hitCount() {
+        return this.hitCount;
+    }
+
+    private final long hitCount;
+
+    /**
+     * The number of reads that did not find a value, including those that then loaded one.
+     */
+    public long missCount() {
+        return this.missCount;
+    }
+
+    private final long missCount;
+
+    /**
+     * The number of loads that returned a value.
+     */
+    public long loadSuccessCount() {
+        return this.loadSuccessCount;
+    }
+
+    private final long loadSuccessCount;
+
+    /**
+     * The number of loads that returned null or threw.
+     */
+    public long loadFailureCount() {
+        return this.loadFailureCount;
+    }
+
+    private final long loadFailureCount;
+
+    /**
+     * The number of entries removed to keep within the maximum weight, not including expired entries.
+     */
+    public long evictionCount() {
+        return this.evictionCount;
+    }
+
+    private final long evictionCount;
+
+    /**
+     * The total weight of all evicted entries.
+     */
+    public long evictionWeight() {
+        return this.evictionWeight;
+    }
+
+    private final long evictionWeight;
+
+    /**
+     * The sum of hits and misses.
+     */
+    public long requestCount() {
+        return this.hitCount + this.missCount;
+    }
+
+    /**
+     * The fraction of requests that were hits, which is one when there have been no requests.
+     */
+    public double hitRate() {
+        final long requestCount = this.requestCount();
+        return 0 == requestCount ?
+                1.0 :
+                (double) this.hitCount / requestCount;
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                this.hitCount,
+                this.missCount,
+                this.loadSuccessCount,
+                this.loadFailureCount,
+                this.evictionCount,
+                this.evictionWeight
+        );
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof CacheStats &&
+                        this.equals0((CacheStats) other);
+    }
+
+    private boolean equals0(final CacheStats other) {
+        return this.hitCount == other.hitCount &&
+                this.missCount == other.missCount &&
+                this.loadSuccessCount == other.loadSuccessCount &&
+                this.loadFailureCount == other.loadFailureCount &&
+                this.evictionCount == other.evictionCount &&
+                this.evictionWeight == other.evictionWeight;
+    }
+
+    @Override
+    public String toString() {
+        return "hits=" + this.hitCount +
+                " misses=" + this.missCount +
+                " loadSuccesses=" + this.loadSuccessCount +
+                " loadFailures=" + this.loadFailureCount +
+                " evictions=" + this.evictionCount +
+                " evictionWeight=" + this.evictionWeight;
+    }
+}
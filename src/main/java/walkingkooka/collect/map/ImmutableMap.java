@@ -21,7 +21,9 @@ import walkingkooka.collect.set.Sets;
 
 import java.util.AbstractMap;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.SortedMap;
 
 /**
  * Base class for numerous {@link Map} views which are considered immutable and read only.
@@ -53,10 +55,71 @@ abstract class ImmutableMap<K, V> extends AbstractMap<K, V> {
     }
 
     /**
-     * {@see ImmutableMapNonSingletonMap}
+     * Copies the given {@link Map} with a single pass, selecting an immutable {@link Map} for the number of entries.
+     * Maps with more than four entries are indexed by hash, smaller maps are searched one entry at a time.
      */
-    static <K, V> Map<K, V> map(final Map<K, V> map) {
-        return ImmutableMapNonSingletonMap.with(map);
+    static <K, V> Map<K, V> copy(final Map<K, V> map) {
+        final ImmutableMapNonSingletonHash<K, V> copy = ImmutableMapNonSingletonHash.copy(map);
+
+        final Map<K, V> immutable;
+        switch (copy.size()) {
+            case 0:
+                immutable = Maps.empty();
+                break;
+            case 1:
+                immutable = singleton(entry(copy, 0));
+                break;
+            case 2:
+                immutable = array(
+                        entry(copy, 0),
+                        entry(copy, 1)
+                );
+                break;
+            case 3:
+                immutable = array(
+                        entry(copy, 0),
+                        entry(copy, 1),
+                        entry(copy, 2)
+                );
+                break;
+            case 4:
+                immutable = array(
+                        entry(copy, 0),
+                        entry(copy, 1),
+                        entry(copy, 2),
+                        entry(copy, 3)
+                );
+                break;
+            default:
+                immutable = copy;
+                break;
+        }
+        return immutable;
+    }
+
+    /**
+     * Entries follow the {@link Entry} contract for equals and hash code.
+     */
+    private static <K, V> Entry<K, V> entry(final ImmutableMapNonSingletonHash<K, V> map,
+                                            final int entry) {
+        return new AbstractMap.SimpleImmutableEntry<>(
+                map.key(entry),
+                map.value(entry)
+        );
+    }
+
+    /**
+     * {@see ImmutableMapNonSingletonHash}
+     */
+    static <K, V> Map<K, V> hash(final Object... keysAndValues) {
+        return ImmutableMapNonSingletonHash.with(keysAndValues);
+    }
+
+    /**
+     * {@see ImmutableMapNavigable}
+     */
+    static <K, V> NavigableMap<K, V> navigable(final SortedMap<K, V> map) {
+        return ImmutableMapNavigable.copy(map);
     }
 
     /**
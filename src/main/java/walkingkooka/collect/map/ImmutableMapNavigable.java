@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import java.util.Iterator;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * Base class for immutable {@link NavigableMap}, implementing the {@link SortedMap} methods and key methods using the
+ * matching {@link NavigableMap} and entry methods.
+ */
+abstract class ImmutableMapNavigable<K, V> extends ImmutableMap<K, V> implements NavigableMap<K, V> {
+
+    /**
+     * {@see ImmutableMapNavigableArray}
+     */
+    static <K, V> ImmutableMapNavigable<K, V> copy(final SortedMap<K, V> map) {
+        return ImmutableMapNavigableArray.copy(map);
+    }
+
+    /**
+     * Package private to limit sub classing.
+     */
+    ImmutableMapNavigable() {
+        super();
+    }
+
+    /**
+     * Returns an {@link Iterator} over the keys in the order of this map.
+     */
+    abstract Iterator<K> keyIterator();
+
+    /**
+     * Returns an {@link Iterator} over the entries in the order of this map.
+     */
+    abstract Iterator<Entry<K, V>> entryIterator();
+
+    // SortedMap........................................................................................................
+
+    @Override
+    public final K firstKey() {
+        return keyOrFail(this.firstEntry());
+    }
+
+    @Override
+    public final K lastKey() {
+        return keyOrFail(this.lastEntry());
+    }
+
+    @Override
+    public final SortedMap<K, V> subMap(final K fromKey,
+                                        final K toKey) {
+        return this.subMap(fromKey, true, toKey, false);
+    }
+
+    @Override
+    public final SortedMap<K, V> headMap(final K toKey) {
+        return this.headMap(toKey, false);
+    }
+
+    @Override
+    public final SortedMap<K, V> tailMap(final K fromKey) {
+        return this.tailMap(fromKey, true);
+    }
+
+    // NavigableMap.....................................................................................................
+
+    @Override
+    public final K lowerKey(final K key) {
+        return keyOrNull(this.lowerEntry(key));
+    }
+
+    @Override
+    public final K floorKey(final K key) {
+        return keyOrNull(this.floorEntry(key));
+    }
+
+    @Override
+    public final K ceilingKey(final K key) {
+        return keyOrNull(this.ceilingEntry(key));
+    }
+
+    @Override
+    public final K higherKey(final K key) {
+        return keyOrNull(this.higherEntry(key));
+    }
+
+    private static <K> K keyOrFail(final Entry<K, ?> entry) {
+        if (null == entry) {
+            throw new NoSuchElementException();
+        }
+        return entry.getKey();
+    }
+
+    private static <K> K keyOrNull(final Entry<K, ?> entry) {
+        return null != entry ?
+                entry.getKey() :
+                null;
+    }
+
+    @Override
+    public final Entry<K, V> pollFirstEntry() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final Entry<K, V> pollLastEntry() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final NavigableSet<K> keySet() {
+        return this.navigableKeySet();
+    }
+
+    @Override
+    public final NavigableSet<K> navigableKeySet() {
+        if (null == this.keySet) {
+            this.keySet = ImmutableMapNavigableKeySet.with(this);
+        }
+        return this.keySet;
+    }
+
+    private NavigableSet<K> keySet;
+
+    @Override
+    public final NavigableSet<K> descendingKeySet() {
+        return this.descendingMap().navigableKeySet();
+    }
+
+    @Override
+    public final Set<Entry<K, V>> entrySet() {
+        if (null == this.entrySet) {
+            this.entrySet = ImmutableMapNavigableEntrySet.with(this);
+        }
+        return this.entrySet;
+    }
+
+    private Set<Entry<K, V>> entrySet;
+}
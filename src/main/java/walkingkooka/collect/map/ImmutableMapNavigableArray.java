@@ -0,0 +1,429 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import walkingkooka.Cast;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable {@link NavigableMap} holding its keys and values in parallel sorted arrays, using binary search to find
+ * keys. Sub maps share the same arrays, recording only their range, so creating them costs a few binary searches and
+ * no copying. Sub maps also record their bounds, so keys outside them fail with an {@link IllegalArgumentException}
+ * as they would for a {@link java.util.TreeMap}.
+ */
+final class ImmutableMapNavigableArray<K, V> extends ImmutableMapNavigable<K, V> {
+
+    /**
+     * Copies the entries of the given {@link SortedMap}, which are already in order, with a single pass.
+     */
+    static <K, V> ImmutableMapNavigableArray<K, V> copy(final SortedMap<K, V> map) {
+        Object[] keys = new Object[map.size()];
+        Object[] values = new Object[keys.length];
+        int size = 0;
+
+        for (final Entry<K, V> entry : map.entrySet()) {
+            if (keys.length == size) {
+                keys = Arrays.copyOf(keys, size * 2 + 1);
+                values = Arrays.copyOf(values, keys.length);
+            }
+            keys[size] = entry.getKey();
+            values[size] = entry.getValue();
+            size++;
+        }
+
+        return new ImmutableMapNavigableArray<>(
+                keys,
+                values,
+                0,
+                size,
+                map.comparator(),
+                UNBOUNDED,
+                false,
+                UNBOUNDED,
+                false
+        );
+    }
+
+    /**
+     * Marks a low or high bound that is absent, which is different from a null key accepted by a comparator.
+     */
+    private final static Object UNBOUNDED = new Object();
+
+    private ImmutableMapNavigableArray(final Object[] keys,
+                                       final Object[] values,
+                                       final int from,
+                                       final int to,
+                                       final Comparator<? super K> comparator,
+                                       final Object low,
+                                       final boolean lowInclusive,
+                                       final Object high,
+                                       final boolean highInclusive) {
+        super();
+        this.keys = keys;
+        this.values = values;
+        this.from = from;
+        this.to = to;
+        this.comparator = comparator;
+        this.low = low;
+        this.lowInclusive = lowInclusive;
+        this.high = high;
+        this.highInclusive = highInclusive;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        final Object[] values = this.values;
+
+        boolean contains = false;
+        for (int i = this.from; i < this.to; i++) {
+            if (Objects.equals(value, values[i])) {
+                contains = true;
+                break;
+            }
+        }
+        return contains;
+    }
+
+    @Override
+    public V get(final Object key) {
+        final int index = this.indexOf(key);
+        return index >= 0 ?
+                this.value(index) :
+                null;
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action, "action");
+
+        for (int i = this.from; i < this.to; i++) {
+            action.accept(this.key(i), this.value(i));
+        }
+    }
+
+    @Override
+    public Collection<V> values() {
+        final V[] values = Cast.to(this.values);
+        return Collections.unmodifiableList(
+                Arrays.asList(values)
+                        .subList(this.from, this.to)
+        );
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.from == this.to;
+    }
+
+    @Override
+    public int size() {
+        return this.to - this.from;
+    }
+
+    // SortedMap........................................................................................................
+
+    @Override
+    public Comparator<? super K> comparator() {
+        return this.comparator;
+    }
+
+    private final Comparator<? super K> comparator;
+
+    // NavigableMap.....................................................................................................
+
+    @Override
+    public Entry<K, V> firstEntry() {
+        return this.entryOrNull(this.from);
+    }
+
+    @Override
+    public Entry<K, V> lastEntry() {
+        return this.entryOrNull(this.to - 1);
+    }
+
+    @Override
+    public Entry<K, V> lowerEntry(final K key) {
+        return this.entryOrNull(this.ceiling(key) - 1);
+    }
+
+    @Override
+    public Entry<K, V> floorEntry(final K key) {
+        return this.entryOrNull(this.higher(key) - 1);
+    }
+
+    @Override
+    public Entry<K, V> ceilingEntry(final K key) {
+        return this.entryOrNull(this.ceiling(key));
+    }
+
+    @Override
+    public Entry<K, V> higherEntry(final K key) {
+        return this.entryOrNull(this.higher(key));
+    }
+
+    @Override
+    public NavigableMap<K, V> subMap(final K fromKey,
+                                     final boolean fromInclusive,
+                                     final K toKey,
+                                     final boolean toInclusive) {
+        this.checkFromKey(fromKey, fromInclusive);
+        this.checkToKey(toKey, toInclusive);
+        if (this.compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+
+        return this.range(
+                fromInclusive ?
+                        this.ceiling(fromKey) :
+                        this.higher(fromKey),
+                toInclusive ?
+                        this.higher(toKey) :
+                        this.ceiling(toKey),
+                fromKey,
+                fromInclusive,
+                toKey,
+                toInclusive
+        );
+    }
+
+    @Override
+    public NavigableMap<K, V> headMap(final K toKey,
+                                      final boolean inclusive) {
+        this.checkToKey(toKey, inclusive);
+
+        return this.range(
+                this.from,
+                inclusive ?
+                        this.higher(toKey) :
+                        this.ceiling(toKey),
+                this.low,
+                this.lowInclusive,
+                toKey,
+                inclusive
+        );
+    }
+
+    @Override
+    public NavigableMap<K, V> tailMap(final K fromKey,
+                                      final boolean inclusive) {
+        this.checkFromKey(fromKey, inclusive);
+
+        return this.range(
+                inclusive ?
+                        this.ceiling(fromKey) :
+                        this.higher(fromKey),
+                this.to,
+                fromKey,
+                inclusive,
+                this.high,
+                this.highInclusive
+        );
+    }
+
+    private ImmutableMapNavigableArray<K, V> range(final int from,
+                                                   final int to,
+                                                   final Object low,
+                                                   final boolean lowInclusive,
+                                                   final Object high,
+                                                   final boolean highInclusive) {
+        return new ImmutableMapNavigableArray<>(
+                this.keys,
+                this.values,
+                from,
+                Math.max(from, to),
+                this.comparator,
+                low,
+                lowInclusive,
+                high,
+                highInclusive
+        );
+    }
+
+    private void checkFromKey(final K fromKey,
+                              final boolean inclusive) {
+        if (!this.inRange(fromKey, inclusive)) {
+            throw new IllegalArgumentException("fromKey out of range");
+        }
+    }
+
+    private void checkToKey(final K toKey,
+                            final boolean inclusive) {
+        if (!this.inRange(toKey, inclusive)) {
+            throw new IllegalArgumentException("toKey out of range");
+        }
+    }
+
+    /**
+     * An inclusive key must lie within the bounds, while an exclusive key may also equal an exclusive bound, the same
+     * checks as a {@link java.util.TreeMap} sub map.
+     */
+    private boolean inRange(final K key,
+                            final boolean inclusive) {
+        final Object low = this.low;
+        final Object high = this.high;
+
+        boolean inRange = true;
+        if (UNBOUNDED != low) {
+            final int compare = this.compare(key, Cast.to(low));
+            inRange = compare > 0 || (0 == compare && (this.lowInclusive || !inclusive));
+        }
+        if (inRange && UNBOUNDED != high) {
+            final int compare = this.compare(key, Cast.to(high));
+            inRange = compare < 0 || (0 == compare && (this.highInclusive || !inclusive));
+        }
+        return inRange;
+    }
+
+    @Override
+    public NavigableMap<K, V> descendingMap() {
+        return ImmutableMapNavigableDescending.with(this);
+    }
+
+    @Override
+    Iterator<K> keyIterator() {
+        return ImmutableMapNavigableIterator.keys(this, false);
+    }
+
+    @Override
+    Iterator<Entry<K, V>> entryIterator() {
+        return ImmutableMapNavigableIterator.entries(this, false);
+    }
+
+    /**
+     * Returns the index of the key or a negative value if absent.
+     */
+    private int indexOf(final Object key) {
+        return Arrays.binarySearch(
+                this.keys,
+                this.from,
+                this.to,
+                key,
+                Cast.to(this.comparator)
+        );
+    }
+
+    /**
+     * Returns the index of the first key greater or equal to the given key, or the end of the range.
+     */
+    private int ceiling(final Object key) {
+        final int index = this.indexOf(key);
+        return index >= 0 ?
+                index :
+                -index - 1;
+    }
+
+    /**
+     * Returns the index of the first key greater than the given key, or the end of the range.
+     */
+    private int higher(final Object key) {
+        final int index = this.indexOf(key);
+        return index >= 0 ?
+                index + 1 :
+                -index - 1;
+    }
+
+    private int compare(final K key,
+                        final K other) {
+        final Comparator<? super K> comparator = this.comparator;
+        return null != comparator ?
+                comparator.compare(key, other) :
+                Cast.<Comparable<Object>>to(key).compareTo(other);
+    }
+
+    private Entry<K, V> entryOrNull(final int index) {
+        return index >= this.from && index < this.to ?
+                this.entry(index) :
+                null;
+    }
+
+    /**
+     * Entries follow the {@link Entry} contract for equals and hash code, and accept a null key when the comparator
+     * does.
+     */
+    Entry<K, V> entry(final int index) {
+        return new AbstractMap.SimpleImmutableEntry<>(
+                this.key(index),
+                this.value(index)
+        );
+    }
+
+    K key(final int index) {
+        return Cast.to(this.keys[index]);
+    }
+
+    V value(final int index) {
+        return Cast.to(this.values[index]);
+    }
+
+    private final Object[] keys;
+
+    private final Object[] values;
+
+    /**
+     * The index of the first entry.
+     */
+    final int from;
+
+    /**
+     * The index after the last entry.
+     */
+    final int to;
+
+    /**
+     * The low bound of a sub map or {@link #UNBOUNDED}.
+     */
+    private final Object low;
+
+    private final boolean lowInclusive;
+
+    /**
+     * The high bound of a sub map or {@link #UNBOUNDED}.
+     */
+    private final Object high;
+
+    private final boolean highInclusive;
+
+    // Object...........................................................................................................
+
+    /**
+     * Computes the hash code defined by {@link java.util.Map#hashCode()} without creating any entries.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = this.from; i < this.to; i++) {
+            hash += Objects.hashCode(this.keys[i]) ^ Objects.hashCode(this.values[i]);
+        }
+        return hash;
+    }
+}
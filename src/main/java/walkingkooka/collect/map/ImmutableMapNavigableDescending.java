@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableMap;
+
+/**
+ * A view of an {@link ImmutableMapNavigableArray} in reverse order, swapping each lower and higher operation.
+ */
+final class ImmutableMapNavigableDescending<K, V> extends ImmutableMapNavigable<K, V> {
+
+    static <K, V> ImmutableMapNavigableDescending<K, V> with(final ImmutableMapNavigableArray<K, V> ascending) {
+        return new ImmutableMapNavigableDescending<>(ascending);
+    }
+
+    private ImmutableMapNavigableDescending(final ImmutableMapNavigableArray<K, V> ascending) {
+        super();
+        this.ascending = ascending;
+        this.comparator = Collections.reverseOrder(ascending.comparator());
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.ascending.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.ascending.containsValue(value);
+    }
+
+    @Override
+    public V get(final Object key) {
+        return this.ascending.get(key);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.ascending.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return this.ascending.size();
+    }
+
+    // SortedMap........................................................................................................
+
+    @Override
+    public Comparator<? super K> comparator() {
+        return this.comparator;
+    }
+
+    private final Comparator<? super K> comparator;
+
+    // NavigableMap.....................................................................................................
+
+    @Override
+    public Entry<K, V> firstEntry() {
+        return this.ascending.lastEntry();
+    }
+
+    @Override
+    public Entry<K, V> lastEntry() {
+        return this.ascending.firstEntry();
+    }
+
+    @Override
+    public Entry<K, V> lowerEntry(final K key) {
+        return this.ascending.higherEntry(key);
+    }
+
+    @Override
+    public Entry<K, V> floorEntry(final K key) {
+        return this.ascending.ceilingEntry(key);
+    }
+
+    @Override
+    public Entry<K, V> ceilingEntry(final K key) {
+        return this.ascending.floorEntry(key);
+    }
+
+    @Override
+    public Entry<K, V> higherEntry(final K key) {
+        return this.ascending.lowerEntry(key);
+    }
+
+    @Override
+    public NavigableMap<K, V> subMap(final K fromKey,
+                                     final boolean fromInclusive,
+                                     final K toKey,
+                                     final boolean toInclusive) {
+        return this.ascending.subMap(toKey, toInclusive, fromKey, fromInclusive)
+                .descendingMap();
+    }
+
+    @Override
+    public NavigableMap<K, V> headMap(final K toKey,
+                                      final boolean inclusive) {
+        return this.ascending.tailMap(toKey, inclusive)
+                .descendingMap();
+    }
+
+    @Override
+    public NavigableMap<K, V> tailMap(final K fromKey,
+                                      final boolean inclusive) {
+        return this.ascending.headMap(fromKey, inclusive)
+                .descendingMap();
+    }
+
+    @Override
+    public NavigableMap<K, V> descendingMap() {
+        return this.ascending;
+    }
+
+    @Override
+    Iterator<K> keyIterator() {
+        return ImmutableMapNavigableIterator.keys(this.ascending, true);
+    }
+
+    @Override
+    Iterator<Entry<K, V>> entryIterator() {
+        return ImmutableMapNavigableIterator.entries(this.ascending, true);
+    }
+
+    private final ImmutableMapNavigableArray<K, V> ascending;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.ascending.hashCode();
+    }
+}
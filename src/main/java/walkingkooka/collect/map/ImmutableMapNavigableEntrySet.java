@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+// ImmutableSet
+final class ImmutableMapNavigableEntrySet<K, V> extends ImmutableMapEntrySet<Entry<K, V>> {
+
+    static <K, V> ImmutableMapNavigableEntrySet<K, V> with(final ImmutableMapNavigable<K, V> map) {
+        return new ImmutableMapNavigableEntrySet<>(map);
+    }
+
+    private ImmutableMapNavigableEntrySet(final ImmutableMapNavigable<K, V> map) {
+        super();
+        this.map = map;
+    }
+
+    @Override
+    public boolean contains(final Object entry) {
+        return entry instanceof Map.Entry && this.contains0((Map.Entry<?, ?>) entry);
+    }
+
+    private boolean contains0(final Map.Entry<?, ?> entry) {
+        final ImmutableMapNavigable<K, V> map = this.map;
+        final Object key = entry.getKey();
+
+        return map.containsKey(key) && Objects.equals(map.get(key), entry.getValue());
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return this.map.entryIterator();
+    }
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    private final ImmutableMapNavigable<K, V> map;
+}
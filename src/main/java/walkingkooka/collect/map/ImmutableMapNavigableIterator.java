@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import walkingkooka.Cast;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} over the keys or entries of an {@link ImmutableMapNavigableArray}, in either direction.
+ */
+final class ImmutableMapNavigableIterator<K, V, T> implements Iterator<T> {
+
+    static <K, V> ImmutableMapNavigableIterator<K, V, K> keys(final ImmutableMapNavigableArray<K, V> map,
+                                                               final boolean descending) {
+        return new ImmutableMapNavigableIterator<>(map, true, descending);
+    }
+
+    static <K, V> ImmutableMapNavigableIterator<K, V, Entry<K, V>> entries(final ImmutableMapNavigableArray<K, V> map,
+                                                                            final boolean descending) {
+        return new ImmutableMapNavigableIterator<>(map, false, descending);
+    }
+
+    private ImmutableMapNavigableIterator(final ImmutableMapNavigableArray<K, V> map,
+                                          final boolean keys,
+                                          final boolean descending) {
+        super();
+        this.map = map;
+        this.keys = keys;
+
+        if (descending) {
+            this.next = map.to - 1;
+            this.end = map.from - 1;
+            this.step = -1;
+        } else {
+            this.next = map.from;
+            this.end = map.to;
+            this.step = 1;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.next != this.end;
+    }
+
+    @Override
+    public T next() {
+        final int next = this.next;
+        if (next == this.end) {
+            throw new NoSuchElementException();
+        }
+        this.next = next + this.step;
+
+        final ImmutableMapNavigableArray<K, V> map = this.map;
+        return Cast.to(
+                this.keys ?
+                        map.key(next) :
+                        map.entry(next)
+        );
+    }
+
+    private final ImmutableMapNavigableArray<K, V> map;
+
+    /**
+     * When true keys are returned otherwise entries.
+     */
+    private final boolean keys;
+
+    /**
+     * The index of the next key or entry.
+     */
+    private int next;
+
+    /**
+     * The index after the last key or entry.
+     */
+    private final int end;
+
+    /**
+     * Either 1 or -1.
+     */
+    private final int step;
+
+    @Override
+    public String toString() {
+        return this.hasNext() ?
+                String.valueOf(this.keys ? this.map.key(this.next) : this.map.entry(this.next)) :
+                "";
+    }
+}
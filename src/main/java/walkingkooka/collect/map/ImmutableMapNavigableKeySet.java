@@ -0,0 +1,161 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.SortedSet;
+
+/**
+ * The read only {@link NavigableSet} returned by {@link ImmutableMapNavigable#navigableKeySet()}, with all methods
+ * delegating to the map.
+ */
+final class ImmutableMapNavigableKeySet<K> extends AbstractSet<K> implements NavigableSet<K> {
+
+    static <K> ImmutableMapNavigableKeySet<K> with(final ImmutableMapNavigable<K, ?> map) {
+        return new ImmutableMapNavigableKeySet<>(map);
+    }
+
+    private ImmutableMapNavigableKeySet(final ImmutableMapNavigable<K, ?> map) {
+        super();
+        this.map = map;
+    }
+
+    @Override
+    public boolean contains(final Object key) {
+        return this.map.containsKey(key);
+    }
+
+    @Override
+    public Iterator<K> iterator() {
+        return this.map.keyIterator();
+    }
+
+    @Override
+    public Iterator<K> descendingIterator() {
+        return this.descendingSet().iterator();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    // SortedSet........................................................................................................
+
+    @Override
+    public Comparator<? super K> comparator() {
+        return this.map.comparator();
+    }
+
+    @Override
+    public K first() {
+        return this.map.firstKey();
+    }
+
+    @Override
+    public K last() {
+        return this.map.lastKey();
+    }
+
+    @Override
+    public SortedSet<K> subSet(final K fromElement,
+                               final K toElement) {
+        return this.subSet(fromElement, true, toElement, false);
+    }
+
+    @Override
+    public SortedSet<K> headSet(final K toElement) {
+        return this.headSet(toElement, false);
+    }
+
+    @Override
+    public SortedSet<K> tailSet(final K fromElement) {
+        return this.tailSet(fromElement, true);
+    }
+
+    // NavigableSet.....................................................................................................
+
+    @Override
+    public K lower(final K key) {
+        return this.map.lowerKey(key);
+    }
+
+    @Override
+    public K floor(final K key) {
+        return this.map.floorKey(key);
+    }
+
+    @Override
+    public K ceiling(final K key) {
+        return this.map.ceilingKey(key);
+    }
+
+    @Override
+    public K higher(final K key) {
+        return this.map.higherKey(key);
+    }
+
+    @Override
+    public K pollFirst() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public K pollLast() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public NavigableSet<K> descendingSet() {
+        return this.map.descendingMap()
+                .navigableKeySet();
+    }
+
+    @Override
+    public NavigableSet<K> subSet(final K fromElement,
+                                  final boolean fromInclusive,
+                                  final K toElement,
+                                  final boolean toInclusive) {
+        return this.map.subMap(fromElement, fromInclusive, toElement, toInclusive)
+                .navigableKeySet();
+    }
+
+    @Override
+    public NavigableSet<K> headSet(final K toElement,
+                                   final boolean inclusive) {
+        return this.map.headMap(toElement, inclusive)
+                .navigableKeySet();
+    }
+
+    @Override
+    public NavigableSet<K> tailSet(final K fromElement,
+                                   final boolean inclusive) {
+        return this.map.tailMap(fromElement, inclusive)
+                .navigableKeySet();
+    }
+
+    private final ImmutableMapNavigable<K, ?> map;
+}
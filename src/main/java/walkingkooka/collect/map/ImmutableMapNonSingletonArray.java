@@ -41,7 +41,7 @@ final class ImmutableMapNonSingletonArray<K, V> extends ImmutableMap<K, V> {
     @Override
     public boolean containsKey(final Object key) {
         return Arrays.stream(this.entrySet.entries)
-                .anyMatch(e -> e.getKey().equals(key));
+                .anyMatch(e -> Objects.equals(e.getKey(), key));
     }
 
     @Override
@@ -49,7 +49,7 @@ final class ImmutableMapNonSingletonArray<K, V> extends ImmutableMap<K, V> {
         V value = null;
 
         for (final Entry<K, V> entry : this.entrySet.entries) {
-            if (entry.getKey().equals(key)) {
+            if (Objects.equals(entry.getKey(), key)) {
                 value = entry.getValue();
                 break;
             }
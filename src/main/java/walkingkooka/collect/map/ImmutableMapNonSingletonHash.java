@@ -0,0 +1,229 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable {@link Map} that keeps insertion order, holding keys and values alternately in a single array with an
+ * open addressing index of entry numbers, using linear probing. Each entry costs two references in the array and on
+ * average two ints in the index, which is kept at most half full.
+ */
+final class ImmutableMapNonSingletonHash<K, V> extends ImmutableMap<K, V> {
+
+    /**
+     * Copies the entries of the given {@link Map} with a single pass.
+     */
+    static <K, V> ImmutableMapNonSingletonHash<K, V> copy(final Map<K, V> map) {
+        Object[] keysAndValues = new Object[map.size() * 2];
+        int length = 0;
+
+        for (final Entry<K, V> entry : map.entrySet()) {
+            if (keysAndValues.length == length) {
+                keysAndValues = Arrays.copyOf(keysAndValues, length * 2 + 2);
+            }
+            keysAndValues[length++] = entry.getKey();
+            keysAndValues[length++] = entry.getValue();
+        }
+
+        return index(keysAndValues, length);
+    }
+
+    /**
+     * Creates a map from an array holding keys and values alternately. Should a key appear more than once, the first
+     * position is kept with the last value, similar to {@link java.util.LinkedHashMap#putAll(Map)}.
+     */
+    static <K, V> ImmutableMapNonSingletonHash<K, V> with(final Object... notCopied) {
+        return index(notCopied, notCopied.length);
+    }
+
+    /**
+     * Builds the index, while compacting the entries if any keys appear more than once.
+     */
+    private static <K, V> ImmutableMapNonSingletonHash<K, V> index(final Object[] keysAndValues,
+                                                                   final int length) {
+        int[] index = new int[indexLength(length / 2)];
+        int size = 0;
+
+        for (int i = 0; i < length; i = i + 2) {
+            final Object key = keysAndValues[i];
+            final Object value = keysAndValues[i + 1];
+
+            final int slot = slot(key, keysAndValues, index);
+            final int entry = index[slot];
+            if (0 != entry) {
+                keysAndValues[entry * 2 - 1] = value;
+            } else {
+                keysAndValues[size * 2] = key;
+                keysAndValues[size * 2 + 1] = value;
+                size++;
+                index[slot] = size;
+            }
+        }
+
+        Object[] compact = keysAndValues;
+        if (size * 2 != keysAndValues.length) {
+            compact = Arrays.copyOf(keysAndValues, size * 2);
+
+            if (indexLength(size) != index.length) {
+                index = new int[indexLength(size)];
+                for (int i = 0; i < size; i++) {
+                    index[slot(compact[i * 2], compact, index)] = i + 1;
+                }
+            }
+        }
+
+        return new ImmutableMapNonSingletonHash<>(compact, index);
+    }
+
+    /**
+     * Returns the smallest power of two that keeps the index at most half full.
+     */
+    private static int indexLength(final int size) {
+        return Integer.highestOneBit(Math.max(size * 2 - 1, 1)) << 1;
+    }
+
+    /**
+     * Returns the index slot holding the entry number with the given key, or the empty slot where it would be added.
+     */
+    private static int slot(final Object key,
+                            final Object[] keysAndValues,
+                            final int[] index) {
+        final int mask = index.length - 1;
+        final int hash = Objects.hashCode(key);
+
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        for (; ; ) {
+            final int entry = index[slot];
+            if (0 == entry || Objects.equals(key, keysAndValues[entry * 2 - 2])) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private ImmutableMapNonSingletonHash(final Object[] keysAndValues,
+                                         final int[] index) {
+        super();
+        this.keysAndValues = keysAndValues;
+        this.index = index;
+        this.entrySet = ImmutableMapNonSingletonHashEntrySet.with(this);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.entry(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        final Object[] keysAndValues = this.keysAndValues;
+
+        boolean contains = false;
+        for (int i = 1; i < keysAndValues.length; i = i + 2) {
+            if (Objects.equals(value, keysAndValues[i])) {
+                contains = true;
+                break;
+            }
+        }
+        return contains;
+    }
+
+    @Override
+    public V get(final Object key) {
+        final int entry = this.entry(key);
+        return entry >= 0 ?
+                this.value(entry) :
+                null;
+    }
+
+    /**
+     * Returns the entry number for the given key or -1 if absent.
+     */
+    int entry(final Object key) {
+        return this.index[slot(key, this.keysAndValues, this.index)] - 1;
+    }
+
+    K key(final int entry) {
+        return Cast.to(this.keysAndValues[entry * 2]);
+    }
+
+    V value(final int entry) {
+        return Cast.to(this.keysAndValues[entry * 2 + 1]);
+    }
+
+    /**
+     * Keys and values alternately in insertion order.
+     */
+    private final Object[] keysAndValues;
+
+    /**
+     * The entry number plus one for each slot, with zero marking an empty slot.
+     */
+    private final int[] index;
+
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action, "action");
+
+        final int size = this.size();
+        for (int i = 0; i < size; i++) {
+            action.accept(this.key(i), this.value(i));
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return this.entrySet;
+    }
+
+    private final ImmutableMapNonSingletonHashEntrySet<K, V> entrySet;
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.size();
+    }
+
+    @Override
+    public int size() {
+        return this.keysAndValues.length / 2;
+    }
+
+    // Object...........................................................................................................
+
+    /**
+     * Computes the hash code defined by {@link Map#hashCode()} without creating any entries.
+     */
+    @Override
+    public int hashCode() {
+        final Object[] keysAndValues = this.keysAndValues;
+
+        int hash = 0;
+        for (int i = 0; i < keysAndValues.length; i = i + 2) {
+            hash += Objects.hashCode(keysAndValues[i]) ^ Objects.hashCode(keysAndValues[i + 1]);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+// ImmutableSet
+final class ImmutableMapNonSingletonHashEntrySet<K, V> extends ImmutableMapEntrySet<Entry<K, V>> {
+
+    static <K, V> ImmutableMapNonSingletonHashEntrySet<K, V> with(final ImmutableMapNonSingletonHash<K, V> map) {
+        return new ImmutableMapNonSingletonHashEntrySet<>(map);
+    }
+
+    private ImmutableMapNonSingletonHashEntrySet(final ImmutableMapNonSingletonHash<K, V> map) {
+        super();
+        this.map = map;
+    }
+
+    @Override
+    public boolean contains(final Object entry) {
+        return entry instanceof Map.Entry && this.contains0((Map.Entry<?, ?>) entry);
+    }
+
+    private boolean contains0(final Map.Entry<?, ?> entry) {
+        final ImmutableMapNonSingletonHash<K, V> map = this.map;
+        final int number = map.entry(entry.getKey());
+
+        return number >= 0 && Objects.equals(map.value(number), entry.getValue());
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return ImmutableMapNonSingletonHashEntrySetIterator.with(this.map);
+    }
+
+    @Override
+    public int size() {
+        return this.map.size();
+    }
+
+    private final ImmutableMapNonSingletonHash<K, V> map;
+}
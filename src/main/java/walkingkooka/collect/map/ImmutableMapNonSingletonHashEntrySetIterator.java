@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link Iterator} returned by {@link ImmutableMapNonSingletonHashEntrySet#iterator()}, creating a read only
+ * {@link Entry} for each key and value as it advances.
+ */
+final class ImmutableMapNonSingletonHashEntrySetIterator<K, V> implements Iterator<Entry<K, V>> {
+
+    static <K, V> ImmutableMapNonSingletonHashEntrySetIterator<K, V> with(final ImmutableMapNonSingletonHash<K, V> map) {
+        return new ImmutableMapNonSingletonHashEntrySetIterator<>(map);
+    }
+
+    private ImmutableMapNonSingletonHashEntrySetIterator(final ImmutableMapNonSingletonHash<K, V> map) {
+        super();
+        this.map = map;
+        this.next = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.next < this.map.size();
+    }
+
+    @Override
+    public Entry<K, V> next() {
+        final ImmutableMapNonSingletonHash<K, V> map = this.map;
+        final int next = this.next;
+        if (next >= map.size()) {
+            throw new NoSuchElementException();
+        }
+        this.next = next + 1;
+        return new AbstractMap.SimpleImmutableEntry<>(
+                map.key(next),
+                map.value(next)
+        );
+    }
+
+    private final ImmutableMapNonSingletonHash<K, V> map;
+
+    /**
+     * The number of the next entry to be returned.
+     */
+    private int next;
+
+    /**
+     * Dumps only the outstanding entries not visited.
+     */
+    @Override
+    public String toString() {
+        final ImmutableMapNonSingletonHash<K, V> map = this.map;
+        final int size = map.size();
+
+        final StringBuilder b = new StringBuilder();
+        String separator = "";
+        for (int i = this.next; i < size; i++) {
+            b.append(separator);
+            b.append(map.key(i));
+            b.append('=');
+            b.append(map.value(i));
+            separator = ", ";
+        }
+
+        return b.toString();
+    }
+}
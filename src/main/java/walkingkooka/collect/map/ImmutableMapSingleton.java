@@ -20,6 +20,7 @@ package walkingkooka.collect.map;
 import walkingkooka.collect.set.Sets;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -38,7 +39,7 @@ final class ImmutableMapSingleton<K, V> extends ImmutableMap<K, V> {
 
     @Override
     public boolean containsKey(final Object key) {
-        return this.entry.getKey().equals(key);
+        return Objects.equals(this.entry.getKey(), key);
     }
 
     @Override
@@ -50,7 +51,7 @@ final class ImmutableMapSingleton<K, V> extends ImmutableMap<K, V> {
     public V get(final Object key) {
         final Entry<K, V> entry = this.entry;
 
-        return entry.getKey().equals(key) ?
+        return Objects.equals(entry.getKey(), key) ?
                 entry.getValue() :
                 null;
     }
@@ -25,7 +25,6 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -36,6 +35,8 @@ import java.util.TreeMap;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
 
 final public class Maps implements PublicStaticHelper {
 
@@ -51,6 +52,34 @@ final public class Maps implements PublicStaticHelper {
         }
     }
 
+    /**
+     * {@see Cache}
+     */
+    static public <K, V> Cache<K, V> cache(final long maxWeight,
+                                           final ToIntBiFunction<? super K, ? super V> weigher) {
+        return Cache.with(
+                maxWeight,
+                weigher,
+                Long.MAX_VALUE,
+                () -> 0L
+        );
+    }
+
+    /**
+     * {@see Cache}
+     */
+    static public <K, V> Cache<K, V> cache(final long maxWeight,
+                                           final ToIntBiFunction<? super K, ? super V> weigher,
+                                           final long expireAfterWrite,
+                                           final LongSupplier now) {
+        return Cache.with(
+                maxWeight,
+                weigher,
+                expireAfterWrite,
+                now
+        );
+    }
+
     /**
      * {@see ConcurrentHashMap}
      */
@@ -106,55 +135,13 @@ final public class Maps implements PublicStaticHelper {
     }
 
     /**
-     * Makes a defensive copy and then wraps or selects a {@link Map}.
+     * Makes a defensive copy and then selects a {@link Map}. A {@link SortedMap} is copied into an immutable
+     * {@link NavigableMap} so its {@link Comparator} continues to be used when finding keys.
      */
     private static <K, V> Map<K, V> copyAndSelect(final Map<K, V> map) {
-        final Map<K, V> copy = map instanceof SortedMap ?
-                sortedMap(Cast.to(map)) :
-                ordered();
-        copy.putAll(map);
-
-        Map<K, V> immutable;
-        switch (copy.size()) {
-            case 0:
-                immutable = empty();
-                break;
-            case 1:
-                final Entry<K, V> entry = copy.entrySet().iterator().next();
-                immutable = of(entry.getKey(), entry.getValue());
-                break;
-            case 2:
-                final Iterator<Entry<K, V>> entries2 = copy.entrySet().iterator();
-                immutable = ImmutableMap.array(entries2.next(),
-                        entries2.next());
-                break;
-            case 3:
-                final Iterator<Entry<K, V>> entries3 = copy.entrySet().iterator();
-                immutable = ImmutableMap.array(entries3.next(),
-                        entries3.next(),
-                        entries3.next());
-                break;
-            case 4:
-                final Iterator<Entry<K, V>> entries4 = copy.entrySet().iterator();
-                immutable = ImmutableMap.array(entries4.next(),
-                        entries4.next(),
-                        entries4.next(),
-                        entries4.next());
-                break;
-            default:
-                immutable = ImmutableMap.map(copy);
-                break;
-        }
-        return immutable;
-    }
-
-    /**
-     * Factory that creates a {@link SortedMap} with the {@link Comparator} if present.
-     */
-    private static <K, V> Map<K, V> sortedMap(final SortedMap<K, V> map) {
-        return null == map.comparator() ?
-                sorted() :
-                sorted(map.comparator());
+        return map instanceof SortedMap ?
+                ImmutableMap.navigable(Cast.to(map)) :
+                ImmutableMap.copy(map);
     }
 
     /**
@@ -245,15 +232,13 @@ final public class Maps implements PublicStaticHelper {
                                       final V value3,
                                       final K key4,
                                       final V value4) {
-        final Entry<K, V>[] entries = entriesArray(5);
-
-        entries[0] = entry(key0, value0);
-        entries[1] = entry(key1, value1);
-        entries[2] = entry(key2, value2);
-        entries[3] = entry(key3, value3);
-        entries[4] = entry(key4, value4);
-
-        return ImmutableMap.array(entries);
+        return ImmutableMap.hash(
+                key0, value0,
+                key1, value1,
+                key2, value2,
+                key3, value3,
+                key4, value4
+        );
     }
 
     /**
@@ -271,16 +256,14 @@ final public class Maps implements PublicStaticHelper {
                                       final V value4,
                                       final K key5,
                                       final V value5) {
-        final Entry<K, V>[] entries = entriesArray(6);
-
-        entries[0] = entry(key0, value0);
-        entries[1] = entry(key1, value1);
-        entries[2] = entry(key2, value2);
-        entries[3] = entry(key3, value3);
-        entries[4] = entry(key4, value4);
-        entries[5] = entry(key5, value5);
-
-        return ImmutableMap.array(entries);
+        return ImmutableMap.hash(
+                key0, value0,
+                key1, value1,
+                key2, value2,
+                key3, value3,
+                key4, value4,
+                key5, value5
+        );
     }
 
     private static <K, V> Entry<K, V>[] entriesArray(final int size) {
@@ -295,6 +278,13 @@ final public class Maps implements PublicStaticHelper {
         return new LinkedHashMap<>();
     }
 
+    /**
+     * {@see PersistentMap}
+     */
+    static public <K, V> PersistentMap<K, V> persistent() {
+        return PersistentMap.empty();
+    }
+
     /**
      * {@see Collections#unmodifiableMap(Map)
      */
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import walkingkooka.Cast;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable {@link Map} held in a hash array mapped trie. {@link #with(Object, Object)} and {@link #without(Object)}
+ * return a new map that shares all nodes not on the path to the key, so a single change costs a few small arrays rather
+ * than a copy of the whole map. Many changes may be made more cheaply using a {@link PersistentMapBuilder}.
+ * <br>
+ * Two {@link PersistentMap} with the same entries always have the same shape, so {@link #equals(Object)} compares node
+ * by node, skipping any nodes that are shared. Null keys are not supported.
+ */
+public final class PersistentMap<K, V> extends ImmutableMap<K, V> {
+
+    /**
+     * The empty {@link PersistentMap}.
+     */
+    private final static PersistentMap<?, ?> EMPTY = new PersistentMap<>(PersistentMapBitmapNode.EMPTY, 0);
+
+    /**
+     * Marks a key that was not found, allowing null values.
+     */
+    private final static Object ABSENT = new Object();
+
+    /**
+     * Returns the empty {@link PersistentMap}.
+     */
+    static <K, V> PersistentMap<K, V> empty() {
+        return Cast.to(EMPTY);
+    }
+
+    /**
+     * Factory used by {@link PersistentMapBuilder}.
+     */
+    static <K, V> PersistentMap<K, V> with(final PersistentMapNode root,
+                                           final int size) {
+        return 0 == size ?
+                empty() :
+                new PersistentMap<>(root, size);
+    }
+
+    /**
+     * Private ctor use factory.
+     */
+    private PersistentMap(final PersistentMapNode root,
+                          final int size) {
+        super();
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns a map with the key and value, or this if the key already has the same value.
+     */
+    public PersistentMap<K, V> with(final K key,
+                                    final V value) {
+        Objects.requireNonNull(key, "key");
+
+        final PersistentMapEdit edit = PersistentMapEdit.persistent();
+        final PersistentMapNode root = this.root.put(key, value, key.hashCode(), 0, edit);
+
+        return this.root == root ?
+                this :
+                new PersistentMap<>(root, this.size + edit.sizeChange);
+    }
+
+    /**
+     * Returns a map without the key, or this if the key is absent.
+     */
+    public PersistentMap<K, V> without(final Object key) {
+        return null == key ?
+                this :
+                this.without0(key);
+    }
+
+    private PersistentMap<K, V> without0(final Object key) {
+        final PersistentMapEdit edit = PersistentMapEdit.persistent();
+        final PersistentMapNode root = this.root.remove(key, key.hashCode(), 0, edit);
+
+        return this.root == root ?
+                this :
+                with(root, this.size + edit.sizeChange);
+    }
+
+    /**
+     * Returns a {@link PersistentMapBuilder} starting with the entries of this map, which are not copied.
+     */
+    public PersistentMapBuilder<K, V> builder() {
+        return PersistentMapBuilder.with(this.root, this.size);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return null != key &&
+                ABSENT != this.root.get(key, key.hashCode(), 0, ABSENT);
+    }
+
+    @Override
+    public V get(final Object key) {
+        final Object value = null != key ?
+                this.root.get(key, key.hashCode(), 0, ABSENT) :
+                ABSENT;
+        return ABSENT != value ?
+                Cast.to(value) :
+                null;
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action, "action");
+
+        this.root.forEach((k, v) -> action.accept(Cast.to(k), Cast.to(v)));
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (null == this.entrySet) {
+            this.entrySet = PersistentMapEntrySet.with(this);
+        }
+        return this.entrySet;
+    }
+
+    private PersistentMapEntrySet<K, V> entrySet;
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.size;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private final int size;
+
+    final PersistentMapNode root;
+
+    // Object...........................................................................................................
+
+    /**
+     * Computes the hash code defined by {@link Map#hashCode()} without creating any entries.
+     */
+    @Override
+    public int hashCode() {
+        final int[] hash = new int[1];
+        this.root.forEach((k, v) -> hash[0] += k.hashCode() ^ Objects.hashCode(v));
+        return hash[0];
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                (other instanceof PersistentMap ?
+                        this.equals0((PersistentMap<?, ?>) other) :
+                        super.equals(other));
+    }
+
+    private boolean equals0(final PersistentMap<?, ?> other) {
+        return this.size == other.size &&
+                this.root.equalsNode(other.root);
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import java.util.Objects;
+
+/**
+ * A node that uses the next five bits of the hash to select an entry or child node. Entries are stored first as
+ * alternate keys and values, followed by child nodes in reverse order, each located by counting the bits below its
+ * bit in the matching bitmap.
+ */
+final class PersistentMapBitmapNode extends PersistentMapNode {
+
+    /**
+     * The root of an empty map.
+     */
+    final static PersistentMapBitmapNode EMPTY = new PersistentMapBitmapNode(0, 0, new Object[0], null);
+
+    static PersistentMapBitmapNode with(final int dataMap,
+                                        final int nodeMap,
+                                        final Object[] content,
+                                        final PersistentMapEdit edit) {
+        return new PersistentMapBitmapNode(dataMap, nodeMap, content, edit.owner());
+    }
+
+    private PersistentMapBitmapNode(final int dataMap,
+                                    final int nodeMap,
+                                    final Object[] content,
+                                    final PersistentMapEdit owner) {
+        super(owner);
+        this.dataMap = dataMap;
+        this.nodeMap = nodeMap;
+        this.content = content;
+    }
+
+    @Override
+    Object get(final Object key,
+               final int hash,
+               final int shift,
+               final Object absent) {
+        final int bit = bit(hash, shift);
+
+        final Object value;
+        if (0 != (this.dataMap & bit)) {
+            final int index = dataIndex(bit);
+            value = key.equals(this.content[index]) ?
+                    this.content[index + 1] :
+                    absent;
+        } else {
+            value = 0 != (this.nodeMap & bit) ?
+                    this.nodeAt(bit).get(key, hash, shift + BITS, absent) :
+                    absent;
+        }
+        return value;
+    }
+
+    @Override
+    PersistentMapNode put(final Object key,
+                          final Object value,
+                          final int hash,
+                          final int shift,
+                          final PersistentMapEdit edit) {
+        final int bit = bit(hash, shift);
+
+        final PersistentMapNode node;
+        if (0 != (this.dataMap & bit)) {
+            final int index = dataIndex(bit);
+            final Object existingKey = this.content[index];
+
+            if (key.equals(existingKey)) {
+                node = value == this.content[index + 1] ?
+                        this :
+                        this.set(index + 1, value, edit);
+            } else {
+                edit.sizeChange = 1;
+                node = this.dataToNode(
+                        bit,
+                        merge(
+                                existingKey,
+                                this.content[index + 1],
+                                existingKey.hashCode(),
+                                key,
+                                value,
+                                hash,
+                                shift + BITS,
+                                edit
+                        ),
+                        edit
+                );
+            }
+        } else {
+            if (0 != (this.nodeMap & bit)) {
+                final PersistentMapNode child = this.nodeAt(bit);
+                final PersistentMapNode updated = child.put(key, value, hash, shift + BITS, edit);
+                node = child == updated ?
+                        this :
+                        this.set(this.nodeIndex(bit), updated, edit);
+            } else {
+                edit.sizeChange = 1;
+                node = this.insertData(bit, key, value, edit);
+            }
+        }
+        return node;
+    }
+
+    @Override
+    PersistentMapNode remove(final Object key,
+                             final int hash,
+                             final int shift,
+                             final PersistentMapEdit edit) {
+        final int bit = bit(hash, shift);
+
+        PersistentMapNode node = this;
+        if (0 != (this.dataMap & bit)) {
+            if (key.equals(this.content[dataIndex(bit)])) {
+                edit.sizeChange = -1;
+                node = this.removeData(bit, edit);
+            }
+        } else {
+            if (0 != (this.nodeMap & bit)) {
+                final PersistentMapNode child = this.nodeAt(bit);
+                final PersistentMapNode updated = child.remove(key, hash, shift + BITS, edit);
+
+                // a child owned by a transient edit may have been updated in place, so test the size change
+                if (0 != edit.sizeChange) {
+                    if (updated.isSingleEntry()) {
+                        node = this.nodeToData(bit, updated.key(0), updated.value(0), edit);
+                    } else {
+                        node = this.set(
+                                this.nodeIndex(bit),
+                                updated.onlyCollision(),
+                                edit
+                        );
+                    }
+                }
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns the only child if it is a collision node and there are no entries, which should replace this node in
+     * its parent, otherwise returns this.
+     */
+    @Override
+    PersistentMapNode onlyCollision() {
+        return 0 == this.dataMap && 1 == Integer.bitCount(this.nodeMap) && this.content[0] instanceof PersistentMapCollisionNode ?
+                (PersistentMapNode) this.content[0] :
+                this;
+    }
+
+    /**
+     * Replaces a single slot, updating this node in place when owned by the edit.
+     */
+    private PersistentMapBitmapNode set(final int index,
+                                        final Object value,
+                                        final PersistentMapEdit edit) {
+        final PersistentMapBitmapNode node;
+
+        if (edit.isOwner(this)) {
+            this.content[index] = value;
+            node = this;
+        } else {
+            final Object[] content = this.content.clone();
+            content[index] = value;
+            node = with(this.dataMap, this.nodeMap, content, edit);
+        }
+        return node;
+    }
+
+    private PersistentMapBitmapNode insertData(final int bit,
+                                               final Object key,
+                                               final Object value,
+                                               final PersistentMapEdit edit) {
+        final Object[] content = this.content;
+        final int index = dataIndex(bit);
+
+        final Object[] updated = new Object[content.length + 2];
+        System.arraycopy(content, 0, updated, 0, index);
+        updated[index] = key;
+        updated[index + 1] = value;
+        System.arraycopy(content, index, updated, index + 2, content.length - index);
+
+        return this.update(this.dataMap | bit, this.nodeMap, updated, edit);
+    }
+
+    private PersistentMapBitmapNode removeData(final int bit,
+                                               final PersistentMapEdit edit) {
+        final Object[] content = this.content;
+        final int index = dataIndex(bit);
+
+        final Object[] updated = new Object[content.length - 2];
+        System.arraycopy(content, 0, updated, 0, index);
+        System.arraycopy(content, index + 2, updated, index, content.length - index - 2);
+
+        return this.update(this.dataMap ^ bit, this.nodeMap, updated, edit);
+    }
+
+    /**
+     * Replaces the entry at the bit with a child node.
+     */
+    private PersistentMapBitmapNode dataToNode(final int bit,
+                                               final PersistentMapNode child,
+                                               final PersistentMapEdit edit) {
+        final Object[] content = this.content;
+        final int dataIndex = dataIndex(bit);
+        final int nodeIndex = content.length - 2 - Integer.bitCount(this.nodeMap & (bit - 1));
+
+        final Object[] updated = new Object[content.length - 1];
+        System.arraycopy(content, 0, updated, 0, dataIndex);
+        System.arraycopy(content, dataIndex + 2, updated, dataIndex, nodeIndex - dataIndex);
+        updated[nodeIndex] = child;
+        System.arraycopy(content, nodeIndex + 2, updated, nodeIndex + 1, content.length - nodeIndex - 2);
+
+        return this.update(this.dataMap ^ bit, this.nodeMap | bit, updated, edit);
+    }
+
+    /**
+     * Replaces the child node at the bit with an entry.
+     */
+    private PersistentMapBitmapNode nodeToData(final int bit,
+                                               final Object key,
+                                               final Object value,
+                                               final PersistentMapEdit edit) {
+        final Object[] content = this.content;
+        final int nodeIndex = this.nodeIndex(bit);
+        final int dataIndex = dataIndex(bit);
+
+        final Object[] updated = new Object[content.length + 1];
+        System.arraycopy(content, 0, updated, 0, dataIndex);
+        updated[dataIndex] = key;
+        updated[dataIndex + 1] = value;
+        System.arraycopy(content, dataIndex, updated, dataIndex + 2, nodeIndex - dataIndex);
+        System.arraycopy(content, nodeIndex + 1, updated, nodeIndex + 2, content.length - nodeIndex - 1);
+
+        return this.update(this.dataMap | bit, this.nodeMap ^ bit, updated, edit);
+    }
+
+    /**
+     * Updates this node in place when owned by the edit, otherwise creates a new node.
+     */
+    private PersistentMapBitmapNode update(final int dataMap,
+                                           final int nodeMap,
+                                           final Object[] content,
+                                           final PersistentMapEdit edit) {
+        final PersistentMapBitmapNode node;
+
+        if (edit.isOwner(this)) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+            node = this;
+        } else {
+            node = with(dataMap, nodeMap, content, edit);
+        }
+        return node;
+    }
+
+    /**
+     * Returns the index of the key for the bit, with the value following.
+     */
+    private int dataIndex(final int bit) {
+        return Integer.bitCount(this.dataMap & (bit - 1)) * 2;
+    }
+
+    private int nodeIndex(final int bit) {
+        return this.content.length - 1 - Integer.bitCount(this.nodeMap & (bit - 1));
+    }
+
+    private PersistentMapNode nodeAt(final int bit) {
+        return (PersistentMapNode) this.content[this.nodeIndex(bit)];
+    }
+
+    @Override
+    int dataCount() {
+        return Integer.bitCount(this.dataMap);
+    }
+
+    @Override
+    Object key(final int index) {
+        return this.content[index * 2];
+    }
+
+    @Override
+    Object value(final int index) {
+        return this.content[index * 2 + 1];
+    }
+
+    @Override
+    int nodeCount() {
+        return Integer.bitCount(this.nodeMap);
+    }
+
+    @Override
+    PersistentMapNode node(final int index) {
+        return (PersistentMapNode) this.content[this.content.length - 1 - index];
+    }
+
+    /**
+     * Bits for the entries held by this node.
+     */
+    private int dataMap;
+
+    /**
+     * Bits for the child nodes.
+     */
+    private int nodeMap;
+
+    private Object[] content;
+
+    @Override
+    boolean equalsNode(final PersistentMapNode other) {
+        return this == other ||
+                other instanceof PersistentMapBitmapNode && this.equalsNode0((PersistentMapBitmapNode) other);
+    }
+
+    private boolean equalsNode0(final PersistentMapBitmapNode other) {
+        boolean equals = this.dataMap == other.dataMap && this.nodeMap == other.nodeMap;
+
+        if (equals) {
+            final Object[] content = this.content;
+            final Object[] otherContent = other.content;
+            final int dataLength = this.dataCount() * 2;
+
+            for (int i = 0; i < dataLength; i = i + 2) {
+                if (false == content[i].equals(otherContent[i]) || false == Objects.equals(content[i + 1], otherContent[i + 1])) {
+                    equals = false;
+                    break;
+                }
+            }
+
+            if (equals) {
+                for (int i = dataLength; i < content.length; i++) {
+                    if (false == ((PersistentMapNode) content[i]).equalsNode((PersistentMapNode) otherContent[i])) {
+                        equals = false;
+                        break;
+                    }
+                }
+            }
+        }
+
+        return equals;
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toHexString(this.dataMap) + " " + Integer.toHexString(this.nodeMap) + " " + this.dataCount() + " entries " + this.nodeCount() + " nodes";
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import walkingkooka.build.Builder;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link Builder} that updates the nodes it creates in place, so bulk loading many entries avoids most of the copying
+ * of repeated {@link PersistentMap#with(Object, Object)}. Nodes belonging to maps already built are never modified, and
+ * after each {@link #build()} further changes again copy any shared nodes. A builder must not be shared between
+ * threads.
+ */
+public final class PersistentMapBuilder<K, V> implements Builder<PersistentMap<K, V>> {
+
+    static <K, V> PersistentMapBuilder<K, V> with(final PersistentMapNode root,
+                                                  final int size) {
+        return new PersistentMapBuilder<>(root, size);
+    }
+
+    private PersistentMapBuilder(final PersistentMapNode root,
+                                 final int size) {
+        super();
+        this.root = root;
+        this.size = size;
+        this.edit = PersistentMapEdit.transientEdit();
+    }
+
+    /**
+     * Adds or replaces the value for the given key.
+     */
+    public PersistentMapBuilder<K, V> put(final K key,
+                                          final V value) {
+        Objects.requireNonNull(key, "key");
+
+        final PersistentMapEdit edit = this.edit;
+        edit.sizeChange = 0;
+        this.root = this.root.put(key, value, key.hashCode(), 0, edit);
+        this.size += edit.sizeChange;
+        return this;
+    }
+
+    /**
+     * Adds or replaces all the entries of the given {@link Map}.
+     */
+    public PersistentMapBuilder<K, V> putAll(final Map<? extends K, ? extends V> map) {
+        Objects.requireNonNull(map, "map");
+
+        map.forEach(this::put);
+        return this;
+    }
+
+    /**
+     * Removes the given key if present.
+     */
+    public PersistentMapBuilder<K, V> remove(final Object key) {
+        if (null != key) {
+            final PersistentMapEdit edit = this.edit;
+            edit.sizeChange = 0;
+            this.root = this.root.remove(key, key.hashCode(), 0, edit);
+            this.size += edit.sizeChange;
+        }
+        return this;
+    }
+
+    /**
+     * The number of entries.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns a {@link PersistentMap} with the entries so far. The builder may continue to be used.
+     */
+    @Override
+    public PersistentMap<K, V> build() {
+        final PersistentMap<K, V> map = PersistentMap.with(this.root, this.size);
+        this.edit = PersistentMapEdit.transientEdit();
+        return map;
+    }
+
+    private PersistentMapNode root;
+
+    private int size;
+
+    /**
+     * Identifies the nodes that may be updated in place, replaced by each {@link #build()}.
+     */
+    private PersistentMapEdit edit;
+
+    @Override
+    public String toString() {
+        return PersistentMap.with(this.root, this.size).toString();
+    }
+}
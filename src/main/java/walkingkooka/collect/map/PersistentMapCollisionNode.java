@@ -0,0 +1,233 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import java.util.Objects;
+
+/**
+ * A node holding keys with the same hash code as alternate keys and values.
+ */
+final class PersistentMapCollisionNode extends PersistentMapNode {
+
+    static PersistentMapCollisionNode with(final int hash,
+                                           final Object[] keysAndValues,
+                                           final PersistentMapEdit edit) {
+        return new PersistentMapCollisionNode(hash, keysAndValues, edit.owner());
+    }
+
+    private PersistentMapCollisionNode(final int hash,
+                                       final Object[] keysAndValues,
+                                       final PersistentMapEdit owner) {
+        super(owner);
+        this.hash = hash;
+        this.keysAndValues = keysAndValues;
+    }
+
+    @Override
+    Object get(final Object key,
+               final int hash,
+               final int shift,
+               final Object absent) {
+        final int index = this.indexOf(key, hash);
+        return -1 != index ?
+                this.keysAndValues[index + 1] :
+                absent;
+    }
+
+    @Override
+    PersistentMapNode put(final Object key,
+                          final Object value,
+                          final int hash,
+                          final int shift,
+                          final PersistentMapEdit edit) {
+        final PersistentMapNode node;
+
+        if (this.hash == hash) {
+            final Object[] keysAndValues = this.keysAndValues;
+            final int index = this.indexOf(key, hash);
+
+            if (-1 != index) {
+                if (value == keysAndValues[index + 1]) {
+                    node = this;
+                } else {
+                    final Object[] updated = edit.isOwner(this) ?
+                            keysAndValues :
+                            keysAndValues.clone();
+                    updated[index + 1] = value;
+                    node = this.update(updated, edit);
+                }
+            } else {
+                edit.sizeChange = 1;
+
+                final Object[] updated = new Object[keysAndValues.length + 2];
+                System.arraycopy(keysAndValues, 0, updated, 0, keysAndValues.length);
+                updated[keysAndValues.length] = key;
+                updated[keysAndValues.length + 1] = value;
+                node = this.update(updated, edit);
+            }
+        } else {
+            edit.sizeChange = 1;
+            node = this.split(key, value, hash, shift, edit);
+        }
+
+        return node;
+    }
+
+    /**
+     * Creates a bitmap node holding this node and the new entry, with a different hash.
+     */
+    private PersistentMapNode split(final Object key,
+                                    final Object value,
+                                    final int hash,
+                                    final int shift,
+                                    final PersistentMapEdit edit) {
+        final int bit = bit(this.hash, shift);
+        final int keyBit = bit(hash, shift);
+
+        return bit == keyBit ?
+                PersistentMapBitmapNode.with(
+                        0,
+                        bit,
+                        new Object[]{
+                                this.split(key, value, hash, shift + BITS, edit)
+                        },
+                        edit
+                ) :
+                PersistentMapBitmapNode.with(
+                        keyBit,
+                        bit,
+                        new Object[]{
+                                key,
+                                value,
+                                this
+                        },
+                        edit
+                );
+    }
+
+    @Override
+    PersistentMapNode remove(final Object key,
+                             final int hash,
+                             final int shift,
+                             final PersistentMapEdit edit) {
+        final int index = this.indexOf(key, hash);
+
+        PersistentMapNode node = this;
+        if (-1 != index) {
+            edit.sizeChange = -1;
+
+            final Object[] keysAndValues = this.keysAndValues;
+            final Object[] updated = new Object[keysAndValues.length - 2];
+            System.arraycopy(keysAndValues, 0, updated, 0, index);
+            System.arraycopy(keysAndValues, index + 2, updated, index, keysAndValues.length - index - 2);
+            node = this.update(updated, edit);
+        }
+        return node;
+    }
+
+    private PersistentMapCollisionNode update(final Object[] keysAndValues,
+                                              final PersistentMapEdit edit) {
+        final PersistentMapCollisionNode node;
+
+        if (edit.isOwner(this)) {
+            this.keysAndValues = keysAndValues;
+            node = this;
+        } else {
+            node = with(this.hash, keysAndValues, edit);
+        }
+        return node;
+    }
+
+    /**
+     * Returns the index of the key or -1 if absent.
+     */
+    private int indexOf(final Object key,
+                        final int hash) {
+        int index = -1;
+
+        if (this.hash == hash) {
+            final Object[] keysAndValues = this.keysAndValues;
+            for (int i = 0; i < keysAndValues.length; i = i + 2) {
+                if (key.equals(keysAndValues[i])) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+        return index;
+    }
+
+    @Override
+    int dataCount() {
+        return this.keysAndValues.length / 2;
+    }
+
+    @Override
+    Object key(final int index) {
+        return this.keysAndValues[index * 2];
+    }
+
+    @Override
+    Object value(final int index) {
+        return this.keysAndValues[index * 2 + 1];
+    }
+
+    @Override
+    int nodeCount() {
+        return 0;
+    }
+
+    @Override
+    PersistentMapNode node(final int index) {
+        throw new IndexOutOfBoundsException("Invalid index " + index);
+    }
+
+    private final int hash;
+
+    private Object[] keysAndValues;
+
+    /**
+     * Entries may be in any order, so each key is searched for in the other node.
+     */
+    @Override
+    boolean equalsNode(final PersistentMapNode other) {
+        return this == other ||
+                other instanceof PersistentMapCollisionNode && this.equalsNode0((PersistentMapCollisionNode) other);
+    }
+
+    private boolean equalsNode0(final PersistentMapCollisionNode other) {
+        final Object[] keysAndValues = this.keysAndValues;
+        boolean equals = this.hash == other.hash && keysAndValues.length == other.keysAndValues.length;
+
+        if (equals) {
+            for (int i = 0; i < keysAndValues.length; i = i + 2) {
+                final int index = other.indexOf(keysAndValues[i], this.hash);
+                if (-1 == index || false == Objects.equals(keysAndValues[i + 1], other.keysAndValues[index + 1])) {
+                    equals = false;
+                    break;
+                }
+            }
+        }
+        return equals;
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toHexString(this.hash) + " " + this.dataCount() + " entries";
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+/**
+ * Accompanies a single update of a {@link PersistentMap}, recording the change in size. A transient edit also owns
+ * the nodes it creates, so a {@link PersistentMapBuilder} may update those nodes in place rather than copying them.
+ */
+final class PersistentMapEdit {
+
+    /**
+     * Creates an edit for a single update, which never owns any nodes.
+     */
+    static PersistentMapEdit persistent() {
+        return new PersistentMapEdit(false);
+    }
+
+    /**
+     * Creates an edit that owns any nodes it creates, until it is abandoned.
+     */
+    static PersistentMapEdit transientEdit() {
+        return new PersistentMapEdit(true);
+    }
+
+    private PersistentMapEdit(final boolean owns) {
+        super();
+        this.owns = owns;
+    }
+
+    /**
+     * The owner recorded by new nodes, which is null for persistent edits.
+     */
+    PersistentMapEdit owner() {
+        return this.owns ?
+                this :
+                null;
+    }
+
+    /**
+     * Only nodes created by this transient edit may be updated in place.
+     */
+    boolean isOwner(final PersistentMapNode node) {
+        return this.owns && this == node.owner;
+    }
+
+    private final boolean owns;
+
+    /**
+     * Plus one when an entry is added, minus one when removed.
+     */
+    int sizeChange;
+
+    @Override
+    public String toString() {
+        return (this.owns ? "transient " : "persistent ") + this.sizeChange;
+    }
+}
@@ -17,27 +17,38 @@
 
 package walkingkooka.collect.map;
 
-import walkingkooka.collect.iterator.Iterators;
-
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 
 // ImmutableSet
-final class ImmutableMapNonSingletonMapEntrySet<K, V> extends ImmutableMapEntrySet<Entry<K, V>> {
+final class PersistentMapEntrySet<K, V> extends ImmutableMapEntrySet<Entry<K, V>> {
 
-    static <K, V> ImmutableMapNonSingletonMapEntrySet<K, V> with(final Map<K, V> map) {
-        return new ImmutableMapNonSingletonMapEntrySet<>(map);
+    static <K, V> PersistentMapEntrySet<K, V> with(final PersistentMap<K, V> map) {
+        return new PersistentMapEntrySet<>(map);
     }
 
-    private ImmutableMapNonSingletonMapEntrySet(final Map<K, V> map) {
+    private PersistentMapEntrySet(final PersistentMap<K, V> map) {
         super();
         this.map = map;
     }
 
+    @Override
+    public boolean contains(final Object entry) {
+        return entry instanceof Map.Entry && this.contains0((Map.Entry<?, ?>) entry);
+    }
+
+    private boolean contains0(final Map.Entry<?, ?> entry) {
+        final PersistentMap<K, V> map = this.map;
+        final Object key = entry.getKey();
+
+        return map.containsKey(key) && Objects.equals(map.get(key), entry.getValue());
+    }
+
     @Override
     public Iterator<Entry<K, V>> iterator() {
-        return Iterators.readOnly(this.map.entrySet().iterator());
+        return PersistentMapEntrySetIterator.with(this.map.root);
     }
 
     @Override
@@ -45,10 +56,5 @@ final class ImmutableMapNonSingletonMapEntrySet<K, V> extends ImmutableMapEntryS
         return this.map.size();
     }
 
-    final Map<K, V> map;
-
-    @Override
-    public String toString() {
-        return this.map.entrySet().toString();
-    }
+    private final PersistentMap<K, V> map;
 }
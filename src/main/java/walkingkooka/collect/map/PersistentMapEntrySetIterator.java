@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import walkingkooka.Cast;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link Iterator} returned by {@link PersistentMapEntrySet#iterator()}, visiting the entries of each node before
+ * its children, keeping the path from the root in a fixed size stack.
+ */
+final class PersistentMapEntrySetIterator<K, V> implements Iterator<Entry<K, V>> {
+
+    static <K, V> PersistentMapEntrySetIterator<K, V> with(final PersistentMapNode root) {
+        return new PersistentMapEntrySetIterator<>(root);
+    }
+
+    private PersistentMapEntrySetIterator(final PersistentMapNode root) {
+        super();
+        this.nodes[0] = root;
+        this.depth = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.advance();
+    }
+
+    @Override
+    public Entry<K, V> next() {
+        if (false == this.advance()) {
+            throw new NoSuchElementException();
+        }
+
+        final int depth = this.depth;
+        final PersistentMapNode node = this.nodes[depth];
+        final int index = this.nextData[depth];
+        this.nextData[depth] = index + 1;
+
+        return new AbstractMap.SimpleImmutableEntry<>(
+                Cast.<K>to(node.key(index)),
+                Cast.<V>to(node.value(index))
+        );
+    }
+
+    /**
+     * Moves to the next node with an unvisited entry, returning false when all entries have been visited.
+     */
+    private boolean advance() {
+        final PersistentMapNode[] nodes = this.nodes;
+        final int[] nextData = this.nextData;
+        final int[] nextNode = this.nextNode;
+        int depth = this.depth;
+
+        while (depth >= 0) {
+            final PersistentMapNode node = nodes[depth];
+
+            if (nextData[depth] < node.dataCount()) {
+                break;
+            }
+
+            final int index = nextNode[depth];
+            if (index < node.nodeCount()) {
+                nextNode[depth] = index + 1;
+                depth++;
+                nodes[depth] = node.node(index);
+                nextData[depth] = 0;
+                nextNode[depth] = 0;
+            } else {
+                nodes[depth] = null;
+                depth--;
+            }
+        }
+
+        this.depth = depth;
+        return depth >= 0;
+    }
+
+    /**
+     * The path from the root to the current node.
+     */
+    private final PersistentMapNode[] nodes = new PersistentMapNode[PersistentMapNode.MAX_DEPTH];
+
+    /**
+     * The next entry of each node along the path.
+     */
+    private final int[] nextData = new int[PersistentMapNode.MAX_DEPTH];
+
+    /**
+     * The next child of each node along the path.
+     */
+    private final int[] nextNode = new int[PersistentMapNode.MAX_DEPTH];
+
+    private int depth;
+
+    @Override
+    public String toString() {
+        return this.depth >= 0 ?
+                this.nodes[this.depth].toString() :
+                "";
+    }
+}
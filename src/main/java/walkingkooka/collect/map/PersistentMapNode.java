@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Base class for the nodes of a {@link PersistentMap}. Nodes are immutable once shared by a map, and only updated in
+ * place by the transient {@link PersistentMapEdit} that created them.
+ * <br>
+ * Removing an entry always collapses nodes left holding a single entry or a single collision node into their
+ * parent, so two maps with the same entries also have the same shape. This allows {@link #equalsNode(PersistentMapNode)}
+ * to compare node by node and skip shared sub trees.
+ */
+abstract class PersistentMapNode {
+
+    /**
+     * The number of hash bits consumed by each level.
+     */
+    final static int BITS = 5;
+
+    /**
+     * The greatest depth of any node, seven levels of bitmap nodes for 32 hash bits, followed by a collision node.
+     */
+    final static int MAX_DEPTH = 8;
+
+    /**
+     * Returns the bit for the hash at the given shift.
+     */
+    static int bit(final int hash,
+                   final int shift) {
+        return 1 << ((hash >>> shift) & 0x1f);
+    }
+
+    /**
+     * Creates the node that holds two different keys, first found at the given shift.
+     */
+    static PersistentMapNode merge(final Object key1,
+                                   final Object value1,
+                                   final int hash1,
+                                   final Object key2,
+                                   final Object value2,
+                                   final int hash2,
+                                   final int shift,
+                                   final PersistentMapEdit edit) {
+        final PersistentMapNode node;
+
+        if (hash1 == hash2) {
+            node = PersistentMapCollisionNode.with(
+                    hash1,
+                    new Object[]{key1, value1, key2, value2},
+                    edit
+            );
+        } else {
+            final int bit1 = bit(hash1, shift);
+            final int bit2 = bit(hash2, shift);
+
+            if (bit1 != bit2) {
+                node = PersistentMapBitmapNode.with(
+                        bit1 | bit2,
+                        0,
+                        Integer.compareUnsigned(bit1, bit2) < 0 ?
+                                new Object[]{key1, value1, key2, value2} :
+                                new Object[]{key2, value2, key1, value1},
+                        edit
+                );
+            } else {
+                node = PersistentMapBitmapNode.with(
+                        0,
+                        bit1,
+                        new Object[]{
+                                merge(key1, value1, hash1, key2, value2, hash2, shift + BITS, edit)
+                        },
+                        edit
+                );
+            }
+        }
+
+        return node;
+    }
+
+    PersistentMapNode(final PersistentMapEdit owner) {
+        super();
+        this.owner = owner;
+    }
+
+    /**
+     * Returns the value for the key or the absent marker.
+     */
+    abstract Object get(final Object key,
+                        final int hash,
+                        final int shift,
+                        final Object absent);
+
+    /**
+     * Returns a node with the key and value, or this if nothing changed.
+     */
+    abstract PersistentMapNode put(final Object key,
+                                   final Object value,
+                                   final int hash,
+                                   final int shift,
+                                   final PersistentMapEdit edit);
+
+    /**
+     * Returns a node without the key, or this if the key was absent.
+     */
+    abstract PersistentMapNode remove(final Object key,
+                                      final int hash,
+                                      final int shift,
+                                      final PersistentMapEdit edit);
+
+    /**
+     * Returns the collision node that should replace this node in its parent, otherwise returns this.
+     */
+    PersistentMapNode onlyCollision() {
+        return this;
+    }
+
+    /**
+     * The number of entries held directly by this node.
+     */
+    abstract int dataCount();
+
+    abstract Object key(final int index);
+
+    abstract Object value(final int index);
+
+    /**
+     * The number of child nodes.
+     */
+    abstract int nodeCount();
+
+    abstract PersistentMapNode node(final int index);
+
+    /**
+     * Returns true if this node holds a single entry and no children, and should be replaced by that entry in its
+     * parent.
+     */
+    final boolean isSingleEntry() {
+        return 1 == this.dataCount() && 0 == this.nodeCount();
+    }
+
+    /**
+     * Visits all entries held by this node and its children.
+     */
+    final void forEach(final BiConsumer<Object, Object> action) {
+        final int dataCount = this.dataCount();
+        for (int i = 0; i < dataCount; i++) {
+            action.accept(this.key(i), this.value(i));
+        }
+
+        final int nodeCount = this.nodeCount();
+        for (int i = 0; i < nodeCount; i++) {
+            this.node(i).forEach(action);
+        }
+    }
+
+    /**
+     * Tests if both nodes hold the same entries, taking advantage of shared sub trees.
+     */
+    abstract boolean equalsNode(final PersistentMapNode other);
+
+    /**
+     * The transient edit that created this node, or null when created by a persistent update.
+     */
+    final PersistentMapEdit owner;
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+import walkingkooka.predicate.character.CharPredicate;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@link CharSet} holding one bit for each character, in an array of words that grows to cover the largest member.
+ */
+final class CharBitSet implements CharSet {
+
+    private final static int WORD_SHIFT = 6;
+
+    private final static long[] EMPTY = new long[0];
+
+    /**
+     * Creates a new empty mutable {@link CharBitSet}.
+     */
+    static CharBitSet empty() {
+        return new CharBitSet(EMPTY, 0, false);
+    }
+
+    /**
+     * Returns the given {@link CharSet} if it is already immutable, otherwise an immutable copy.
+     */
+    static CharSet immutable(final CharSet set) {
+        Objects.requireNonNull(set, "set");
+
+        return set instanceof CharBitSet ?
+                ((CharBitSet) set).immutableCopy() :
+                matching(set);
+    }
+
+    /**
+     * Creates an immutable {@link CharBitSet} with the given characters.
+     */
+    static CharBitSet with(final char[] chars) {
+        final CharBitSet set = empty();
+        for (final char c : chars) {
+            set.add(c);
+        }
+
+        return new CharBitSet(set.words, set.size, true);
+    }
+
+    /**
+     * Creates an immutable {@link CharBitSet} holding every character matched by the {@link CharPredicate}.
+     */
+    static CharBitSet matching(final CharPredicate predicate) {
+        final CharBitSet set = empty();
+        set.addAll(predicate);
+
+        return new CharBitSet(set.words, set.size, true);
+    }
+
+    private CharBitSet(final long[] words,
+                       final int size,
+                       final boolean immutable) {
+        super();
+        this.words = words;
+        this.size = size;
+        this.immutable = immutable;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.size;
+    }
+
+    @Override
+    public boolean contains(final char c) {
+        final long[] words = this.words;
+        final int index = c >>> WORD_SHIFT;
+
+        return index < words.length &&
+                0 != (words[index] & (1L << c));
+    }
+
+    @Override
+    public boolean add(final char c) {
+        this.checkMutable();
+
+        final int index = c >>> WORD_SHIFT;
+        if (index >= this.words.length) {
+            this.words = Arrays.copyOf(this.words, index + 1);
+        }
+
+        final long word = this.words[index];
+        final long bit = 1L << c;
+        final boolean added = 0 == (word & bit);
+        if (added) {
+            this.words[index] = word | bit;
+            this.size++;
+        }
+        return added;
+    }
+
+    @Override
+    public void addAll(final CharPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+        this.checkMutable();
+
+        if (predicate instanceof CharBitSet) {
+            this.addAllWords(((CharBitSet) predicate).words);
+        } else {
+            for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                if (predicate.test((char) c)) {
+                    this.add((char) c);
+                }
+            }
+        }
+    }
+
+    private void addAllWords(final long[] other) {
+        if (other.length > this.words.length) {
+            this.words = Arrays.copyOf(this.words, other.length);
+        }
+
+        final long[] words = this.words;
+        int size = 0;
+        for (int i = 0; i < words.length; i++) {
+            if (i < other.length) {
+                words[i] |= other[i];
+            }
+            size += Long.bitCount(words[i]);
+        }
+        this.size = size;
+    }
+
+    @Override
+    public boolean remove(final char c) {
+        this.checkMutable();
+
+        final boolean removed = this.contains(c);
+        if (removed) {
+            this.words[c >>> WORD_SHIFT] &= ~(1L << c);
+            this.size--;
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        this.checkMutable();
+
+        this.words = EMPTY;
+        this.size = 0;
+    }
+
+    @Override
+    public int next(final int from) {
+        final long[] words = this.words;
+
+        int next = -1;
+        if (from <= Character.MAX_VALUE) {
+            final int start = Math.max(from, 0);
+            int index = start >>> WORD_SHIFT;
+
+            if (index < words.length) {
+                long word = words[index] & (-1L << start);
+
+                for (; ; ) {
+                    if (0 != word) {
+                        next = (index << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+                        break;
+                    }
+                    index++;
+                    if (index == words.length) {
+                        break;
+                    }
+                    word = words[index];
+                }
+            }
+        }
+
+        return next;
+    }
+
+    @Override
+    public char[] toArray() {
+        final char[] array = new char[this.size];
+
+        int i = 0;
+        for (int c = this.next(0); -1 != c; c = this.next(c + 1)) {
+            array[i++] = (char) c;
+        }
+        return array;
+    }
+
+    private CharBitSet immutableCopy() {
+        return this.immutable ?
+                this :
+                new CharBitSet(this.words.clone(), this.size, true);
+    }
+
+    private void checkMutable() {
+        if (this.immutable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private long[] words;
+
+    private int size;
+
+    private final boolean immutable;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int c = this.next(0); -1 != c; c = this.next(c + 1)) {
+            hash += c;
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof CharSet &&
+                        this.equals0((CharSet) other);
+    }
+
+    private boolean equals0(final CharSet other) {
+        boolean equals = this.size == other.size();
+
+        if (equals) {
+            for (int c = this.next(0); -1 != c; c = this.next(c + 1)) {
+                if (!other.contains((char) c)) {
+                    equals = false;
+                    break;
+                }
+            }
+        }
+
+        return equals;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.toArray());
+    }
+}
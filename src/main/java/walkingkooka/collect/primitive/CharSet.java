@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+import walkingkooka.predicate.character.CharPredicate;
+
+/**
+ * A set of char values held in a bit set without boxing, which is also a {@link CharPredicate} matching its
+ * members. Immutable sets fail any attempt to modify them with an {@link UnsupportedOperationException}. The
+ * {@link Object#hashCode()} is the same as an equivalent {@link java.util.Set} of {@link Character}.
+ */
+public interface CharSet extends CharPredicate {
+
+    /**
+     * The number of members.
+     */
+    int size();
+
+    /**
+     * Returns true if the set has no members.
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns true if the character is a member.
+     */
+    boolean contains(char c);
+
+    /**
+     * Adds the character, returning true if it was not already a member.
+     */
+    boolean add(char c);
+
+    /**
+     * Adds every character matched by the {@link CharPredicate}.
+     */
+    void addAll(CharPredicate predicate);
+
+    /**
+     * Removes the character, returning true if it was a member.
+     */
+    boolean remove(char c);
+
+    /**
+     * Removes all members.
+     */
+    void clear();
+
+    /**
+     * Returns the first member greater than or equal to the given character, or -1 if there are none. This
+     * supports visiting all members in order without boxing.
+     */
+    int next(int from);
+
+    /**
+     * Returns a copy of the members in order.
+     */
+    char[] toArray();
+
+    /**
+     * The same as {@link #contains(char)}.
+     */
+    @Override
+    default boolean test(final char c) {
+        return this.contains(c);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * An {@link IntList} backed by an int array that grows by half when full. Immutable lists hold an exact copy of their
+ * values.
+ */
+final class IntArrayList implements IntList {
+
+    private final static int[] EMPTY = new int[0];
+
+    private final static int MIN_CAPACITY = 8;
+
+    /**
+     * Creates a new empty mutable {@link IntArrayList}.
+     */
+    static IntArrayList empty() {
+        return new IntArrayList(EMPTY, 0, false);
+    }
+
+    /**
+     * Returns the given {@link IntList} if it is already immutable, otherwise an immutable copy.
+     */
+    static IntList immutable(final IntList list) {
+        Objects.requireNonNull(list, "list");
+
+        return list instanceof IntArrayList && ((IntArrayList) list).immutable ?
+                list :
+                with(list.toArray());
+    }
+
+    /**
+     * Creates an immutable {@link IntArrayList} with the given values, which are not copied.
+     */
+    static IntArrayList with(final int[] notCopied) {
+        return new IntArrayList(notCopied, notCopied.length, true);
+    }
+
+    private IntArrayList(final int[] values,
+                         final int size,
+                         final boolean immutable) {
+        super();
+        this.values = values;
+        this.size = size;
+        this.immutable = immutable;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.size;
+    }
+
+    @Override
+    public int get(final int index) {
+        this.checkIndex(index);
+        return this.values[index];
+    }
+
+    @Override
+    public boolean contains(final int value) {
+        return -1 != this.indexOf(value);
+    }
+
+    @Override
+    public int indexOf(final int value) {
+        final int[] values = this.values;
+        final int size = this.size;
+
+        int index = -1;
+        for (int i = 0; i < size; i++) {
+            if (value == values[i]) {
+                index = i;
+                break;
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public void add(final int value) {
+        this.checkMutable();
+
+        final int size = this.size;
+        if (size == this.values.length) {
+            this.values = Arrays.copyOf(
+                    this.values,
+                    Math.max(MIN_CAPACITY, size + (size >> 1))
+            );
+        }
+        this.values[size] = value;
+        this.size = size + 1;
+    }
+
+    @Override
+    public int set(final int index,
+                   final int value) {
+        this.checkMutable();
+        this.checkIndex(index);
+
+        final int previous = this.values[index];
+        this.values[index] = value;
+        return previous;
+    }
+
+    @Override
+    public int removeAt(final int index) {
+        this.checkMutable();
+        this.checkIndex(index);
+
+        final int[] values = this.values;
+        final int removed = values[index];
+        final int size = this.size - 1;
+
+        System.arraycopy(values, index + 1, values, index, size - index);
+        this.size = size;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        this.checkMutable();
+        this.size = 0;
+    }
+
+    @Override
+    public void forEach(final IntConsumer consumer) {
+        Objects.requireNonNull(consumer, "consumer");
+
+        final int[] values = this.values;
+        final int size = this.size;
+        for (int i = 0; i < size; i++) {
+            consumer.accept(values[i]);
+        }
+    }
+
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOf(this.values, this.size);
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " must be between 0 and " + this.size);
+        }
+    }
+
+    private void checkMutable() {
+        if (this.immutable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private int[] values;
+
+    private int size;
+
+    private final boolean immutable;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        final int[] values = this.values;
+        final int size = this.size;
+
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Integer.hashCode(values[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof IntList &&
+                        this.equals0((IntList) other);
+    }
+
+    private boolean equals0(final IntList other) {
+        final int size = this.size;
+        boolean equals = size == other.size();
+
+        if (equals) {
+            final int[] values = this.values;
+            for (int i = 0; i < size; i++) {
+                if (values[i] != other.get(i)) {
+                    equals = false;
+                    break;
+                }
+            }
+        }
+
+        return equals;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.toArray());
+    }
+}
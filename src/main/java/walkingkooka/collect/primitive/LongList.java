@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+import java.util.function.LongConsumer;
+
+/**
+ * A list of long values that are stored without boxing. Immutable lists fail any attempt to modify them with an
+ * {@link UnsupportedOperationException}. The {@link Object#hashCode()} is the same as an equivalent
+ * {@link java.util.List} of {@link Long}.
+ */
+public interface LongList {
+
+    /**
+     * The number of values.
+     */
+    int size();
+
+    /**
+     * Returns true if the list has no values.
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the value at the given index, failing with {@link IndexOutOfBoundsException} if the index is invalid.
+     */
+    long get(int index);
+
+    /**
+     * Returns true if the list contains the value.
+     */
+    boolean contains(long value);
+
+    /**
+     * Returns the index of the first occurrence of the value or -1 if absent.
+     */
+    int indexOf(long value);
+
+    /**
+     * Appends the value to the end of the list.
+     */
+    void add(long value);
+
+    /**
+     * Replaces the value at the given index, returning the previous value.
+     */
+    long set(int index, long value);
+
+    /**
+     * Removes the value at the given index, returning the removed value.
+     */
+    long removeAt(int index);
+
+    /**
+     * Removes all values.
+     */
+    void clear();
+
+    /**
+     * Visits each value in order.
+     */
+    void forEach(LongConsumer consumer);
+
+    /**
+     * Returns a copy of the values.
+     */
+    long[] toArray();
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@link LongObjectMap} using open addressing with linear probing over parallel key and value arrays, which are
+ * kept at most three quarters full. A zero key marks a free slot, so the value of the zero key is held separately.
+ * Removing a key shifts any following keys of the same probe sequence back, rather than leaving a marker.
+ */
+final class LongObjectHashMap<V> implements LongObjectMap<V> {
+
+    private final static int MIN_CAPACITY = 8;
+
+    /**
+     * Creates a new empty mutable {@link LongObjectHashMap}.
+     */
+    static <V> LongObjectHashMap<V> empty() {
+        return new LongObjectHashMap<>(MIN_CAPACITY, false);
+    }
+
+    /**
+     * Returns the given {@link LongObjectMap} if it is already immutable, otherwise an immutable copy.
+     */
+    static <V> LongObjectMap<V> immutable(final LongObjectMap<V> map) {
+        Objects.requireNonNull(map, "map");
+
+        final LongObjectMap<V> immutable;
+
+        if (map instanceof LongObjectHashMap && ((LongObjectHashMap<V>) map).immutable) {
+            immutable = map;
+        } else {
+            final LongObjectHashMap<V> copy = new LongObjectHashMap<>(
+                    capacity(map.size()),
+                    true
+            );
+            map.forEach(copy::put0);
+            immutable = copy;
+        }
+
+        return immutable;
+    }
+
+    /**
+     * Returns the smallest power of two capacity that holds the given number of keys.
+     */
+    private static int capacity(final int size) {
+        int capacity = MIN_CAPACITY;
+        while (threshold(capacity) < size) {
+            capacity = capacity << 1;
+        }
+        return capacity;
+    }
+
+    private static int threshold(final int capacity) {
+        return capacity - (capacity >> 2);
+    }
+
+    private LongObjectHashMap(final int capacity,
+                              final boolean immutable) {
+        super();
+        this.allocate(capacity);
+        this.immutable = immutable;
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.threshold = threshold(capacity);
+    }
+
+    @Override
+    public int size() {
+        return this.size + (this.containsZero ? 1 : 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.size();
+    }
+
+    @Override
+    public boolean containsKey(final long key) {
+        return 0 == key ?
+                this.containsZero :
+                -1 != this.slot(key);
+    }
+
+    @Override
+    public V get(final long key) {
+        final Object value;
+
+        if (0 == key) {
+            value = this.zeroValue;
+        } else {
+            final int slot = this.slot(key);
+            value = -1 != slot ?
+                    this.values[slot] :
+                    null;
+        }
+
+        return Cast.to(value);
+    }
+
+    /**
+     * Returns the slot holding the non zero key or -1.
+     */
+    private int slot(final long key) {
+        final long[] keys = this.keys;
+        final int mask = this.mask;
+
+        int slot = index(key, mask);
+        for (; ; ) {
+            final long k = keys[slot];
+            if (key == k) {
+                break;
+            }
+            if (0 == k) {
+                slot = -1;
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int index(final long key,
+                              final int mask) {
+        final long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    @Override
+    public V put(final long key,
+                  final V value) {
+        this.checkMutable();
+        return this.put0(key, value);
+    }
+
+    private V put0(final long key,
+                    final V value) {
+        final Object previous;
+
+        if (0 == key) {
+            previous = this.zeroValue;
+            this.zeroValue = value;
+            this.containsZero = true;
+        } else {
+            final long[] keys = this.keys;
+            final int mask = this.mask;
+
+            int slot = index(key, mask);
+            for (; ; ) {
+                final long k = keys[slot];
+                if (key == k) {
+                    previous = this.values[slot];
+                    this.values[slot] = value;
+                    break;
+                }
+                if (0 == k) {
+                    previous = null;
+                    keys[slot] = key;
+                    this.values[slot] = value;
+
+                    this.size++;
+                    if (this.size > this.threshold) {
+                        this.rehash(keys.length << 1);
+                    }
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        return Cast.to(previous);
+    }
+
+    private void rehash(final int capacity) {
+        final long[] keys = this.keys;
+        final Object[] values = this.values;
+
+        this.allocate(capacity);
+
+        final long[] newKeys = this.keys;
+        final Object[] newValues = this.values;
+        final int mask = this.mask;
+
+        for (int i = 0; i < keys.length; i++) {
+            final long key = keys[i];
+            if (0 != key) {
+                int slot = index(key, mask);
+                while (0 != newKeys[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                newKeys[slot] = key;
+                newValues[slot] = values[i];
+            }
+        }
+    }
+
+    @Override
+    public V remove(final long key) {
+        this.checkMutable();
+
+        final Object previous;
+
+        if (0 == key) {
+            previous = this.zeroValue;
+            this.zeroValue = null;
+            this.containsZero = false;
+        } else {
+            final int slot = this.slot(key);
+            if (-1 == slot) {
+                previous = null;
+            } else {
+                previous = this.values[slot];
+                this.shiftKeys(slot);
+                this.size--;
+            }
+        }
+
+        return Cast.to(previous);
+    }
+
+    /**
+     * Fills the removed slot by moving back the next key whose probe sequence passes through it, repeating until a
+     * free slot is reached.
+     */
+    private void shiftKeys(final int removed) {
+        final long[] keys = this.keys;
+        final Object[] values = this.values;
+        final int mask = this.mask;
+
+        int free = removed;
+        int slot = removed;
+        for (; ; ) {
+            slot = (slot + 1) & mask;
+
+            final long key = keys[slot];
+            if (0 == key) {
+                keys[free] = 0;
+                values[free] = null;
+                break;
+            }
+
+            final int index = index(key, mask);
+            final boolean movable = free <= slot ?
+                    index <= free || index > slot :
+                    index <= free && index > slot;
+            if (movable) {
+                keys[free] = key;
+                values[free] = values[slot];
+                free = slot;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        this.checkMutable();
+
+        Arrays.fill(this.keys, 0);
+        Arrays.fill(this.values, null);
+        this.size = 0;
+        this.containsZero = false;
+        this.zeroValue = null;
+    }
+
+    @Override
+    public void forEach(final LongObjectConsumer<? super V> consumer) {
+        Objects.requireNonNull(consumer, "consumer");
+
+        if (this.containsZero) {
+            consumer.accept(0, Cast.to(this.zeroValue));
+        }
+
+        final long[] keys = this.keys;
+        final Object[] values = this.values;
+        for (int i = 0; i < keys.length; i++) {
+            final long key = keys[i];
+            if (0 != key) {
+                consumer.accept(key, Cast.to(values[i]));
+            }
+        }
+    }
+
+    @Override
+    public long[] keys() {
+        final long[] copy = new long[this.size()];
+        final int[] i = new int[1];
+
+        this.forEach((k, v) -> copy[i[0]++] = k);
+        return copy;
+    }
+
+    private void checkMutable() {
+        if (this.immutable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private long[] keys;
+
+    private Object[] values;
+
+    private int mask;
+
+    /**
+     * The number of non zero keys.
+     */
+    private int size;
+
+    /**
+     * The number of non zero keys that forces a rehash.
+     */
+    private int threshold;
+
+    private boolean containsZero;
+
+    private Object zeroValue;
+
+    private final boolean immutable;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        final int[] hash = new int[1];
+        this.forEach((k, v) -> hash[0] += Long.hashCode(k) ^ Objects.hashCode(v));
+        return hash[0];
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof LongObjectMap &&
+                        this.equals0((LongObjectMap<?>) other);
+    }
+
+    private boolean equals0(final LongObjectMap<?> other) {
+        boolean equals = this.size() == other.size() &&
+                (!this.containsZero || equalsEntry(0, this.zeroValue, other));
+
+        if (equals) {
+            final long[] keys = this.keys;
+            final Object[] values = this.values;
+            for (int i = 0; i < keys.length; i++) {
+                final long key = keys[i];
+                if (0 != key && !equalsEntry(key, values[i], other)) {
+                    equals = false;
+                    break;
+                }
+            }
+        }
+
+        return equals;
+    }
+
+    private static boolean equalsEntry(final long key,
+                                        final Object value,
+                                        final LongObjectMap<?> other) {
+        return other.containsKey(key) &&
+                Objects.equals(value, other.get(key));
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append('{');
+
+        final String[] separator = new String[]{""};
+        this.forEach((k, v) -> {
+            b.append(separator[0]);
+            b.append(k);
+            b.append('=');
+            b.append(v);
+            separator[0] = ", ";
+        });
+
+        b.append('}');
+        return b.toString();
+    }
+}
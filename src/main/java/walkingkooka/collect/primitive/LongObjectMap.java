@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+/**
+ * A map with long keys that are stored without boxing. Values may be null. Immutable maps fail any attempt to modify
+ * them with an {@link UnsupportedOperationException}. The {@link Object#hashCode()} is the same as an equivalent
+ * {@link java.util.Map} with {@link Long} keys.
+ */
+public interface LongObjectMap<V> {
+
+    /**
+     * The number of entries.
+     */
+    int size();
+
+    /**
+     * Returns true if the map has no entries.
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns true if the key is present.
+     */
+    boolean containsKey(long key);
+
+    /**
+     * Returns the value for the key or null if absent.
+     */
+    V get(long key);
+
+    /**
+     * Adds or replaces the value for the key, returning the previous value or null.
+     */
+    V put(long key, V value);
+
+    /**
+     * Removes the key, returning the previous value or null.
+     */
+    V remove(long key);
+
+    /**
+     * Removes all entries.
+     */
+    void clear();
+
+    /**
+     * Visits each entry.
+     */
+    void forEach(LongObjectConsumer<? super V> consumer);
+
+    /**
+     * Returns a copy of the keys.
+     */
+    long[] keys();
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * An {@link ObjectIntMap} using open addressing with linear probing over parallel key and value arrays, which are
+ * kept at most three quarters full. A null key marks a free slot. Removing a key shifts any following keys of the same
+ * probe sequence back, rather than leaving a marker.
+ */
+final class ObjectIntHashMap<K> implements ObjectIntMap<K> {
+
+    private final static int MIN_CAPACITY = 8;
+
+    /**
+     * Creates a new empty mutable {@link ObjectIntHashMap}.
+     */
+    static <K> ObjectIntHashMap<K> empty() {
+        return new ObjectIntHashMap<>(MIN_CAPACITY, false);
+    }
+
+    /**
+     * Returns the given {@link ObjectIntMap} if it is already immutable, otherwise an immutable copy.
+     */
+    static <K> ObjectIntMap<K> immutable(final ObjectIntMap<K> map) {
+        Objects.requireNonNull(map, "map");
+
+        final ObjectIntMap<K> immutable;
+
+        if (map instanceof ObjectIntHashMap && ((ObjectIntHashMap<K>) map).immutable) {
+            immutable = map;
+        } else {
+            final ObjectIntHashMap<K> copy = new ObjectIntHashMap<>(
+                    capacity(map.size()),
+                    true
+            );
+            map.forEach(copy::put0);
+            immutable = copy;
+        }
+
+        return immutable;
+    }
+
+    /**
+     * Returns the smallest power of two capacity that holds the given number of keys.
+     */
+    private static int capacity(final int size) {
+        int capacity = MIN_CAPACITY;
+        while (threshold(capacity) < size) {
+            capacity = capacity << 1;
+        }
+        return capacity;
+    }
+
+    private static int threshold(final int capacity) {
+        return capacity - (capacity >> 2);
+    }
+
+    private ObjectIntHashMap(final int capacity,
+                             final boolean immutable) {
+        super();
+        this.allocate(capacity);
+        this.immutable = immutable;
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new Object[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.threshold = threshold(capacity);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return -1 != this.slot(key);
+    }
+
+    @Override
+    public int getOrDefault(final Object key,
+                            final int defaultValue) {
+        final int slot = this.slot(key);
+        return -1 != slot ?
+                this.values[slot] :
+                defaultValue;
+    }
+
+    /**
+     * Returns the slot holding the key or -1.
+     */
+    private int slot(final Object key) {
+        int slot = -1;
+
+        if (null != key) {
+            final Object[] keys = this.keys;
+            final int mask = this.mask;
+
+            slot = index(key, mask);
+            for (; ; ) {
+                final Object k = keys[slot];
+                if (null == k) {
+                    slot = -1;
+                    break;
+                }
+                if (key == k || key.equals(k)) {
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        return slot;
+    }
+
+    private static int index(final Object key,
+                             final int mask) {
+        final int hash = key.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    @Override
+    public void put(final K key,
+                    final int value) {
+        this.checkMutable();
+        this.put0(key, value);
+    }
+
+    private void put0(final K key,
+                      final int value) {
+        final int slot = this.insert(key);
+        this.values[slot] = value;
+    }
+
+    @Override
+    public int add(final K key,
+                   final int delta) {
+        this.checkMutable();
+
+        final int slot = this.insert(key);
+        final int value = this.values[slot] + delta;
+        this.values[slot] = value;
+        return value;
+    }
+
+    /**
+     * Returns the slot holding the key, adding the key with a zero value if absent.
+     */
+    private int insert(final K key) {
+        Objects.requireNonNull(key, "key");
+
+        final Object[] keys = this.keys;
+        final int mask = this.mask;
+
+        int slot = index(key, mask);
+        for (; ; ) {
+            final Object k = keys[slot];
+            if (null == k) {
+                keys[slot] = key;
+                this.values[slot] = 0;
+
+                this.size++;
+                if (this.size > this.threshold) {
+                    this.rehash(keys.length << 1);
+                    slot = this.slot(key);
+                }
+                break;
+            }
+            if (key == k || key.equals(k)) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private void rehash(final int capacity) {
+        final Object[] keys = this.keys;
+        final int[] values = this.values;
+
+        this.allocate(capacity);
+
+        final Object[] newKeys = this.keys;
+        final int[] newValues = this.values;
+        final int mask = this.mask;
+
+        for (int i = 0; i < keys.length; i++) {
+            final Object key = keys[i];
+            if (null != key) {
+                int slot = index(key, mask);
+                while (null != newKeys[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                newKeys[slot] = key;
+                newValues[slot] = values[i];
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(final Object key) {
+        this.checkMutable();
+
+        final int slot = this.slot(key);
+        final boolean removed = -1 != slot;
+        if (removed) {
+            this.shiftKeys(slot);
+            this.size--;
+        }
+        return removed;
+    }
+
+    /**
+     * Fills the removed slot by moving back the next key whose probe sequence passes through it, repeating until a
+     * free slot is reached.
+     */
+    private void shiftKeys(final int removed) {
+        final Object[] keys = this.keys;
+        final int[] values = this.values;
+        final int mask = this.mask;
+
+        int free = removed;
+        int slot = removed;
+        for (; ; ) {
+            slot = (slot + 1) & mask;
+
+            final Object key = keys[slot];
+            if (null == key) {
+                keys[free] = null;
+                values[free] = 0;
+                break;
+            }
+
+            final int index = index(key, mask);
+            final boolean movable = free <= slot ?
+                    index <= free || index > slot :
+                    index <= free && index > slot;
+            if (movable) {
+                keys[free] = key;
+                values[free] = values[slot];
+                free = slot;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        this.checkMutable();
+
+        Arrays.fill(this.keys, null);
+        Arrays.fill(this.values, 0);
+        this.size = 0;
+    }
+
+    @Override
+    public void forEach(final ObjIntConsumer<? super K> consumer) {
+        Objects.requireNonNull(consumer, "consumer");
+
+        final Object[] keys = this.keys;
+        final int[] values = this.values;
+        for (int i = 0; i < keys.length; i++) {
+            final Object key = keys[i];
+            if (null != key) {
+                consumer.accept(Cast.to(key), values[i]);
+            }
+        }
+    }
+
+    private void checkMutable() {
+        if (this.immutable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private Object[] keys;
+
+    private int[] values;
+
+    private int mask;
+
+    private int size;
+
+    /**
+     * The number of keys that forces a rehash.
+     */
+    private int threshold;
+
+    private final boolean immutable;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        final int[] hash = new int[1];
+        this.forEach((k, v) -> hash[0] += k.hashCode() ^ Integer.hashCode(v));
+        return hash[0];
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof ObjectIntMap &&
+                        this.equals0((ObjectIntMap<?>) other);
+    }
+
+    private boolean equals0(final ObjectIntMap<?> other) {
+        boolean equals = this.size == other.size();
+
+        if (equals) {
+            final Object[] keys = this.keys;
+            final int[] values = this.values;
+            for (int i = 0; i < keys.length; i++) {
+                final Object key = keys[i];
+                if (null != key && !(other.containsKey(key) && values[i] == other.getOrDefault(key, 0))) {
+                    equals = false;
+                    break;
+                }
+            }
+        }
+
+        return equals;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append('{');
+
+        final String[] separator = new String[]{""};
+        this.forEach((k, v) -> {
+            b.append(separator[0]);
+            b.append(k);
+            b.append('=');
+            b.append(v);
+            separator[0] = ", ";
+        });
+
+        b.append('}');
+        return b.toString();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A map with int values that are stored without boxing. Null keys are not supported. Immutable maps fail any attempt
+ * to modify them with an {@link UnsupportedOperationException}. The {@link Object#hashCode()} is the same as an
+ * equivalent {@link java.util.Map} with {@link Integer} values.
+ */
+public interface ObjectIntMap<K> {
+
+    /**
+     * The number of entries.
+     */
+    int size();
+
+    /**
+     * Returns true if the map has no entries.
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns true if the key is present.
+     */
+    boolean containsKey(Object key);
+
+    /**
+     * Returns the value for the key or the default if absent.
+     */
+    int getOrDefault(Object key, int defaultValue);
+
+    /**
+     * Adds or replaces the value for the key.
+     */
+    void put(K key, int value);
+
+    /**
+     * Adds the delta to the value of the key, treating an absent key as zero, and returns the new value.
+     */
+    int add(K key, int delta);
+
+    /**
+     * Removes the key, returning true if it was present.
+     */
+    boolean remove(Object key);
+
+    /**
+     * Removes all entries.
+     */
+    void clear();
+
+    /**
+     * Visits each entry.
+     */
+    void forEach(ObjIntConsumer<? super K> consumer);
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+import walkingkooka.predicate.character.CharPredicate;
+import walkingkooka.reflect.PublicStaticHelper;
+
+import java.util.Objects;
+
+final public class PrimitiveCollections implements PublicStaticHelper {
+
+    /**
+     * {@see CharBitSet}
+     */
+    public static CharSet charSet() {
+        return CharBitSet.empty();
+    }
+
+    /**
+     * Returns an immutable {@link CharSet} with the given characters.
+     */
+    public static CharSet charSet(final char... chars) {
+        Objects.requireNonNull(chars, "chars");
+
+        return CharBitSet.with(chars);
+    }
+
+    /**
+     * Returns an immutable {@link CharSet} holding every character matched by the {@link CharPredicate}.
+     */
+    public static CharSet charSet(final CharPredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+
+        return CharBitSet.matching(predicate);
+    }
+
+    /**
+     * {@see CharBitSet}
+     */
+    public static CharSet immutableCharSet(final CharSet set) {
+        return CharBitSet.immutable(set);
+    }
+
+    /**
+     * {@see IntArrayList}
+     */
+    public static IntList immutableIntList(final IntList list) {
+        return IntArrayList.immutable(list);
+    }
+
+    /**
+     * {@see IntObjectHashMap}
+     */
+    public static <V> IntObjectMap<V> immutableIntObjectMap(final IntObjectMap<V> map) {
+        return IntObjectHashMap.immutable(map);
+    }
+
+    /**
+     * {@see LongArrayList}
+     */
+    public static LongList immutableLongList(final LongList list) {
+        return LongArrayList.immutable(list);
+    }
+
+    /**
+     * {@see LongObjectHashMap}
+     */
+    public static <V> LongObjectMap<V> immutableLongObjectMap(final LongObjectMap<V> map) {
+        return LongObjectHashMap.immutable(map);
+    }
+
+    /**
+     * {@see ObjectIntHashMap}
+     */
+    public static <K> ObjectIntMap<K> immutableObjectIntMap(final ObjectIntMap<K> map) {
+        return ObjectIntHashMap.immutable(map);
+    }
+
+    /**
+     * {@see IntArrayList}
+     */
+    public static IntList intList() {
+        return IntArrayList.empty();
+    }
+
+    /**
+     * Returns an immutable {@link IntList} with the given values.
+     */
+    public static IntList intList(final int... values) {
+        Objects.requireNonNull(values, "values");
+
+        return IntArrayList.with(values.clone());
+    }
+
+    /**
+     * {@see IntObjectHashMap}
+     */
+    public static <V> IntObjectMap<V> intObjectMap() {
+        return IntObjectHashMap.empty();
+    }
+
+    /**
+     * {@see LongArrayList}
+     */
+    public static LongList longList() {
+        return LongArrayList.empty();
+    }
+
+    /**
+     * Returns an immutable {@link LongList} with the given values.
+     */
+    public static LongList longList(final long... values) {
+        Objects.requireNonNull(values, "values");
+
+        return LongArrayList.with(values.clone());
+    }
+
+    /**
+     * {@see LongObjectHashMap}
+     */
+    public static <V> LongObjectMap<V> longObjectMap() {
+        return LongObjectHashMap.empty();
+    }
+
+    /**
+     * {@see ObjectIntHashMap}
+     */
+    public static <K> ObjectIntMap<K> objectIntMap() {
+        return ObjectIntHashMap.empty();
+    }
+
+    /**
+     * Stop creation
+     */
+    private PrimitiveCollections() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -20,6 +20,7 @@ package walkingkooka.collect.set;
 import walkingkooka.Cast;
 
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
@@ -66,59 +67,53 @@ abstract class ImmutableSet<T> extends AbstractSet<T> {
     }
 
     /**
-     * Handles sorted sets by either returning empty or wrapping them to block modifications.
+     * Handles sorted sets by copying them into an immutable {@link java.util.NavigableSet}, which continues to use
+     * the same {@link java.util.Comparator}.
      */
     private static <T> Set<T> copySortedSet(final Set<T> from) {
-        final Set<T> to = sorted(Cast.to(from));
-        to.addAll(from);
+        return ImmutableSetNavigable.copy(Cast.to(from));
+    }
 
-        Set<T> immutable;
-        switch (to.size()) {
-            case 0:
-                immutable = Sets.empty();
-                break;
-            default:
-                immutable = wrap(to);
-                break;
+    /**
+     * Handles {@link Set} that are not {@link SortedSet}, copying the elements with a single pass.
+     */
+    private static <T> Set<T> copyUnsortedSet(final Set<T> from) {
+        Object[] elements = new Object[from.size()];
+        int length = 0;
+
+        for (final T element : from) {
+            if (elements.length == length) {
+                elements = Arrays.copyOf(elements, length * 2 + 1);
+            }
+            elements[length++] = element;
         }
 
-        return immutable;
+        return array(elements, length);
     }
 
     /**
-     * Handles {@link Set} that are not {@link SortedSet}.
+     * Selects an immutable {@link Set} holding the first length elements of the array, ignoring duplicates.
      */
-    private static <T> Set<T> copyUnsortedSet(final Set<T> from) {
-        final Set<T> to = from instanceof SortedSet ?
-                sorted(Cast.to(from)) :
-                Sets.ordered();
-        to.addAll(from);
+    static <T> Set<T> array(final Object[] notCopied,
+                            final int length) {
+        final ImmutableSetNonSingletonHash<T> set = ImmutableSetNonSingletonHash.withArray(notCopied, length);
 
         Set<T> immutable;
-        switch (to.size()) {
+        switch (set.size()) {
             case 0:
                 immutable = Sets.empty();
                 break;
             case 1:
-                immutable = singleton(to.iterator().next());
+                immutable = singleton(set.element(0));
                 break;
             default:
-                immutable = wrap(to);
+                immutable = set;
                 break;
         }
 
         return immutable;
     }
 
-    /**
-     * Factory that creates a new {@link SortedSet} with or without the same {@link java.util.Comparator}
-     */
-    private static <T> Set<T> sorted(final SortedSet<T> from) {
-        return null != from.comparator() ?
-                Sets.sorted(from.comparator()) :
-                Sets.sorted();
-    }
-
     /**
      * {@see ImmutableSetSingleton}.
      */
@@ -126,13 +121,6 @@ abstract class ImmutableSet<T> extends AbstractSet<T> {
         return ImmutableSetSingleton.withSingleton(element);
     }
 
-    /**
-     * Creates a {@link ImmutableSetNonSingleton} with the given {@link Set} which is not defensively copied.
-     */
-    static <T> ImmutableSet<T> wrap(final Set<T> wrap) {
-        return ImmutableSetNonSingleton.withNonSingleton(wrap);
-    }
-
     /**
      * Package private to limit sub classing.
      */
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.set;
+
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+/**
+ * Base class for immutable {@link NavigableSet}, implementing the {@link SortedSet} methods using the matching
+ * {@link NavigableSet} methods.
+ */
+abstract class ImmutableSetNavigable<E> extends ImmutableSet<E> implements NavigableSet<E> {
+
+    /**
+     * {@see ImmutableSetNavigableArray}
+     */
+    static <E> ImmutableSetNavigable<E> copy(final SortedSet<E> set) {
+        return ImmutableSetNavigableArray.copy(set);
+    }
+
+    /**
+     * Package private to limit sub classing.
+     */
+    ImmutableSetNavigable() {
+        super();
+    }
+
+    /**
+     * Returns the first element or null if empty.
+     */
+    abstract E firstOrNull();
+
+    /**
+     * Returns the last element or null if empty.
+     */
+    abstract E lastOrNull();
+
+    // SortedSet........................................................................................................
+
+    @Override
+    public final E first() {
+        return elementOrFail(this.firstOrNull());
+    }
+
+    @Override
+    public final E last() {
+        return elementOrFail(this.lastOrNull());
+    }
+
+    /**
+     * Empty sets fail, while any other set always has a first and last element.
+     */
+    private E elementOrFail(final E element) {
+        if (this.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return element;
+    }
+
+    @Override
+    public final SortedSet<E> subSet(final E fromElement,
+                                     final E toElement) {
+        return this.subSet(fromElement, true, toElement, false);
+    }
+
+    @Override
+    public final SortedSet<E> headSet(final E toElement) {
+        return this.headSet(toElement, false);
+    }
+
+    @Override
+    public final SortedSet<E> tailSet(final E fromElement) {
+        return this.tailSet(fromElement, true);
+    }
+
+    // NavigableSet.....................................................................................................
+
+    @Override
+    public final E pollFirst() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final E pollLast() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public final Iterator<E> descendingIterator() {
+        return this.descendingSet().iterator();
+    }
+
+    // Object...........................................................................................................
+
+    @Override
+    public final String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+
+        String separator = "";
+        for (final E element : this) {
+            b.append(separator);
+            b.append(element);
+            separator = ", ";
+        }
+
+        b.append(']');
+        return b.toString();
+    }
+}
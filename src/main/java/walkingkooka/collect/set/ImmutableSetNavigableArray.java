@@ -0,0 +1,340 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.set;
+
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.SortedSet;
+
+/**
+ * An immutable {@link NavigableSet} holding its elements in a sorted array, using binary search to find elements. Sub
+ * sets share the same array, recording only their range, so creating them costs a few binary searches and no copying.
+ * Sub sets also record their bounds, so elements outside them fail with an {@link IllegalArgumentException} as they
+ * would for a {@link java.util.TreeSet}.
+ */
+final class ImmutableSetNavigableArray<E> extends ImmutableSetNavigable<E> {
+
+    /**
+     * Copies the elements of the given {@link SortedSet}, which are already in order, with a single pass.
+     */
+    static <E> ImmutableSetNavigableArray<E> copy(final SortedSet<E> set) {
+        Object[] elements = new Object[set.size()];
+        int size = 0;
+
+        for (final E element : set) {
+            if (elements.length == size) {
+                elements = Arrays.copyOf(elements, size * 2 + 1);
+            }
+            elements[size++] = element;
+        }
+
+        return new ImmutableSetNavigableArray<>(
+                elements,
+                0,
+                size,
+                set.comparator(),
+                UNBOUNDED,
+                false,
+                UNBOUNDED,
+                false
+        );
+    }
+
+    /**
+     * Marks a low or high bound that is absent, which is different from a null element accepted by a comparator.
+     */
+    private final static Object UNBOUNDED = new Object();
+
+    private ImmutableSetNavigableArray(final Object[] elements,
+                                       final int from,
+                                       final int to,
+                                       final Comparator<? super E> comparator,
+                                       final Object low,
+                                       final boolean lowInclusive,
+                                       final Object high,
+                                       final boolean highInclusive) {
+        super();
+        this.elements = elements;
+        this.from = from;
+        this.to = to;
+        this.comparator = comparator;
+        this.low = low;
+        this.lowInclusive = lowInclusive;
+        this.high = high;
+        this.highInclusive = highInclusive;
+    }
+
+    @Override
+    public boolean contains(final Object other) {
+        return this.indexOf(other) >= 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return ImmutableSetNavigableIterator.with(this, false);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.from == this.to;
+    }
+
+    @Override
+    public int size() {
+        return this.to - this.from;
+    }
+
+    // SortedSet........................................................................................................
+
+    @Override
+    public Comparator<? super E> comparator() {
+        return this.comparator;
+    }
+
+    private final Comparator<? super E> comparator;
+
+    // NavigableSet.....................................................................................................
+
+    @Override
+    E firstOrNull() {
+        return this.elementOrNull(this.from);
+    }
+
+    @Override
+    E lastOrNull() {
+        return this.elementOrNull(this.to - 1);
+    }
+
+    @Override
+    public E lower(final E element) {
+        return this.elementOrNull(this.ceilingIndex(element) - 1);
+    }
+
+    @Override
+    public E floor(final E element) {
+        return this.elementOrNull(this.higherIndex(element) - 1);
+    }
+
+    @Override
+    public E ceiling(final E element) {
+        return this.elementOrNull(this.ceilingIndex(element));
+    }
+
+    @Override
+    public E higher(final E element) {
+        return this.elementOrNull(this.higherIndex(element));
+    }
+
+    @Override
+    public NavigableSet<E> subSet(final E fromElement,
+                                  final boolean fromInclusive,
+                                  final E toElement,
+                                  final boolean toInclusive) {
+        this.checkFromElement(fromElement, fromInclusive);
+        this.checkToElement(toElement, toInclusive);
+        if (this.compare(fromElement, toElement) > 0) {
+            throw new IllegalArgumentException("fromElement > toElement");
+        }
+
+        return this.range(
+                fromInclusive ?
+                        this.ceilingIndex(fromElement) :
+                        this.higherIndex(fromElement),
+                toInclusive ?
+                        this.higherIndex(toElement) :
+                        this.ceilingIndex(toElement),
+                fromElement,
+                fromInclusive,
+                toElement,
+                toInclusive
+        );
+    }
+
+    @Override
+    public NavigableSet<E> headSet(final E toElement,
+                                   final boolean inclusive) {
+        this.checkToElement(toElement, inclusive);
+
+        return this.range(
+                this.from,
+                inclusive ?
+                        this.higherIndex(toElement) :
+                        this.ceilingIndex(toElement),
+                this.low,
+                this.lowInclusive,
+                toElement,
+                inclusive
+        );
+    }
+
+    @Override
+    public NavigableSet<E> tailSet(final E fromElement,
+                                   final boolean inclusive) {
+        this.checkFromElement(fromElement, inclusive);
+
+        return this.range(
+                inclusive ?
+                        this.ceilingIndex(fromElement) :
+                        this.higherIndex(fromElement),
+                this.to,
+                fromElement,
+                inclusive,
+                this.high,
+                this.highInclusive
+        );
+    }
+
+    private ImmutableSetNavigableArray<E> range(final int from,
+                                                final int to,
+                                                final Object low,
+                                                final boolean lowInclusive,
+                                                final Object high,
+                                                final boolean highInclusive) {
+        return new ImmutableSetNavigableArray<>(
+                this.elements,
+                from,
+                Math.max(from, to),
+                this.comparator,
+                low,
+                lowInclusive,
+                high,
+                highInclusive
+        );
+    }
+
+    private void checkFromElement(final E fromElement,
+                                  final boolean inclusive) {
+        if (!this.inRange(fromElement, inclusive)) {
+            throw new IllegalArgumentException("fromElement out of range");
+        }
+    }
+
+    private void checkToElement(final E toElement,
+                                final boolean inclusive) {
+        if (!this.inRange(toElement, inclusive)) {
+            throw new IllegalArgumentException("toElement out of range");
+        }
+    }
+
+    /**
+     * An inclusive element must lie within the bounds, while an exclusive element may also equal an exclusive bound,
+     * the same checks as a {@link java.util.TreeSet} sub set.
+     */
+    private boolean inRange(final E element,
+                            final boolean inclusive) {
+        final Object low = this.low;
+        final Object high = this.high;
+
+        boolean inRange = true;
+        if (UNBOUNDED != low) {
+            final int compare = this.compare(element, Cast.to(low));
+            inRange = compare > 0 || (0 == compare && (this.lowInclusive || !inclusive));
+        }
+        if (inRange && UNBOUNDED != high) {
+            final int compare = this.compare(element, Cast.to(high));
+            inRange = compare < 0 || (0 == compare && (this.highInclusive || !inclusive));
+        }
+        return inRange;
+    }
+
+    @Override
+    public NavigableSet<E> descendingSet() {
+        return ImmutableSetNavigableDescending.with(this);
+    }
+
+    /**
+     * Returns the index of the element or a negative value if absent.
+     */
+    private int indexOf(final Object element) {
+        return Arrays.binarySearch(
+                this.elements,
+                this.from,
+                this.to,
+                element,
+                Cast.to(this.comparator)
+        );
+    }
+
+    /**
+     * Returns the index of the first element greater or equal to the given element, or the end of the range.
+     */
+    private int ceilingIndex(final Object element) {
+        final int index = this.indexOf(element);
+        return index >= 0 ?
+                index :
+                -index - 1;
+    }
+
+    /**
+     * Returns the index of the first element greater than the given element, or the end of the range.
+     */
+    private int higherIndex(final Object element) {
+        final int index = this.indexOf(element);
+        return index >= 0 ?
+                index + 1 :
+                -index - 1;
+    }
+
+    private int compare(final E element,
+                        final E other) {
+        final Comparator<? super E> comparator = this.comparator;
+        return null != comparator ?
+                comparator.compare(element, other) :
+                Cast.<Comparable<Object>>to(element).compareTo(other);
+    }
+
+    private E elementOrNull(final int index) {
+        return index >= this.from && index < this.to ?
+                this.element(index) :
+                null;
+    }
+
+    E element(final int index) {
+        return Cast.to(this.elements[index]);
+    }
+
+    private final Object[] elements;
+
+    /**
+     * The index of the first element.
+     */
+    final int from;
+
+    /**
+     * The index after the last element.
+     */
+    final int to;
+
+    /**
+     * The low bound of a sub set or {@link #UNBOUNDED}.
+     */
+    private final Object low;
+
+    private final boolean lowInclusive;
+
+    /**
+     * The high bound of a sub set or {@link #UNBOUNDED}.
+     */
+    private final Object high;
+
+    private final boolean highInclusive;
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.set;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NavigableSet;
+
+/**
+ * A view of an {@link ImmutableSetNavigableArray} in reverse order, swapping each lower and higher operation.
+ */
+final class ImmutableSetNavigableDescending<E> extends ImmutableSetNavigable<E> {
+
+    static <E> ImmutableSetNavigableDescending<E> with(final ImmutableSetNavigableArray<E> ascending) {
+        return new ImmutableSetNavigableDescending<>(ascending);
+    }
+
+    private ImmutableSetNavigableDescending(final ImmutableSetNavigableArray<E> ascending) {
+        super();
+        this.ascending = ascending;
+        this.comparator = Collections.reverseOrder(ascending.comparator());
+    }
+
+    @Override
+    public boolean contains(final Object other) {
+        return this.ascending.contains(other);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return ImmutableSetNavigableIterator.with(this.ascending, true);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.ascending.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return this.ascending.size();
+    }
+
+    // SortedSet........................................................................................................
+
+    @Override
+    public Comparator<? super E> comparator() {
+        return this.comparator;
+    }
+
+    private final Comparator<? super E> comparator;
+
+    // NavigableSet.....................................................................................................
+
+    @Override
+    E firstOrNull() {
+        return this.ascending.lastOrNull();
+    }
+
+    @Override
+    E lastOrNull() {
+        return this.ascending.firstOrNull();
+    }
+
+    @Override
+    public E lower(final E element) {
+        return this.ascending.higher(element);
+    }
+
+    @Override
+    public E floor(final E element) {
+        return this.ascending.ceiling(element);
+    }
+
+    @Override
+    public E ceiling(final E element) {
+        return this.ascending.floor(element);
+    }
+
+    @Override
+    public E higher(final E element) {
+        return this.ascending.lower(element);
+    }
+
+    @Override
+    public NavigableSet<E> subSet(final E fromElement,
+                                  final boolean fromInclusive,
+                                  final E toElement,
+                                  final boolean toInclusive) {
+        return this.ascending.subSet(toElement, toInclusive, fromElement, fromInclusive)
+                .descendingSet();
+    }
+
+    @Override
+    public NavigableSet<E> headSet(final E toElement,
+                                   final boolean inclusive) {
+        return this.ascending.tailSet(toElement, inclusive)
+                .descendingSet();
+    }
+
+    @Override
+    public NavigableSet<E> tailSet(final E fromElement,
+                                   final boolean inclusive) {
+        return this.ascending.headSet(fromElement, inclusive)
+                .descendingSet();
+    }
+
+    @Override
+    public NavigableSet<E> descendingSet() {
+        return this.ascending;
+    }
+
+    private final ImmutableSetNavigableArray<E> ascending;
+}
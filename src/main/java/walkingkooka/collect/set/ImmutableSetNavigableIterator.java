@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.set;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} over the elements of an {@link ImmutableSetNavigableArray}, in either direction.
+ */
+final class ImmutableSetNavigableIterator<E> implements Iterator<E> {
+
+    static <E> ImmutableSetNavigableIterator<E> with(final ImmutableSetNavigableArray<E> set,
+                                                     final boolean descending) {
+        return new ImmutableSetNavigableIterator<>(set, descending);
+    }
+
+    private ImmutableSetNavigableIterator(final ImmutableSetNavigableArray<E> set,
+                                          final boolean descending) {
+        super();
+        this.set = set;
+
+        if (descending) {
+            this.next = set.to - 1;
+            this.end = set.from - 1;
+            this.step = -1;
+        } else {
+            this.next = set.from;
+            this.end = set.to;
+            this.step = 1;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.next != this.end;
+    }
+
+    @Override
+    public E next() {
+        final int next = this.next;
+        if (next == this.end) {
+            throw new NoSuchElementException();
+        }
+        this.next = next + this.step;
+        return this.set.element(next);
+    }
+
+    private final ImmutableSetNavigableArray<E> set;
+
+    /**
+     * The index of the next element.
+     */
+    private int next;
+
+    /**
+     * The index after the last element.
+     */
+    private final int end;
+
+    /**
+     * Either 1 or -1.
+     */
+    private final int step;
+
+    @Override
+    public String toString() {
+        return this.hasNext() ?
+                String.valueOf(this.set.element(this.next)) :
+                "";
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.set;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.iterator.Iterators;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable {@link Set} that keeps insertion order, holding its elements in an array. Sets with more than
+ * {@link #LINEAR_MAX} elements also have an open addressing index of element numbers, using linear probing and kept at
+ * most half full, while smaller sets are searched one element at a time.
+ */
+final class ImmutableSetNonSingletonHash<T> extends ImmutableSet<T> {
+
+    /**
+     * Sets with this many elements or fewer are not indexed.
+     */
+    final static int LINEAR_MAX = 8;
+
+    /**
+     * Creates a set from the first length elements of the given array, ignoring any duplicates after the first.
+     */
+    static <T> ImmutableSetNonSingletonHash<T> withArray(final Object[] notCopied,
+                                                         final int length) {
+        return length <= LINEAR_MAX ?
+                linear(notCopied, length) :
+                index(notCopied, length);
+    }
+
+    private static <T> ImmutableSetNonSingletonHash<T> linear(final Object[] elements,
+                                                              final int length) {
+        int size = 0;
+
+        for (int i = 0; i < length; i++) {
+            final Object element = elements[i];
+            if (-1 == indexOf(element, elements, size)) {
+                elements[size] = element;
+                size++;
+            }
+        }
+
+        return new ImmutableSetNonSingletonHash<>(
+                compact(elements, size),
+                null
+        );
+    }
+
+    /**
+     * Builds the index, while compacting the elements if any appear more than once.
+     */
+    private static <T> ImmutableSetNonSingletonHash<T> index(final Object[] elements,
+                                                             final int length) {
+        int[] index = new int[indexLength(length)];
+        int size = 0;
+
+        for (int i = 0; i < length; i++) {
+            final Object element = elements[i];
+            final int slot = slot(element, elements, index);
+
+            if (0 == index[slot]) {
+                elements[size] = element;
+                size++;
+                index[slot] = size;
+            }
+        }
+
+        final Object[] compact = compact(elements, size);
+
+        if (size <= LINEAR_MAX) {
+            index = null;
+        } else {
+            if (indexLength(size) != index.length) {
+                index = new int[indexLength(size)];
+                for (int i = 0; i < size; i++) {
+                    index[slot(compact[i], compact, index)] = i + 1;
+                }
+            }
+        }
+
+        return new ImmutableSetNonSingletonHash<>(compact, index);
+    }
+
+    private static Object[] compact(final Object[] elements,
+                                    final int size) {
+        return size == elements.length ?
+                elements :
+                Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns the smallest power of two that keeps the index at most half full.
+     */
+    private static int indexLength(final int size) {
+        return Integer.highestOneBit(Math.max(size * 2 - 1, 1)) << 1;
+    }
+
+    /**
+     * Returns the index slot holding the element number with the given element, or the empty slot where it would be
+     * added.
+     */
+    private static int slot(final Object element,
+                            final Object[] elements,
+                            final int[] index) {
+        final int mask = index.length - 1;
+        final int hash = Objects.hashCode(element);
+
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        for (; ; ) {
+            final int number = index[slot];
+            if (0 == number || Objects.equals(element, elements[number - 1])) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the position of the element within the first length elements, or -1 if absent.
+     */
+    private static int indexOf(final Object element,
+                               final Object[] elements,
+                               final int length) {
+        int index = -1;
+
+        for (int i = 0; i < length; i++) {
+            if (Objects.equals(element, elements[i])) {
+                index = i;
+                break;
+            }
+        }
+        return index;
+    }
+
+    private ImmutableSetNonSingletonHash(final Object[] elements,
+                                         final int[] index) {
+        super();
+        this.elements = elements;
+        this.index = index;
+    }
+
+    @Override
+    public boolean contains(final Object other) {
+        final Object[] elements = this.elements;
+        final int[] index = this.index;
+
+        return null == index ?
+                -1 != indexOf(other, elements, elements.length) :
+                0 != index[slot(other, elements, index)];
+    }
+
+    T element(final int index) {
+        return Cast.to(this.elements[index]);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Iterators.array(this.<T>elements());
+    }
+
+    private <E> E[] elements() {
+        return Cast.to(this.elements);
+    }
+
+    @Override
+    public int size() {
+        return this.elements.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == this.size();
+    }
+
+    /**
+     * The elements in insertion order.
+     */
+    private final Object[] elements;
+
+    /**
+     * The element number plus one for each slot, with zero marking an empty slot, or null when not indexed.
+     */
+    private final int[] index;
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.elements);
+    }
+}
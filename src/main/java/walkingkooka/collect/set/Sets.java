@@ -96,9 +96,7 @@ final public class Sets implements PublicStaticHelper {
     public static <E> Set<E> of(final E... elements) {
         Objects.requireNonNull(elements, "elements");
 
-        final Set<E> set = ordered();
-        Collections.addAll(set, elements);
-        return ImmutableSet.copy(set);
+        return ImmutableSet.array(elements.clone(), elements.length);
     }
 
     /**
@@ -23,28 +23,47 @@ import walkingkooka.collect.list.Lists;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * An {@link ArrayStack} is a true immutable {@link Stack}.
+ * <br>
+ * Stacks share an over allocated array along with a high water mark counting the slots that have been claimed by any
+ * stack sharing the array. A push onto a stack whose size equals the high water mark claims the next slot and writes
+ * in place, so building a stack is amortized O(1) per push. Pushing onto a stack below the high water mark, which
+ * happens after a pop or when pushing twice onto the same stack, copies its items into a new array, leaving slots
+ * visible to other stacks untouched.
  */
 final class ArrayStack<T> implements Stack<T> {
+
+    /**
+     * The minimum capacity of a new array.
+     */
+    final static int INITIAL_CAPACITY = 8;
+
     /**
      * Creates a new {@link ArrayStack} with a single item.
      */
     static <T> ArrayStack<T> with(final T item) {
-        return ArrayStack.with(new Object[]{item});
+        final Object[] array = new Object[INITIAL_CAPACITY];
+        array[0] = item;
+        return new ArrayStack<>(array, new AtomicInteger(1), 1);
     }
 
     /**
      * Creates a new {@link ArrayStack} with an array. The last it set to the end of the array
      */
     static <T> ArrayStack<T> with(final Object[] items) {
-        return new ArrayStack<>(items, items.length);
+        final int length = items.length;
+        return new ArrayStack<>(items, new AtomicInteger(length), length);
     }
 
-    private ArrayStack(final Object[] array, final int last) {
+    private ArrayStack(final Object[] array,
+                       final AtomicInteger highWaterMark,
+                       final int last) {
         super();
         this.array = array;
+        this.highWaterMark = highWaterMark;
         this.last = last;
     }
 
@@ -68,28 +87,31 @@ final class ArrayStack<T> implements Stack<T> {
             stack = EmptyArrayStack.instance();
         } else {
             // share array but decrement last
-            stack = new ArrayStack<>(this.array, newLast);
+            stack = new ArrayStack<>(this.array, this.highWaterMark, newLast);
         }
 
         return stack;
     }
 
     /**
-     * Copies the old array into a new of appends the item and returns a new {@link ArrayStack}.
+     * Writes the item into the next slot of the shared array if this stack is the first to push at this depth,
+     * otherwise copies into a new larger array.
      */
     @Override
     public ArrayStack<T> push(final T item) {
         final int last = this.last;
         final int newLast = last + 1;
 
-        // copy the old array into the first slots
-        final Object[] newArray = new Object[newLast];
-        System.arraycopy(this.array, 0, newArray, 0, last);
-
-        // save the new item in the last slot
-        newArray[last] = item;
-
-        return new ArrayStack<>(newArray, newLast);
+        final ArrayStack<T> stack;
+        if (this.claim(newLast)) {
+            this.array[last] = item;
+            stack = new ArrayStack<>(this.array, this.highWaterMark, newLast);
+        } else {
+            final Object[] newArray = this.copy(newLast);
+            newArray[last] = item;
+            stack = new ArrayStack<>(newArray, new AtomicInteger(newLast), newLast);
+        }
+        return stack;
     }
 
     /**
@@ -112,23 +134,50 @@ final class ArrayStack<T> implements Stack<T> {
             final int pushed = pushing.size();
             final int newLast = last + pushed;
 
-            // copy the old array into the first slots
-            final Object[] newArray = new Object[newLast];
-            System.arraycopy(this.array, 0, newArray, 0, last);
+            final Object[] array;
+            final AtomicInteger highWaterMark;
+            if (this.claim(newLast)) {
+                array = this.array;
+                highWaterMark = this.highWaterMark;
+            } else {
+                array = this.copy(newLast);
+                highWaterMark = new AtomicInteger(newLast);
+            }
 
-            // append the iterator items onto the $newArray
+            // append the iterator items onto the $array
             int i = last;
             for (final T item : pushing) {
-                newArray[i] = item;
+                array[i] = item;
                 i++;
             }
 
-            stack = new ArrayStack<>(newArray, newLast);
+            stack = new ArrayStack<>(array, highWaterMark, newLast);
         }
 
         return stack;
     }
 
+    /**
+     * Attempts to claim the slots from {@link #last} up to but excluding newLast in the shared array, which only
+     * succeeds if no other stack has already claimed any of them and the array is large enough.
+     */
+    private boolean claim(final int newLast) {
+        return newLast <= this.array.length &&
+                this.highWaterMark.compareAndSet(this.last, newLast);
+    }
+
+    /**
+     * Copies the items of this stack into a new array with room for at least the given number of items and more.
+     */
+    private Object[] copy(final int minimumCapacity) {
+        final Object[] newArray = new Object[Math.max(
+                INITIAL_CAPACITY,
+                minimumCapacity + (minimumCapacity >> 1)
+        )];
+        System.arraycopy(this.array, 0, newArray, 0, this.last);
+        return newArray;
+    }
+
     /**
      * Is never empty
      */
@@ -150,8 +199,16 @@ final class ArrayStack<T> implements Stack<T> {
         return ArrayStackIterator.with(this);
     }
 
+    /**
+     * The array which may be shared with other {@link ArrayStack} and may be larger than {@link #last}.
+     */
     final Object[] array;
 
+    /**
+     * The number of slots in {@link #array} claimed by any stack sharing the array.
+     */
+    private final AtomicInteger highWaterMark;
+
     /**
      * The true number of elements in the array
      */
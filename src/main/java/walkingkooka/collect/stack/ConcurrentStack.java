@@ -0,0 +1,279 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.stack;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.Cast;
+import walkingkooka.collect.iterator.Iterators;
+import walkingkooka.collect.list.Lists;
+
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A lock free {@link Stack} that may be shared by many threads, holding linked immutable nodes with the top swapped
+ * using compare and set. When a compare and set fails because another thread changed the top, the losing thread spins
+ * for a random number of iterations, doubling the limit after each failure, before trying again.
+ * <br>
+ * Like other mutable stacks, modifying methods return this. Because a separate {@link #peek()} then {@link #pop()}
+ * may race with other threads, {@link #poll()} removes and returns the top item in a single step. Null items are
+ * not supported.
+ * <br>
+ * {@link #size()} returns the size recorded in the top node when read, which may be stale as soon as it is returned.
+ * {@link #iterator()}, {@link #equals(Object)} and {@link #toString()} work with a snapshot of the stack.
+ */
+@GwtIncompatible
+public final class ConcurrentStack<T> implements Stack<T> {
+
+    /**
+     * The first spin limit after a failed compare and set.
+     */
+    private final static int MIN_BACKOFF = 1 << 2;
+
+    /**
+     * The largest spin limit.
+     */
+    private final static int MAX_BACKOFF = 1 << 10;
+
+    /**
+     * Factory that creates an empty {@link ConcurrentStack}
+     */
+    static <T> ConcurrentStack<T> create() {
+        return new ConcurrentStack<>();
+    }
+
+    /**
+     * Private ctor use factory.
+     */
+    private ConcurrentStack() {
+        super();
+    }
+
+    @Override
+    public T peek() {
+        return this.topOrFail().item;
+    }
+
+    /**
+     * Removes the top item, returning this.
+     */
+    @Override
+    public Stack<T> pop() {
+        if (null == this.pop0()) {
+            throw new EmptyStackException();
+        }
+        return this;
+    }
+
+    /**
+     * Removes and returns the top item, returning nothing if the stack is empty.
+     */
+    public Optional<T> poll() {
+        final ConcurrentStackNode<T> top = this.pop0();
+        return null != top ?
+                Optional.of(top.item) :
+                Optional.empty();
+    }
+
+    /**
+     * Swaps the top for the node below, returning the removed node or null if the stack was empty.
+     */
+    private ConcurrentStackNode<T> pop0() {
+        final AtomicReference<ConcurrentStackNode<T>> top = this.top;
+
+        int backoff = MIN_BACKOFF;
+        for (; ; ) {
+            final ConcurrentStackNode<T> node = top.get();
+            if (null == node || top.compareAndSet(node, node.below)) {
+                return node;
+            }
+            backoff = backoff(backoff);
+        }
+    }
+
+    @Override
+    public Stack<T> push(final T item) {
+        Objects.requireNonNull(item, "item");
+
+        final AtomicReference<ConcurrentStackNode<T>> top = this.top;
+
+        int backoff = MIN_BACKOFF;
+        for (; ; ) {
+            final ConcurrentStackNode<T> below = top.get();
+            if (top.compareAndSet(below, ConcurrentStackNode.with(item, below))) {
+                break;
+            }
+            backoff = backoff(backoff);
+        }
+        return this;
+    }
+
+    /**
+     * Pushes all items in a single step, so other threads never see only some of the items.
+     */
+    @Override
+    public Stack<T> pushAll(final Iterator<T> items) {
+        Objects.requireNonNull(items, "items");
+
+        if (items.hasNext()) {
+            final List<T> pushing = Lists.array();
+            while (items.hasNext()) {
+                pushing.add(Objects.requireNonNull(items.next(), "item"));
+            }
+
+            final AtomicReference<ConcurrentStackNode<T>> top = this.top;
+
+            int backoff = MIN_BACKOFF;
+            for (; ; ) {
+                final ConcurrentStackNode<T> below = top.get();
+
+                ConcurrentStackNode<T> node = below;
+                for (final T item : pushing) {
+                    node = ConcurrentStackNode.with(item, node);
+                }
+
+                if (top.compareAndSet(below, node)) {
+                    break;
+                }
+                backoff = backoff(backoff);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Spins for a random number of iterations less than the given limit, returning the next larger limit.
+     */
+    private static int backoff(final int limit) {
+        final int spins = ThreadLocalRandom.current().nextInt(limit);
+        for (int i = 0; i < spins; i++) {
+            Thread.onSpinWait();
+        }
+        return Math.min(limit << 1, MAX_BACKOFF);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return null == this.top.get();
+    }
+
+    /**
+     * Returns the size at the moment the top was read.
+     */
+    @Override
+    public int size() {
+        final ConcurrentStackNode<T> top = this.top.get();
+        return null != top ?
+                top.size :
+                0;
+    }
+
+    /**
+     * Returns an {@link Iterator} over a snapshot of the stack, from the bottom to the top.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Iterators.array(toArray(this.top.get()));
+    }
+
+    /**
+     * Copies the items into an array with the bottom of the stack first.
+     */
+    private static <T> T[] toArray(final ConcurrentStackNode<T> top) {
+        final int size = null != top ? top.size : 0;
+        final Object[] items = new Object[size];
+
+        ConcurrentStackNode<T> node = top;
+        for (int i = size - 1; i >= 0; i--) {
+            items[i] = node.item;
+            node = node.below;
+        }
+        return Cast.to(items);
+    }
+
+    private ConcurrentStackNode<T> topOrFail() {
+        final ConcurrentStackNode<T> top = this.top.get();
+        if (null == top) {
+            throw new EmptyStackException();
+        }
+        return top;
+    }
+
+    /**
+     * The top node, which is null when the stack is empty.
+     */
+    private final AtomicReference<ConcurrentStackNode<T>> top = new AtomicReference<>();
+
+    // Object...........................................................................................................
+
+    /**
+     * The same hash code as an {@link ArrayStack} with the same items, taken from the top node.
+     */
+    @Override
+    public int hashCode() {
+        final ConcurrentStackNode<T> top = this.top.get();
+        return null != top ?
+                top.hash :
+                1;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof Stack && this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final Stack<?> other) {
+        final Object[] items = toArray(this.top.get());
+
+        boolean equals = items.length == other.size();
+        if (equals) {
+            final Iterator<?> otherIterator = other.iterator();
+            for (final Object item : items) {
+                if (false == otherIterator.hasNext() || false == Objects.equals(item, otherIterator.next())) {
+                    equals = false;
+                    break;
+                }
+            }
+        }
+
+        return equals;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+
+        String separator = "";
+        for (final Object item : toArray(this.top.get())) {
+            b.append(separator);
+            b.append(item);
+            separator = ",";
+        }
+
+        b.append(']');
+        return b.toString();
+    }
+}
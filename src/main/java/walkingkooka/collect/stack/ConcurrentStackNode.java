@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.stack;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+/**
+ * An immutable node within a {@link ConcurrentStack}, recording the size and hash code of the stack with this node
+ * on top.
+ */
+@GwtIncompatible
+final class ConcurrentStackNode<T> {
+
+    static <T> ConcurrentStackNode<T> with(final T item,
+                                           final ConcurrentStackNode<T> below) {
+        return null == below ?
+                new ConcurrentStackNode<>(item, null, 1, 31 + item.hashCode()) :
+                new ConcurrentStackNode<>(item, below, below.size + 1, 31 * below.hash + item.hashCode());
+    }
+
+    private ConcurrentStackNode(final T item,
+                                final ConcurrentStackNode<T> below,
+                                final int size,
+                                final int hash) {
+        super();
+        this.item = item;
+        this.below = below;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    final T item;
+
+    /**
+     * The node below this or null if this is the bottom.
+     */
+    final ConcurrentStackNode<T> below;
+
+    final int size;
+
+    final int hash;
+
+    @Override
+    public String toString() {
+        return this.size + " " + this.item;
+    }
+}
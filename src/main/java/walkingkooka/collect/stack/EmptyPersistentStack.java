@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.stack;
+
+import walkingkooka.Cast;
+
+import java.util.Collections;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * The empty {@link Stack} at the bottom of every {@link PersistentStack}.
+ */
+final class EmptyPersistentStack<T> implements Stack<T> {
+
+    /**
+     * Type safe getter
+     */
+    static <T> EmptyPersistentStack<T> instance() {
+        return Cast.to(EmptyPersistentStack.INSTANCE);
+    }
+
+    private final static EmptyPersistentStack<?> INSTANCE = new EmptyPersistentStack<>();
+
+    private EmptyPersistentStack() {
+        super();
+    }
+
+    // Stack
+
+    @Override
+    public T peek() {
+        throw new EmptyStackException();
+    }
+
+    @Override
+    public Stack<T> pop() {
+        throw new EmptyStackException();
+    }
+
+    @Override
+    public PersistentStack<T> push(final T item) {
+        return PersistentStack.with(item, this);
+    }
+
+    /**
+     * If the {@link Iterator items} is empty this will be returned otherwise creates a new {@link PersistentStack}.
+     */
+    @Override
+    public Stack<T> pushAll(final Iterator<T> items) {
+        Objects.requireNonNull(items, "items");
+
+        return items.hasNext() ?
+                this.push(items.next()).pushAll(items) :
+                this;
+    }
+
+    /**
+     * Empty stacks are empty.
+     */
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    /**
+     * Empty stacks always have 0 elements
+     */
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return Collections.emptyIterator();
+    }
+
+    // Object...........................................................................................................
+
+    /**
+     * The same hash code as an empty {@link ArrayStack}.
+     */
+    @Override
+    public int hashCode() {
+        return 1;
+    }
+
+    /**
+     * Equal if the other stack is also empty.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        return (this == other) || ((other instanceof Stack)
+                && this.equals0(Cast.to(other)));
+    }
+
+    private boolean equals0(final Stack<T> stack) {
+        return stack.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "[]";
+    }
+}
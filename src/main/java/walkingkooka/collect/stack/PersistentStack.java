@@ -0,0 +1,208 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.stack;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.iterator.Iterators;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * An immutable {@link Stack} made of linked nodes, each holding an item and the stack below it. Push and pop are O(1)
+ * and stacks derived from the same stack share all the nodes below them, making snapshots free.
+ * <br>
+ * Each node records the size and the hash code, both computed from the stack below when the node is created, with the
+ * hash code matching {@link ArrayStack#hashCode()}.
+ */
+final class PersistentStack<T> implements Stack<T> {
+
+    /**
+     * Creates a new {@link PersistentStack} with the item on top of the given stack.
+     */
+    static <T> PersistentStack<T> with(final T item,
+                                       final Stack<T> below) {
+        return new PersistentStack<>(
+                item,
+                below,
+                below.size() + 1,
+                31 * below.hashCode() + Objects.hashCode(item)
+        );
+    }
+
+    private PersistentStack(final T item,
+                            final Stack<T> below,
+                            final int size,
+                            final int hash) {
+        super();
+        this.item = item;
+        this.below = below;
+        this.size = size;
+        this.hash = hash;
+    }
+
+    // Stack
+
+    @Override
+    public T peek() {
+        return this.item;
+    }
+
+    /**
+     * Returns the stack below this, which may be the {@link EmptyPersistentStack}.
+     */
+    @Override
+    public Stack<T> pop() {
+        return this.below;
+    }
+
+    @Override
+    public PersistentStack<T> push(final T item) {
+        return with(item, this);
+    }
+
+    /**
+     * If the {@link Iterator} is empty this will be returned otherwise each item is pushed in turn.
+     */
+    @Override
+    public PersistentStack<T> pushAll(final Iterator<T> items) {
+        Objects.requireNonNull(items, "items");
+
+        PersistentStack<T> stack = this;
+        while (items.hasNext()) {
+            stack = stack.push(items.next());
+        }
+        return stack;
+    }
+
+    /**
+     * Is never empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns an {@link Iterator} that returns items from the bottom of the stack to the top, the same order as
+     * {@link ArrayStack#iterator()}.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Iterators.array(this.toArray());
+    }
+
+    /**
+     * Copies the items into an array with the bottom of the stack first.
+     */
+    private T[] toArray() {
+        final int size = this.size;
+        final Object[] items = new Object[size];
+
+        Stack<T> stack = this;
+        for (int i = size - 1; i >= 0; i--) {
+            final PersistentStack<T> node = Cast.to(stack);
+            items[i] = node.item;
+            stack = node.below;
+        }
+        return Cast.to(items);
+    }
+
+    private final T item;
+
+    private final Stack<T> below;
+
+    private final int size;
+
+    // Object...........................................................................................................
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    private final int hash;
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof Stack && this.equals0(Cast.to(other));
+    }
+
+    private boolean equals0(final Stack<?> other) {
+        return this.size == other.size() &&
+                (other instanceof PersistentStack ?
+                        this.equalsPersistentStack(Cast.to(other)) :
+                        this.equalsIterator(other.iterator()));
+    }
+
+    /**
+     * Compares items from the top down, stopping as soon as both share the same stack below.
+     */
+    private boolean equalsPersistentStack(final PersistentStack<?> other) {
+        boolean equals = this.hash == other.hash;
+
+        Stack<?> stack = this;
+        Stack<?> otherStack = other;
+
+        while (equals && stack != otherStack && false == stack.isEmpty()) {
+            final PersistentStack<?> node = Cast.to(stack);
+            final PersistentStack<?> otherNode = Cast.to(otherStack);
+
+            equals = Objects.equals(node.item, otherNode.item);
+            stack = node.below;
+            otherStack = otherNode.below;
+        }
+
+        return equals;
+    }
+
+    private boolean equalsIterator(final Iterator<?> other) {
+        boolean equals = true;
+
+        for (final Object item : this.toArray()) {
+            if (false == Objects.equals(item, other.next())) {
+                equals = false;
+                break;
+            }
+        }
+
+        return equals;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append('[');
+
+        String separator = "";
+        for (final Object item : this.toArray()) {
+            b.append(separator);
+            b.append(item);
+            separator = ",";
+        }
+
+        b.append(']');
+        return b.toString();
+    }
+}
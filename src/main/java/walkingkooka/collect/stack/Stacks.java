@@ -17,6 +17,7 @@
 
 package walkingkooka.collect.stack;
 
+import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.reflect.PublicStaticHelper;
 
 final public class Stacks implements PublicStaticHelper {
@@ -35,6 +36,14 @@ final public class Stacks implements PublicStaticHelper {
         return ArrayListStack.create();
     }
 
+    /**
+     * {@see ConcurrentStack}
+     */
+    @GwtIncompatible
+    public static <T> ConcurrentStack<T> concurrent() {
+        return ConcurrentStack.create();
+    }
+
     /**
      * {@see FakeStack}.
      */
@@ -49,6 +58,13 @@ final public class Stacks implements PublicStaticHelper {
         return JdkStackStack.create();
     }
 
+    /**
+     * {@see PersistentStack}
+     */
+    public static <T> Stack<T> persistent() {
+        return EmptyPersistentStack.instance();
+    }
+
     /**
      * {@see ReadOnlyStack}
      */
@@ -17,10 +17,15 @@
 
 package walkingkooka.compare;
 
+import walkingkooka.Cast;
 import walkingkooka.predicate.character.CharPredicate;
 import walkingkooka.reflect.PublicStaticHelper;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
 
 final public class Comparators implements PublicStaticHelper {
     // constants
@@ -59,6 +64,42 @@ final public class Comparators implements PublicStaticHelper {
         return 0 == value ? 0 : value < 0 ? -1 : +1;
     }
 
+    /**
+     * Sorts the given {@link List} using the {@link Comparator}. If the {@link Comparator} is a {@link SortKeyComparator}
+     * a {@link SortKey} is computed once for each element, the keys are sorted and then the values are written back,
+     * giving the same order as {@link List#sort(Comparator)}.
+     */
+    public static <T> void sort(final List<T> list,
+                                final Comparator<? super T> comparator) {
+        Objects.requireNonNull(list, "list");
+        Objects.requireNonNull(comparator, "comparator");
+
+        if (comparator instanceof SortKeyComparator) {
+            sortKeys(list, Cast.to(comparator));
+        } else {
+            list.sort(comparator);
+        }
+    }
+
+    private static <T> void sortKeys(final List<T> list,
+                                     final SortKeyComparator<T> comparator) {
+        final SortKey<T>[] keys = Cast.to(new SortKey<?>[list.size()]);
+
+        int i = 0;
+        for (final T value : list) {
+            keys[i] = comparator.sortKey(value);
+            i++;
+        }
+
+        Arrays.sort(keys);
+
+        final ListIterator<T> values = list.listIterator();
+        for (final SortKey<T> key : keys) {
+            values.next();
+            values.set(key.value());
+        }
+    }
+
     /**
      * Stop creation
      */
@@ -27,7 +27,7 @@ import java.util.Objects;
  * and should be normalized for purposes of comparison. This {@link Comparator} is particularly
  * useful for comparing {@link CharSequence} while ignoring redundant whitespace.
  */
-final class NormalizingCharSequenceComparator<S extends CharSequence> implements Comparator<S> {
+final class NormalizingCharSequenceComparator<S extends CharSequence> implements SortKeyComparator<S> {
 
     /**
      * Creates a {@link NormalizingCharSequenceComparator}
@@ -91,6 +91,15 @@ final class NormalizingCharSequenceComparator<S extends CharSequence> implements
         return value;
     }
 
+    // SortKeyComparator..............................................................................................
+
+    @Override
+    public SortKey<S> sortKey(final S value) {
+        Objects.requireNonNull(value, "value");
+
+        return SortKeyNormalizing.with(value, this.predicate);
+    }
+
     /**
      * Advances and returns the index pointing to the next non matching character.
      */
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.compare;
+
+import walkingkooka.Value;
+
+import java.util.Objects;
+
+/**
+ * A {@link SortKey} holds a value and a compact key computed once from that value, where comparing keys gives the
+ * same result as comparing the original values using the {@link SortKeyComparator} that created it.
+ * Sorting many values by their keys avoids recomputing lower case or normalized forms on every comparison.
+ * Note keys are only meant to be compared and do not implement {@link Object#equals(Object)}.
+ */
+public abstract class SortKey<T> implements Value<T>, Comparable<SortKey<T>> {
+
+    /**
+     * Creates a {@link SortKey} whose key is compared char by char, with the shorter key being less when one is a prefix
+     * of the other.
+     */
+    public static <T> SortKey<T> chars(final T value,
+                                       final char[] key) {
+        Objects.requireNonNull(key, "key");
+
+        return SortKeyCharArray.with(value, key);
+    }
+
+    /**
+     * Package private to limit sub classing.
+     */
+    SortKey(final T value) {
+        super();
+        this.value = value;
+    }
+
+    /**
+     * The original value.
+     */
+    @Override
+    public final T value() {
+        return this.value;
+    }
+
+    private final T value;
+
+    // Object...........................................................................................................
+
+    @Override
+    public final String toString() {
+        return String.valueOf(this.value);
+    }
+}
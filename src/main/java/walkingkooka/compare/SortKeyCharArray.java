@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.compare;
+
+/**
+ * A {@link SortKey} which compares keys char by char, returning the difference of the first different chars or
+ * the difference in lengths.
+ */
+final class SortKeyCharArray<T> extends SortKey<T> {
+
+    static <T> SortKeyCharArray<T> with(final T value,
+                                        final char[] key) {
+        return new SortKeyCharArray<>(value, key);
+    }
+
+    private SortKeyCharArray(final T value,
+                             final char[] key) {
+        super(value);
+        this.key = key;
+    }
+
+    @Override
+    public int compareTo(final SortKey<T> other) {
+        return this.compareTo0((SortKeyCharArray<T>) other);
+    }
+
+    private int compareTo0(final SortKeyCharArray<T> other) {
+        final char[] key = this.key;
+        final char[] otherKey = other.key;
+
+        final int length = key.length;
+        final int otherLength = otherKey.length;
+        final int shorter = Math.min(length, otherLength);
+
+        int value = Comparators.EQUAL;
+
+        for (int i = 0; i < shorter; i++) {
+            value = key[i] - otherKey[i];
+            if (Comparators.EQUAL != value) {
+                break;
+            }
+        }
+
+        if (Comparators.EQUAL == value) {
+            value = length - otherLength;
+        }
+
+        return value;
+    }
+
+    private final char[] key;
+}
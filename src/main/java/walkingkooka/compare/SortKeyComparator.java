@@ -0,0 +1,32 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.compare;
+
+import java.util.Comparator;
+
+/**
+ * A {@link Comparator} that can also produce a {@link SortKey} for a value, where comparing keys always gives the
+ * same result as {@link #compare(Object, Object)}.
+ */
+public interface SortKeyComparator<T> extends Comparator<T> {
+
+    /**
+     * Computes the {@link SortKey} for the given value.
+     */
+    SortKey<T> sortKey(final T value);
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.compare;
+
+import walkingkooka.predicate.character.CharPredicate;
+
+import java.util.Arrays;
+
+/**
+ * The {@link SortKey} created by {@link NormalizingCharSequenceComparator}. Each run of characters matched by the
+ * {@link CharPredicate} is collapsed into a single token holding the first char of the run and a marker bit,
+ * so comparing keys never needs to test characters again.
+ */
+final class SortKeyNormalizing<T extends CharSequence> extends SortKey<T> {
+
+    /**
+     * Marks a token as the start of a run of matched characters.
+     */
+    private final static int RUN = 1 << 16;
+
+    private final static int CHAR = RUN - 1;
+
+    static <T extends CharSequence> SortKeyNormalizing<T> with(final T value,
+                                                               final CharPredicate predicate) {
+        final int length = value.length();
+        final int[] tokens = new int[length];
+        int count = 0;
+
+        int i = 0;
+        while (i < length) {
+            final char c = value.charAt(i);
+            i++;
+
+            if (predicate.test(c)) {
+                tokens[count] = RUN | c;
+
+                while (i < length && predicate.test(value.charAt(i))) {
+                    i++;
+                }
+            } else {
+                tokens[count] = c;
+            }
+            count++;
+        }
+
+        return new SortKeyNormalizing<>(
+                value,
+                count == length ?
+                        tokens :
+                        Arrays.copyOf(tokens, count)
+        );
+    }
+
+    private SortKeyNormalizing(final T value,
+                               final int[] tokens) {
+        super(value);
+        this.tokens = tokens;
+    }
+
+    /**
+     * Mirrors {@link NormalizingCharSequenceComparator#compare(CharSequence, CharSequence)} with runs already
+     * collapsed.
+     */
+    @Override
+    public int compareTo(final SortKey<T> other) {
+        return this.compareTo0((SortKeyNormalizing<T>) other);
+    }
+
+    private int compareTo0(final SortKeyNormalizing<T> other) {
+        final int[] tokens = this.tokens;
+        final int[] otherTokens = other.tokens;
+
+        final int length = tokens.length;
+        final int otherLength = otherTokens.length;
+
+        int value;
+        int i = 0;
+
+        for (; ; ) {
+            if (i == length) {
+                value = i == otherLength ? Comparators.EQUAL : Comparators.LESS;
+                break;
+            }
+            if (i == otherLength) {
+                value = Comparators.MORE;
+                break;
+            }
+
+            final int token = tokens[i];
+            final int otherToken = otherTokens[i];
+            i++;
+
+            if (0 != (token & otherToken & RUN)) {
+                continue;
+            }
+            value = (token & CHAR) - (otherToken & CHAR);
+            if (Comparators.EQUAL != value) {
+                break;
+            }
+        }
+
+        return value;
+    }
+
+    private final int[] tokens;
+}
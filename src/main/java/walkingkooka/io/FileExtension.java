@@ -17,11 +17,14 @@
 
 package walkingkooka.io;
 
+import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.Cast;
 import walkingkooka.InvalidCharacterException;
 import walkingkooka.Value;
 import walkingkooka.text.CaseSensitivity;
 import walkingkooka.text.CharSequences;
+import walkingkooka.util.Interner;
+import walkingkooka.util.Interners;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -78,6 +81,23 @@ public final class FileExtension implements
 
     private final String value;
 
+    // intern.........................................................................................................
+
+    /**
+     * Returns the canonical {@link FileExtension} equal to this, so duplicate instances may be released. Because
+     * equality ignores case, this is returned when the canonical instance has a different case.
+     */
+    @GwtIncompatible
+    public FileExtension intern() {
+        final FileExtension intern = INTERNER.intern(this);
+        return intern.value.equals(this.value) ?
+                intern :
+                this;
+    }
+
+    @GwtIncompatible
+    private final static Interner<FileExtension> INTERNER = Interners.weak();
+
     // Object...........................................................................................................
 
     @Override
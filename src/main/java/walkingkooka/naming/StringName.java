@@ -18,10 +18,13 @@
 package walkingkooka.naming;
 
 
+import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.Cast;
 import walkingkooka.text.CaseSensitivity;
 import walkingkooka.text.CharSequences;
 import walkingkooka.text.Whitespace;
+import walkingkooka.util.Interner;
+import walkingkooka.util.Interners;
 
 /**
  * A simple {@link Name} that accepts a {@link String} composed of any character.
@@ -58,6 +61,19 @@ final public class StringName implements Name,
 
     private final String name;
 
+    // intern.........................................................................................................
+
+    /**
+     * Returns the canonical {@link StringName} equal to this, so duplicate instances may be released.
+     */
+    @GwtIncompatible
+    public StringName intern() {
+        return INTERNER.intern(this);
+    }
+
+    @GwtIncompatible
+    private final static Interner<StringName> INTERNER = Interners.weak();
+
     // Object..................................................................................................
 
     @Override
@@ -18,6 +18,7 @@
 package walkingkooka.naming;
 
 import walkingkooka.text.CharSequences;
+import walkingkooka.text.PooledBuilder;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -80,14 +81,15 @@ final public class StringPath
             throw new IllegalArgumentException(StringPath.CANNOT_APPEND_ROOT_NAME);
         }
 
-        final StringBuilder path = new StringBuilder();
-        if (false == this.isRoot()) {
-            path.append(this.path);
-        }
-        path.append(StringPath.SEPARATOR.character());
-        path.append(name.value());
+        try (final PooledBuilder path = CharSequences.borrow()) {
+            if (false == this.isRoot()) {
+                path.append(this.path);
+            }
+            path.append(StringPath.SEPARATOR.character());
+            path.append(name.value());
 
-        return new StringPath(path.toString(), name, Optional.of(this));
+            return new StringPath(path.toString(), name, Optional.of(this));
+        }
     }
 
     /**
@@ -17,8 +17,11 @@
 
 package walkingkooka.reflect;
 
+import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.InvalidCharacterException;
 import walkingkooka.collect.map.Maps;
+import walkingkooka.util.Interner;
+import walkingkooka.util.Interners;
 
 import java.util.Map;
 import java.util.Objects;
@@ -198,6 +201,22 @@ public final class ClassName extends JavaName<ClassName> {
 
     private transient PackageName packageName;
 
+    // intern.........................................................................................................
+
+    /**
+     * Returns the canonical {@link ClassName} equal to this, so duplicate instances may be released.
+     */
+    @GwtIncompatible
+    public ClassName intern() {
+        final ClassName constant = CONSTANTS.get(this.value());
+        return null != constant ?
+                constant :
+                INTERNER.intern(this);
+    }
+
+    @GwtIncompatible
+    private final static Interner<ClassName> INTERNER = Interners.weak();
+
     // Object...........................................................................................................
 
     @Override boolean canBeEqual(final Object other) {
@@ -17,8 +17,11 @@
 
 package walkingkooka.reflect;
 
+import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.naming.Name;
 import walkingkooka.text.CharacterConstant;
+import walkingkooka.util.Interner;
+import walkingkooka.util.Interners;
 
 import java.util.Objects;
 
@@ -120,6 +123,19 @@ final public class PackageName extends JavaName<PackageName> {
         return this == PackageName.UNNAMED;
     }
 
+    // intern.........................................................................................................
+
+    /**
+     * Returns the canonical {@link PackageName} equal to this, so duplicate instances may be released.
+     */
+    @GwtIncompatible
+    public PackageName intern() {
+        return INTERNER.intern(this);
+    }
+
+    @GwtIncompatible
+    private final static Interner<PackageName> INTERNER = Interners.weak();
+
     // Object.............................................................................................................
 
     @Override
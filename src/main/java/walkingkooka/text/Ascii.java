@@ -19,6 +19,8 @@ package walkingkooka.text;
 
 import walkingkooka.reflect.PublicStaticHelper;
 
+import java.util.Objects;
+
 /**
  * A collect of utilities related to ASCII.<br> Constants taken from <a>http://en.wikipedia.org/wiki/Control_character</a>
  */
@@ -113,6 +115,61 @@ final public class Ascii implements PublicStaticHelper {
         return (c >= ' ') & (c < Ascii.DELETE);
     }
 
+    /**
+     * Tests if all characters in the {@link CharSequence} are ASCII, testing four characters at a time.
+     */
+    public static boolean isAllAscii(final CharSequence chars) {
+        Objects.requireNonNull(chars, "chars");
+
+        return AsciiWords.isAllAscii(chars, 0, chars.length());
+    }
+
+    /**
+     * Tests if all characters in the char array between start and end are ASCII, testing four characters at a time.
+     */
+    public static boolean isAllAscii(final char[] chars,
+                                     final int start,
+                                     final int end) {
+        checkRange(chars, start, end);
+
+        return AsciiWords.isAllAscii(chars, start, end);
+    }
+
+    /**
+     * Tests if all characters in the {@link CharSequence} are {@link #isPrintable(char)}, testing four characters at a
+     * time.
+     */
+    public static boolean isAllPrintable(final CharSequence chars) {
+        Objects.requireNonNull(chars, "chars");
+
+        return AsciiWords.isAllPrintable(chars, 0, chars.length());
+    }
+
+    /**
+     * Tests if all characters in the char array between start and end are {@link #isPrintable(char)}, testing four
+     * characters at a time.
+     */
+    public static boolean isAllPrintable(final char[] chars,
+                                         final int start,
+                                         final int end) {
+        checkRange(chars, start, end);
+
+        return AsciiWords.isAllPrintable(chars, start, end);
+    }
+
+    /**
+     * Checks the char array is not null and the start and end are a valid range.
+     */
+    static void checkRange(final char[] chars,
+                           final int start,
+                           final int end) {
+        Objects.requireNonNull(chars, "chars");
+
+        if (start < 0 || start > end || end > chars.length) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + chars.length);
+        }
+    }
+
     /**
      * Stop creation
      */
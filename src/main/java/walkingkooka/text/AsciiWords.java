@@ -0,0 +1,312 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+/**
+ * Helpers that classify characters four at a time, by packing four chars into the 16 bit lanes of a long. A single
+ * add and mask tests all four lanes, only falling back to testing individual characters when a word contains a
+ * character that needs a closer look.
+ * <br>
+ * Whitespace is defined by a bit mask of the ASCII characters up to and including space, with non ASCII characters
+ * tested using {@link Character#isWhitespace(char)} for {@link #WHITESPACE}.
+ */
+final class AsciiWords {
+
+    /**
+     * The characters matched by {@link Character#isSpace(char)}.
+     */
+    final static long SPACE = bit('\t') | bit('\n') | bit('\f') | bit('\r') | bit(' ');
+
+    /**
+     * The ASCII characters matched by {@link Character#isWhitespace(char)}.
+     */
+    final static long WHITESPACE = SPACE | bit((char) 0x0B) | bit((char) 0x1C) | bit((char) 0x1D) | bit((char) 0x1E) | bit((char) 0x1F);
+
+    private static long bit(final char c) {
+        return 1L << c;
+    }
+
+    /**
+     * The number of characters packed into a single word.
+     */
+    private final static int WORD_CHARS = 4;
+
+    /**
+     * Set bits in any lane indicate a character outside ASCII.
+     */
+    private final static long NON_ASCII = 0xFF80FF80FF80FF80L;
+
+    private final static long LOW15 = 0x7FFF7FFF7FFF7FFFL;
+
+    private final static long BIT15 = 0x8000800080008000L;
+
+    /**
+     * Adding this to a lane holding 15 bits sets bit 15 if the character is greater than space.
+     */
+    private final static long AFTER_SPACE = 0x7FDF7FDF7FDF7FDFL;
+
+    /**
+     * Adding this to an ASCII lane sets bit 15 if the character is greater or equal to space.
+     */
+    private final static long PRINTABLE_FIRST = 0x7FE07FE07FE07FE0L;
+
+    /**
+     * Adding this to an ASCII lane sets bit 15 if the character is greater or equal to DELETE.
+     */
+    private final static long PRINTABLE_AFTER_LAST = 0x7F817F817F817F81L;
+
+    // isAllAscii.......................................................................................................
+
+    static boolean isAllAscii(final CharSequence chars,
+                              final int start,
+                              final int end) {
+        int i = start;
+
+        for (final int last = end - WORD_CHARS; i <= last; i = i + WORD_CHARS) {
+            if (0 != (word(chars, i) & NON_ASCII)) {
+                return false;
+            }
+        }
+        for (; i < end; i++) {
+            if (!Ascii.is(chars.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isAllAscii(final char[] chars,
+                              final int start,
+                              final int end) {
+        int i = start;
+
+        for (final int last = end - WORD_CHARS; i <= last; i = i + WORD_CHARS) {
+            if (0 != (word(chars, i) & NON_ASCII)) {
+                return false;
+            }
+        }
+        for (; i < end; i++) {
+            if (!Ascii.is(chars[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // isAllPrintable...................................................................................................
+
+    static boolean isAllPrintable(final CharSequence chars,
+                                  final int start,
+                                  final int end) {
+        int i = start;
+
+        for (final int last = end - WORD_CHARS; i <= last; i = i + WORD_CHARS) {
+            if (!isPrintable(word(chars, i))) {
+                return false;
+            }
+        }
+        for (; i < end; i++) {
+            if (!Ascii.isPrintable(chars.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isAllPrintable(final char[] chars,
+                                  final int start,
+                                  final int end) {
+        int i = start;
+
+        for (final int last = end - WORD_CHARS; i <= last; i = i + WORD_CHARS) {
+            if (!isPrintable(word(chars, i))) {
+                return false;
+            }
+        }
+        for (; i < end; i++) {
+            if (!Ascii.isPrintable(chars[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPrintable(final long word) {
+        return 0 == (word & NON_ASCII) &&
+                BIT15 == ((word + PRINTABLE_FIRST) & ~(word + PRINTABLE_AFTER_LAST) & BIT15);
+    }
+
+    // whitespace.......................................................................................................
+
+    /**
+     * Returns the index of the first whitespace character or -1.
+     */
+    static int firstWhitespace(final CharSequence chars,
+                               final int start,
+                               final int end,
+                               final long whitespace) {
+        int i = start;
+
+        for (final int last = end - WORD_CHARS; i <= last; i = i + WORD_CHARS) {
+            final long word = word(chars, i);
+            if (BIT15 != afterSpace(word) || (WHITESPACE == whitespace && 0 != (word & NON_ASCII))) {
+                break;
+            }
+        }
+        for (; i < end; i++) {
+            if (isWhitespace(chars.charAt(i), whitespace)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first character that is not whitespace or -1.
+     */
+    static int firstNonWhitespace(final CharSequence chars,
+                                  final int start,
+                                  final int end,
+                                  final long whitespace) {
+        int i = start;
+
+        for (final int last = end - WORD_CHARS; i <= last; i = i + WORD_CHARS) {
+            if (!isAllWhitespace(word(chars, i), whitespace)) {
+                break;
+            }
+        }
+        for (; i < end; i++) {
+            if (!isWhitespace(chars.charAt(i), whitespace)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int firstNonWhitespace(final char[] chars,
+                                  final int start,
+                                  final int end,
+                                  final long whitespace) {
+        int i = start;
+
+        for (final int last = end - WORD_CHARS; i <= last; i = i + WORD_CHARS) {
+            if (!isAllWhitespace(word(chars, i), whitespace)) {
+                break;
+            }
+        }
+        for (; i < end; i++) {
+            if (!isWhitespace(chars[i], whitespace)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last character that is not whitespace or -1.
+     */
+    static int lastNonWhitespace(final CharSequence chars,
+                                 final int start,
+                                 final int end,
+                                 final long whitespace) {
+        int i = end;
+
+        for (; i - WORD_CHARS >= start; i = i - WORD_CHARS) {
+            if (!isAllWhitespace(word(chars, i - WORD_CHARS), whitespace)) {
+                break;
+            }
+        }
+        while (i > start) {
+            i--;
+            if (!isWhitespace(chars.charAt(i), whitespace)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int lastNonWhitespace(final char[] chars,
+                                 final int start,
+                                 final int end,
+                                 final long whitespace) {
+        int i = end;
+
+        for (; i - WORD_CHARS >= start; i = i - WORD_CHARS) {
+            if (!isAllWhitespace(word(chars, i - WORD_CHARS), whitespace)) {
+                break;
+            }
+        }
+        while (i > start) {
+            i--;
+            if (!isWhitespace(chars[i], whitespace)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns bit 15 set in every lane holding a character greater than space.
+     */
+    private static long afterSpace(final long word) {
+        return (((word & LOW15) + AFTER_SPACE) | word) & BIT15;
+    }
+
+    /**
+     * Returns true if all four characters are ASCII whitespace.
+     */
+    private static boolean isAllWhitespace(final long word,
+                                           final long whitespace) {
+        return 0 == afterSpace(word) &&
+                0 != ((whitespace >>> (word >>> 48)) &
+                        (whitespace >>> ((word >>> 32) & 0xFFFF)) &
+                        (whitespace >>> ((word >>> 16) & 0xFFFF)) &
+                        (whitespace >>> (word & 0xFFFF)) &
+                        1);
+    }
+
+    static boolean isWhitespace(final char c,
+                                final long whitespace) {
+        return c <= ' ' ?
+                0 != ((whitespace >>> c) & 1) :
+                WHITESPACE == whitespace && c >= 128 && Character.isWhitespace(c);
+    }
+
+    private static long word(final CharSequence chars,
+                             final int offset) {
+        return ((long) chars.charAt(offset) << 48) |
+                ((long) chars.charAt(offset + 1) << 32) |
+                ((long) chars.charAt(offset + 2) << 16) |
+                chars.charAt(offset + 3);
+    }
+
+    private static long word(final char[] chars,
+                             final int offset) {
+        return ((long) chars[offset] << 48) |
+                ((long) chars[offset + 1] << 32) |
+                ((long) chars[offset + 2] << 16) |
+                chars[offset + 3];
+    }
+
+    /**
+     * Stop creation
+     */
+    private AsciiWords() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import walkingkooka.Value;
+
+import java.util.Objects;
+
+/**
+ * A {@link Value} holding some text, that is {@link CaseSensitivity#INSENSITIVE} when computing its hash code and
+ * equality. The hash code is computed once, which makes this ideal as the key of {@link java.util.HashMap} that
+ * should ignore case.
+ */
+public final class CaseFoldedKey implements Value<String> {
+
+    /**
+     * Creates a new {@link CaseFoldedKey} from the given {@link CharSequence}.
+     */
+    public static CaseFoldedKey with(final CharSequence value) {
+        Objects.requireNonNull(value, "value");
+
+        final String string = value.toString();
+        return new CaseFoldedKey(
+                string,
+                CaseFolding.hash(string)
+        );
+    }
+
+    /**
+     * Private ctor use factory.
+     */
+    private CaseFoldedKey(final String value,
+                          final int hash) {
+        super();
+        this.value = value;
+        this.hash = hash;
+    }
+
+    /**
+     * The original text with case preserved.
+     */
+    @Override
+    public String value() {
+        return this.value;
+    }
+
+    private final String value;
+
+    // Object...........................................................................................................
+
+    /**
+     * Returns the same value as {@link CaseSensitivity#hash(CharSequence)} for {@link CaseSensitivity#INSENSITIVE}.
+     */
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    private final int hash;
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other ||
+                other instanceof CaseFoldedKey &&
+                        this.equals0((CaseFoldedKey) other);
+    }
+
+    private boolean equals0(final CaseFoldedKey other) {
+        return this.hash == other.hash &&
+                CaseFolding.equals(this.value, other.value);
+    }
+
+    @Override
+    public String toString() {
+        return this.value;
+    }
+}
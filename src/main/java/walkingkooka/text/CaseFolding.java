@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+/**
+ * Helpers that fold characters to lower case for {@link CaseSensitivity#INSENSITIVE}, producing identical results to
+ * {@link Character#toLowerCase(char)}. ASCII characters are folded using a table, while all other characters are folded
+ * once and then cached in lazily created pages of 256 characters.
+ * <br>
+ * {@link String} inputs are also processed four characters at a time, packing them into a long and folding all
+ * ASCII characters in a single step.
+ */
+final class CaseFolding {
+
+    /**
+     * The number of ASCII characters.
+     */
+    final static int ASCII_COUNT = 128;
+
+    private final static char[] ASCII = new char[ASCII_COUNT];
+
+    static {
+        for (int i = 0; i < ASCII_COUNT; i++) {
+            ASCII[i] = Character.toLowerCase((char) i);
+        }
+    }
+
+    private final static int PAGE_SHIFT = 8;
+
+    private final static int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+    private final static int PAGE_MASK = PAGE_SIZE - 1;
+
+    /**
+     * Folded non ASCII characters grouped in pages. A zero entry within a page means the character has not yet been
+     * folded, which is safe because the only character that folds to zero is ASCII.
+     */
+    private final static char[][] PAGES = new char[(Character.MAX_VALUE + 1) >> PAGE_SHIFT][];
+
+    /**
+     * Folds the given character, returning the same result as {@link Character#toLowerCase(char)}.
+     */
+    static char fold(final char c) {
+        return c < ASCII_COUNT ?
+                ASCII[c] :
+                foldNonAscii(c);
+    }
+
+    private static char foldNonAscii(final char c) {
+        final int pageIndex = c >> PAGE_SHIFT;
+
+        char[] page = PAGES[pageIndex];
+        if (null == page) {
+            page = new char[PAGE_SIZE];
+            PAGES[pageIndex] = page;
+        }
+
+        final int index = c & PAGE_MASK;
+        char folded = page[index];
+        if (0 == folded) {
+            folded = Character.toLowerCase(c);
+            page[index] = folded;
+        }
+        return folded;
+    }
+
+    /**
+     * Computes a hash code for the {@link CharSequence} equivalent to lower casing each character and then calling
+     * {@link String#hashCode()}.
+     */
+    static int hash(final CharSequence chars) {
+        return chars instanceof String ?
+                hashString((String) chars) :
+                hash(chars, 0, 0);
+    }
+
+    private static int hash(final CharSequence chars,
+                            final int start,
+                            final int hash) {
+        final int length = chars.length();
+
+        int h = hash;
+        for (int i = start; i < length; i++) {
+            h = 31 * h + fold(chars.charAt(i));
+        }
+        return h;
+    }
+
+    private static int hashString(final String chars) {
+        final int length = chars.length();
+        final int last = length - WORD_CHARS;
+
+        int hash = 0;
+        int i = 0;
+
+        while (i <= last) {
+            final long word = word(chars, i);
+            if (0 != (word & NON_ASCII)) {
+                break;
+            }
+            final long folded = foldAsciiWord(word);
+
+            hash = 31 * 31 * 31 * 31 * hash +
+                    31 * 31 * 31 * (int) (folded >>> 48) +
+                    31 * 31 * (int) ((folded >>> 32) & 0xFFFF) +
+                    31 * (int) ((folded >>> 16) & 0xFFFF) +
+                    (int) (folded & 0xFFFF);
+            i = i + WORD_CHARS;
+        }
+
+        return hash(chars, i, hash);
+    }
+
+    /**
+     * Tests if the two {@link CharSequence} are equal ignoring case, with results identical to comparing each pair of
+     * characters using {@link #fold(char)}.
+     */
+    static boolean equals(final CharSequence chars,
+                          final CharSequence otherChars) {
+        final int length = chars.length();
+
+        return chars == otherChars ||
+                (length == otherChars.length() &&
+                        (chars instanceof String && otherChars instanceof String ?
+                                equalsString((String) chars, (String) otherChars, length) :
+                                equals(chars, otherChars, 0, length)));
+    }
+
+    private static boolean equals(final CharSequence chars,
+                                  final CharSequence otherChars,
+                                  final int start,
+                                  final int length) {
+        boolean equals = true;
+
+        for (int i = start; i < length; i++) {
+            final char c = chars.charAt(i);
+            final char d = otherChars.charAt(i);
+            if (c != d && fold(c) != fold(d)) {
+                equals = false;
+                break;
+            }
+        }
+
+        return equals;
+    }
+
+    private static boolean equalsString(final String chars,
+                                        final String otherChars,
+                                        final int length) {
+        final int last = length - WORD_CHARS;
+        int i = 0;
+
+        while (i <= last) {
+            final long word = word(chars, i);
+            final long otherWord = word(otherChars, i);
+
+            if (word != otherWord) {
+                if (0 != ((word | otherWord) & NON_ASCII)) {
+                    break;
+                }
+                if (foldAsciiWord(word) != foldAsciiWord(otherWord)) {
+                    return false;
+                }
+            }
+            i = i + WORD_CHARS;
+        }
+
+        return equals(chars, otherChars, i, length);
+    }
+
+    /**
+     * The number of characters packed into a single word.
+     */
+    private final static int WORD_CHARS = 4;
+
+    /**
+     * Set bits in any char lane indicate a character outside ASCII.
+     */
+    private final static long NON_ASCII = 0xFF80FF80FF80FF80L;
+
+    /**
+     * Adding this to a lane sets bit 7 if the character is greater or equal to 'A'.
+     */
+    private final static long UPPER_FIRST = 0x003F003F003F003FL;
+
+    /**
+     * Adding this to a lane sets bit 7 if the character is greater than 'Z'.
+     */
+    private final static long UPPER_AFTER_LAST = 0x0025002500250025L;
+
+    private final static long BIT7 = 0x0080008000800080L;
+
+    private static long word(final String chars,
+                             final int offset) {
+        return ((long) chars.charAt(offset) << 48) |
+                ((long) chars.charAt(offset + 1) << 32) |
+                ((long) chars.charAt(offset + 2) << 16) |
+                chars.charAt(offset + 3);
+    }
+
+    /**
+     * Lower cases all upper case letters in a word holding four ASCII characters.
+     */
+    private static long foldAsciiWord(final long word) {
+        final long upper = (word + UPPER_FIRST) & ~(word + UPPER_AFTER_LAST) & BIT7;
+        return word | (upper >>> 2);
+    }
+
+    /**
+     * Stop creation
+     */
+    private CaseFolding() {
+        throw new UnsupportedOperationException();
+    }
+}
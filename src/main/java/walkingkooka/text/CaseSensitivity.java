@@ -48,6 +48,16 @@ public enum CaseSensitivity {
             return c;
         }
 
+        @Override
+        boolean equals0(final CharSequence chars, final CharSequence otherChars) {
+            return CharSequences.equals(chars, otherChars);
+        }
+
+        @Override
+        int hash0(final CharSequence chars) {
+            return CharSequences.hash(chars);
+        }
+
         @Override
         public int hash(final char c) {
             return Character.hashCode(c);
@@ -80,12 +90,25 @@ public enum CaseSensitivity {
 
         @Override
         char maybeLowercase(final char c) {
-            return Character.toLowerCase(c);
+            return CaseFolding.fold(c);
+        }
+
+        @Override
+        boolean equals0(final CharSequence chars, final CharSequence otherChars) {
+            Objects.requireNonNull(chars, "chars");
+            Objects.requireNonNull(otherChars, "otherChars");
+
+            return CaseFolding.equals(chars, otherChars);
+        }
+
+        @Override
+        int hash0(final CharSequence chars) {
+            return CaseFolding.hash(chars);
         }
 
         @Override
         public int hash(final char c) {
-            return Character.hashCode(Character.toLowerCase(c));
+            return Character.hashCode(CaseFolding.fold(c));
         }
 
         @Override
@@ -108,9 +131,11 @@ public enum CaseSensitivity {
      * Tests if the two {@link CharSequence} are equal respecting the current case sensitivity.
      */
     final public boolean equals(final CharSequence chars, final CharSequence otherChars) {
-        return Comparators.EQUAL == this.comparator().compare(chars, otherChars);
+        return this.equals0(chars, otherChars);
     }
 
+    abstract boolean equals0(final CharSequence chars, final CharSequence otherChars);
+
     /**
      * Tests if the first {@link CharSequence} starts with the second, starting at the given offset
      */
@@ -301,17 +326,13 @@ public enum CaseSensitivity {
      * Hashes a {@link CharSequence} which may be null, using the current sensitivity.
      */
     public int hash(final CharSequence chars) {
-        int hash = 0;
-
-        if (null != chars) {
-            final int length = chars.length();
-            for (int i = 0; i < length; i++) {
-                hash = (31 * hash) + this.hash(chars.charAt(i));
-            }
-        }
-        return hash;
+        return null == chars ?
+                0 :
+                this.hash0(chars);
     }
 
+    abstract int hash0(final CharSequence chars);
+
     /**
      * Hashes the given character.
      */
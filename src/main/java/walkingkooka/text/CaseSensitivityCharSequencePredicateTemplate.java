@@ -22,6 +22,9 @@ import java.util.function.Predicate;
 /**
  * An abstract {@link Predicate} that test any {@link CharSequence} that start with the {@link
  * CharSequence} ignoring the case.
+ * <br>
+ * The needle is folded once when the predicate is created, along with its first and last characters, which are
+ * checked before any other characters, so each test only folds characters of the tested value.
  */
 abstract class CaseSensitivityCharSequencePredicateTemplate<C extends CharSequence> implements Predicate<C> {
 
@@ -33,12 +36,80 @@ abstract class CaseSensitivityCharSequencePredicateTemplate<C extends CharSequen
         super();
         this.chars = chars;
         this.sensitivity = sensitivity;
+
+        final boolean insensitive = CaseSensitivity.INSENSITIVE == sensitivity;
+        this.insensitive = insensitive;
+
+        final int length = chars.length();
+        final char[] folded = new char[length];
+        for (int i = 0; i < length; i++) {
+            folded[i] = fold(chars.charAt(i), insensitive);
+        }
+        this.folded = folded;
+
+        if (length > 0) {
+            this.first = folded[0];
+            this.last = folded[length - 1];
+        } else {
+            this.first = 0;
+            this.last = 0;
+        }
+    }
+
+    /**
+     * Tests if the folded needle is present in the value at the given offset, which must leave enough characters for
+     * the entire needle. The first and last characters are tested before the others.
+     */
+    final boolean isPresent(final CharSequence value,
+                            final int offset) {
+        final char[] folded = this.folded;
+        final int length = folded.length;
+        final boolean insensitive = this.insensitive;
+
+        boolean present = 0 == length ||
+                (this.first == fold(value.charAt(offset), insensitive) &&
+                        this.last == fold(value.charAt(offset + length - 1), insensitive));
+
+        final int last = length - 1;
+        for (int i = 1; present && i < last; i++) {
+            present = folded[i] == fold(value.charAt(offset + i), insensitive);
+        }
+
+        return present;
+    }
+
+    private static char fold(final char c,
+                             final boolean insensitive) {
+        return insensitive ?
+                CaseFolding.fold(c) :
+                c;
+    }
+
+    /**
+     * The length of the needle.
+     */
+    final int length() {
+        return this.folded.length;
     }
 
     final CharSequence chars;
 
     final CaseSensitivity sensitivity;
 
+    /**
+     * When true characters are folded using {@link CaseFolding#fold(char)} before comparing.
+     */
+    private final boolean insensitive;
+
+    /**
+     * The needle with each character folded if {@link CaseSensitivity#INSENSITIVE}.
+     */
+    private final char[] folded;
+
+    private final char first;
+
+    private final char last;
+
     // Object...........................................................................................................
 
     @Override
@@ -18,6 +18,8 @@
 package walkingkooka.text;
 
 import walkingkooka.compare.Comparators;
+import walkingkooka.compare.SortKey;
+import walkingkooka.compare.SortKeyComparator;
 
 import java.util.Comparator;
 import java.util.Objects;
@@ -26,7 +28,7 @@ import java.util.Objects;
  * A {@link Comparator} for comparing two {@link CharSequence} character by character, regardless
  * of type using a {@link CaseSensitivity} of the char comparison strategy.
  */
-final class CaseSensitivityComparator<C extends CharSequence> implements Comparator<C> {
+final class CaseSensitivityComparator<C extends CharSequence> implements SortKeyComparator<C> {
 
     /**
      * Type safe getter.
@@ -98,6 +100,26 @@ final class CaseSensitivityComparator<C extends CharSequence> implements Compara
 
     private final CaseSensitivity sensitivity;
 
+    // SortKeyComparator................................................................................................
+
+    /**
+     * The key holds all characters after {@link CaseSensitivity#maybeLowercase(char)}.
+     */
+    @Override
+    public SortKey<C> sortKey(final C value) {
+        Objects.requireNonNull(value, "value");
+
+        final CaseSensitivity sensitivity = this.sensitivity;
+        final int length = value.length();
+        final char[] key = new char[length];
+
+        for (int i = 0; i < length; i++) {
+            key[i] = sensitivity.maybeLowercase(value.charAt(i));
+        }
+
+        return SortKey.chars(value, key);
+    }
+
     @Override
     public String toString() {
         return this.sensitivity.toString();
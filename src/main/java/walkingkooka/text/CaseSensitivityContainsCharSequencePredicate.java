@@ -46,7 +46,16 @@ final class CaseSensitivityContainsCharSequencePredicate<C extends CharSequence>
 
     @Override
     public boolean test(final C value) {
-        return this.sensitivity.contains(value, this.chars);
+        final int last = value.length() - this.length();
+
+        boolean contains = false;
+        for (int i = 0; i <= last; i++) {
+            if (this.isPresent(value, i)) {
+                contains = true;
+                break;
+            }
+        }
+        return contains;
     }
 
     @Override
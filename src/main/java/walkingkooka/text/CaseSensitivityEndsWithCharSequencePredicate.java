@@ -47,7 +47,9 @@ final class CaseSensitivityEndsWithCharSequencePredicate<C extends CharSequence>
 
     @Override
     public boolean test(final C value) {
-        return this.sensitivity.endsWith(value, this.chars);
+        final int offset = value.length() - this.length();
+        return offset >= 0 &&
+                this.isPresent(value, offset);
     }
 
     @Override
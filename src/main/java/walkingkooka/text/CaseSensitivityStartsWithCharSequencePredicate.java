@@ -46,7 +46,8 @@ final class CaseSensitivityStartsWithCharSequencePredicate<C extends CharSequenc
 
     @Override
     public boolean test(final C value) {
-        return this.sensitivity.startsWith(value, this.chars);
+        return value.length() >= this.length() &&
+                this.isPresent(value, 0);
     }
 
     @Override
@@ -82,7 +82,9 @@ abstract class CharSequence2<C extends CharSequence2<C>> implements CharSequence
     // Object...........................................................................................................
 
     /**
-     * Lazily calculates the hash code and stores it for future retrieval.
+     * Lazily calculates the hash code and stores it for future retrieval. The hash code is always the same as
+     * {@link String#hashCode()} for the same characters, allowing any {@link CharSequence2} and {@link String} to
+     * share the same {@link java.util.HashMap} bucket.
      */
     @Override
     final public int hashCode() {
@@ -94,7 +96,7 @@ abstract class CharSequence2<C extends CharSequence2<C>> implements CharSequence
 
     /**
      * This method is invoked only once when the hashcode is first requested. Future requests are
-     * taken from the cached value.
+     * taken from the cached value. Implementations must return the same value as {@link String#hashCode()}.
      */
     abstract int calculateHashCode();
 
@@ -104,24 +106,36 @@ abstract class CharSequence2<C extends CharSequence2<C>> implements CharSequence
     private transient int hashCode = 0;
 
     /**
-     * Performs some simple checks for nullness, identity and type using {@link #canBeEqual(Object)}
-     * before invoking {@link #equals0(C)} if types are compatible but different
-     * instances.
+     * Performs some simple checks for nullness and identity, then compares lengths and any already cached hash codes,
+     * before comparing characters. All {@link CharSequence2} with the same characters are equal, using
+     * {@link #equals0(C)} when {@link #canBeEqual(Object)} reports the same type, and otherwise comparing characters.
      */
     @Override
     @SuppressWarnings("EqualsWhichDoesntCheckParameterClass")
     final public boolean equals(final Object other) {
-        return this == other || this.canBeEqual(other) && this.equals0(Cast.to(other));
+        return this == other ||
+                other instanceof CharSequence2 && this.equalsCharSequence2((CharSequence2<?>) other);
+    }
+
+    private boolean equalsCharSequence2(final CharSequence2<?> other) {
+        final int hashCode = this.hashCode;
+        final int otherHashCode = other.hashCode;
+
+        return this.length() == other.length() &&
+                (0 == hashCode || 0 == otherHashCode || hashCode == otherHashCode) &&
+                (this.canBeEqual(other) ?
+                        this.equals0(Cast.to(other)) :
+                        CharSequences.equals(this, other));
     }
 
     /**
-     * Tests if the argument to {@link #equals(Object)} is compatible for purposes of equality.Note
-     * the parameter may be null thus the best testing includes an instance of X test.
+     * Tests if the argument to {@link #equals(Object)} is the same type and may be compared using
+     * {@link #equals0(CharSequence2)}.
      */
     abstract boolean canBeEqual(final Object other);
 
     /**
-     * This method is invoked only if the both objects are the same type and not null.
+     * This method is invoked only if the both objects are the same type, not null and have the same length.
      */
     abstract boolean equals0(C object);
 
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A trie holding many prefixes, which finds all prefixes of some text with a single walk over the text, rather than
+ * testing each prefix in turn. Characters are folded once as the text is walked when {@link CaseSensitivity#INSENSITIVE}.
+ */
+public final class CharSequencePrefixTrie<C extends CharSequence> {
+
+    /**
+     * Creates a {@link CharSequencePrefixTrie} holding the given prefixes. Prefixes that are equal for the given
+     * {@link CaseSensitivity} are rejected.
+     */
+    static <C extends CharSequence> CharSequencePrefixTrie<C> with(final Collection<C> prefixes,
+                                                                  final CaseSensitivity sensitivity) {
+        Objects.requireNonNull(prefixes, "prefixes");
+        Objects.requireNonNull(sensitivity, "sensitivity");
+
+        final List<C> copy = Lists.array();
+        copy.addAll(prefixes);
+        final boolean insensitive = CaseSensitivity.INSENSITIVE == sensitivity;
+        final CharSequencePrefixTrieNode<C> root = new CharSequencePrefixTrieNode<>();
+
+        for (final C prefix : copy) {
+            Objects.requireNonNull(prefix, "prefix");
+
+            CharSequencePrefixTrieNode<C> node = root;
+            final int length = prefix.length();
+            for (int i = 0; i < length; i++) {
+                node = node.getOrCreate(fold(prefix.charAt(i), insensitive));
+            }
+            if (null != node.prefix) {
+                throw new IllegalArgumentException("Duplicate prefix " + CharSequences.quoteAndEscape(prefix) + " and " + CharSequences.quoteAndEscape(node.prefix));
+            }
+            node.prefix = prefix;
+        }
+
+        return new CharSequencePrefixTrie<>(
+                Lists.readOnly(copy),
+                sensitivity,
+                insensitive,
+                root
+        );
+    }
+
+    /**
+     * Private ctor use factory.
+     */
+    private CharSequencePrefixTrie(final List<C> prefixes,
+                                   final CaseSensitivity sensitivity,
+                                   final boolean insensitive,
+                                   final CharSequencePrefixTrieNode<C> root) {
+        super();
+        this.prefixes = prefixes;
+        this.sensitivity = sensitivity;
+        this.insensitive = insensitive;
+        this.root = root;
+    }
+
+    /**
+     * Returns all prefixes of the given text, shortest first.
+     */
+    public List<C> matches(final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        final List<C> matches = Lists.array();
+
+        final boolean insensitive = this.insensitive;
+        final int length = text.length();
+
+        CharSequencePrefixTrieNode<C> node = this.root;
+        int i = 0;
+        do {
+            final C prefix = node.prefix;
+            if (null != prefix) {
+                matches.add(prefix);
+            }
+            if (i == length) {
+                break;
+            }
+            node = node.get(fold(text.charAt(i), insensitive));
+            i++;
+        } while (null != node);
+
+        return matches;
+    }
+
+    /**
+     * Returns the longest prefix of the given text, if any.
+     */
+    public Optional<C> longest(final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        final boolean insensitive = this.insensitive;
+        final int length = text.length();
+
+        C longest = null;
+        CharSequencePrefixTrieNode<C> node = this.root;
+        int i = 0;
+        do {
+            final C prefix = node.prefix;
+            if (null != prefix) {
+                longest = prefix;
+            }
+            if (i == length) {
+                break;
+            }
+            node = node.get(fold(text.charAt(i), insensitive));
+            i++;
+        } while (null != node);
+
+        return Optional.ofNullable(longest);
+    }
+
+    private static char fold(final char c,
+                             final boolean insensitive) {
+        return insensitive ?
+                CaseFolding.fold(c) :
+                c;
+    }
+
+    /**
+     * The prefixes in their original order.
+     */
+    public List<C> prefixes() {
+        return this.prefixes;
+    }
+
+    private final List<C> prefixes;
+
+    private final CaseSensitivity sensitivity;
+
+    private final boolean insensitive;
+
+    private final CharSequencePrefixTrieNode<C> root;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.prefixes + this.sensitivity.toStringSuffix();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import walkingkooka.Cast;
+
+import java.util.Arrays;
+
+/**
+ * A single node within a {@link CharSequencePrefixTrie}, with children kept in parallel arrays sorted by character.
+ */
+final class CharSequencePrefixTrieNode<C extends CharSequence> {
+
+    private final static char[] NO_KEYS = new char[0];
+
+    CharSequencePrefixTrieNode() {
+        super();
+    }
+
+    /**
+     * Returns the child for the given character or null.
+     */
+    CharSequencePrefixTrieNode<C> get(final char c) {
+        final int index = Arrays.binarySearch(this.keys, c);
+        return index >= 0 ?
+                this.children[index] :
+                null;
+    }
+
+    /**
+     * Returns the child for the given character, inserting a new child if necessary, only used when building.
+     */
+    CharSequencePrefixTrieNode<C> getOrCreate(final char c) {
+        final char[] keys = this.keys;
+        final int index = Arrays.binarySearch(keys, c);
+
+        final CharSequencePrefixTrieNode<C> child;
+        if (index >= 0) {
+            child = this.children[index];
+        } else {
+            final int insert = -index - 1;
+            final int length = keys.length;
+
+            final char[] newKeys = new char[length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insert);
+            System.arraycopy(keys, insert, newKeys, insert + 1, length - insert);
+            newKeys[insert] = c;
+
+            final CharSequencePrefixTrieNode<C>[] newChildren = Cast.to(new CharSequencePrefixTrieNode<?>[length + 1]);
+            System.arraycopy(this.children, 0, newChildren, 0, insert);
+            System.arraycopy(this.children, insert, newChildren, insert + 1, length - insert);
+
+            child = new CharSequencePrefixTrieNode<>();
+            newChildren[insert] = child;
+
+            this.keys = newKeys;
+            this.children = newChildren;
+        }
+        return child;
+    }
+
+    /**
+     * The characters of each child, sorted.
+     */
+    private char[] keys = NO_KEYS;
+
+    /**
+     * Child nodes in the same order as {@link #keys}.
+     */
+    private CharSequencePrefixTrieNode<C>[] children = Cast.to(new CharSequencePrefixTrieNode<?>[0]);
+
+    /**
+     * The prefix ending at this node or null.
+     */
+    C prefix;
+
+    @Override
+    public String toString() {
+        return String.valueOf(this.prefix) + " " + new String(this.keys);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import walkingkooka.Cast;
+import walkingkooka.collect.primitive.IntList;
+import walkingkooka.collect.primitive.PrimitiveCollections;
+
+import java.util.Arrays;
+
+/**
+ * An in place MSD radix sort of {@link CharSequence} that produces the same stable order as sorting using
+ * {@link CaseSensitivity#comparator()}. Each char after {@link CaseSensitivity#maybeLowercase(char)} is treated as
+ * two byte sized digits, with an extra bucket for values that have ended, which always sort first. Small buckets are
+ * completed using an insertion sort.
+ */
+final class CharSequenceRadixSort<C extends CharSequence> {
+
+    /**
+     * Buckets with fewer values are sorted using an insertion sort.
+     */
+    final static int INSERTION_SORT_THRESHOLD = 32;
+
+    private final static int RADIX = 256;
+
+    /**
+     * Bucket 0 holds values that have no more chars.
+     */
+    final static int BUCKETS = RADIX + 1;
+
+    /**
+     * Sorts all the values in the array.
+     */
+    static <C extends CharSequence> void sort(final C[] array,
+                                              final CaseSensitivity sensitivity) {
+        with(array, sensitivity)
+                .sort(0, array.length, 0);
+    }
+
+    static <C extends CharSequence> CharSequenceRadixSort<C> with(final C[] array,
+                                                                  final CaseSensitivity sensitivity) {
+        return new CharSequenceRadixSort<>(array, sensitivity);
+    }
+
+    private CharSequenceRadixSort(final C[] array,
+                                  final CaseSensitivity sensitivity) {
+        super();
+        this.array = array;
+        this.sensitivity = sensitivity;
+
+        final int length = array.length;
+        this.aux = Cast.to(new CharSequence[length]);
+        this.digits = new int[length];
+    }
+
+    /**
+     * Sorts the values between from and to, where all values share the same digits before the given depth. Ranges
+     * waiting to be sorted are kept in a list rather than on the call stack, so values with very long common prefixes
+     * cannot overflow the stack.
+     */
+    void sort(final int from,
+              final int to,
+              final int depth) {
+        final int[] counts = new int[BUCKETS + 1];
+        final IntList pending = PrimitiveCollections.intList();
+        push(pending, from, to, depth);
+
+        while (false == pending.isEmpty()) {
+            final int rangeDepth = pop(pending);
+            final int rangeTo = pop(pending);
+            final int rangeFrom = pop(pending);
+
+            if (rangeTo - rangeFrom < INSERTION_SORT_THRESHOLD) {
+                this.insertionSort(rangeFrom, rangeTo, rangeDepth);
+            } else {
+                final int bucketDepth = this.distribute(rangeFrom, rangeTo, rangeDepth, counts);
+                if (-1 != bucketDepth) {
+                    // bucket 0 holds values that are equal and already sorted
+                    for (int bucket = 1; bucket < BUCKETS; bucket++) {
+                        final int start = rangeFrom + counts[bucket - 1];
+                        final int end = rangeFrom + counts[bucket];
+                        if (end - start > 1) {
+                            push(pending, start, end, bucketDepth + 1);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void push(final IntList pending,
+                             final int from,
+                             final int to,
+                             final int depth) {
+        pending.add(from);
+        pending.add(to);
+        pending.add(depth);
+    }
+
+    private static int pop(final IntList pending) {
+        return pending.removeAt(pending.size() - 1);
+    }
+
+    /**
+     * Distributes the values between from and to into their buckets, filling counts with the end offset of each
+     * bucket relative to from. Depths where every value has the same digit are skipped without moving any values,
+     * and the depth that was finally distributed is returned, or -1 if all the values ended and are equal.
+     */
+    int distribute(final int from,
+                   final int to,
+                   final int depth,
+                   final int[] counts) {
+        final C[] array = this.array;
+        final C[] aux = this.aux;
+        final int[] digits = this.digits;
+        final int length = to - from;
+
+        int d = depth;
+        for (; ; ) {
+            Arrays.fill(counts, 0);
+            for (int i = from; i < to; i++) {
+                final int digit = this.digit(array[i], d);
+                digits[i] = digit;
+                counts[digit + 1]++;
+            }
+
+            final int first = digits[from];
+            if (counts[first + 1] != length) {
+                break;
+            }
+            if (0 == first) {
+                return -1;
+            }
+            d++;
+        }
+
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket + 1] += counts[bucket];
+        }
+
+        // stable, values keep their relative order within each bucket
+        for (int i = from; i < to; i++) {
+            aux[from + counts[digits[i]]++] = array[i];
+        }
+
+        System.arraycopy(aux, from, array, from, length);
+        return d;
+    }
+
+    /**
+     * Returns the digit for the given depth, where even depths select the high byte of a char and odd the low byte.
+     */
+    private int digit(final C chars,
+                      final int depth) {
+        final int index = depth >> 1;
+
+        final int digit;
+        if (index < chars.length()) {
+            final char c = this.sensitivity.maybeLowercase(chars.charAt(index));
+            digit = 1 + (0 == (depth & 1) ? c >> 8 : c & 0xFF);
+        } else {
+            digit = 0;
+        }
+        return digit;
+    }
+
+    private void insertionSort(final int from,
+                               final int to,
+                               final int depth) {
+        final C[] array = this.array;
+        final int start = depth >> 1;
+
+        for (int i = from + 1; i < to; i++) {
+            final C value = array[i];
+
+            int j = i - 1;
+            while (j >= from && this.compare(array[j], value, start) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = value;
+        }
+    }
+
+    /**
+     * Compares the two values starting at the given char index, with the same results as
+     * {@link CaseSensitivityComparator}.
+     */
+    private int compare(final C chars,
+                        final C otherChars,
+                        final int start) {
+        final CaseSensitivity sensitivity = this.sensitivity;
+        final int length = chars.length();
+        final int otherLength = otherChars.length();
+        final int shorter = Math.min(length, otherLength);
+
+        int value = 0;
+
+        for (int i = start; i < shorter; i++) {
+            value = sensitivity.compare(chars.charAt(i), otherChars.charAt(i));
+            if (0 != value) {
+                break;
+            }
+        }
+
+        if (0 == value) {
+            value = length - otherLength;
+        }
+
+        return value;
+    }
+
+    private final C[] array;
+
+    private final CaseSensitivity sensitivity;
+
+    /**
+     * Receives values during {@link #distribute(int, int, int, int[])} before they are copied back.
+     */
+    private final C[] aux;
+
+    /**
+     * The digit of each value at the current depth.
+     */
+    private final int[] digits;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.sensitivity.toString();
+    }
+}
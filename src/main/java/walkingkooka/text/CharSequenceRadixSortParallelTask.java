@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.collect.list.Lists;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A {@link RecursiveAction} that distributes large ranges into buckets and then sorts each bucket in parallel, using
+ * a {@link CharSequenceRadixSort} once buckets become small.
+ */
+@GwtIncompatible
+final class CharSequenceRadixSortParallelTask<C extends CharSequence> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Ranges smaller than this are sorted by the current thread.
+     */
+    final static int PARALLEL_THRESHOLD = 8192;
+
+    /**
+     * Sorts all the values in the array using the {@link ForkJoinPool#commonPool()}.
+     */
+    static <C extends CharSequence> void sort(final C[] array,
+                                              final CaseSensitivity sensitivity) {
+        ForkJoinPool.commonPool()
+                .invoke(
+                        new CharSequenceRadixSortParallelTask<>(
+                                CharSequenceRadixSort.with(array, sensitivity),
+                                0,
+                                array.length,
+                                0
+                        )
+                );
+    }
+
+    private CharSequenceRadixSortParallelTask(final CharSequenceRadixSort<C> sort,
+                                              final int from,
+                                              final int to,
+                                              final int depth) {
+        super();
+        this.sort = sort;
+        this.from = from;
+        this.to = to;
+        this.depth = depth;
+    }
+
+    @Override
+    protected void compute() {
+        final CharSequenceRadixSort<C> sort = this.sort;
+        final int from = this.from;
+        final int to = this.to;
+        final int depth = this.depth;
+
+        if (to - from < PARALLEL_THRESHOLD) {
+            sort.sort(from, to, depth);
+        } else {
+            final int[] ends = new int[CharSequenceRadixSort.BUCKETS + 1];
+            final int bucketDepth = sort.distribute(from, to, depth, ends);
+
+            if (-1 != bucketDepth) {
+                final List<CharSequenceRadixSortParallelTask<C>> tasks = Lists.array();
+
+                // bucket 0 holds values that are equal and already sorted
+                for (int bucket = 1; bucket < CharSequenceRadixSort.BUCKETS; bucket++) {
+                    final int start = from + ends[bucket - 1];
+                    final int end = from + ends[bucket];
+                    if (end - start > 1) {
+                        tasks.add(
+                                new CharSequenceRadixSortParallelTask<>(
+                                        sort,
+                                        start,
+                                        end,
+                                        bucketDepth + 1
+                                )
+                        );
+                    }
+                }
+
+                invokeAll(tasks);
+            }
+        }
+    }
+
+    private final CharSequenceRadixSort<C> sort;
+
+    private final int from;
+
+    private final int to;
+
+    private final int depth;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.from + ".." + this.to + " " + this.sort;
+    }
+}
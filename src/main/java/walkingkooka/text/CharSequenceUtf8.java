@@ -0,0 +1,355 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * Encodes and decodes UTF-8 directly between a {@link CharSequence} and a {@link ByteBuffer}, without creating any
+ * intermediate {@link String} or byte[].
+ * <br>
+ * Unpaired surrogates are encoded as <code>?</code> and malformed input is decoded as {@link #REPLACEMENT},
+ * matching {@link String#getBytes(java.nio.charset.Charset)} and {@link String#String(byte[], java.nio.charset.Charset)}.
+ */
+@GwtIncompatible
+final class CharSequenceUtf8 {
+
+    /**
+     * Replaces unpaired surrogates when encoding.
+     */
+    private final static byte UNMAPPABLE = '?';
+
+    /**
+     * Replaces malformed bytes when decoding.
+     */
+    final static char REPLACEMENT = '\uFFFD';
+
+    /**
+     * When all set bits are clear all 8 bytes in a long are ASCII.
+     */
+    private final static long NON_ASCII = 0x8080808080808080L;
+
+    /**
+     * Encodes chars starting at the given index until all are encoded or the {@link ByteBuffer} is full, returning the
+     * index of the next char to encode. A surrogate pair is never split across calls.
+     */
+    static int encode(final CharSequence chars,
+                      final int start,
+                      final ByteBuffer bytes) {
+        final int length = chars.length();
+        final int limit = bytes.limit();
+
+        int i = start;
+        int position = bytes.position();
+
+        while (i < length) {
+            // ascii fast path, 4 chars at a time
+            while (i + 4 <= length && position + 4 <= limit) {
+                final char c0 = chars.charAt(i);
+                final char c1 = chars.charAt(i + 1);
+                final char c2 = chars.charAt(i + 2);
+                final char c3 = chars.charAt(i + 3);
+                if ((c0 | c1 | c2 | c3) >= 0x80) {
+                    break;
+                }
+                bytes.put(position, (byte) c0);
+                bytes.put(position + 1, (byte) c1);
+                bytes.put(position + 2, (byte) c2);
+                bytes.put(position + 3, (byte) c3);
+                i = i + 4;
+                position = position + 4;
+            }
+            if (i == length) {
+                break;
+            }
+
+            final char c = chars.charAt(i);
+            final int available = limit - position;
+
+            if (c < 0x80) {
+                if (available < 1) {
+                    break;
+                }
+                bytes.put(position, (byte) c);
+                position++;
+                i++;
+                continue;
+            }
+            if (c < 0x800) {
+                if (available < 2) {
+                    break;
+                }
+                bytes.put(position, (byte) (0xC0 | (c >> 6)));
+                bytes.put(position + 1, (byte) (0x80 | (c & 0x3F)));
+                position = position + 2;
+                i++;
+                continue;
+            }
+            if (Character.isSurrogate(c)) {
+                final int next = i + 1;
+                if (Character.isHighSurrogate(c) && next < length && Character.isLowSurrogate(chars.charAt(next))) {
+                    if (available < 4) {
+                        break;
+                    }
+                    final int codePoint = Character.toCodePoint(c, chars.charAt(next));
+                    bytes.put(position, (byte) (0xF0 | (codePoint >> 18)));
+                    bytes.put(position + 1, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    bytes.put(position + 2, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    bytes.put(position + 3, (byte) (0x80 | (codePoint & 0x3F)));
+                    position = position + 4;
+                    i = i + 2;
+                } else {
+                    if (available < 1) {
+                        break;
+                    }
+                    bytes.put(position, UNMAPPABLE);
+                    position++;
+                    i++;
+                }
+                continue;
+            }
+            if (available < 3) {
+                break;
+            }
+            bytes.put(position, (byte) (0xE0 | (c >> 12)));
+            bytes.put(position + 1, (byte) (0x80 | ((c >> 6) & 0x3F)));
+            bytes.put(position + 2, (byte) (0x80 | (c & 0x3F)));
+            position = position + 3;
+            i++;
+        }
+
+        bytes.position(position);
+        return i;
+    }
+
+    /**
+     * Returns the number of bytes {@link #encode(CharSequence, int, ByteBuffer)} would write for all the chars.
+     */
+    static int encodedLength(final CharSequence chars) {
+        final int length = chars.length();
+
+        int encodedLength = 0;
+        int i = 0;
+        while (i < length) {
+            final char c = chars.charAt(i);
+            i++;
+
+            if (c < 0x80) {
+                encodedLength++;
+                continue;
+            }
+            if (c < 0x800) {
+                encodedLength = encodedLength + 2;
+                continue;
+            }
+            if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i < length && Character.isLowSurrogate(chars.charAt(i))) {
+                    encodedLength = encodedLength + 4;
+                    i++;
+                } else {
+                    encodedLength++;
+                }
+                continue;
+            }
+            encodedLength = encodedLength + 3;
+        }
+
+        return encodedLength;
+    }
+
+    /**
+     * Decodes all bytes appending the chars to the {@link StringBuilder}. An incomplete sequence at the end of the
+     * {@link ByteBuffer} is not consumed, so it may be completed after more bytes are read.
+     */
+    static void decode(final ByteBuffer bytes,
+                       final StringBuilder chars) {
+        final int limit = bytes.limit();
+        int position = bytes.position();
+
+        while (position < limit) {
+            // ascii fast path, 8 bytes at a time
+            while (position + 8 <= limit && 0 == (bytes.getLong(position) & NON_ASCII)) {
+                for (int i = 0; i < 8; i++) {
+                    chars.append((char) bytes.get(position + i));
+                }
+                position = position + 8;
+            }
+            if (position == limit) {
+                break;
+            }
+
+            final byte first = bytes.get(position);
+            if (first >= 0) {
+                chars.append((char) first);
+                position++;
+                continue;
+            }
+
+            final int decoded = decodeNonAscii(bytes, position, limit);
+            if (INCOMPLETE == decoded) {
+                break;
+            }
+            chars.appendCodePoint(decoded & CODE_POINT);
+            position = position + (decoded >>> LENGTH_SHIFT);
+        }
+
+        bytes.position(position);
+    }
+
+    /**
+     * Decodes bytes writing chars to the {@link CharBuffer} until all bytes are decoded, the {@link CharBuffer} is full
+     * or an incomplete sequence is found at the end of the {@link ByteBuffer}. A surrogate pair is never split
+     * across calls.
+     */
+    static void decode(final ByteBuffer bytes,
+                       final CharBuffer chars) {
+        final int limit = bytes.limit();
+        int position = bytes.position();
+
+        while (position < limit) {
+            final int available = chars.remaining();
+
+            // ascii fast path, 8 bytes at a time
+            if (available >= 8 && position + 8 <= limit && 0 == (bytes.getLong(position) & NON_ASCII)) {
+                for (int i = 0; i < 8; i++) {
+                    chars.put((char) bytes.get(position + i));
+                }
+                position = position + 8;
+                continue;
+            }
+            if (available < 1) {
+                break;
+            }
+
+            final byte first = bytes.get(position);
+            if (first >= 0) {
+                chars.put((char) first);
+                position++;
+                continue;
+            }
+
+            final int decoded = decodeNonAscii(bytes, position, limit);
+            if (INCOMPLETE == decoded) {
+                break;
+            }
+            final int codePoint = decoded & CODE_POINT;
+            if (Character.isBmpCodePoint(codePoint)) {
+                chars.put((char) codePoint);
+            } else {
+                if (available < 2) {
+                    break;
+                }
+                chars.put(Character.highSurrogate(codePoint));
+                chars.put(Character.lowSurrogate(codePoint));
+            }
+            position = position + (decoded >>> LENGTH_SHIFT);
+        }
+
+        bytes.position(position);
+    }
+
+    /**
+     * Returned when the bytes end before the sequence is complete.
+     */
+    private final static int INCOMPLETE = -1;
+
+    /**
+     * The number of bytes consumed is stored in the high bits above the code point.
+     */
+    private final static int LENGTH_SHIFT = 24;
+
+    private final static int CODE_POINT = (1 << LENGTH_SHIFT) - 1;
+
+    /**
+     * Decodes the sequence starting with a non ASCII byte, returning the code point and number of bytes consumed,
+     * or {@link #INCOMPLETE}. Malformed sequences return {@link #REPLACEMENT} consuming the longest valid prefix
+     * or at least one byte, except for encoded surrogates which consume all three bytes like the JDK decoder.
+     */
+    private static int decodeNonAscii(final ByteBuffer bytes,
+                                      final int position,
+                                      final int limit) {
+        final int first = bytes.get(position) & 0xFF;
+
+        final int continuation;
+        int codePoint;
+        int low = 0x80;
+        int high = 0xBF;
+
+        if (first < 0xC2 || first > 0xF4) {
+            return malformed(1);
+        }
+        if (first < 0xE0) {
+            continuation = 1;
+            codePoint = first & 0x1F;
+        } else {
+            if (first < 0xF0) {
+                continuation = 2;
+                codePoint = first & 0x0F;
+
+                // overlong
+                if (0xE0 == first) {
+                    low = 0xA0;
+                }
+            } else {
+                continuation = 3;
+                codePoint = first & 0x07;
+
+                // overlong or beyond max code point
+                if (0xF0 == first) {
+                    low = 0x90;
+                }
+                if (0xF4 == first) {
+                    high = 0x8F;
+                }
+            }
+        }
+
+        for (int i = 1; i <= continuation; i++) {
+            if (position + i >= limit) {
+                return INCOMPLETE;
+            }
+            final int b = bytes.get(position + i) & 0xFF;
+            if (b < low || b > high) {
+                return malformed(i);
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+
+            low = 0x80;
+            high = 0xBF;
+        }
+
+        // encoded surrogates are malformed as a whole, matching the JDK
+        return codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE ?
+                malformed(3) :
+                codePoint | ((continuation + 1) << LENGTH_SHIFT);
+    }
+
+    private static int malformed(final int length) {
+        return REPLACEMENT | (length << LENGTH_SHIFT);
+    }
+
+    /**
+     * Stop creation
+     */
+    private CharSequenceUtf8() {
+        throw new UnsupportedOperationException();
+    }
+}
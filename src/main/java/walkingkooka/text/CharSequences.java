@@ -19,11 +19,18 @@ package walkingkooka.text;
 
 import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.Cast;
-import walkingkooka.InvalidCharacterException;
+import walkingkooka.collect.list.Lists;
 import walkingkooka.reflect.PublicStaticHelper;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.util.Collection;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -41,6 +48,8 @@ final public class CharSequences implements PublicStaticHelper {
                 chars;
     }
 
+    // bigEndianHexDigits...............................................................................................
+
     /**
      * Reads a {@link CharSequence} that contains pairs of hex digits representing individual bytes
      * which are returned in a byte[].
@@ -48,39 +57,63 @@ final public class CharSequences implements PublicStaticHelper {
     public static byte[] bigEndianHexDigits(final CharSequence hexDigits) {
         Objects.requireNonNull(hexDigits, "hexDigits");
 
-        final int length = hexDigits.length();
-        final int halfLength = length / 2;
-        if (length != (halfLength + halfLength)) {
-            throw new IllegalArgumentException(oddNumberOfDigits(length));
-        }
+        return HexDigits.decode(hexDigits);
+    }
 
-        final byte[] bytes = new byte[halfLength];
+    /**
+     * Reads a {@link CharSequence} that contains pairs of hex digits representing individual bytes writing them to
+     * the {@link ByteBuffer}. Nothing is written if any of the digits are invalid.
+     */
+    @GwtIncompatible
+    public static void bigEndianHexDigits(final CharSequence hexDigits,
+                                          final ByteBuffer bytes) {
+        Objects.requireNonNull(hexDigits, "hexDigits");
+        Objects.requireNonNull(bytes, "bytes");
 
-        int value = 0;
-        boolean lo = true;
-        int index = 0;
+        HexDigits.decode(hexDigits, bytes);
+    }
 
-        for (int i = 0; i < length; i++) {
-            final char c = hexDigits.charAt(i);
-            final int digit = Character.digit(c, 16);
-            if (digit < 0) {
-                throw new InvalidCharacterException(hexDigits.toString(), i);
-            }
-            if (lo) {
-                value = digit;
-                lo = false;
-                continue;
-            }
+    /**
+     * Returns a {@link Reader} that reads bytes from the {@link InputStream} returning pairs of lower case hex digits.
+     */
+    @GwtIncompatible
+    public static Reader bigEndianHexDigitsReader(final InputStream input) {
+        return HexDigitsReader.with(input);
+    }
 
-            bytes[index] = (byte) ((value * 16) + digit);
-            index++;
-            lo = true;
-        }
-        return bytes;
+    /**
+     * Returns a {@link Writer} that accepts pairs of hex digits writing the bytes to the {@link OutputStream}.
+     */
+    @GwtIncompatible
+    public static Writer bigEndianHexDigitsWriter(final OutputStream output) {
+        return HexDigitsWriter.with(output);
+    }
+
+    /**
+     * Returns a {@link String} with each byte as a pair of lower case hex digits.
+     */
+    public static String toBigEndianHexDigits(final byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes");
+
+        return HexDigits.encode(bytes);
     }
 
-    private static String oddNumberOfDigits(final int length) {
-        return "Expected even number of hex digits=" + length;
+    /**
+     * Returns a {@link String} with each remaining byte in the {@link ByteBuffer} as a pair of lower case hex digits.
+     */
+    @GwtIncompatible
+    public static String toBigEndianHexDigits(final ByteBuffer bytes) {
+        Objects.requireNonNull(bytes, "bytes");
+
+        return HexDigits.encode(bytes);
+    }
+
+    /**
+     * Borrows a {@link PooledBuilder} from a shared pool, which should be closed to return its buffer to the pool,
+     * typically using a try with resources.
+     */
+    public static PooledBuilder borrow() {
+        return PooledBuilder.borrow();
     }
 
     /**
@@ -150,6 +183,65 @@ final public class CharSequences implements PublicStaticHelper {
         return b;
     }
 
+    // utf8.............................................................................................................
+
+    /**
+     * Decodes UTF-8 bytes appending the chars to the {@link StringBuilder}. An incomplete sequence at the end of the
+     * {@link ByteBuffer} is left, so it may be completed after more bytes are read. Malformed bytes are decoded as
+     * U+FFFD.
+     */
+    @GwtIncompatible
+    public static void decodeUtf8(final ByteBuffer bytes,
+                                  final StringBuilder chars) {
+        Objects.requireNonNull(bytes, "bytes");
+        Objects.requireNonNull(chars, "chars");
+
+        CharSequenceUtf8.decode(bytes, chars);
+    }
+
+    /**
+     * Decodes UTF-8 bytes writing chars to the {@link CharBuffer} until it is full. An incomplete sequence at the end
+     * of the {@link ByteBuffer} is left, so it may be completed after more bytes are read. Malformed bytes are decoded as
+     * U+FFFD.
+     */
+    @GwtIncompatible
+    public static void decodeUtf8(final ByteBuffer bytes,
+                                  final CharBuffer chars) {
+        Objects.requireNonNull(bytes, "bytes");
+        Objects.requireNonNull(chars, "chars");
+
+        CharSequenceUtf8.decode(bytes, chars);
+    }
+
+    /**
+     * Encodes the chars as UTF-8 into the {@link ByteBuffer}, returning the index of the next char to encode,
+     * which will be less than the length if the {@link ByteBuffer} became full.
+     */
+    @GwtIncompatible
+    public static int encodeUtf8(final CharSequence chars,
+                                 final ByteBuffer bytes) {
+        return encodeUtf8(chars, 0, bytes);
+    }
+
+    /**
+     * Resumes encoding the chars as UTF-8 into the {@link ByteBuffer} from the given index, returning the index of the
+     * next char to encode. Unpaired surrogates are encoded as <code>?</code>.
+     */
+    @GwtIncompatible
+    public static int encodeUtf8(final CharSequence chars,
+                                 final int start,
+                                 final ByteBuffer bytes) {
+        checkChars(chars);
+        Objects.requireNonNull(bytes, "bytes");
+
+        final int length = chars.length();
+        if (start < 0 || start > length) {
+            throw new StringIndexOutOfBoundsException("Invalid start " + start + " not between 0 and " + length);
+        }
+
+        return CharSequenceUtf8.encode(chars, start, bytes);
+    }
+
     /**
      * {@see EmptyCharSequence}
      */
@@ -195,8 +287,18 @@ final public class CharSequences implements PublicStaticHelper {
     }
 
     private static CharSequence escape0(final CharSequence chars) {
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            escape(chars, b.builder());
+            return b.toString();
+        }
+    }
+
+    /**
+     * Appends the escaped form of the {@link CharSequence} to the {@link StringBuilder}.
+     */
+    private static void escape(final CharSequence chars,
+                               final StringBuilder builder) {
         final int length = chars.length();
-        final StringBuilder builder = new StringBuilder((length * 10) / 9);
         for (int i = 0; i < length; i++) {
             final char c = chars.charAt(i);
 
@@ -311,30 +413,43 @@ final public class CharSequences implements PublicStaticHelper {
                     break;
             }
         }
-        return builder.toString();
     }
 
     /**
-     * Tests if two {@link CharSequences} are equal
+     * Tests if two {@link CharSequences} are equal. Lengths are compared first, and if either is a {@link String} the
+     * characters are compared using {@link String#contentEquals(CharSequence)}.
      */
     public static boolean equals(final CharSequence chars,
                                  final CharSequence otherChars) {
         checkChars(chars);
         Objects.requireNonNull(otherChars, "otherChars");
 
-        boolean equals = false;
         final int length = chars.length();
-        final int otherLength = otherChars.length();
 
         // must first be the same length
-        if (length == otherLength) {
-            equals = true;
+        return chars == otherChars ||
+                length == otherChars.length() && equals0(chars, otherChars, length);
+    }
 
-            // give up when a mis-match is encountered
-            for (int i = 0; i < length; i++) {
-                if (chars.charAt(i) != otherChars.charAt(i)) {
-                    equals = false;
-                    break;
+    private static boolean equals0(final CharSequence chars,
+                                   final CharSequence otherChars,
+                                   final int length) {
+        boolean equals;
+
+        if (chars instanceof String) {
+            equals = ((String) chars).contentEquals(otherChars);
+        } else {
+            if (otherChars instanceof String) {
+                equals = ((String) otherChars).contentEquals(chars);
+            } else {
+                equals = true;
+
+                // give up when a mis-match is encountered
+                for (int i = 0; i < length; i++) {
+                    if (chars.charAt(i) != otherChars.charAt(i)) {
+                        equals = false;
+                        break;
+                    }
                 }
             }
         }
@@ -426,6 +541,37 @@ final public class CharSequences implements PublicStaticHelper {
         return (chars == null) || (chars.length() == 0);
     }
 
+    /**
+     * Splits the {@link CharSequence} into lines, where each line is terminated by a CR, CRNL or NL which is not
+     * included. Each line is a view of the original characters and no characters are copied. Similar to
+     * {@link java.io.BufferedReader#readLine()}, a final line ending does not produce an extra empty line.
+     */
+    public static List<CharSequence> lines(final CharSequence chars) {
+        checkChars(chars);
+
+        final List<CharSequence> lines = Lists.array();
+        final int length = chars.length();
+        int start = 0;
+
+        for (int i = 0; i < length; i++) {
+            final char c = chars.charAt(i);
+            if ('\r' == c || '\n' == c) {
+                lines.add(SubCharSequence.with(chars, start, i));
+
+                if ('\r' == c && i + 1 < length && '\n' == chars.charAt(i + 1)) {
+                    i++;
+                }
+                start = i + 1;
+            }
+        }
+
+        if (start < length) {
+            lines.add(SubCharSequence.with(chars, start, length));
+        }
+
+        return lines;
+    }
+
     /**
      * Returns a {@link CharSequence} that is of the requested length adding the pad character to fill remaining chars.
      */
@@ -462,6 +608,15 @@ final public class CharSequences implements PublicStaticHelper {
                 concat(chars, repeating(pad, requiredPadding));
     }
 
+    /**
+     * Creates a {@link CharSequencePrefixTrie} which finds which of the given prefixes start some text, in a single walk
+     * over the text.
+     */
+    public static <C extends CharSequence> CharSequencePrefixTrie<C> prefixTrie(final Collection<C> prefixes,
+                                                                               final CaseSensitivity sensitivity) {
+        return CharSequencePrefixTrie.with(prefixes, sensitivity);
+    }
+
     /**
      * Adds double quotes around the given {@link CharSequence}.
      */
@@ -481,14 +636,26 @@ final public class CharSequences implements PublicStaticHelper {
      * Helper that combines {@link #escape} and adds double quotes if required and escapes.
      */
     private static CharSequence quoteAndEscape2(final CharSequence chars) {
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            quoteAndEscape(chars, b.builder());
+            return b.toString();
+        }
+    }
+
+    /**
+     * Appends the {@link CharSequence} escaped and surrounded by double quotes to the {@link StringBuilder}. Any
+     * existing surrounding double quotes are not repeated.
+     */
+    static void quoteAndEscape(final CharSequence chars,
+                               final StringBuilder builder) {
         final int length = chars.length();
         final boolean quoted = length > 1 &&
                 startsWith(chars, "\"") &&
                 endsWith(chars, "\"");
 
-        return "\"" +
-                escape(quoted ? chars.subSequence(1, length - 1) : chars) +
-                '"';
+        builder.append('"');
+        escape(quoted ? chars.subSequence(1, length - 1) : chars, builder);
+        builder.append('"');
     }
 
     /**
@@ -496,7 +663,13 @@ final public class CharSequences implements PublicStaticHelper {
      * by single quotes.
      */
     public static CharSequence quoteAndEscape(final char c) {
-        return concat("'", concat(escape(String.valueOf(c)), "'"));
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            final StringBuilder builder = b.builder();
+            builder.append('\'');
+            escape(String.valueOf(c), builder);
+            builder.append('\'');
+            return b.toString();
+        }
     }
 
     /**
@@ -572,12 +745,76 @@ final public class CharSequences implements PublicStaticHelper {
                 quoteIfChars(entry.getValue());
     }
 
+    // radixSort........................................................................................................
+
+    /**
+     * Sorts the array using a radix sort, giving the same order as sorting with {@link CaseSensitivity#comparator()}.
+     */
+    public static <C extends CharSequence> void radixSort(final C[] array,
+                                                          final CaseSensitivity sensitivity) {
+        Objects.requireNonNull(array, "array");
+        Objects.requireNonNull(sensitivity, "sensitivity");
+
+        CharSequenceRadixSort.sort(array, sensitivity);
+    }
+
+    /**
+     * Sorts the {@link List} using a radix sort, giving the same order as sorting with {@link CaseSensitivity#comparator()}.
+     */
+    public static <C extends CharSequence> void radixSort(final List<C> list,
+                                                          final CaseSensitivity sensitivity) {
+        Objects.requireNonNull(list, "list");
+
+        final C[] array = Cast.to(list.toArray(new CharSequence[list.size()]));
+        radixSort(array, sensitivity);
+        setAll(list, array);
+    }
+
+    /**
+     * Sorts the array using a radix sort with large buckets sorted in parallel using the common
+     * {@link java.util.concurrent.ForkJoinPool}, giving the same order as sorting with {@link CaseSensitivity#comparator()}.
+     */
+    @GwtIncompatible
+    public static <C extends CharSequence> void radixSortParallel(final C[] array,
+                                                                  final CaseSensitivity sensitivity) {
+        Objects.requireNonNull(array, "array");
+        Objects.requireNonNull(sensitivity, "sensitivity");
+
+        CharSequenceRadixSortParallelTask.sort(array, sensitivity);
+    }
+
+    /**
+     * Sorts the {@link List} using a radix sort with large buckets sorted in parallel using the common
+     * {@link java.util.concurrent.ForkJoinPool}, giving the same order as sorting with {@link CaseSensitivity#comparator()}.
+     */
+    @GwtIncompatible
+    public static <C extends CharSequence> void radixSortParallel(final List<C> list,
+                                                                  final CaseSensitivity sensitivity) {
+        Objects.requireNonNull(list, "list");
+
+        final C[] array = Cast.to(list.toArray(new CharSequence[list.size()]));
+        radixSortParallel(array, sensitivity);
+        setAll(list, array);
+    }
+
+    /**
+     * Replaces all elements of the {@link List} with the sorted array.
+     */
+    private static <C extends CharSequence> void setAll(final List<C> list,
+                                                        final C[] array) {
+        final ListIterator<C> iterator = list.listIterator();
+        for (final C value : array) {
+            iterator.next();
+            iterator.set(value);
+        }
+    }
+
     /**
      * {@see ReaderConsumingCharSequence}
      */
     @GwtIncompatible
-    public static CharSequence readerConsuming(final Reader reader,
-                                               final int bufferSize) {
+    public static ReaderConsumingCharSequence readerConsuming(final Reader reader,
+                                                              final int bufferSize) {
         return ReaderConsumingCharSequence.with(reader, bufferSize);
     }
 
@@ -698,19 +935,15 @@ final public class CharSequences implements PublicStaticHelper {
      */
     static private int findNonWhitespaceStart(final CharSequence chars) {
         final int length = chars.length();
-        int i = 0;
-
-        while (i < length) {
-            final char c = chars.charAt(i);
-            if (Character.isWhitespace(c)) {
-                i++;
-                continue;
-            }
-
-            break;
-        }
-
-        return i;
+        final int index = AsciiWords.firstNonWhitespace(
+                chars,
+                0,
+                length,
+                AsciiWords.WHITESPACE
+        );
+        return -1 == index ?
+                length :
+                index;
     }
 
     /**
@@ -718,20 +951,15 @@ final public class CharSequences implements PublicStaticHelper {
      */
     static private int findNonWhitespaceEnd(final CharSequence chars,
                                             final int stop) {
-        int i = chars.length();
-
-        while (i > stop) {
-            i--;
-
-            final char c = chars.charAt(i);
-            if (Character.isWhitespace(c)) {
-                continue;
-            }
-            i++;
-            break;
-        }
-
-        return i;
+        final int index = AsciiWords.lastNonWhitespace(
+                chars,
+                stop,
+                chars.length(),
+                AsciiWords.WHITESPACE
+        );
+        return -1 == index ?
+                stop :
+                index + 1;
     }
 
     /**
@@ -745,8 +973,15 @@ final public class CharSequences implements PublicStaticHelper {
     }
 
     private static CharSequence unescape0(final CharSequence chars) {
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            unescape(chars, b.builder());
+            return b.toString();
+        }
+    }
+
+    private static void unescape(final CharSequence chars,
+                                 final StringBuilder builder) {
         final int length = chars.length();
-        final StringBuilder builder = new StringBuilder(length);
 
         boolean wasBackslash = false;
 
@@ -825,7 +1060,6 @@ final public class CharSequences implements PublicStaticHelper {
                 builder.append(c);
             }
         }
-        return builder.toString();
     }
 
     private static void checkChars(final CharSequence chars) {
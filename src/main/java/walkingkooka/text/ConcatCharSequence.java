@@ -85,9 +85,37 @@ final class ConcatCharSequence extends CharSequence2<ConcatCharSequence> {
                         with0(first.subSequence(start, firstEnd), this.second.subSequence(0, end - firstEnd));
     }
 
+    /**
+     * Combines the {@link String} compatible hash of both parts, without visiting characters of either part if they are
+     * {@link String} or another {@link CharSequence2}.
+     */
     @Override
     int calculateHashCode() {
-        return Objects.hash(this.first, this.second);
+        final CharSequence second = this.second;
+
+        return hash(this.first) * pow31(second.length()) + hash(second);
+    }
+
+    private static int hash(final CharSequence chars) {
+        return chars instanceof String || chars instanceof CharSequence2 ?
+                chars.hashCode() :
+                CharSequences.hash(chars);
+    }
+
+    /**
+     * Computes 31 raised to the given power, using square and multiply.
+     */
+    private static int pow31(final int power) {
+        int result = 1;
+        int base = 31;
+
+        for (int p = power; p > 0; p = p >>> 1) {
+            if (0 != (p & 1)) {
+                result = result * base;
+            }
+            base = base * base;
+        }
+        return result;
     }
 
     @Override
@@ -97,20 +125,13 @@ final class ConcatCharSequence extends CharSequence2<ConcatCharSequence> {
 
     @Override
     boolean equals0(final ConcatCharSequence other) {
-        boolean equals = false;
-
-        final int length = this.first.length() + this.second.length();
-
-        if (length == other.first.length() + other.second.length()) {
-            equals = true;
-
-            // test character by character...
-            for (int i = 0; equals && i < length; i++) {
-                equals = this.charAtIndex(i) == other.charAtIndex(i);
-            }
-        }
+        final CharSequence first = this.first;
+        final int firstLength = first.length();
 
-        return equals;
+        // compare parts directly when both were split at the same place, otherwise character by character...
+        return firstLength == other.first.length() ?
+                CharSequences.equals(first, other.first) && CharSequences.equals(this.second, other.second) :
+                CharSequences.equals(this, other);
     }
 
     // properties
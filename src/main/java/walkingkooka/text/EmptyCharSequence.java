@@ -57,6 +57,16 @@ final class EmptyCharSequence implements CharSequence {
         return this;
     }
 
+    // Object...........................................................................................................
+
+    /**
+     * Matches the hash code of an empty {@link String}.
+     */
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
     /**
      * Always returns an empty {@link String}.
      */
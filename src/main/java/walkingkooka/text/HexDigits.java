@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.InvalidCharacterException;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Table driven helpers that convert bytes to and from pairs of hex digits. Decoding accumulates any invalid digits
+ * across the entire input and only then searches for the first to report.
+ */
+final class HexDigits {
+
+    /**
+     * The high nibble digit for each byte.
+     */
+    final static char[] HIGH = new char[256];
+
+    /**
+     * The low nibble digit for each byte.
+     */
+    final static char[] LOW = new char[256];
+
+    /**
+     * The value of each ASCII hex digit, or -1 for all other characters.
+     */
+    private final static byte[] VALUES = new byte[128];
+
+    static {
+        final char[] digits = "0123456789abcdef".toCharArray();
+        for (int i = 0; i < 256; i++) {
+            HIGH[i] = digits[i >> 4];
+            LOW[i] = digits[i & 0xF];
+        }
+
+        for (int i = 0; i < VALUES.length; i++) {
+            VALUES[i] = (byte) Character.digit((char) i, 16);
+        }
+    }
+
+    /**
+     * Returns the value of the hex digit, or a negative value if the character is not a hex digit. Non ASCII
+     * characters are given to {@link Character#digit(char, int)}, so other decimal digits such as fullwidth digits
+     * continue to be accepted.
+     */
+    static int value(final char c) {
+        return c < VALUES.length ?
+                VALUES[c] :
+                Character.digit(c, 16);
+    }
+
+    // decode...........................................................................................................
+
+    /**
+     * Decodes pairs of hex digits into a byte[].
+     */
+    static byte[] decode(final CharSequence hexDigits) {
+        final byte[] bytes = new byte[checkLength(hexDigits)];
+        final int length = hexDigits.length();
+
+        int invalid = 0;
+        for (int i = 0, j = 0; i < length; i = i + 2, j++) {
+            final int high = value(hexDigits.charAt(i));
+            final int low = value(hexDigits.charAt(i + 1));
+            invalid |= high | low;
+            bytes[j] = (byte) ((high << 4) | low);
+        }
+
+        if (invalid < 0) {
+            failInvalidCharacter(hexDigits, 0);
+        }
+        return bytes;
+    }
+
+    /**
+     * Decodes pairs of hex digits into the {@link ByteBuffer}. If any invalid digits are present nothing is written.
+     */
+    @GwtIncompatible
+    static void decode(final CharSequence hexDigits,
+                       final ByteBuffer bytes) {
+        final int count = checkLength(hexDigits);
+        if (bytes.remaining() < count) {
+            throw new BufferOverflowException();
+        }
+
+        final int length = hexDigits.length();
+        int invalid = 0;
+        for (int i = 0; i < length; i++) {
+            invalid |= value(hexDigits.charAt(i));
+        }
+        if (invalid < 0) {
+            failInvalidCharacter(hexDigits, 0);
+        }
+
+        final int position = bytes.position();
+        for (int i = 0, j = position; i < length; i = i + 2, j++) {
+            bytes.put(j, (byte) ((value(hexDigits.charAt(i)) << 4) | value(hexDigits.charAt(i + 1))));
+        }
+        bytes.position(position + count);
+    }
+
+    /**
+     * Fails if the number of digits is odd, returning the number of bytes.
+     */
+    private static int checkLength(final CharSequence hexDigits) {
+        final int length = hexDigits.length();
+        final int halfLength = length / 2;
+        if (length != (halfLength + halfLength)) {
+            throw new IllegalArgumentException(oddNumberOfDigits(length));
+        }
+        return halfLength;
+    }
+
+    static String oddNumberOfDigits(final int length) {
+        return "Expected even number of hex digits=" + length;
+    }
+
+    /**
+     * Only called after an invalid digit was detected, finds and reports the first.
+     */
+    static void failInvalidCharacter(final CharSequence hexDigits,
+                                     final int start) {
+        final int length = hexDigits.length();
+        for (int i = start; i < length; i++) {
+            if (value(hexDigits.charAt(i)) < 0) {
+                throw new InvalidCharacterException(hexDigits.toString(), i);
+            }
+        }
+    }
+
+    // encode...........................................................................................................
+
+    /**
+     * Encodes each byte as a pair of lower case hex digits.
+     */
+    static String encode(final byte[] bytes) {
+        final int length = bytes.length;
+        final char[] chars = new char[length * 2];
+
+        for (int i = 0, j = 0; i < length; i++, j = j + 2) {
+            final int b = bytes[i] & 0xFF;
+            chars[j] = HIGH[b];
+            chars[j + 1] = LOW[b];
+        }
+
+        return new String(chars);
+    }
+
+    /**
+     * Encodes each remaining byte in the {@link ByteBuffer} as a pair of lower case hex digits.
+     */
+    @GwtIncompatible
+    static String encode(final ByteBuffer bytes) {
+        final int position = bytes.position();
+        final int length = bytes.remaining();
+        final char[] chars = new char[length * 2];
+
+        for (int i = 0, j = 0; i < length; i++, j = j + 2) {
+            final int b = bytes.get(position + i) & 0xFF;
+            chars[j] = HIGH[b];
+            chars[j + 1] = LOW[b];
+        }
+
+        bytes.position(position + length);
+        return new String(chars);
+    }
+
+    /**
+     * Stop creation
+     */
+    private HexDigits() {
+        throw new UnsupportedOperationException();
+    }
+}
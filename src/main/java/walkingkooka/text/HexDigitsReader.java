@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * A {@link Reader} that reads bytes from an {@link InputStream} returning each as a pair of lower case hex digits.
+ */
+@GwtIncompatible
+final class HexDigitsReader extends Reader {
+
+    private final static int BUFFER_SIZE = 4096;
+
+    static HexDigitsReader with(final InputStream input) {
+        Objects.requireNonNull(input, "input");
+
+        return new HexDigitsReader(input);
+    }
+
+    private HexDigitsReader(final InputStream input) {
+        super();
+        this.input = input;
+    }
+
+    @Override
+    public int read(final char[] chars,
+                    final int offset,
+                    final int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+
+        final int end = offset + length;
+        int i = offset;
+
+        if (i < end && NO_PENDING != this.pending) {
+            chars[i] = (char) this.pending;
+            this.pending = NO_PENDING;
+            i++;
+        }
+
+        final byte[] buffer = this.buffer;
+        while (i < end) {
+            if (this.position == this.limit) {
+                // avoid blocking if some chars were already read
+                if (i > offset) {
+                    break;
+                }
+                final int count = this.input.read(buffer);
+                if (count < 0) {
+                    break;
+                }
+                this.position = 0;
+                this.limit = count;
+                continue;
+            }
+
+            final int b = buffer[this.position] & 0xFF;
+            this.position++;
+
+            chars[i] = HexDigits.HIGH[b];
+            i++;
+
+            if (i < end) {
+                chars[i] = HexDigits.LOW[b];
+                i++;
+            } else {
+                this.pending = HexDigits.LOW[b];
+            }
+        }
+
+        return i == offset && length > 0 ?
+                -1 :
+                i - offset;
+    }
+
+    private final static int NO_PENDING = -1;
+
+    /**
+     * The low digit of the last byte, when only the high digit fitted.
+     */
+    private int pending = NO_PENDING;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int position;
+
+    private int limit;
+
+    @Override
+    public void close() throws IOException {
+        this.input.close();
+    }
+
+    private final InputStream input;
+
+    @Override
+    public String toString() {
+        return this.input.toString();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.InvalidCharacterException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * A {@link Writer} that accepts pairs of hex digits, writing the decoded bytes to an {@link OutputStream}. A chunk
+ * holding an invalid digit is rejected with a {@link InvalidCharacterException} and none of its digits are written.
+ */
+@GwtIncompatible
+final class HexDigitsWriter extends Writer {
+
+    private final static int BUFFER_SIZE = 4096;
+
+    static HexDigitsWriter with(final OutputStream output) {
+        Objects.requireNonNull(output, "output");
+
+        return new HexDigitsWriter(output);
+    }
+
+    private HexDigitsWriter(final OutputStream output) {
+        super();
+        this.output = output;
+    }
+
+    @Override
+    public void write(final char[] chars,
+                      final int offset,
+                      final int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+
+        final int end = offset + length;
+
+        int invalid = 0;
+        for (int i = offset; i < end; i++) {
+            invalid |= HexDigits.value(chars[i]);
+        }
+        if (invalid < 0) {
+            HexDigits.failInvalidCharacter(new String(chars, offset, length), 0);
+        }
+
+        final byte[] buffer = this.buffer;
+        int high = this.high;
+        int position = this.position;
+
+        for (int i = offset; i < end; i++) {
+            final int value = HexDigits.value(chars[i]);
+            if (NO_HIGH == high) {
+                high = value;
+                continue;
+            }
+
+            if (position == buffer.length) {
+                this.output.write(buffer, 0, position);
+                position = 0;
+            }
+            buffer[position] = (byte) ((high << 4) | value);
+            position++;
+            high = NO_HIGH;
+        }
+
+        this.high = high;
+        this.position = position;
+    }
+
+    private final static int NO_HIGH = -1;
+
+    /**
+     * The value of the high digit waiting for its low digit.
+     */
+    private int high = NO_HIGH;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int position;
+
+    @Override
+    public void flush() throws IOException {
+        this.flushBuffer();
+        this.output.flush();
+    }
+
+    private void flushBuffer() throws IOException {
+        if (this.position > 0) {
+            this.output.write(this.buffer, 0, this.position);
+            this.position = 0;
+        }
+    }
+
+    /**
+     * Flushes and closes the {@link OutputStream}, failing if an odd number of digits was written. Closing an already
+     * closed writer does nothing.
+     */
+    @Override
+    public void close() throws IOException {
+        if (false == this.closed) {
+            this.closed = true;
+
+            try {
+                this.flush();
+                if (NO_HIGH != this.high) {
+                    throw new IOException("Expected even number of hex digits");
+                }
+            } finally {
+                this.output.close();
+            }
+        }
+    }
+
+    private boolean closed;
+
+    private final OutputStream output;
+
+    @Override
+    public String toString() {
+        return this.output.toString();
+    }
+}
@@ -17,8 +17,11 @@
 
 package walkingkooka.text;
 
+import javaemul.internal.annotations.GwtIncompatible;
 import walkingkooka.InvalidCharacterException;
 import walkingkooka.Value;
+import walkingkooka.util.Interner;
+import walkingkooka.util.Interners;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -169,8 +172,15 @@ final public class Indentation implements Value<String>, CharSequence {
                 }
 
                 final String value = this.value;
+                final int length = value.length() * count;
 
-                final StringBuilder b = new StringBuilder(value.length() * count);
+                // repeating a spaces constant may also be a constant.
+                if (length < Indentation.SPACES_COUNT && Indentation.SPACES[value.length()] == this) {
+                    indentation = Indentation.SPACES[length];
+                    break;
+                }
+
+                final StringBuilder b = new StringBuilder(length);
 
                 for (int i = 0; i < count; i++) {
                     b.append(value);
@@ -253,6 +263,23 @@ final public class Indentation implements Value<String>, CharSequence {
 
     private final String value;
 
+    // intern.........................................................................................................
+
+    /**
+     * Returns the canonical {@link Indentation} equal to this, so duplicate instances may be released.
+     */
+    @GwtIncompatible
+    public Indentation intern() {
+        final String value = this.value;
+        final int length = value.length();
+        return length < Indentation.SPACES_COUNT && Indentation.SPACES[length].value.equals(value) ?
+                Indentation.SPACES[length] :
+                INTERNER.intern(this);
+    }
+
+    @GwtIncompatible
+    private final static Interner<Indentation> INTERNER = Interners.weak();
+
     // Object
 
     @Override
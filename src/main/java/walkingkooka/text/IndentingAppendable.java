@@ -0,0 +1,365 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An {@link Appendable} that tracks the current {@link Indentation} and writes it at the start of each non empty line,
+ * and replaces any CR, CRNL or NL with a {@link LineEnding}.
+ * <br>
+ * Characters are buffered and written to the output in large chunks. Indentation is copied from a single block of
+ * characters that only grows when a new maximum depth is reached, so printing lines never allocates.
+ */
+public abstract class IndentingAppendable implements Appendable {
+
+    /**
+     * Creates an {@link IndentingAppendable} that appends to the given {@link Appendable}.
+     */
+    public static IndentingAppendable appendable(final Appendable output,
+                                                 final Indentation indentation,
+                                                 final LineEnding lineEnding) {
+        return IndentingAppendableAppendable.with(output, indentation, lineEnding);
+    }
+
+    /**
+     * Creates an {@link IndentingAppendable} that encodes chars as UTF-8 into the given {@link ByteBuffer}, throwing a
+     * {@link java.nio.BufferOverflowException} if it becomes full.
+     */
+    @GwtIncompatible
+    public static IndentingAppendable byteBuffer(final ByteBuffer output,
+                                                 final Indentation indentation,
+                                                 final LineEnding lineEnding) {
+        return IndentingAppendableByteBuffer.with(output, indentation, lineEnding);
+    }
+
+    /**
+     * Creates an {@link IndentingAppendable} that writes to the given {@link Writer}. Any {@link java.io.IOException}
+     * is wrapped in a {@link TextException}.
+     */
+    @GwtIncompatible
+    public static IndentingAppendable writer(final Writer output,
+                                             final Indentation indentation,
+                                             final LineEnding lineEnding) {
+        return IndentingAppendableWriter.with(output, indentation, lineEnding);
+    }
+
+    static void check(final Object output,
+                      final Indentation indentation,
+                      final LineEnding lineEnding) {
+        Objects.requireNonNull(output, "output");
+        Objects.requireNonNull(indentation, "indentation");
+        Objects.requireNonNull(lineEnding, "lineEnding");
+    }
+
+    // @VisibleForTesting
+    final static int BUFFER_SIZE = 8192;
+
+    private final static int INITIAL_DEPTH = 8;
+
+    /**
+     * Package private to limit sub classing.
+     */
+    IndentingAppendable(final Indentation indentation,
+                        final LineEnding lineEnding) {
+        super();
+        this.indentation = indentation;
+        this.lineEnding = lineEnding;
+        this.lineEndingChars = lineEnding.toString().toCharArray();
+        this.indents = repeat(indentation, INITIAL_DEPTH);
+    }
+
+    // indentation......................................................................................................
+
+    /**
+     * Increases the indentation for following lines by one {@link Indentation}.
+     */
+    public final IndentingAppendable indent() {
+        final int depth = this.depth + 1;
+        final int length = depth * this.indentation.length();
+        if (length > this.indents.length) {
+            this.indents = repeat(this.indentation, depth * 2);
+        }
+        this.depth = depth;
+        return this;
+    }
+
+    /**
+     * Decreases the indentation for following lines by one {@link Indentation}.
+     */
+    public final IndentingAppendable outdent() {
+        if (0 == this.depth) {
+            throw new IllegalStateException("Unable to outdent, indentation is already empty");
+        }
+        this.depth--;
+        return this;
+    }
+
+    /**
+     * Returns the current {@link Indentation}.
+     */
+    public final Indentation indentation() {
+        return this.indentation.repeat(this.depth);
+    }
+
+    private static char[] repeat(final Indentation indentation,
+                                 final int depth) {
+        final int length = indentation.length();
+        final char[] indents = new char[length * depth];
+
+        if (1 == length) {
+            Arrays.fill(indents, indentation.charAt(0));
+        } else {
+            final String value = indentation.value();
+            for (int i = 0; i < depth; i++) {
+                value.getChars(0, length, indents, i * length);
+            }
+        }
+
+        return indents;
+    }
+
+    private final Indentation indentation;
+
+    /**
+     * The number of {@link #indentation} at the start of each line.
+     */
+    private int depth;
+
+    /**
+     * Holds the {@link #indentation} repeated at least {@link #depth} times.
+     */
+    private char[] indents;
+
+    /**
+     * When true no characters have been printed on the current line, and the indentation is yet to be written.
+     */
+    private boolean lineStart = true;
+
+    // lineEnding.......................................................................................................
+
+    /**
+     * The {@link LineEnding} written for every CR, CRNL or NL.
+     */
+    public final LineEnding lineEnding() {
+        return this.lineEnding;
+    }
+
+    private final LineEnding lineEnding;
+
+    private final char[] lineEndingChars;
+
+    /**
+     * When true the previous char was a CR and a following NL should be skipped.
+     */
+    private boolean skipNl;
+
+    /**
+     * Writes a {@link LineEnding} unless the current line is empty.
+     */
+    public final IndentingAppendable lineStart() {
+        this.skipNl = false;
+        if (!this.lineStart) {
+            this.writeLineEnding();
+        }
+        return this;
+    }
+
+    // Appendable.......................................................................................................
+
+    @Override
+    public final IndentingAppendable append(final CharSequence chars) {
+        final CharSequence append = null == chars ?
+                "null" :
+                chars;
+        return this.append0(append, 0, append.length());
+    }
+
+    @Override
+    public final IndentingAppendable append(final CharSequence chars,
+                                            final int start,
+                                            final int end) {
+        final CharSequence append = null == chars ?
+                "null" :
+                chars;
+        if (start < 0 || start > end || end > append.length()) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + append.length());
+        }
+        return this.append0(append, start, end);
+    }
+
+    private IndentingAppendable append0(final CharSequence chars,
+                                        final int start,
+                                        final int end) {
+        int runStart = start;
+
+        for (int i = start; i < end; i++) {
+            final char c = chars.charAt(i);
+
+            if (this.skipNl) {
+                this.skipNl = false;
+                if ('\n' == c) {
+                    runStart = i + 1;
+                    continue;
+                }
+            }
+
+            if ('\r' == c || '\n' == c) {
+                this.writeRun(chars, runStart, i);
+                this.writeLineEnding();
+                this.skipNl = '\r' == c;
+                runStart = i + 1;
+            }
+        }
+
+        this.writeRun(chars, runStart, end);
+        return this;
+    }
+
+    @Override
+    public final IndentingAppendable append(final char c) {
+        final boolean skipNl = this.skipNl;
+        this.skipNl = false;
+
+        switch (c) {
+            case '\r':
+                this.writeLineEnding();
+                this.skipNl = true;
+                break;
+            case '\n':
+                if (!skipNl) {
+                    this.writeLineEnding();
+                }
+                break;
+            default:
+                this.writeIndentIfLineStart();
+                if (this.position == BUFFER_SIZE) {
+                    this.flushBuffer(false);
+                }
+                this.buffer[this.position] = c;
+                this.position++;
+                break;
+        }
+
+        return this;
+    }
+
+    // buffer...........................................................................................................
+
+    private void writeRun(final CharSequence chars,
+                          final int start,
+                          final int end) {
+        if (start < end) {
+            this.writeIndentIfLineStart();
+
+            final char[] buffer = this.buffer;
+            int i = start;
+
+            while (i < end) {
+                if (this.position == BUFFER_SIZE) {
+                    this.flushBuffer(false);
+                }
+
+                final int position = this.position;
+                final int count = Math.min(end - i, BUFFER_SIZE - position);
+
+                if (chars instanceof String) {
+                    ((String) chars).getChars(i, i + count, buffer, position);
+                } else {
+                    for (int j = 0; j < count; j++) {
+                        buffer[position + j] = chars.charAt(i + j);
+                    }
+                }
+
+                this.position = position + count;
+                i = i + count;
+            }
+        }
+    }
+
+    private void writeIndentIfLineStart() {
+        if (this.lineStart) {
+            this.lineStart = false;
+            this.write(this.indents, this.depth * this.indentation.length());
+        }
+    }
+
+    private void writeLineEnding() {
+        this.write(this.lineEndingChars, this.lineEndingChars.length);
+        this.lineStart = true;
+    }
+
+    private void write(final char[] chars,
+                       final int length) {
+        int i = 0;
+
+        while (i < length) {
+            if (this.position == BUFFER_SIZE) {
+                this.flushBuffer(false);
+            }
+
+            final int count = Math.min(length - i, BUFFER_SIZE - this.position);
+            System.arraycopy(chars, i, this.buffer, this.position, count);
+
+            this.position += count;
+            i = i + count;
+        }
+    }
+
+    /**
+     * Writes all buffered characters to the output, and then flushes the output itself.
+     */
+    public final void flush() {
+        this.flushBuffer(true);
+        this.flushOutput();
+    }
+
+    private void flushBuffer(final boolean all) {
+        final int position = this.position;
+        final int written = this.output(this.buffer, position, all);
+        final int remaining = position - written;
+
+        System.arraycopy(this.buffer, written, this.buffer, 0, remaining);
+        this.position = remaining;
+    }
+
+    /**
+     * Writes the buffered characters to the output, returning the number written. Sub classes may hold back a
+     * trailing high surrogate unless all is true.
+     */
+    abstract int output(final char[] chars,
+                        final int length,
+                        final boolean all);
+
+    /**
+     * Flushes the output after all buffered characters have been written.
+     */
+    abstract void flushOutput();
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    /**
+     * The number of characters in {@link #buffer}.
+     */
+    private int position;
+}
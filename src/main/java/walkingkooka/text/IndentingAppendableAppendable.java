@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import java.io.IOException;
+
+/**
+ * An {@link IndentingAppendable} that appends to another {@link Appendable}, with a fast path for
+ * {@link StringBuilder}.
+ */
+final class IndentingAppendableAppendable extends IndentingAppendable {
+
+    static IndentingAppendableAppendable with(final Appendable output,
+                                              final Indentation indentation,
+                                              final LineEnding lineEnding) {
+        check(output, indentation, lineEnding);
+
+        return new IndentingAppendableAppendable(output, indentation, lineEnding);
+    }
+
+    private IndentingAppendableAppendable(final Appendable output,
+                                          final Indentation indentation,
+                                          final LineEnding lineEnding) {
+        super(indentation, lineEnding);
+        this.output = output;
+    }
+
+    @Override
+    int output(final char[] chars,
+               final int length,
+               final boolean all) {
+        final Appendable output = this.output;
+
+        if (output instanceof StringBuilder) {
+            ((StringBuilder) output).append(chars, 0, length);
+        } else {
+            try {
+                output.append(new String(chars, 0, length));
+            } catch (final IOException cause) {
+                throw new TextException("Failed to append, message: " + cause.getMessage(), cause);
+            }
+        }
+        return length;
+    }
+
+    @Override
+    void flushOutput() {
+        // nop
+    }
+
+    private final Appendable output;
+
+    @Override
+    public String toString() {
+        return this.output.toString();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * An {@link IndentingAppendable} that encodes characters as UTF-8 into a {@link ByteBuffer}.
+ */
+@GwtIncompatible
+final class IndentingAppendableByteBuffer extends IndentingAppendable {
+
+    static IndentingAppendableByteBuffer with(final ByteBuffer output,
+                                              final Indentation indentation,
+                                              final LineEnding lineEnding) {
+        check(output, indentation, lineEnding);
+
+        return new IndentingAppendableByteBuffer(output, indentation, lineEnding);
+    }
+
+    private IndentingAppendableByteBuffer(final ByteBuffer output,
+                                          final Indentation indentation,
+                                          final LineEnding lineEnding) {
+        super(indentation, lineEnding);
+        this.output = output;
+    }
+
+    /**
+     * A trailing high surrogate is kept in the buffer until its low surrogate is appended, unless all is true. If the
+     * {@link ByteBuffer} does not have room for all the encoded characters nothing is written and a
+     * {@link BufferOverflowException} is thrown, leaving the characters buffered so a later flush may write them.
+     */
+    @Override
+    int output(final char[] chars,
+               final int length,
+               final boolean all) {
+        final int count = !all && length > 0 && Character.isHighSurrogate(chars[length - 1]) ?
+                length - 1 :
+                length;
+
+        final CharBuffer encode = CharBuffer.wrap(chars, 0, count);
+        final ByteBuffer output = this.output;
+        if (CharSequenceUtf8.encodedLength(encode) > output.remaining()) {
+            throw new BufferOverflowException();
+        }
+
+        CharSequenceUtf8.encode(
+                encode,
+                0,
+                output
+        );
+        return count;
+    }
+
+    @Override
+    void flushOutput() {
+        // nop
+    }
+
+    private final ByteBuffer output;
+
+    @Override
+    public String toString() {
+        return this.output.toString();
+    }
+}
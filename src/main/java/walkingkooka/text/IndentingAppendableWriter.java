@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * An {@link IndentingAppendable} that writes to a {@link Writer}.
+ */
+@GwtIncompatible
+final class IndentingAppendableWriter extends IndentingAppendable {
+
+    static IndentingAppendableWriter with(final Writer output,
+                                          final Indentation indentation,
+                                          final LineEnding lineEnding) {
+        check(output, indentation, lineEnding);
+
+        return new IndentingAppendableWriter(output, indentation, lineEnding);
+    }
+
+    private IndentingAppendableWriter(final Writer output,
+                                      final Indentation indentation,
+                                      final LineEnding lineEnding) {
+        super(indentation, lineEnding);
+        this.output = output;
+    }
+
+    @Override
+    int output(final char[] chars,
+               final int length,
+               final boolean all) {
+        try {
+            this.output.write(chars, 0, length);
+        } catch (final IOException cause) {
+            throw failed(cause);
+        }
+        return length;
+    }
+
+    @Override
+    void flushOutput() {
+        try {
+            this.output.flush();
+        } catch (final IOException cause) {
+            throw failed(cause);
+        }
+    }
+
+    private static TextException failed(final IOException cause) {
+        return new TextException("Failed to write, message: " + cause.getMessage(), cause);
+    }
+
+    private final Writer output;
+
+    @Override
+    public String toString() {
+        return this.output.toString();
+    }
+}
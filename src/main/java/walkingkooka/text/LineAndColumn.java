@@ -28,65 +28,14 @@ public final class LineAndColumn {
     public final static int COLUMN_START = 1;
 
     /**
-     * Builds a {@link LineAndColumn} from the given chars for the provided position.
+     * Builds a {@link LineAndColumn} from the given chars for the provided position. When many positions within the
+     * same text are required, a {@link LineAndColumnIndex} should be used instead.
      */
     public static LineAndColumn determine(final CharSequence chars, final int pos) {
         Objects.requireNonNull(chars, "chars");
-        final int length = chars.length();
-        if (pos < 0 || pos > length) {
-            throw new StringIndexOutOfBoundsException("pos " + pos + " must be between 0 and " + length);
-        }
-
-        int lineNumber = LINE_NUMBER_START;
-        char previous = 0;
-        int startOfLine = 0;
-
-        int last = pos + 1;
-        if (last > length) {
-            last = length;
-        }
-
-        for (int i = 0; i < last; i++) {
-            final char c = chars.charAt(i);
-            if (('\r' == c) || ('\n' == c)) {
-                if ((c == previous) || (('\r' == c) && ('\n' == previous))) {
-                    startOfLine = i;
-                    lineNumber++;
-                }
-                previous = c;
-                continue;
-            }
-            if (('\n' == previous) || ('\r' == previous)) {
-                startOfLine = i;
-                lineNumber++;
-            }
-            previous = c;
-        }
 
-        CharSequence line;
-        int column = COLUMN_START;
-
-        // find end of line...
-        int end = length;
-        for (int j = startOfLine; j < length; j++) {
-            final char c = chars.charAt(j);
-            if (('\r' == c) || ('\n' == c)) {
-                end = j;
-                break;
-            }
-            if (j < pos) {
-                column++;
-            }
-        }
-        line = chars.subSequence(startOfLine, end);
-        final int lineLength = line.length();
-        if (lineLength > 0) {
-            column = column <= lineLength ?
-                    column :
-                    lineLength + 1;
-        }
-
-        return new LineAndColumn(lineNumber, column, line);
+        return LineAndColumnIndex.with(chars)
+                .lineAndColumn(pos);
     }
 
     public static LineAndColumn with(int lineNumber, int columnNumber, final CharSequence line) {
@@ -145,6 +94,15 @@ public final class LineAndColumn {
 
     @Override
     public String toString() {
-        return "line: " + this.lineNumber() + ", col: " + this.columnNumber() + ", " + CharSequences.quoteAndEscape(this.line());
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            final StringBuilder builder = b.builder();
+            builder.append("line: ")
+                    .append(this.lineNumber())
+                    .append(", col: ")
+                    .append(this.columnNumber())
+                    .append(", ");
+            CharSequences.quoteAndEscape(this.line(), builder);
+            return builder.toString();
+        }
     }
 }
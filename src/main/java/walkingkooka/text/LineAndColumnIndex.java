@@ -0,0 +1,250 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An index of the lines within a {@link CharSequence}, that may be used to find the {@link LineAndColumn} of many
+ * positions, or the position of a line and column, without rescanning the text each time.
+ * <br>
+ * Lines are indexed lazily in chunks, only scanning as far as required by a query, with the start and end of each
+ * line recorded in int arrays so lookups are a binary search. Results are identical to
+ * {@link LineAndColumn#determine(CharSequence, int)}. The {@link CharSequence} may grow by appending, such as the
+ * {@link StringBuilder} filled by a chunking cursor, but characters already present must not change.
+ */
+public final class LineAndColumnIndex {
+
+    /**
+     * Creates a new {@link LineAndColumnIndex} for the given text, no text is scanned until the first query.
+     */
+    public static LineAndColumnIndex with(final CharSequence text) {
+        Objects.requireNonNull(text, "text");
+
+        return new LineAndColumnIndex(text);
+    }
+
+    /**
+     * The number of characters scanned each time more lines are required.
+     */
+    // @VisibleForTesting
+    final static int CHUNK_SIZE = 4096;
+
+    /**
+     * Marks a line whose end has not yet been found.
+     */
+    private final static int UNKNOWN = -1;
+
+    private LineAndColumnIndex(final CharSequence text) {
+        super();
+        this.text = text;
+
+        this.starts = new int[16];
+        this.ends = new int[16];
+        this.ends[0] = UNKNOWN;
+        this.lineCount = 1;
+    }
+
+    /**
+     * The text being indexed.
+     */
+    public CharSequence text() {
+        return this.text;
+    }
+
+    private final CharSequence text;
+
+    // queries..........................................................................................................
+
+    /**
+     * Returns the {@link LineAndColumn} for the given position, which may be between 0 and the text length inclusive.
+     */
+    public LineAndColumn lineAndColumn(final int pos) {
+        final int length = this.text.length();
+        if (pos < 0 || pos > length) {
+            throw new StringIndexOutOfBoundsException("pos " + pos + " must be between 0 and " + length);
+        }
+
+        this.scan(pos + 1);
+
+        final int line = this.line(pos);
+        final int start = this.starts[line];
+        final int end = this.end(line);
+
+        return LineAndColumn.with(
+                line + LineAndColumn.LINE_NUMBER_START,
+                LineAndColumn.COLUMN_START + Math.min(pos, end) - start,
+                this.text.subSequence(start, end)
+        );
+    }
+
+    /**
+     * Returns the position of the given line number and column, where the column may be one past the last character
+     * of the line.
+     */
+    public int offset(final int lineNumber,
+                      final int columnNumber) {
+        if (lineNumber < LineAndColumn.LINE_NUMBER_START) {
+            throw new IllegalArgumentException("Invalid lineNumber " + lineNumber + " < " + LineAndColumn.LINE_NUMBER_START);
+        }
+        if (columnNumber < LineAndColumn.COLUMN_START) {
+            throw new IllegalArgumentException("Invalid columnNumber " + columnNumber + " < " + LineAndColumn.COLUMN_START);
+        }
+
+        final int line = lineNumber - LineAndColumn.LINE_NUMBER_START;
+        while (line >= this.lineCount && this.scanned < this.text.length()) {
+            this.scan(this.scanned + CHUNK_SIZE);
+        }
+        if (line >= this.lineCount) {
+            throw new IllegalArgumentException("Invalid lineNumber " + lineNumber + " > " + this.lineCount);
+        }
+
+        final int start = this.starts[line];
+        final int lineLength = this.end(line) - start;
+        final int column = columnNumber - LineAndColumn.COLUMN_START;
+        if (column > lineLength) {
+            throw new IllegalArgumentException("Invalid columnNumber " + columnNumber + " > " + (lineLength + LineAndColumn.COLUMN_START));
+        }
+
+        return start + column;
+    }
+
+    /**
+     * Returns the total number of lines, which requires scanning all text.
+     */
+    public int lineCount() {
+        this.scan(this.text.length());
+        return this.lineCount;
+    }
+
+    /**
+     * Finds the index of the line containing the given position, which must have already been scanned.
+     */
+    private int line(final int pos) {
+        final int index = Arrays.binarySearch(this.starts, 0, this.lineCount, pos);
+        return index >= 0 ?
+                index :
+                -index - 2;
+    }
+
+    /**
+     * Returns the end of the given line, scanning more text if it has not been found.
+     */
+    private int end(final int line) {
+        while (UNKNOWN == this.ends[line] && this.scanned < this.text.length()) {
+            this.scan(this.scanned + CHUNK_SIZE);
+        }
+
+        final int end = this.ends[line];
+        return UNKNOWN == end ?
+                this.text.length() :
+                end;
+    }
+
+    // scan.............................................................................................................
+
+    /**
+     * Scans characters until at least the given position, rounded up to a whole chunk.
+     */
+    private void scan(final int until) {
+        final int scanned = this.scanned;
+        if (until > scanned) {
+            final int stop = Math.min(
+                    this.text.length(),
+                    Math.max(until, scanned + CHUNK_SIZE)
+            );
+            this.scan0(scanned, stop);
+        }
+    }
+
+    /**
+     * A new line starts at any character following a CR or NL, except a NL following a CR. A CR following a NL or
+     * a repeated CR or NL also starts a new empty line.
+     */
+    private void scan0(final int start,
+                       final int stop) {
+        final CharSequence text = this.text;
+        char previous = this.previous;
+
+        for (int i = start; i < stop; i++) {
+            final char c = text.charAt(i);
+
+            if ('\r' == c || '\n' == c) {
+                if (c == previous || ('\r' == c && '\n' == previous)) {
+                    this.addLine(i);
+                }
+
+                final int last = this.lineCount - 1;
+                if (UNKNOWN == this.ends[last]) {
+                    this.ends[last] = i;
+                }
+            } else {
+                if ('\r' == previous || '\n' == previous) {
+                    this.addLine(i);
+                }
+            }
+            previous = c;
+        }
+
+        this.previous = previous;
+        this.scanned = stop;
+    }
+
+    private void addLine(final int start) {
+        final int count = this.lineCount;
+        if (count == this.starts.length) {
+            this.starts = Arrays.copyOf(this.starts, count * 2);
+            this.ends = Arrays.copyOf(this.ends, count * 2);
+        }
+        this.starts[count] = start;
+        this.ends[count] = UNKNOWN;
+        this.lineCount = count + 1;
+    }
+
+    /**
+     * The start of each line.
+     */
+    private int[] starts;
+
+    /**
+     * The end of each line exclusive of any line ending, or {@link #UNKNOWN}.
+     */
+    private int[] ends;
+
+    /**
+     * The number of lines found so far.
+     */
+    private int lineCount;
+
+    /**
+     * The number of characters scanned so far.
+     */
+    // @VisibleForTesting
+    int scanned;
+
+    /**
+     * The last character scanned.
+     */
+    private char previous;
+
+    @Override
+    public String toString() {
+        return CharSequences.quoteAndEscape(this.text).toString();
+    }
+}
@@ -17,6 +17,10 @@
 
 package walkingkooka.text;
 
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.Reader;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -73,6 +77,73 @@ public enum LineEnding implements CharSequence {
         this.value = value;
     }
 
+    // normalize......................................................................................................
+
+    /**
+     * Returns a {@link String} with every CR, CRNL and NL replaced by this {@link LineEnding}, in a single pass.
+     * If no line ending needs to be replaced the {@link CharSequence#toString()} is returned.
+     */
+    public String normalize(final CharSequence chars) {
+        Objects.requireNonNull(chars, "chars");
+
+        final String value = this.value;
+        final int length = chars.length();
+
+        StringBuilder b = null;
+        int start = 0;
+
+        for (int i = 0; i < length; i++) {
+            final char c = chars.charAt(i);
+            if ('\r' == c || '\n' == c) {
+                final int lineEndingStart = i;
+                final LineEnding lineEnding;
+
+                if ('\r' == c) {
+                    if (i + 1 < length && '\n' == chars.charAt(i + 1)) {
+                        lineEnding = CRNL;
+                        i++;
+                    } else {
+                        lineEnding = CR;
+                    }
+                } else {
+                    lineEnding = NL;
+                }
+
+                if (this != lineEnding) {
+                    if (null == b) {
+                        b = new StringBuilder(length);
+                    }
+                    b.append(chars, start, lineEndingStart)
+                            .append(value);
+                    start = i + 1;
+                }
+            }
+        }
+
+        return null == b ?
+                chars.toString() :
+                b.append(chars, start, length)
+                        .toString();
+    }
+
+    /**
+     * Returns a {@link Reader} that replaces every CR, CRNL and NL read from the given {@link Reader} with this
+     * {@link LineEnding}.
+     */
+    @GwtIncompatible
+    public Reader normalizingReader(final Reader reader) {
+        return LineEndingReader.with(reader, this);
+    }
+
+    /**
+     * Returns a {@link Writer} that replaces every CR, CRNL and NL with this {@link LineEnding} before writing to the
+     * given {@link Writer}.
+     */
+    @GwtIncompatible
+    public Writer normalizingWriter(final Writer writer) {
+        return LineEndingWriter.with(writer, this);
+    }
+
     // CharSequences....................................................................................................
 
     @Override
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Objects;
+
+/**
+ * A {@link Reader} that replaces any CR, CRNL or NL read from another {@link Reader} with a {@link LineEnding}.
+ * A CR at the end of one read followed by a NL at the start of the next is still treated as a single CRNL.
+ */
+@GwtIncompatible
+final class LineEndingReader extends Reader {
+
+    static LineEndingReader with(final Reader reader,
+                                 final LineEnding lineEnding) {
+        Objects.requireNonNull(reader, "reader");
+        Objects.requireNonNull(lineEnding, "lineEnding");
+
+        return new LineEndingReader(reader, lineEnding);
+    }
+
+    private final static int BUFFER_SIZE = 4096;
+
+    private LineEndingReader(final Reader reader,
+                             final LineEnding lineEnding) {
+        super();
+        this.reader = reader;
+        this.lineEnding = lineEnding.toString();
+        this.lineEndingIndex = this.lineEnding.length();
+    }
+
+    @Override
+    public int read(final char[] chars,
+                    final int offset,
+                    final int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+
+        final String lineEnding = this.lineEnding;
+        final char[] buffer = this.buffer;
+
+        int count = 0;
+
+        while (count < length) {
+            // finish any partially written line ending
+            if (this.lineEndingIndex < lineEnding.length()) {
+                chars[offset + count] = lineEnding.charAt(this.lineEndingIndex);
+                count++;
+                this.lineEndingIndex++;
+                continue;
+            }
+
+            if (this.position == this.limit) {
+                // dont block if some chars have already been read
+                if (count > 0 || !this.fill()) {
+                    break;
+                }
+            }
+
+            final char c = buffer[this.position];
+            this.position++;
+
+            if (this.skipNl) {
+                this.skipNl = false;
+                if ('\n' == c) {
+                    continue;
+                }
+            }
+
+            switch (c) {
+                case '\r':
+                    this.skipNl = true;
+                    this.lineEndingIndex = 0;
+                    break;
+                case '\n':
+                    this.lineEndingIndex = 0;
+                    break;
+                default:
+                    // copy the run of chars up to the next line ending in one step.
+                    final int start = this.position - 1;
+                    final int end = Math.min(this.limit, start + length - count);
+
+                    int i = this.position;
+                    while (i < end) {
+                        final char d = buffer[i];
+                        if ('\r' == d || '\n' == d) {
+                            break;
+                        }
+                        i++;
+                    }
+
+                    final int run = i - start;
+                    System.arraycopy(buffer, start, chars, offset + count, run);
+                    count += run;
+                    this.position = i;
+                    break;
+            }
+        }
+
+        return 0 == count && this.eof ?
+                -1 :
+                count;
+    }
+
+    /**
+     * Reads more chars into the buffer, returning false if none are available.
+     */
+    private boolean fill() throws IOException {
+        boolean filled = false;
+
+        if (!this.eof) {
+            final int read = this.reader.read(this.buffer, 0, BUFFER_SIZE);
+            if (-1 == read) {
+                this.eof = true;
+            } else {
+                this.position = 0;
+                this.limit = read;
+                filled = read > 0;
+            }
+        }
+
+        return filled;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private final Reader reader;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private int position;
+
+    private int limit;
+
+    private boolean eof;
+
+    /**
+     * The replacement {@link LineEnding} characters.
+     */
+    private final String lineEnding;
+
+    /**
+     * The index of the next {@link #lineEnding} character to be returned, when it equals the length the line ending
+     * has been completely read.
+     */
+    private int lineEndingIndex;
+
+    /**
+     * When true the previous char was a CR and a following NL should be skipped.
+     */
+    private boolean skipNl;
+
+    @Override
+    public String toString() {
+        return this.reader.toString();
+    }
+}
@@ -46,10 +46,7 @@ public enum LineEndingSensitivity {
         private String normalize(final CharSequence chars) {
             return null == chars ?
                     null :
-                    chars.toString()
-                            .replace(LineEnding.CRNL, LineEnding.NL)
-                            .replace(LineEnding.CR, LineEnding.NL);
-
+                    LineEnding.NL.normalize(chars);
         }
     };
 
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import javaemul.internal.annotations.GwtIncompatible;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * A {@link Writer} that replaces any CR, CRNL or NL with a {@link LineEnding} before writing to another
+ * {@link Writer}. A CR at the end of one write followed by a NL at the start of the next is still treated as a single
+ * CRNL. Runs of characters without line endings are written in a single step.
+ */
+@GwtIncompatible
+final class LineEndingWriter extends Writer {
+
+    static LineEndingWriter with(final Writer writer,
+                                 final LineEnding lineEnding) {
+        Objects.requireNonNull(writer, "writer");
+        Objects.requireNonNull(lineEnding, "lineEnding");
+
+        return new LineEndingWriter(writer, lineEnding);
+    }
+
+    private LineEndingWriter(final Writer writer,
+                             final LineEnding lineEnding) {
+        super();
+        this.writer = writer;
+        this.lineEnding = lineEnding.toString();
+    }
+
+    @Override
+    public void write(final char[] chars,
+                      final int offset,
+                      final int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+
+        final Writer writer = this.writer;
+        final int end = offset + length;
+
+        int start = offset;
+        int i = offset;
+
+        if (this.skipNl && i < end) {
+            this.skipNl = false;
+            if ('\n' == chars[i]) {
+                i++;
+                start = i;
+            }
+        }
+
+        while (i < end) {
+            final char c = chars[i];
+            if ('\r' == c || '\n' == c) {
+                writer.write(chars, start, i - start);
+                writer.write(this.lineEnding);
+                i++;
+
+                if ('\r' == c) {
+                    if (i == end) {
+                        this.skipNl = true;
+                    } else {
+                        if ('\n' == chars[i]) {
+                            i++;
+                        }
+                    }
+                }
+                start = i;
+            } else {
+                i++;
+            }
+        }
+
+        writer.write(chars, start, end - start);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+    private final Writer writer;
+
+    /**
+     * The replacement {@link LineEnding} characters.
+     */
+    private final String lineEnding;
+
+    /**
+     * When true the last char written was a CR and a following NL should be skipped.
+     */
+    private boolean skipNl;
+
+    @Override
+    public String toString() {
+        return this.writer.toString();
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+/**
+ * A {@link StringBuilder} borrowed from a small shared pool, which is returned when this {@link PooledBuilder} is
+ * closed. It is intended for short scoped formatting, such as
+ * <pre>
+ * try (final PooledBuilder b = CharSequences.borrow()) {
+ *     b.append(...);
+ *     return b.toString();
+ * }
+ * </pre>
+ * The pool is shared by all threads rather than held in thread locals, so many short lived or virtual threads do not
+ * each keep their own buffers. It is split into several independently locked stripes, with each borrow starting at
+ * the next stripe in turn, so concurrent borrows usually take different locks. Buffers whose capacity grew past
+ * {@link #MAX_LENGTH} are not returned, releasing their memory.
+ */
+public final class PooledBuilder implements CharSequence, Appendable, AutoCloseable {
+
+    /**
+     * The maximum number of idle {@link StringBuilder} kept by the pool.
+     */
+    final static int POOL_SIZE = 16;
+
+    /**
+     * The number of stripes, which must be a power of two.
+     */
+    final static int STRIPE_COUNT = 4;
+
+    /**
+     * Buffers with a capacity greater than this are discarded rather than returned to the pool.
+     */
+    final static int MAX_LENGTH = 16 * 1024;
+
+    private final static int INITIAL_CAPACITY = 128;
+
+    private final static PooledBuilderStripe[] STRIPES = new PooledBuilderStripe[STRIPE_COUNT];
+
+    static {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            STRIPES[i] = PooledBuilderStripe.with(POOL_SIZE / STRIPE_COUNT);
+        }
+    }
+
+    /**
+     * The stripe the next borrow starts with. Updates are deliberately unsynchronized, a lost update only means two
+     * borrows start at the same stripe.
+     */
+    private static int nextStripe;
+
+    /**
+     * Borrows a {@link StringBuilder} from the pool, creating a new one if every stripe is empty.
+     */
+    static PooledBuilder borrow() {
+        final int stripe = nextStripe;
+        nextStripe = (stripe + 1) & (STRIPE_COUNT - 1);
+
+        StringBuilder builder = null;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            builder = STRIPES[(stripe + i) & (STRIPE_COUNT - 1)].take();
+            if (null != builder) {
+                break;
+            }
+        }
+
+        return new PooledBuilder(
+                null != builder ?
+                        builder :
+                        new StringBuilder(INITIAL_CAPACITY),
+                stripe
+        );
+    }
+
+    /**
+     * Clears and returns the {@link StringBuilder} to its stripe, unless it is too large or the stripe is full.
+     */
+    private static void release(final StringBuilder builder,
+                                final int stripe) {
+        if (builder.capacity() <= MAX_LENGTH) {
+            builder.setLength(0);
+            STRIPES[stripe].give(builder);
+        }
+    }
+
+    /**
+     * The number of idle {@link StringBuilder} in the pool, for testing.
+     */
+    static int poolCount() {
+        int count = 0;
+        for (final PooledBuilderStripe stripe : STRIPES) {
+            count += stripe.count();
+        }
+        return count;
+    }
+
+    /**
+     * Private ctor use factory.
+     */
+    private PooledBuilder(final StringBuilder builder,
+                          final int stripe) {
+        super();
+        this.builder = builder;
+        this.stripe = stripe;
+    }
+
+    @Override
+    public PooledBuilder append(final char c) {
+        this.builder().append(c);
+        return this;
+    }
+
+    @Override
+    public PooledBuilder append(final CharSequence chars) {
+        this.builder().append(chars);
+        return this;
+    }
+
+    @Override
+    public PooledBuilder append(final CharSequence chars,
+                                final int start,
+                                final int end) {
+        this.builder().append(chars, start, end);
+        return this;
+    }
+
+    public PooledBuilder append(final String string) {
+        this.builder().append(string);
+        return this;
+    }
+
+    public PooledBuilder append(final int value) {
+        this.builder().append(value);
+        return this;
+    }
+
+    public PooledBuilder append(final long value) {
+        this.builder().append(value);
+        return this;
+    }
+
+    public PooledBuilder append(final Object object) {
+        this.builder().append(object);
+        return this;
+    }
+
+    /**
+     * Truncates or pads with null characters, the same as {@link StringBuilder#setLength(int)}.
+     */
+    public PooledBuilder setLength(final int length) {
+        this.builder().setLength(length);
+        return this;
+    }
+
+    /**
+     * The borrowed {@link StringBuilder}, which may be given to other methods that append to a {@link StringBuilder}.
+     * It must not be used after this {@link PooledBuilder} is closed.
+     */
+    public StringBuilder builder() {
+        final StringBuilder builder = this.builder;
+        if (null == builder) {
+            throw new IllegalStateException("Builder closed");
+        }
+        return builder;
+    }
+
+    /**
+     * The borrowed {@link StringBuilder}, which becomes null when closed.
+     */
+    private StringBuilder builder;
+
+    /**
+     * The stripe the {@link StringBuilder} is returned to.
+     */
+    private final int stripe;
+
+    // CharSequence.....................................................................................................
+
+    @Override
+    public int length() {
+        return this.builder().length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        return this.builder().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start,
+                                    final int end) {
+        return this.builder().substring(start, end);
+    }
+
+    // AutoCloseable....................................................................................................
+
+    /**
+     * Returns the {@link StringBuilder} to the pool. Closing more than once has no effect.
+     */
+    @Override
+    public void close() {
+        final StringBuilder builder = this.builder;
+        if (null != builder) {
+            this.builder = null;
+            release(builder, this.stripe);
+        }
+    }
+
+    // Object...........................................................................................................
+
+    /**
+     * Returns the characters appended so far.
+     */
+    @Override
+    public String toString() {
+        return this.builder().toString();
+    }
+}
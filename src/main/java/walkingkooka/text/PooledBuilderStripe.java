@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+/**
+ * One independently locked part of the {@link PooledBuilder} pool, holding a few idle {@link StringBuilder}.
+ */
+final class PooledBuilderStripe {
+
+    static PooledBuilderStripe with(final int size) {
+        return new PooledBuilderStripe(size);
+    }
+
+    private PooledBuilderStripe(final int size) {
+        super();
+        this.builders = new StringBuilder[size];
+    }
+
+    /**
+     * Removes and returns an idle {@link StringBuilder}, or null if this stripe is empty.
+     */
+    synchronized StringBuilder take() {
+        StringBuilder builder = null;
+
+        final int count = this.count;
+        if (count > 0) {
+            final int last = count - 1;
+            builder = this.builders[last];
+            this.builders[last] = null;
+            this.count = last;
+        }
+        return builder;
+    }
+
+    /**
+     * Keeps the {@link StringBuilder} unless this stripe is full.
+     */
+    synchronized void give(final StringBuilder builder) {
+        final int count = this.count;
+        if (count < this.builders.length) {
+            this.builders[count] = builder;
+            this.count = count + 1;
+        }
+    }
+
+    synchronized int count() {
+        return this.count;
+    }
+
+    private final StringBuilder[] builders;
+
+    private int count;
+
+    @Override
+    public String toString() {
+        return "count=" + this.count();
+    }
+}
@@ -14,20 +14,22 @@
  * limitations under the License.
  *
  */
-
 package walkingkooka.text;
 
 import walkingkooka.Cast;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
  * A {@link CharSequence} that reads its characters from a {@link Reader} when the last character in its current buffer
- * is read. Because this is mutable the hashcode and equals methods arent really worth using.
+ * is read. Characters are stored in fixed size chunks, so growing never copies previously read characters, and
+ * {@link #discardBefore(int)} may be used to release chunks that are no longer needed while indices remain absolute.
+ * Because this is mutable the hashcode and equals methods only consider the characters already read and not discarded.
  */
-final class ReaderConsumingCharSequence implements CharSequence {
+public final class ReaderConsumingCharSequence implements CharSequence {
 
     static ReaderConsumingCharSequence with(final Reader reader, final int bufferSize) {
         Objects.requireNonNull(reader, "reader");
@@ -37,24 +39,59 @@ final class ReaderConsumingCharSequence implements CharSequence {
         return new ReaderConsumingCharSequence(reader, bufferSize);
     }
 
+    /**
+     * The number of characters in each chunk is a power of two, so locating a character is a shift and mask.
+     */
+    // @VisibleForTesting
+    final static int CHUNK_SHIFT = 12;
+
+    // @VisibleForTesting
+    final static int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    private final static int CHUNK_MASK = CHUNK_SIZE - 1;
+
     private final Reader reader;
 
-    private final StringBuilder content = new StringBuilder();
+    /**
+     * The maximum number of characters requested for each {@link Reader#read(char[], int, int)}.
+     */
+    private final int bufferSize;
+
+    /**
+     * The retained chunks, the first holding the characters starting at {@link #discardedChunks} * {@link #CHUNK_SIZE}.
+     */
+    private char[][] chunks = new char[4][];
 
     // @VisibleForTesting
-    boolean eof = false;
+    int chunkCount;
+
+    /**
+     * The number of chunks released by {@link #discardBefore(int)}.
+     */
+    private int discardedChunks;
 
-    private final char[] buffer;
+    /**
+     * The index of the first character that has not been discarded.
+     */
+    private int start;
+
+    /**
+     * The number of characters read so far.
+     */
+    private int end;
+
+    // @VisibleForTesting
+    boolean eof = false;
 
     private ReaderConsumingCharSequence(final Reader reader, final int bufferSize) {
         this.reader = reader;
-        this.buffer = new char[bufferSize];
+        this.bufferSize = bufferSize;
     }
 
     @Override
     public int length() {
         this.maybeFillBuffer(1);
-        return this.content.length();
+        return this.end;
     }
 
     @Override
@@ -63,9 +100,12 @@ final class ReaderConsumingCharSequence implements CharSequence {
             throw new StringIndexOutOfBoundsException("Invalid index " + index);
         }
         this.maybeFillBuffer(index + 1);
-        this.checkIndex(index, "Index", 0);
+        if (index >= this.end) {
+            throw new StringIndexOutOfBoundsException("Index " + index + " must be less than " + this.end);
+        }
+        this.checkNotDiscarded(index, "Index");
 
-        return this.content.charAt(index);
+        return this.chunk(index)[index & CHUNK_MASK];
     }
 
     @Override
@@ -76,35 +116,79 @@ final class ReaderConsumingCharSequence implements CharSequence {
 
         this.maybeFillBuffer(end + 1);
         this.checkIndex(end, "End index", start);
+        this.checkNotDiscarded(start, "Start index");
 
-        return this.content.subSequence(start, end);
+        return this.copy(start, end);
     }
 
     private void checkIndex(final int index, final String label, final int start) {
-        final int lengthAfterFill = this.content.length();
+        final int lengthAfterFill = this.end;
         if (index > lengthAfterFill) {
             throw new StringIndexOutOfBoundsException(label + " " + index + " must be between " + start + " and " + lengthAfterFill);
         }
     }
 
+    private void checkNotDiscarded(final int index, final String label) {
+        if (index < this.start) {
+            throw new StringIndexOutOfBoundsException(label + " " + index + " has been discarded, first available " + this.start);
+        }
+    }
+
+    /**
+     * Releases all characters before the given index, which must not be greater than the number of characters already
+     * read. Indices passed to {@link #charAt(int)} and {@link #subSequence(int, int)} remain absolute, but attempts to
+     * access a discarded character will fail.
+     */
+    public void discardBefore(final int index) {
+        if (index < 0 || index > this.end) {
+            throw new StringIndexOutOfBoundsException("Index " + index + " must be between 0 and " + this.end);
+        }
+
+        if (index > this.start) {
+            this.start = index;
+
+            final int discard = (index >> CHUNK_SHIFT) - this.discardedChunks;
+            if (discard > 0) {
+                final char[][] chunks = this.chunks;
+                final int remaining = this.chunkCount - discard;
+
+                System.arraycopy(chunks, discard, chunks, 0, remaining);
+                Arrays.fill(chunks, remaining, this.chunkCount, null);
+
+                this.chunkCount = remaining;
+                this.discardedChunks += discard;
+            }
+        }
+    }
+
+    private char[] chunk(final int index) {
+        return this.chunks[(index >> CHUNK_SHIFT) - this.discardedChunks];
+    }
+
     private void maybeFillBuffer(final int untilCharCount) {
         if (!this.eof) {
             this.fillBuffer(untilCharCount);
         }
     }
 
+    /**
+     * Reads directly into the last chunk, adding a new chunk whenever the last is full.
+     */
     private void fillBuffer(final int untilCharCount) {
         try {
-            final char[] buffer = this.buffer;
-
             for (; ; ) {
-                if (untilCharCount < this.content.length()) {
+                if (untilCharCount < this.end) {
                     break;
                 }
 
-                final int read = this.reader.read(buffer,
-                        0,
-                        buffer.length);
+                final int offset = this.end & CHUNK_MASK;
+                final char[] chunk = 0 == offset ?
+                        new char[CHUNK_SIZE] :
+                        this.chunks[this.chunkCount - 1];
+
+                final int read = this.reader.read(chunk,
+                        offset,
+                        Math.min(this.bufferSize, CHUNK_SIZE - offset));
                 if (-1 == read) {
                     this.eof = true;
                     break;
@@ -112,18 +196,60 @@ final class ReaderConsumingCharSequence implements CharSequence {
                 if (0 == read) {
                     break;
                 }
-                this.content.append(buffer, 0, read);
+                if (0 == offset) {
+                    this.addChunk(chunk);
+                }
+                this.end += read;
             }
         } catch (final IOException cause) {
             throw new ReaderConsumingCharSequenceTextException("Failed to fill char sequence, message: " + cause.getMessage(), cause);
         }
     }
 
+    private void addChunk(final char[] chunk) {
+        final int count = this.chunkCount;
+        if (count == this.chunks.length) {
+            this.chunks = Arrays.copyOf(this.chunks, count * 2);
+        }
+        this.chunks[count] = chunk;
+        this.chunkCount = count + 1;
+    }
+
+    private String copy(final int start, final int end) {
+        final char[] copy = new char[end - start];
+
+        int i = start;
+        while (i < end) {
+            final int offset = i & CHUNK_MASK;
+            final int count = Math.min(CHUNK_SIZE - offset, end - i);
+            System.arraycopy(this.chunk(i), offset, copy, i - start, count);
+            i += count;
+        }
+
+        return new String(copy);
+    }
+
+    // Object...........................................................................................................
+
+    /**
+     * Returns the same hash code as a {@link String} holding the characters already read and not discarded, without
+     * reading any more characters.
+     */
     @Override
     public int hashCode() {
-        return CharSequences.hash(this.content);
+        final int end = this.end;
+
+        int hash = 0;
+        for (int i = this.start; i < end; i++) {
+            hash = 31 * hash + this.chunk(i)[i & CHUNK_MASK];
+        }
+        return hash;
     }
 
+    /**
+     * Two instances are equal if they have discarded the same number of characters and the characters already read
+     * are equal. No characters are read from either {@link Reader}.
+     */
     @Override
     public boolean equals(final Object other) {
         return this == other ||
@@ -132,11 +258,26 @@ final class ReaderConsumingCharSequence implements CharSequence {
     }
 
     private boolean equals0(final ReaderConsumingCharSequence other) {
-        return CharSequences.equals(this.content, other.content);
+        final int start = this.start;
+        final int end = this.end;
+
+        boolean equals = start == other.start && end == other.end;
+        if (equals) {
+            for (int i = start; i < end; i++) {
+                if (this.chunk(i)[i & CHUNK_MASK] != other.chunk(i)[i & CHUNK_MASK]) {
+                    equals = false;
+                    break;
+                }
+            }
+        }
+        return equals;
     }
 
+    /**
+     * Returns the characters already read and not discarded.
+     */
     @Override
     public String toString() {
-        return this.content.toString();
+        return this.copy(this.start, this.end);
     }
 }
@@ -65,7 +65,14 @@ final class RepeatingCharSequence extends CharSequence2<RepeatingCharSequence> {
 
     @Override
     int calculateHashCode() {
-        return this.c ^ (this.c << 16) ^ this.length;
+        final char c = this.c;
+        final int length = this.length;
+
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + c;
+        }
+        return hash;
     }
 
     @Override
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+/**
+ * A {@link CharSequence} view of a range of characters within another {@link CharSequence}, that does not copy any
+ * characters.
+ */
+final class SubCharSequence extends CharSequence2<SubCharSequence> {
+
+    /**
+     * Factory that returns the {@link CharSequence} itself, an empty {@link String} or a {@link SubCharSequence}.
+     * The indices are assumed to be valid.
+     */
+    static CharSequence with(final CharSequence chars,
+                             final int start,
+                             final int end) {
+        return 0 == start && chars.length() == end ?
+                chars :
+                start == end ?
+                        "" :
+                        new SubCharSequence(chars, start, end);
+    }
+
+    /**
+     * Private constructor use static factory.
+     */
+    private SubCharSequence(final CharSequence chars,
+                            final int start,
+                            final int end) {
+        super();
+        this.chars = chars;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return this.end - this.start;
+    }
+
+    // assumes index is valid
+    @Override
+    char charAtIndex(final int index) {
+        return this.chars.charAt(this.start + index);
+    }
+
+    @Override
+    CharSequence subSequence0(final int start, final int end) {
+        return new SubCharSequence(
+                this.chars,
+                this.start + start,
+                this.start + end
+        );
+    }
+
+    /**
+     * Returns the same hash code as {@link String#hashCode()}.
+     */
+    @Override
+    int calculateHashCode() {
+        final CharSequence chars = this.chars;
+        final int end = this.end;
+
+        int hash = 0;
+        for (int i = this.start; i < end; i++) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+        return hash;
+    }
+
+    @Override
+    boolean canBeEqual(final Object other) {
+        return other instanceof SubCharSequence;
+    }
+
+    @Override
+    boolean equals0(final SubCharSequence other) {
+        return CharSequences.equals(this, other);
+    }
+
+    // properties
+
+    final CharSequence chars;
+    final int start;
+    final int end;
+
+    @Override
+    String buildToString() {
+        return this.chars.subSequence(this.start, this.end)
+                .toString();
+    }
+}
@@ -41,40 +41,109 @@ final public class Whitespace implements CharSequence {
      * Internal helper that checks if the given {@link CharSequence} is only filled with whitespace
      * without a null check.
      */
-    @SuppressWarnings("deprecation")
     private static boolean onlyWhitespace(final CharSequence chars) {
-        boolean onlyWhitespace = true;
-
-        final int length = chars.length();
-        for (int i = 0; i < length; i++) {
-            if (false == Character.isSpace(chars.charAt(i))) {
-                onlyWhitespace = false;
-                break;
-            }
-        }
-
-        return onlyWhitespace;
+        return -1 == AsciiWords.firstNonWhitespace(
+                chars,
+                0,
+                chars.length(),
+                AsciiWords.SPACE
+        );
     }
 
     /**
      * Tests if the given chars has whitespace, returning true if a whitespace char of any sort was
      * found.
      */
-    @SuppressWarnings("deprecation")
     public static boolean has(final CharSequence chars) {
-        boolean found = false;
+        return null != chars &&
+                -1 != AsciiWords.firstWhitespace(
+                        chars,
+                        0,
+                        chars.length(),
+                        AsciiWords.SPACE
+                );
+    }
 
-        if (null != chars) {
-            final int length = chars.length();
-            for (int i = 0; i < length; i++) {
-                final char c = chars.charAt(i);
-                if (Character.isSpace(c)) {
-                    found = true;
-                    break;
-                }
-            }
-        }
-        return found;
+    /**
+     * Tests if all characters are {@link Character#isWhitespace(char)}, testing four characters at a time.
+     * An empty {@link CharSequence} returns true.
+     */
+    public static boolean isAllWhitespace(final CharSequence chars) {
+        return -1 == firstNonWhitespace(chars);
+    }
+
+    /**
+     * Tests if all characters between start and end are {@link Character#isWhitespace(char)}, testing four characters
+     * at a time.
+     */
+    public static boolean isAllWhitespace(final char[] chars,
+                                          final int start,
+                                          final int end) {
+        return -1 == firstNonWhitespace(chars, start, end);
+    }
+
+    /**
+     * Returns the index of the first character that is not {@link Character#isWhitespace(char)} or -1 if all are
+     * whitespace.
+     */
+    public static int firstNonWhitespace(final CharSequence chars) {
+        Objects.requireNonNull(chars, "chars");
+
+        return AsciiWords.firstNonWhitespace(
+                chars,
+                0,
+                chars.length(),
+                AsciiWords.WHITESPACE
+        );
+    }
+
+    /**
+     * Returns the index of the first character between start and end that is not
+     * {@link Character#isWhitespace(char)} or -1 if all are whitespace.
+     */
+    public static int firstNonWhitespace(final char[] chars,
+                                         final int start,
+                                         final int end) {
+        Ascii.checkRange(chars, start, end);
+
+        return AsciiWords.firstNonWhitespace(
+                chars,
+                start,
+                end,
+                AsciiWords.WHITESPACE
+        );
+    }
+
+    /**
+     * Returns the index of the last character that is not {@link Character#isWhitespace(char)} or -1 if all are
+     * whitespace.
+     */
+    public static int lastNonWhitespace(final CharSequence chars) {
+        Objects.requireNonNull(chars, "chars");
+
+        return AsciiWords.lastNonWhitespace(
+                chars,
+                0,
+                chars.length(),
+                AsciiWords.WHITESPACE
+        );
+    }
+
+    /**
+     * Returns the index of the last character between start and end that is not
+     * {@link Character#isWhitespace(char)} or -1 if all are whitespace.
+     */
+    public static int lastNonWhitespace(final char[] chars,
+                                        final int start,
+                                        final int end) {
+        Ascii.checkRange(chars, start, end);
+
+        return AsciiWords.lastNonWhitespace(
+                chars,
+                start,
+                end,
+                AsciiWords.WHITESPACE
+        );
     }
 
     /**
@@ -18,6 +18,7 @@
 package walkingkooka.text.cursor;
 
 import walkingkooka.text.CharSequences;
+import walkingkooka.text.LineAndColumnIndex;
 
 import java.util.Objects;
 
@@ -103,9 +104,21 @@ final class CharSequenceTextCursor implements TextCursor {
      */
     @Override
     public TextCursorLineInfo lineInfo() {
-        return CharSequenceTextCursorLineInfo.with(this.text, this.position);
+        return CharSequenceTextCursorLineInfo.with(this.lineAndColumnIndex(), this.position);
     }
 
+    /**
+     * Lazily creates a {@link LineAndColumnIndex} shared by all {@link TextCursorLineInfo} for this cursor.
+     */
+    LineAndColumnIndex lineAndColumnIndex() {
+        if (null == this.lineAndColumnIndex) {
+            this.lineAndColumnIndex = LineAndColumnIndex.with(this.text);
+        }
+        return this.lineAndColumnIndex;
+    }
+
+    private LineAndColumnIndex lineAndColumnIndex;
+
     /**
      * The entire {@link String} being moved about.
      */
@@ -19,6 +19,7 @@ package walkingkooka.text.cursor;
 
 import walkingkooka.text.CharSequences;
 import walkingkooka.text.LineAndColumn;
+import walkingkooka.text.LineAndColumnIndex;
 
 /**
  * A snapshot in time about the position of the {@link TextCursor}. Note that the actual line number, column and line text are extracted lazily.
@@ -29,17 +30,31 @@ final class CharSequenceTextCursorLineInfo implements TextCursorLineInfo {
      * Creates a {@link CharSequenceTextCursorLineInfo} by locating the line containing the given absolute position within a String.
      */
     static CharSequenceTextCursorLineInfo with(final CharSequence text, final int pos) {
-        return new CharSequenceTextCursorLineInfo(text, pos);
+        return with(LineAndColumnIndex.with(text), pos);
+    }
+
+    /**
+     * Creates a {@link CharSequenceTextCursorLineInfo} sharing a {@link LineAndColumnIndex} with other snapshots of the
+     * same text.
+     */
+    static CharSequenceTextCursorLineInfo with(final LineAndColumnIndex index, final int pos) {
+        return new CharSequenceTextCursorLineInfo(index, pos);
     }
 
     /**
      * Private constructor
      */
-    private CharSequenceTextCursorLineInfo(final CharSequence text, final int pos) {
-        this.text = text;
+    private CharSequenceTextCursorLineInfo(final LineAndColumnIndex index, final int pos) {
+        this.index = index;
+        this.text = index.text();
         this.pos = pos;
     }
 
+    /**
+     * The {@link LineAndColumnIndex} for {@link #text} which may be shared with other snapshots.
+     */
+    private final LineAndColumnIndex index;
+
     /**
      * The entire text belonging to the {@link TextCursor}.
      */
@@ -104,8 +119,7 @@ final class CharSequenceTextCursorLineInfo implements TextCursorLineInfo {
      */
     private LineAndColumn lineAndColumn() {
         if (null == this.lineAndColumn) {
-            final CharSequence text = this.text;
-            this.lineAndColumn = LineAndColumn.determine(text, Math.min(this.pos, text.length()));
+            this.lineAndColumn = this.index.lineAndColumn(Math.min(this.pos, this.text.length()));
         }
         return this.lineAndColumn;
     }
@@ -61,7 +61,7 @@ final class CharSequenceTextCursorSavePoint implements TextCursorSavePoint {
 
     @Override
     public TextCursorLineInfo lineInfo() {
-        return CharSequenceTextCursorLineInfo.with(this.cursor.text, this.position);
+        return CharSequenceTextCursorLineInfo.with(this.cursor.lineAndColumnIndex(), this.position);
     }
 
     // properties
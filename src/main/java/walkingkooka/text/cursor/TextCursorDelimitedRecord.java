@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor;
+
+import walkingkooka.collect.list.Lists;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A single record read by a {@link TextCursorDelimitedTokenizer}. The characters of all fields are held in a single
+ * buffer, and {@link #field(int)} returns a view of a field within that buffer. The record, its buffer and views are
+ * reused for the next record, so fields must be copied, perhaps using {@link #toList()}, if they are to be kept.
+ */
+public final class TextCursorDelimitedRecord {
+
+    /**
+     * Creates a new empty record, only used by {@link TextCursorDelimitedTokenizer}.
+     */
+    static TextCursorDelimitedRecord empty() {
+        return new TextCursorDelimitedRecord();
+    }
+
+    /**
+     * Private ctor use factory.
+     */
+    private TextCursorDelimitedRecord() {
+        super();
+    }
+
+    /**
+     * The number of fields in this record.
+     */
+    public int fieldCount() {
+        return this.fieldCount;
+    }
+
+    /**
+     * Returns a view of the field at the given index, which remains valid only until the next record is read.
+     */
+    public CharSequence field(final int index) {
+        final int fieldCount = this.fieldCount;
+        if (index < 0 || index >= fieldCount) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + " not between 0 and " + fieldCount);
+        }
+
+        TextCursorDelimitedRecordField[] fields = this.fields;
+        if (index >= fields.length) {
+            fields = Arrays.copyOf(fields, this.fieldEnds.length);
+            this.fields = fields;
+        }
+
+        TextCursorDelimitedRecordField field = fields[index];
+        if (null == field) {
+            field = new TextCursorDelimitedRecordField(this, index);
+            fields[index] = field;
+        }
+        return field;
+    }
+
+    /**
+     * Lazily created views for each field, reused by following records.
+     */
+    private TextCursorDelimitedRecordField[] fields = new TextCursorDelimitedRecordField[0];
+
+    /**
+     * Returns a copy of all fields as {@link String strings}.
+     */
+    public List<String> toList() {
+        final int fieldCount = this.fieldCount;
+        final String[] fields = new String[fieldCount];
+
+        for (int i = 0; i < fieldCount; i++) {
+            fields[i] = this.fieldString(i);
+        }
+        return Lists.of(fields);
+    }
+
+    // TextCursorDelimitedTokenizer.....................................................................................
+
+    void clear() {
+        this.length = 0;
+        this.fieldCount = 0;
+    }
+
+    void append(final char c) {
+        char[] buffer = this.buffer;
+        final int length = this.length;
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, length * 2);
+            this.buffer = buffer;
+        }
+        buffer[length] = c;
+        this.length = length + 1;
+    }
+
+    void endField() {
+        int[] fieldEnds = this.fieldEnds;
+        final int fieldCount = this.fieldCount;
+        if (fieldCount == fieldEnds.length) {
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+            this.fieldEnds = fieldEnds;
+        }
+        fieldEnds[fieldCount] = this.length;
+        this.fieldCount = fieldCount + 1;
+    }
+
+    // TextCursorDelimitedRecordField...................................................................................
+
+    int fieldStart(final int index) {
+        return 0 == index ?
+                0 :
+                this.fieldEnds[index - 1];
+    }
+
+    int fieldEnd(final int index) {
+        return this.fieldEnds[index];
+    }
+
+    char charAt(final int offset) {
+        return this.buffer[offset];
+    }
+
+    String fieldString(final int index) {
+        final int start = this.fieldStart(index);
+        return new String(this.buffer, start, this.fieldEnd(index) - start);
+    }
+
+    String string(final int start,
+                  final int end) {
+        return new String(this.buffer, start, end - start);
+    }
+
+    /**
+     * The characters of all fields, one after another.
+     */
+    private char[] buffer = new char[256];
+
+    private int length;
+
+    /**
+     * The end offset within {@link #buffer} of each field.
+     */
+    private int[] fieldEnds = new int[16];
+
+    private int fieldCount;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.toList().toString();
+    }
+}
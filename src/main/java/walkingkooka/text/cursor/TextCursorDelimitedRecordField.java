@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor;
+
+/**
+ * A {@link CharSequence} view of a field within a {@link TextCursorDelimitedRecord}. Views are reused by following
+ * records, always showing the field with the same index of the current record.
+ */
+final class TextCursorDelimitedRecordField implements CharSequence {
+
+    TextCursorDelimitedRecordField(final TextCursorDelimitedRecord record,
+                                   final int index) {
+        super();
+        this.record = record;
+        this.index = index;
+    }
+
+    @Override
+    public int length() {
+        final int index = this.index;
+        final TextCursorDelimitedRecord record = this.record;
+        return record.fieldEnd(index) - record.fieldStart(index);
+    }
+
+    @Override
+    public char charAt(final int index) {
+        final int length = this.length();
+        if (index < 0 || index >= length) {
+            throw new StringIndexOutOfBoundsException("Index " + index + " must be between 0 and " + length);
+        }
+        return this.record.charAt(this.record.fieldStart(this.index) + index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start,
+                                    final int end) {
+        final int length = this.length();
+        if (start < 0 || start > end || end > length) {
+            throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        final int offset = this.record.fieldStart(this.index);
+        return this.record.string(offset + start, offset + end);
+    }
+
+    private final TextCursorDelimitedRecord record;
+
+    private final int index;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return this.record.fieldString(this.index);
+    }
+}
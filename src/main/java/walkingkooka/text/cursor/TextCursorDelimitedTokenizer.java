@@ -0,0 +1,229 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor;
+
+import walkingkooka.predicate.character.CharPredicate;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.stream.push.PushableStreamConsumer;
+
+import java.util.Objects;
+
+/**
+ * Tokenizes delimited text such as CSV or TSV read from a {@link TextCursor} into records of fields.
+ * <br>
+ * Records end with any of CR, NL or CRNL, and blank lines are skipped. A field that begins with a quote character
+ * continues until its closing quote, and may contain delimiters and line endings. Within a quoted field an escape
+ * character makes the following character literal, and when the escape is also the quote character, as in CSV, only a
+ * doubled quote is an escaped quote. Outside quotes an escape that is not also a quote makes the following character
+ * literal.
+ * <br>
+ * Each record is pushed to a {@link PushableStreamConsumer} as the same reused {@link TextCursorDelimitedRecord}, whose
+ * fields are views into a single reused buffer, so no objects are created for each record once the buffers have grown
+ * to fit the largest record.
+ */
+public final class TextCursorDelimitedTokenizer {
+
+    /**
+     * A {@link TextCursorDelimitedTokenizer} for comma separated values, where fields may be quoted using double quotes
+     * and a double quote within a quoted field is escaped by doubling it.
+     */
+    public static TextCursorDelimitedTokenizer csv() {
+        return CSV;
+    }
+
+    private final static TextCursorDelimitedTokenizer CSV = new TextCursorDelimitedTokenizer(
+            CharPredicates.is(','),
+            CharPredicates.is('"'),
+            CharPredicates.is('"')
+    );
+
+    /**
+     * A {@link TextCursorDelimitedTokenizer} for tab separated values, without any quoting or escaping.
+     */
+    public static TextCursorDelimitedTokenizer tsv() {
+        return TSV;
+    }
+
+    private final static TextCursorDelimitedTokenizer TSV = new TextCursorDelimitedTokenizer(
+            CharPredicates.is('\t'),
+            CharPredicates.never(),
+            CharPredicates.never()
+    );
+
+    /**
+     * Creates a new {@link TextCursorDelimitedTokenizer}. Use {@link CharPredicates#never()} to disable quoting or
+     * escaping.
+     */
+    public static TextCursorDelimitedTokenizer with(final CharPredicate delimiter,
+                                                    final CharPredicate quote,
+                                                    final CharPredicate escape) {
+        Objects.requireNonNull(delimiter, "delimiter");
+        Objects.requireNonNull(quote, "quote");
+        Objects.requireNonNull(escape, "escape");
+
+        return new TextCursorDelimitedTokenizer(
+                delimiter,
+                quote,
+                escape
+        );
+    }
+
+    /**
+     * Private ctor use factory.
+     */
+    private TextCursorDelimitedTokenizer(final CharPredicate delimiter,
+                                         final CharPredicate quote,
+                                         final CharPredicate escape) {
+        super();
+        this.delimiter = delimiter;
+        this.quote = quote;
+        this.escape = escape;
+    }
+
+    /**
+     * Reads records from the {@link TextCursor} pushing each to the {@link PushableStreamConsumer}, until the cursor is
+     * empty or the consumer is finished. The pushed {@link TextCursorDelimitedRecord} is reused for the following
+     * record, so consumers wishing to keep fields must copy them.
+     * <br>
+     * This method may be used as the starter given to {@link PushableStreamConsumer#stream(java.util.function.Consumer)}.
+     */
+    public void tokenize(final TextCursor cursor,
+                         final PushableStreamConsumer<TextCursorDelimitedRecord> consumer) {
+        Objects.requireNonNull(cursor, "cursor");
+        Objects.requireNonNull(consumer, "consumer");
+
+        final TextCursorDelimitedRecord record = TextCursorDelimitedRecord.empty();
+
+        while (false == consumer.isFinished()) {
+            this.skipBlankLines(cursor);
+            if (cursor.isEmpty()) {
+                break;
+            }
+            record.clear();
+            this.record(cursor, record);
+            consumer.accept(record);
+        }
+    }
+
+    private void skipBlankLines(final TextCursor cursor) {
+        while (false == cursor.isEmpty() && isLineEnding(cursor.at())) {
+            cursor.next();
+        }
+    }
+
+    /**
+     * Reads the fields of a single record, consuming any line ending that follows.
+     */
+    private void record(final TextCursor cursor,
+                        final TextCursorDelimitedRecord record) {
+        final CharPredicate delimiter = this.delimiter;
+        final CharPredicate quote = this.quote;
+        final CharPredicate escape = this.escape;
+
+        boolean quoted = false == cursor.isEmpty() && this.openQuote(cursor);
+
+        for (; ; ) {
+            if (cursor.isEmpty()) {
+                if (quoted) {
+                    throw new TextCursorException("Missing closing quote at " + cursor.lineInfo().summary());
+                }
+                record.endField();
+                break;
+            }
+
+            final char c = cursor.at();
+            cursor.next();
+
+            if (quoted) {
+                final boolean isEscape = escape.test(c);
+                final boolean isQuote = quote.test(c);
+
+                if (isEscape && (false == isQuote || false == cursor.isEmpty() && quote.test(cursor.at()))) {
+                    this.escaped(c, cursor, record);
+                    continue;
+                }
+                if (isQuote) {
+                    quoted = false;
+                    continue;
+                }
+                record.append(c);
+                continue;
+            }
+
+            if (isLineEnding(c)) {
+                if ('\r' == c && false == cursor.isEmpty() && '\n' == cursor.at()) {
+                    cursor.next();
+                }
+                record.endField();
+                break;
+            }
+            if (delimiter.test(c)) {
+                record.endField();
+                quoted = false == cursor.isEmpty() && this.openQuote(cursor);
+                continue;
+            }
+            if (escape.test(c) && false == quote.test(c)) {
+                this.escaped(c, cursor, record);
+                continue;
+            }
+            record.append(c);
+        }
+    }
+
+    /**
+     * Consumes the quote that begins a field, returning true if one was present.
+     */
+    private boolean openQuote(final TextCursor cursor) {
+        final boolean quoted = this.quote.test(cursor.at());
+        if (quoted) {
+            cursor.next();
+        }
+        return quoted;
+    }
+
+    /**
+     * Appends the character following an escape, or the escape itself when the text ends.
+     */
+    private void escaped(final char escape,
+                         final TextCursor cursor,
+                         final TextCursorDelimitedRecord record) {
+        if (cursor.isEmpty()) {
+            record.append(escape);
+        } else {
+            record.append(cursor.at());
+            cursor.next();
+        }
+    }
+
+    private static boolean isLineEnding(final char c) {
+        return '\r' == c || '\n' == c;
+    }
+
+    private final CharPredicate delimiter;
+
+    private final CharPredicate quote;
+
+    private final CharPredicate escape;
+
+    // Object...........................................................................................................
+
+    @Override
+    public String toString() {
+        return "delimiter " + this.delimiter + " quote " + this.quote + " escape " + this.escape;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.util;
+
+import walkingkooka.Cast;
+
+import java.util.Objects;
+
+/**
+ * A lock free {@link Interner} that holds strong references in a fixed size table, where each value may only occupy
+ * the slot selected by its hash code. A value replaces any different value in its slot, so canonical instances are
+ * best effort, but memory is bounded and no locking is required. Values must be immutable, so racing writes of a slot
+ * at worst lose a canonical instance.
+ */
+final class InternerBounded<T> implements Interner<T> {
+
+    static <T> InternerBounded<T> with(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid size " + size + " <= 0");
+        }
+        return new InternerBounded<>(size);
+    }
+
+    private final static int MAX_SIZE = 1 << 30;
+
+    private InternerBounded(final int size) {
+        super();
+
+        final int tableSize = size >= MAX_SIZE ?
+                MAX_SIZE :
+                Integer.highestOneBit(size - 1) << 1;
+        this.table = new Object[Math.max(1, tableSize)];
+        this.mask = this.table.length - 1;
+    }
+
+    @Override
+    public T intern(final T value) {
+        Objects.requireNonNull(value, "value");
+
+        final int hash = value.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & this.mask;
+        final Object[] table = this.table;
+
+        final Object existing = table[index];
+        final T intern;
+        if (value.equals(existing)) {
+            intern = Cast.to(existing);
+        } else {
+            table[index] = value;
+            intern = value;
+        }
+        return intern;
+    }
+
+    // @VisibleForTesting
+    final Object[] table;
+
+    private final int mask;
+
+    @Override
+    public String toString() {
+        return "bounded " + this.table.length;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.util;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.Cast;
+import walkingkooka.collect.map.Maps;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An {@link Interner} that holds weak references to its canonical instances, so values may be garbage collected once
+ * they are no longer used elsewhere. Values are spread across several independently locked stripes, to reduce
+ * contention between threads.
+ */
+@GwtIncompatible
+final class InternerWeak<T> implements Interner<T> {
+
+    static <T> InternerWeak<T> create() {
+        return new InternerWeak<>();
+    }
+
+    // @VisibleForTesting
+    final static int STRIPES = 32;
+
+    private InternerWeak() {
+        super();
+
+        final Map<T, WeakReference<T>>[] stripes = newStripes();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = Maps.weak();
+        }
+        this.stripes = stripes;
+    }
+
+    private static <T> Map<T, WeakReference<T>>[] newStripes() {
+        return Cast.to(new Map<?, ?>[STRIPES]);
+    }
+
+    @Override
+    public T intern(final T value) {
+        Objects.requireNonNull(value, "value");
+
+        final int hash = value.hashCode();
+        final Map<T, WeakReference<T>> stripe = this.stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+
+        synchronized (stripe) {
+            final WeakReference<T> reference = stripe.get(value);
+            T intern = null != reference ?
+                    reference.get() :
+                    null;
+            if (null == intern) {
+                stripe.put(value, new WeakReference<>(value));
+                intern = value;
+            }
+            return intern;
+        }
+    }
+
+    // @VisibleForTesting
+    int size() {
+        int size = 0;
+        for (final Map<T, WeakReference<T>> stripe : this.stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private final Map<T, WeakReference<T>>[] stripes;
+
+    @Override
+    public String toString() {
+        return "weak";
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.util;
+
+import javaemul.internal.annotations.GwtIncompatible;
+import walkingkooka.reflect.PublicStaticHelper;
+
+/**
+ * A collection of factory methods to create {@link Interner}.
+ */
+public final class Interners implements PublicStaticHelper {
+
+    /**
+     * {@see InternerBounded}
+     */
+    public static <T> Interner<T> bounded(final int size) {
+        return InternerBounded.with(size);
+    }
+
+    /**
+     * {@see InternerWeak}
+     */
+    @GwtIncompatible
+    public static <T> Interner<T> weak() {
+        return InternerWeak.create();
+    }
+
+    /**
+     * Stop creation
+     */
+    private Interners() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -20,6 +20,7 @@ package walkingkooka.util;
 import walkingkooka.naming.Path;
 import walkingkooka.naming.PathSeparator;
 import walkingkooka.text.CharSequences;
+import walkingkooka.text.PooledBuilder;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -94,12 +95,13 @@ final public class PropertiesPath implements Path<PropertiesPath, PropertiesName
             throw new IllegalArgumentException(PropertiesPath.CANNOT_APPEND_ROOT_NAME);
         }
 
-        final StringBuilder path = new StringBuilder();
-        path.append(this.path);
-        path.append(PropertiesPath.SEPARATOR.character());
-        path.append(name.value());
+        try (final PooledBuilder path = CharSequences.borrow()) {
+            path.append(this.path);
+            path.append(PropertiesPath.SEPARATOR.character());
+            path.append(name.value());
 
-        return new PropertiesPath(path.toString(), name, Optional.of(this));
+            return new PropertiesPath(path.toString(), name, Optional.of(this));
+        }
     }
 
     /**
@@ -151,6 +151,22 @@ final public class ListsTest implements PublicStaticHelperTesting<Lists>,
         this.checkEquals(Lists.of(a, b), immutable, "defensive copy not taken");
     }
 
+    @Test
+    public void testPersistent() {
+        assertSame(Lists.persistent(), Lists.persistent());
+        this.checkEquals(Lists.empty(), Lists.persistent());
+    }
+
+    @Test
+    public void testImmutablePersistent() {
+        final List<String> persistent = Lists.<String>persistent()
+                .append("a1")
+                .append("b2");
+        this.isImmutableAndCheck(persistent, true);
+        assertSame(persistent, Lists.immutable(persistent));
+        this.isImmutableAndCheck(persistent.subList(0, 1), true);
+    }
+
     @Test
     public void testReadOnly() {
         final List<String> list = Lists.array();
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.list;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.build.BuilderTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PersistentListBuilderTest implements ClassTesting2<PersistentListBuilder<String>>,
+        BuilderTesting<PersistentListBuilder<String>, PersistentList<String>> {
+
+    @Test
+    public void testAddAllNullFails() {
+        assertThrows(NullPointerException.class, () -> this.createBuilder().addAll(null));
+    }
+
+    @Test
+    public void testBuildEmpty() {
+        this.buildAndCheck(this.createBuilder(), PersistentList.empty());
+    }
+
+    @Test
+    public void testAddAll() {
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            expected.add(i * 17);
+        }
+
+        final PersistentList<Integer> list = PersistentList.<Integer>empty()
+                .builder()
+                .addAll(expected)
+                .build();
+        this.checkEquals(expected, list);
+        this.checkEquals(expected.size(), list.size(), "size");
+    }
+
+    @Test
+    public void testBuiltListNotChangedByLaterAdd() {
+        final PersistentListBuilder<Integer> builder = PersistentList.<Integer>empty()
+                .builder();
+        final List<Integer> expected = new ArrayList<>();
+        final List<PersistentList<Integer>> lists = new ArrayList<>();
+        final List<List<Integer>> expectedLists = new ArrayList<>();
+
+        for (int i = 0; i < 1500; i++) {
+            builder.add(i);
+            expected.add(i);
+
+            if (i % 97 == 0) {
+                lists.add(builder.build());
+                expectedLists.add(new ArrayList<>(expected));
+            }
+        }
+
+        for (int i = 0; i < lists.size(); i++) {
+            this.checkEquals(expectedLists.get(i), lists.get(i), "list " + i);
+        }
+    }
+
+    @Test
+    public void testOriginalListNotChanged() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100; i++) {
+            list = list.append(i);
+        }
+
+        final List<Integer> before = new ArrayList<>(list);
+
+        final PersistentListBuilder<Integer> builder = list.builder();
+        for (int i = 0; i < 100; i++) {
+            builder.add(-i);
+        }
+
+        this.checkEquals(before, list);
+        this.checkEquals(200, builder.size(), "size");
+        this.checkEquals(-99, builder.build().get(199), "last");
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                this.createBuilder()
+                        .add("1a")
+                        .add("2b"),
+                "[1a, 2b]"
+        );
+    }
+
+    @Override
+    public PersistentListBuilder<String> createBuilder() {
+        return PersistentList.<String>empty()
+                .builder();
+    }
+
+    @Override
+    public Class<PersistentList<String>> builderProductType() {
+        return Cast.to(PersistentList.class);
+    }
+
+    @Override
+    public Class<PersistentListBuilder<String>> type() {
+        return Cast.to(PersistentListBuilder.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.list;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.iterator.IteratorTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PersistentListTest implements ClassTesting2<PersistentList<String>>,
+        ListTesting2<PersistentList<String>, String>,
+        HashCodeEqualsDefinedTesting2<PersistentList<String>>,
+        IteratorTesting,
+        ToStringTesting<PersistentList<String>> {
+
+    private final static String ELEMENT1 = "1a";
+    private final static String ELEMENT2 = "2b";
+
+    @Test
+    public void testEmpty() {
+        final PersistentList<String> list = PersistentList.empty();
+        this.sizeAndCheck(list, 0);
+        this.checkEquals(Lists.empty(), list);
+        this.toStringAndCheck(list, "[]");
+    }
+
+    @Test
+    public void testAppend() {
+        final PersistentList<String> empty = PersistentList.empty();
+        final PersistentList<String> list = empty.append(ELEMENT1);
+
+        this.sizeAndCheck(empty, 0);
+        this.sizeAndCheck(list, 1);
+        this.getAndCheck(list, 0, ELEMENT1);
+    }
+
+    @Test
+    public void testAppendNull() {
+        final PersistentList<String> list = this.createList()
+                .append(null);
+        this.getAndCheck(list, 2, null);
+        this.checkEquals(Lists.of(ELEMENT1, ELEMENT2, null), list);
+    }
+
+    @Test
+    public void testAddFails() {
+        this.addFails(this.createList(), "fails!!!");
+    }
+
+    @Test
+    public void testRemoveFails() {
+        this.removeFails(this.createList(), ELEMENT1);
+    }
+
+    @Test
+    public void testGetInvalidIndexFails() {
+        this.getFails(this.createList(), 2);
+    }
+
+    @Test
+    public void testReplace() {
+        final PersistentList<String> list = this.createList();
+        final PersistentList<String> replaced = list.replace(1, "3c");
+
+        this.checkEquals(Lists.of(ELEMENT1, ELEMENT2), list);
+        this.checkEquals(Lists.of(ELEMENT1, "3c"), replaced);
+    }
+
+    @Test
+    public void testReplaceSame() {
+        final PersistentList<String> list = this.createList();
+        assertSame(list, list.replace(0, ELEMENT1));
+    }
+
+    @Test
+    public void testReplaceInvalidIndexFails() {
+        assertThrows(IndexOutOfBoundsException.class, () -> this.createList().replace(2, "!"));
+    }
+
+    @Test
+    public void testWithoutLastEmptyFails() {
+        assertThrows(IllegalStateException.class, () -> PersistentList.empty().withoutLast());
+    }
+
+    @Test
+    public void testWithoutLast() {
+        final PersistentList<String> list = this.createList();
+
+        this.checkEquals(Lists.of(ELEMENT1), list.withoutLast());
+        assertSame(PersistentList.empty(), list.withoutLast().withoutLast());
+    }
+
+    @Test
+    public void testManyAppendReplaceWithoutLast() {
+        final List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        final List<PersistentList<Integer>> versions = new ArrayList<>();
+
+        // crosses the boundaries of the tail, the root and the second level
+        final int count = 32 * 32 + 32 * 3 + 5;
+        for (int i = 0; i < count; i++) {
+            list = list.append(i);
+            expected.add(i);
+            versions.add(list);
+        }
+        this.checkList(expected, list);
+
+        for (int i = 0; i < count; i++) {
+            this.checkEquals(i + 1, versions.get(i).size(), "version size");
+            this.checkEquals(i, versions.get(i).get(i), "version last");
+        }
+
+        for (int i = 0; i < count; i = i + 7) {
+            list = list.replace(i, -i);
+            expected.set(i, -i);
+        }
+        this.checkList(expected, list);
+
+        while (!expected.isEmpty()) {
+            list = list.withoutLast();
+            expected.remove(expected.size() - 1);
+
+            if (expected.size() % 31 == 0) {
+                this.checkList(expected, list);
+            }
+        }
+
+        assertSame(PersistentList.empty(), list);
+    }
+
+    @Test
+    public void testManyRandom() {
+        final Random random = new Random(1);
+        final List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+
+        for (int i = 0; i < 5000; i++) {
+            final int operation = random.nextInt(10);
+            if (operation < 6 || expected.isEmpty()) {
+                list = list.append(i);
+                expected.add(i);
+            } else {
+                if (operation < 8) {
+                    final int index = random.nextInt(expected.size());
+                    list = list.replace(index, i);
+                    expected.set(index, i);
+                } else {
+                    list = list.withoutLast();
+                    expected.remove(expected.size() - 1);
+                }
+            }
+        }
+
+        this.checkList(expected, list);
+    }
+
+    @Test
+    public void testBuilderSameAsAppend() {
+        final PersistentListBuilder<Integer> builder = PersistentList.<Integer>empty()
+                .builder();
+        PersistentList<Integer> list = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            builder.add(i);
+            list = list.append(i);
+        }
+
+        this.checkList(list, builder.build());
+    }
+
+    private void checkList(final List<Integer> expected,
+                           final List<Integer> list) {
+        this.checkEquals(expected, list);
+        this.checkEquals(expected.hashCode(), list.hashCode(), "hashCode");
+        this.sizeAndCheck(list, expected.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            this.getAndCheck(list, i, expected.get(i));
+        }
+    }
+
+    @Test
+    public void testSubList() {
+        PersistentList<Integer> list = PersistentList.empty();
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list = list.append(i);
+            expected.add(i);
+        }
+
+        final List<Integer> subList = list.subList(30, 70);
+        this.checkList(expected.subList(30, 70), subList);
+        this.checkList(expected.subList(35, 45), subList.subList(5, 15));
+        this.checkEquals(PersistentListSubList.class, subList.getClass(), "subList");
+    }
+
+    @Test
+    public void testSubListAll() {
+        final PersistentList<String> list = this.createList();
+        assertSame(list, list.subList(0, 2));
+    }
+
+    @Test
+    public void testSubListEmpty() {
+        assertSame(PersistentList.empty(), this.createList().subList(1, 1));
+    }
+
+    @Test
+    public void testSubListInvalidRangeFails() {
+        assertThrows(IndexOutOfBoundsException.class, () -> this.createList().subList(0, 3));
+    }
+
+    @Test
+    public void testSubListFromGreaterThanToFails() {
+        assertThrows(IllegalArgumentException.class, () -> this.createList().subList(2, 1));
+    }
+
+    @Test
+    public void testSubListGetInvalidIndexFails() {
+        final List<Integer> list = PersistentList.<Integer>empty()
+                .append(1)
+                .append(2)
+                .append(3)
+                .subList(1, 2);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    }
+
+    @Test
+    public void testIterator() {
+        this.iterateAndCheck(
+                this.createList().iterator(),
+                ELEMENT1,
+                ELEMENT2
+        );
+    }
+
+    @Test
+    public void testIteratorNextWhenEmptyFails() {
+        final Iterator<String> iterator = this.createList().iterator();
+        iterator.next();
+        iterator.next();
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testIteratorRemoveFails() {
+        final Iterator<String> iterator = this.createList().iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    public void testEqualsArrayList() {
+        this.checkEquals(
+                Lists.of(ELEMENT1, ELEMENT2),
+                this.createList()
+        );
+    }
+
+    @Test
+    public void testEqualsDifferent() {
+        this.checkNotEquals(
+                this.createList().append("3c")
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createList(), "[1a, 2b]");
+    }
+
+    @Override
+    public PersistentList<String> createList() {
+        return PersistentList.<String>empty()
+                .append(ELEMENT1)
+                .append(ELEMENT2);
+    }
+
+    @Override
+    public PersistentList<String> createObject() {
+        return this.createList();
+    }
+
+    @Override
+    public Class<PersistentList<String>> type() {
+        return Cast.to(PersistentList.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class CacheFrequencySketchTest implements ClassTesting2<CacheFrequencySketch>,
+        ToStringTesting<CacheFrequencySketch> {
+
+    @Test
+    public void testFrequencyNeverIncremented() {
+        this.frequencyAndCheck(CacheFrequencySketch.empty(), 123, 0);
+    }
+
+    @Test
+    public void testIncrement() {
+        final CacheFrequencySketch sketch = CacheFrequencySketch.empty();
+        sketch.increment(123);
+        sketch.increment(123);
+        sketch.increment(123);
+
+        this.frequencyAndCheck(sketch, 123, 3);
+    }
+
+    @Test
+    public void testIncrementDifferentHashes() {
+        final CacheFrequencySketch sketch = CacheFrequencySketch.empty();
+        sketch.increment(1);
+        sketch.increment(2);
+        sketch.increment(2);
+
+        this.frequencyAndCheck(sketch, 1, 1);
+        this.frequencyAndCheck(sketch, 2, 2);
+    }
+
+    @Test
+    public void testIncrementSaturates() {
+        final CacheFrequencySketch sketch = CacheFrequencySketch.empty();
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(123);
+        }
+
+        this.frequencyAndCheck(sketch, 123, CacheFrequencySketch.MAX_FREQUENCY);
+    }
+
+    @Test
+    public void testResetHalves() {
+        final CacheFrequencySketch sketch = CacheFrequencySketch.empty();
+        for (int i = 0; i < 14; i++) {
+            sketch.increment(-1);
+        }
+
+        // the sample size of the smallest table is 80
+        for (int i = 0; i < 66; i++) {
+            sketch.increment(i);
+        }
+
+        this.frequencyAndCheck(sketch, -1, 7);
+    }
+
+    @Test
+    public void testEnsureCapacityKeeps() {
+        final CacheFrequencySketch sketch = CacheFrequencySketch.empty();
+        sketch.increment(123);
+        sketch.increment(123);
+        sketch.increment(456);
+        sketch.ensureCapacity(1000);
+
+        this.frequencyAndCheck(sketch, 123, 2);
+        this.frequencyAndCheck(sketch, 456, 1);
+        this.toStringAndCheck(sketch, "words=1024 additions=3");
+    }
+
+    @Test
+    public void testEnsureCapacitySmallerKeeps() {
+        final CacheFrequencySketch sketch = CacheFrequencySketch.empty();
+        sketch.increment(123);
+        sketch.ensureCapacity(2);
+
+        this.frequencyAndCheck(sketch, 123, 1);
+    }
+
+    private void frequencyAndCheck(final CacheFrequencySketch sketch,
+                                   final int hash,
+                                   final int expected) {
+        this.checkEquals(
+                expected,
+                sketch.frequency(hash),
+                () -> sketch + " frequency " + hash
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final CacheFrequencySketch sketch = CacheFrequencySketch.empty();
+        sketch.increment(1);
+
+        this.toStringAndCheck(sketch, "words=8 additions=1");
+    }
+
+    @Override
+    public Class<CacheFrequencySketch> type() {
+        return CacheFrequencySketch.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CacheStatsTest implements ClassTesting2<CacheStats>,
+        HashCodeEqualsDefinedTesting2<CacheStats>,
+        ToStringTesting<CacheStats> {
+
+    @Test
+    public void testWithNegativeHitCountFails() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> CacheStats.with(-1, 2, 3, 4, 5, 6)
+        );
+    }
+
+    @Test
+    public void testWithNegativeEvictionWeightFails() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> CacheStats.with(1, 2, 3, 4, 5, -1)
+        );
+    }
+
+    @Test
+    public void testWith() {
+        final CacheStats stats = this.createObject();
+
+        this.checkEquals(1L, stats.hitCount(), "hitCount");
+        this.checkEquals(3L, stats.missCount(), "missCount");
+        this.checkEquals(5L, stats.loadSuccessCount(), "loadSuccessCount");
+        this.checkEquals(7L, stats.loadFailureCount(), "loadFailureCount");
+        this.checkEquals(9L, stats.evictionCount(), "evictionCount");
+        this.checkEquals(11L, stats.evictionWeight(), "evictionWeight");
+    }
+
+    @Test
+    public void testRequestCountAndHitRate() {
+        final CacheStats stats = this.createObject();
+
+        this.checkEquals(4L, stats.requestCount(), "requestCount");
+        this.checkEquals(0.25, stats.hitRate(), "hitRate");
+    }
+
+    @Test
+    public void testHitRateNoRequests() {
+        this.checkEquals(
+                1.0,
+                CacheStats.with(0, 0, 0, 0, 0, 0).hitRate()
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentHitCount() {
+        this.checkNotEquals(CacheStats.with(2, 3, 5, 7, 9, 11));
+    }
+
+    @Test
+    public void testEqualsDifferentEvictionWeight() {
+        this.checkNotEquals(CacheStats.with(1, 3, 5, 7, 9, 12));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                this.createObject(),
+                "hits=1 misses=3 loadSuccesses=5 loadFailures=7 evictions=9 evictionWeight=11"
+        );
+    }
+
+    @Override
+    public CacheStats createObject() {
+        return CacheStats.with(1, 3, 5, 7, 9, 11);
+    }
+
+    @Override
+    public Class<CacheStats> type() {
+        return CacheStats.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,646 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CacheTest implements ClassTesting2<Cache<String, Integer>>,
+        MapTesting<Cache<String, Integer>, String, Integer>,
+        ToStringTesting<Cache<String, Integer>> {
+
+    private final static String KEY1 = "a1";
+    private final static Integer VALUE1 = 111;
+
+    private final static String KEY2 = "b2";
+    private final static Integer VALUE2 = 222;
+
+    private final static ToIntBiFunction<Object, Object> ONE = (k, v) -> 1;
+
+    private final static long NEVER = Long.MAX_VALUE;
+
+    private final static LongSupplier NOW = () -> 0L;
+
+    @Test
+    public void testWithZeroMaxWeightFails() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> Cache.with(0, ONE, NEVER, NOW)
+        );
+    }
+
+    @Test
+    public void testWithNullWeigherFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> Cache.with(1, null, NEVER, NOW)
+        );
+    }
+
+    @Test
+    public void testWithZeroExpireAfterWriteFails() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> Cache.with(1, ONE, 0, NOW)
+        );
+    }
+
+    @Test
+    public void testWithNullNowFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> Cache.with(1, ONE, NEVER, null)
+        );
+    }
+
+    @Test
+    public void testPutNullKeyFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> this.createMap().put(null, VALUE1)
+        );
+    }
+
+    @Test
+    public void testPutNullValueFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> this.createMap().put(KEY1, null)
+        );
+    }
+
+    @Test
+    public void testPutNegativeWeightFails() {
+        final Cache<String, Integer> cache = Cache.with(10, (k, v) -> -1, NEVER, NOW);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> cache.put(KEY1, VALUE1)
+        );
+        this.sizeAndCheck(cache, 0);
+    }
+
+    @Test
+    public void testEmpty() {
+        final Cache<String, Integer> cache = this.createMap();
+
+        this.sizeAndCheck(cache, 0);
+        this.getAndCheckAbsent(cache, KEY1);
+        this.getAndCheckAbsent(cache, null);
+        this.containsKeyAndCheckAbsent(cache, KEY1);
+        this.checkEquals(0L, cache.weight(), "weight");
+    }
+
+    @Test
+    public void testPutAndGet() {
+        final Cache<String, Integer> cache = this.createMap();
+
+        this.checkEquals(null, cache.put(KEY1, VALUE1));
+        this.checkEquals(null, cache.put(KEY2, VALUE2));
+
+        this.getAndCheck(cache, KEY1, VALUE1);
+        this.getAndCheck(cache, KEY2, VALUE2);
+        this.containsKeyAndCheck(cache, KEY1);
+        this.sizeAndCheck(cache, 2);
+        this.checkEquals(2L, cache.weight(), "weight");
+    }
+
+    @Test
+    public void testPutReplaces() {
+        final Cache<String, Integer> cache = this.createMap();
+        cache.put(KEY1, VALUE1);
+
+        this.checkEquals(VALUE1, cache.put(KEY1, VALUE2));
+        this.getAndCheck(cache, KEY1, VALUE2);
+        this.sizeAndCheck(cache, 1);
+        this.checkEquals(1L, cache.weight(), "weight");
+    }
+
+    @Test
+    public void testPutIfAbsent() {
+        final Cache<String, Integer> cache = this.createMap();
+
+        this.checkEquals(null, cache.putIfAbsent(KEY1, VALUE1));
+        this.checkEquals(VALUE1, cache.putIfAbsent(KEY1, VALUE2));
+        this.getAndCheck(cache, KEY1, VALUE1);
+    }
+
+    @Test
+    public void testRemove() {
+        final Cache<String, Integer> cache = this.createMap();
+        cache.put(KEY1, VALUE1);
+        cache.put(KEY2, VALUE2);
+
+        this.checkEquals(VALUE1, cache.remove(KEY1));
+        this.checkEquals(null, cache.remove(KEY1));
+        this.checkEquals(null, cache.remove(null));
+
+        this.getAndCheckAbsent(cache, KEY1);
+        this.sizeAndCheck(cache, 1);
+        this.checkEquals(1L, cache.weight(), "weight");
+    }
+
+    @Test
+    public void testClear() {
+        final Cache<String, Integer> cache = this.createMap();
+        cache.put(KEY1, VALUE1);
+        cache.put(KEY2, VALUE2);
+        cache.clear();
+
+        this.sizeAndCheck(cache, 0);
+        this.getAndCheckAbsent(cache, KEY1);
+        this.checkEquals(0L, cache.weight(), "weight");
+
+        cache.put(KEY1, VALUE2);
+        this.getAndCheck(cache, KEY1, VALUE2);
+    }
+
+    @Test
+    public void testEntrySetSnapshot() {
+        final Cache<String, Integer> cache = this.createMap();
+        cache.put(KEY1, VALUE1);
+        cache.put(KEY2, VALUE2);
+
+        final Map<String, Integer> expected = Maps.sorted();
+        expected.put(KEY1, VALUE1);
+        expected.put(KEY2, VALUE2);
+
+        this.checkEquals(expected, cache);
+        this.checkEquals(expected.entrySet(), cache.entrySet());
+        this.checkEquals(expected.hashCode(), cache.hashCode());
+
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> cache.entrySet().clear()
+        );
+    }
+
+    // eviction.........................................................................................................
+
+    @Test
+    public void testEvictionKeepsWithinMaxWeight() {
+        final Cache<Integer, Integer> cache = Cache.with(100, ONE, NEVER, NOW);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+
+        this.checkEquals(100, cache.size(), "size");
+        this.checkEquals(100L, cache.weight(), "weight");
+
+        final CacheStats stats = cache.stats();
+        this.checkEquals(900L, stats.evictionCount(), "evictionCount");
+        this.checkEquals(900L, stats.evictionWeight(), "evictionWeight");
+    }
+
+    @Test
+    public void testEvictionWeighted() {
+        final Cache<String, String> cache = Cache.with(10, (k, v) -> v.length(), NEVER, NOW);
+        cache.put("a", "1234");
+        cache.put("b", "1234");
+        cache.put("c", "1234");
+
+        this.checkEquals(true, cache.weight() <= 10, () -> "weight " + cache.weight());
+        this.checkEquals(2, cache.size(), "size");
+        this.checkEquals(4L, cache.stats().evictionWeight(), "evictionWeight");
+    }
+
+    @Test
+    public void testEvictionHeavierThanMaxWeight() {
+        final Cache<String, String> cache = Cache.with(10, (k, v) -> v.length(), NEVER, NOW);
+        cache.put("a", "12345678901");
+
+        this.checkEquals(0, cache.size(), "size");
+        this.checkEquals(0L, cache.weight(), "weight");
+    }
+
+    @Test
+    public void testEvictionKeepsFrequentlyRead() {
+        final Cache<Integer, Integer> cache = Cache.with(100, ONE, NEVER, NOW);
+
+        final int hot = 50;
+        for (int i = 0; i < hot; i++) {
+            cache.put(i, i);
+        }
+        for (int i = 0; i < hot * 3; i++) {
+            cache.get(i % hot);
+        }
+
+        // each hot key is read once for every two cold keys written
+        final Random random = new Random(1);
+        for (int i = 0; i < 10000; i++) {
+            final int key = i % hot;
+            this.checkEquals(key, cache.get(key), () -> "hot key " + key);
+
+            for (int j = 0; j < 2; j++) {
+                final int cold = hot + random.nextInt(100000);
+                cache.put(cold, cold);
+            }
+        }
+
+        int retained = 0;
+        for (int i = 0; i < hot; i++) {
+            if (cache.containsKey(i)) {
+                retained++;
+            }
+        }
+        this.checkEquals(hot, retained, "hot keys retained");
+    }
+
+    @Test
+    public void testEvictionScanResistant() {
+        final Cache<Integer, Integer> cache = Cache.with(100, ONE, NEVER, NOW);
+
+        final int hot = 20;
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < hot; i++) {
+                cache.computeIfAbsent(i, k -> k);
+            }
+
+            // a scan of keys read only once
+            for (int i = 0; i < 50; i++) {
+                final int key = 1000 + round * 50 + i;
+                cache.computeIfAbsent(key, k -> k);
+            }
+        }
+
+        int retained = 0;
+        for (int i = 0; i < hot; i++) {
+            if (cache.containsKey(i)) {
+                retained++;
+            }
+        }
+        this.checkEquals(hot, retained, "hot keys retained");
+    }
+
+    // expiry...........................................................................................................
+
+    @Test
+    public void testExpireAfterWrite() {
+        final long[] now = new long[1];
+        final Cache<String, Integer> cache = Cache.with(100, ONE, 10, () -> now[0]);
+
+        cache.put(KEY1, VALUE1);
+        now[0] = 5;
+        cache.put(KEY2, VALUE2);
+
+        now[0] = 9;
+        this.getAndCheck(cache, KEY1, VALUE1);
+
+        now[0] = 10;
+        this.getAndCheckAbsent(cache, KEY1);
+        this.containsKeyAndCheckAbsent(cache, KEY1);
+        this.getAndCheck(cache, KEY2, VALUE2);
+        this.sizeAndCheck(cache, 1);
+        this.checkEquals(1L, cache.weight(), "weight");
+
+        now[0] = 15;
+        this.sizeAndCheck(cache, 0);
+        this.checkEquals(0L, cache.weight(), "weight");
+        this.checkEquals(0L, cache.stats().evictionCount(), "evictionCount");
+    }
+
+    @Test
+    public void testExpireAfterWritePutReplacesExpired() {
+        final long[] now = new long[1];
+        final Cache<String, Integer> cache = Cache.with(100, ONE, 10, () -> now[0]);
+
+        cache.put(KEY1, VALUE1);
+        now[0] = 20;
+
+        this.checkEquals(null, cache.putIfAbsent(KEY1, VALUE2));
+        this.getAndCheck(cache, KEY1, VALUE2);
+
+        now[0] = 25;
+        this.getAndCheck(cache, KEY1, VALUE2);
+    }
+
+    @Test
+    public void testExpireAfterWriteComputeIfAbsentReloads() {
+        final long[] now = new long[1];
+        final Cache<String, Integer> cache = Cache.with(100, ONE, 10, () -> now[0]);
+
+        this.checkEquals(VALUE1, cache.computeIfAbsent(KEY1, k -> VALUE1));
+        now[0] = 10;
+        this.checkEquals(VALUE2, cache.computeIfAbsent(KEY1, k -> VALUE2));
+
+        this.sizeAndCheck(cache, 1);
+        this.checkEquals(1L, cache.weight(), "weight");
+    }
+
+    // computeIfAbsent..................................................................................................
+
+    @Test
+    public void testComputeIfAbsentNullKeyFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> this.createMap().computeIfAbsent(null, k -> VALUE1)
+        );
+    }
+
+    @Test
+    public void testComputeIfAbsentNullFunctionFails() {
+        assertThrows(
+                NullPointerException.class,
+                () -> this.createMap().computeIfAbsent(KEY1, null)
+        );
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        final Cache<String, Integer> cache = this.createMap();
+        final AtomicInteger loads = new AtomicInteger();
+
+        this.checkEquals(VALUE1, cache.computeIfAbsent(KEY1, k -> {
+            loads.incrementAndGet();
+            return VALUE1;
+        }));
+        this.checkEquals(VALUE1, cache.computeIfAbsent(KEY1, k -> {
+            loads.incrementAndGet();
+            return VALUE2;
+        }));
+
+        this.checkEquals(1, loads.get(), "loads");
+        this.getAndCheck(cache, KEY1, VALUE1);
+        this.checkEquals(CacheStats.with(2, 1, 1, 0, 0, 0), cache.stats());
+    }
+
+    @Test
+    public void testComputeIfAbsentNullNotKept() {
+        final Cache<String, Integer> cache = this.createMap();
+
+        this.checkEquals(null, cache.computeIfAbsent(KEY1, k -> null));
+        this.containsKeyAndCheckAbsent(cache, KEY1);
+        this.sizeAndCheck(cache, 0);
+        this.checkEquals(1L, cache.stats().loadFailureCount(), "loadFailureCount");
+    }
+
+    @Test
+    public void testComputeIfAbsentThrows() {
+        final Cache<String, Integer> cache = this.createMap();
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> cache.computeIfAbsent(KEY1, k -> {
+                    throw new IllegalArgumentException();
+                })
+        );
+        this.containsKeyAndCheckAbsent(cache, KEY1);
+        this.checkEquals(1L, cache.stats().loadFailureCount(), "loadFailureCount");
+
+        this.checkEquals(VALUE1, cache.computeIfAbsent(KEY1, k -> VALUE1));
+    }
+
+    @Test
+    public void testComputeIfAbsentRecursiveFails() {
+        final Cache<String, Integer> cache = this.createMap();
+
+        final IllegalStateException thrown = assertThrows(
+                IllegalStateException.class,
+                () -> cache.computeIfAbsent(KEY1, k -> cache.computeIfAbsent(KEY1, kk -> VALUE1))
+        );
+        this.checkEquals("Recursive load of " + KEY1, thrown.getMessage());
+        this.containsKeyAndCheckAbsent(cache, KEY1);
+
+        this.checkEquals(VALUE2, cache.computeIfAbsent(KEY1, k -> VALUE2));
+    }
+
+    @Test
+    public void testComputeIfAbsentOtherKey() {
+        final Cache<String, Integer> cache = this.createMap();
+
+        this.checkEquals(
+                VALUE1,
+                cache.computeIfAbsent(KEY1, k -> cache.computeIfAbsent(KEY2, kk -> VALUE2) - VALUE2 + VALUE1)
+        );
+        this.getAndCheck(cache, KEY1, VALUE1);
+        this.getAndCheck(cache, KEY2, VALUE2);
+    }
+
+    @Test
+    public void testComputeIfAbsentPutDuringLoad() {
+        final Cache<String, Integer> cache = this.createMap();
+
+        this.checkEquals(
+                VALUE1,
+                cache.computeIfAbsent(KEY1, k -> {
+                    cache.put(KEY1, VALUE2);
+                    return VALUE1;
+                })
+        );
+        this.getAndCheck(cache, KEY1, VALUE2);
+        this.checkEquals(1L, cache.weight(), "weight");
+    }
+
+    // stats............................................................................................................
+
+    @Test
+    public void testStats() {
+        final Cache<String, Integer> cache = this.createMap();
+        cache.put(KEY1, VALUE1);
+
+        cache.get(KEY1);
+        cache.get(KEY1);
+        cache.get(KEY2);
+        cache.containsKey(KEY2);
+
+        this.checkEquals(CacheStats.with(2, 1, 0, 0, 0, 0), cache.stats());
+    }
+
+    @Test
+    public void testReadsBeyondBufferDropped() {
+        final Cache<String, Integer> cache = this.createMap();
+        cache.put(KEY1, VALUE1);
+
+        for (int i = 0; i < CacheSegment.READ_BUFFER_SIZE * 4; i++) {
+            this.getAndCheck(cache, KEY1, VALUE1);
+        }
+
+        this.checkEquals(
+                CacheSegment.READ_BUFFER_SIZE * 4L,
+                cache.stats().hitCount(),
+                "hitCount"
+        );
+        cache.cleanUp();
+        this.getAndCheck(cache, KEY1, VALUE1);
+    }
+
+    @Test
+    public void testReadDoesNotWaitForWrite() throws Exception {
+        final Cache<String, Integer> cache = this.createMap();
+        cache.put(KEY1, VALUE1);
+
+        final Object policy = this.policy(cache);
+        final AtomicInteger reads = new AtomicInteger();
+        final Thread reader = new Thread(() -> {
+            for (int i = 0; i < CacheSegment.READ_BUFFER_SIZE * 4; i++) {
+                cache.get(KEY1);
+                reads.incrementAndGet();
+            }
+        });
+
+        // holding the policy monitor blocks all writes
+        synchronized (policy) {
+            reader.start();
+            reader.join(10000);
+        }
+
+        this.checkEquals(CacheSegment.READ_BUFFER_SIZE * 4, reads.get(), "reads");
+    }
+
+    private Object policy(final Cache<?, ?> cache) throws Exception {
+        final Field field = Cache.class.getDeclaredField("policy");
+        field.setAccessible(true);
+        return field.get(cache);
+    }
+
+    // concurrency......................................................................................................
+
+    @Test
+    public void testConcurrentComputeIfAbsentLoadsOnce() throws Exception {
+        final Cache<Integer, Integer> cache = Cache.with(1000, ONE, NEVER, NOW);
+        final int keyCount = 100;
+        final AtomicInteger[] loads = new AtomicInteger[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            loads[i] = new AtomicInteger();
+        }
+
+        this.concurrently(
+                8,
+                t -> {
+                    for (int i = 0; i < keyCount; i++) {
+                        final int key = (i + t * 7) % keyCount;
+                        final Integer value = cache.computeIfAbsent(key, k -> {
+                            loads[k].incrementAndGet();
+                            Thread.yield();
+                            return -k;
+                        });
+                        this.checkEquals(-key, value, "value");
+                    }
+                }
+        );
+
+        for (int i = 0; i < keyCount; i++) {
+            this.checkEquals(1, loads[i].get(), "loads of " + i);
+        }
+        this.checkEquals(keyCount, cache.size(), "size");
+    }
+
+    @Test
+    public void testConcurrentStress() throws Exception {
+        final int maxWeight = 200;
+        final Cache<Integer, Integer> cache = Cache.with(maxWeight, ONE, NEVER, NOW);
+
+        this.concurrently(
+                8,
+                t -> {
+                    final Random random = new Random(t);
+                    for (int i = 0; i < 20000; i++) {
+                        final int key = random.nextInt(1000);
+                        switch (random.nextInt(4)) {
+                            case 0:
+                                cache.put(key, key);
+                                break;
+                            case 1:
+                                cache.remove(key);
+                                break;
+                            default:
+                                final Integer value = cache.computeIfAbsent(key, k -> k);
+                                this.checkEquals(key, value, "value");
+                                break;
+                        }
+                    }
+                }
+        );
+
+        this.checkEquals(true, cache.weight() <= maxWeight, () -> "weight " + cache.weight());
+        this.checkEquals((long) cache.size(), cache.weight(), "size and weight");
+
+        for (final Map.Entry<Integer, Integer> entry : cache.entrySet()) {
+            this.checkEquals(entry.getKey(), entry.getValue(), "entry");
+        }
+    }
+
+    private void concurrently(final int threadCount,
+                              final ThreadBody body) throws Exception {
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[threadCount];
+
+        for (int t = 0; t < threadCount; t++) {
+            final int thread = t;
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    body.run(thread);
+                } catch (final Throwable cause) {
+                    failure.compareAndSet(null, cause);
+                }
+            });
+            threads[t].start();
+        }
+
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        this.checkEquals(null, failure.get(), "failure");
+    }
+
+    private interface ThreadBody {
+        void run(final int thread) throws Exception;
+    }
+
+    // toString.........................................................................................................
+
+    @Test
+    public void testToString() {
+        final Cache<String, Integer> cache = this.createMap();
+        cache.put(KEY1, VALUE1);
+
+        this.toStringAndCheck(cache, "{a1=111}");
+    }
+
+    @Override
+    public Cache<String, Integer> createMap() {
+        return Cache.with(100, ONE, NEVER, NOW);
+    }
+
+    @Override
+    public Class<Cache<String, Integer>> type() {
+        return Cast.to(Cache.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
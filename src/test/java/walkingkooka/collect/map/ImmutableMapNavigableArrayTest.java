@@ -0,0 +1,288 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ImmutableMapNavigableArrayTest extends ImmutableMapTestCase3<ImmutableMapNavigableArray<String, Integer>> {
+
+    @Test
+    public void testCopyKeepsComparator() {
+        final NavigableMap<String, Integer> sorted = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        sorted.put("b", 2);
+        sorted.put("A", 1);
+
+        final ImmutableMapNavigableArray<String, Integer> map = ImmutableMapNavigableArray.copy(sorted);
+        this.checkEquals(String.CASE_INSENSITIVE_ORDER, map.comparator(), "comparator");
+        this.getAndCheck(map, "a", 1);
+        this.getAndCheck(map, "B", 2);
+        this.iterateAndCheck(map.keySet().iterator(), "A", "b");
+    }
+
+    @Test
+    public void testGetAbsent() {
+        this.getAndCheckAbsent(this.createMap(), "z");
+    }
+
+    @Test
+    public void testFirstAndLastKey() {
+        final ImmutableMapNavigableArray<String, Integer> map = this.createMap();
+        this.checkEquals(KEY1, map.firstKey(), "firstKey");
+        this.checkEquals(KEY2, map.lastKey(), "lastKey");
+        this.checkEquals(Maps.entry(KEY1, VALUE1), map.firstEntry(), "firstEntry");
+        this.checkEquals(Maps.entry(KEY2, VALUE2), map.lastEntry(), "lastEntry");
+    }
+
+    @Test
+    public void testFirstKeyEmptyFails() {
+        assertThrows(NoSuchElementException.class, () -> this.createMap().headMap("a").firstKey());
+    }
+
+    @Test
+    public void testPollFirstEntryFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createMap().pollFirstEntry());
+    }
+
+    @Test
+    public void testSubMapFromGreaterThanToFails() {
+        assertThrows(IllegalArgumentException.class, () -> this.createMap().subMap("z", "a"));
+    }
+
+    @Test
+    public void testNavigationSameAsTreeMap() {
+        final TreeMap<String, Integer> tree = tree();
+        final ImmutableMapNavigableArray<String, Integer> map = ImmutableMapNavigableArray.copy(tree);
+
+        this.checkNavigation(tree, map);
+        this.checkNavigation(tree.descendingMap(), map.descendingMap());
+    }
+
+    @Test
+    public void testSubMapsSameAsTreeMap() {
+        final TreeMap<String, Integer> tree = tree();
+        final ImmutableMapNavigableArray<String, Integer> map = ImmutableMapNavigableArray.copy(tree);
+
+        for (final String from : KEYS) {
+            for (final String to : KEYS) {
+                if (from.compareTo(to) > 0) {
+                    continue;
+                }
+                for (final boolean fromInclusive : new boolean[]{false, true}) {
+                    for (final boolean toInclusive : new boolean[]{false, true}) {
+                        this.checkNavigation(
+                                tree.subMap(from, fromInclusive, to, toInclusive),
+                                map.subMap(from, fromInclusive, to, toInclusive)
+                        );
+                    }
+                }
+            }
+
+            for (final boolean inclusive : new boolean[]{false, true}) {
+                this.checkNavigation(tree.headMap(from, inclusive), map.headMap(from, inclusive));
+                this.checkNavigation(tree.tailMap(from, inclusive), map.tailMap(from, inclusive));
+                this.checkNavigation(
+                        tree.descendingMap().headMap(from, inclusive),
+                        map.descendingMap().headMap(from, inclusive)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testHeadMapTailMapOutOfRangeFails() {
+        final ImmutableMapNavigableArray<String, Integer> map = ImmutableMapNavigableArray.copy(tree());
+
+        assertThrows(IllegalArgumentException.class, () -> map.headMap("c").tailMap("e"));
+        assertThrows(IllegalArgumentException.class, () -> map.tailMap("e").headMap("c"));
+        assertThrows(IllegalArgumentException.class, () -> map.subMap("c", "e").subMap("a", "d"));
+        assertThrows(IllegalArgumentException.class, () -> map.headMap("d", false).headMap("d", true));
+    }
+
+    @Test
+    public void testNestedSubMapsSameAsTreeMap() {
+        final TreeMap<String, Integer> tree = tree();
+        final ImmutableMapNavigableArray<String, Integer> map = ImmutableMapNavigableArray.copy(tree);
+
+        for (final boolean inclusive : new boolean[]{false, true}) {
+            this.checkNestedSubMaps(tree.headMap("d", inclusive), map.headMap("d", inclusive));
+            this.checkNestedSubMaps(tree.headMap("e", inclusive), map.headMap("e", inclusive));
+            this.checkNestedSubMaps(tree.tailMap("d", inclusive), map.tailMap("d", inclusive));
+            this.checkNestedSubMaps(tree.subMap("c", inclusive, "f", !inclusive), map.subMap("c", inclusive, "f", !inclusive));
+            this.checkNestedSubMaps(
+                    tree.descendingMap().headMap("d", inclusive),
+                    map.descendingMap().headMap("d", inclusive)
+            );
+        }
+    }
+
+    private void checkNestedSubMaps(final NavigableMap<String, Integer> expected,
+                                    final NavigableMap<String, Integer> map) {
+        for (final String from : KEYS) {
+            for (final boolean fromInclusive : new boolean[]{false, true}) {
+                this.checkNestedSubMap(
+                        () -> expected.headMap(from, fromInclusive),
+                        () -> map.headMap(from, fromInclusive)
+                );
+                this.checkNestedSubMap(
+                        () -> expected.tailMap(from, fromInclusive),
+                        () -> map.tailMap(from, fromInclusive)
+                );
+
+                for (final String to : KEYS) {
+                    for (final boolean toInclusive : new boolean[]{false, true}) {
+                        this.checkNestedSubMap(
+                                () -> expected.subMap(from, fromInclusive, to, toInclusive),
+                                () -> map.subMap(from, fromInclusive, to, toInclusive)
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    private void checkNestedSubMap(final Supplier<NavigableMap<String, Integer>> expected,
+                                   final Supplier<NavigableMap<String, Integer>> map) {
+        NavigableMap<String, Integer> expectedMap;
+        try {
+            expectedMap = expected.get();
+        } catch (final IllegalArgumentException cause) {
+            expectedMap = null;
+        }
+
+        if (null == expectedMap) {
+            assertThrows(IllegalArgumentException.class, map::get);
+        } else {
+            this.checkNavigation(expectedMap, map.get());
+        }
+    }
+
+    private final static String[] KEYS = new String[]{"", "a", "b", "c", "d", "e", "f", "g", "h", "z"};
+
+    private static TreeMap<String, Integer> tree() {
+        final TreeMap<String, Integer> tree = new TreeMap<>();
+        tree.put("b", 2);
+        tree.put("d", 4);
+        tree.put("f", 6);
+        tree.put("h", 8);
+        return tree;
+    }
+
+    private void checkNavigation(final NavigableMap<String, Integer> expected,
+                                 final NavigableMap<String, Integer> map) {
+        this.checkEquals(expected, map);
+        this.checkEquals(expected.hashCode(), map.hashCode(), "hashCode");
+        this.checkEquals(expected.toString(), map.toString(), "toString");
+        this.checkEquals(expected.size(), map.size(), () -> "size " + map);
+        this.checkEquals(expected.firstEntry(), map.firstEntry(), () -> "firstEntry " + map);
+        this.checkEquals(expected.lastEntry(), map.lastEntry(), () -> "lastEntry " + map);
+        this.checkEquals(new ArrayList<>(expected.values()), new ArrayList<>(map.values()), () -> "values " + map);
+        this.checkEquals(new ArrayList<>(expected.descendingKeySet()), new ArrayList<>(map.descendingKeySet()), () -> "descendingKeySet " + map);
+
+        for (final String key : KEYS) {
+            this.checkEquals(expected.get(key), map.get(key), () -> "get " + key + " " + map);
+            this.checkEquals(expected.lowerKey(key), map.lowerKey(key), () -> "lowerKey " + key + " " + map);
+            this.checkEquals(expected.floorKey(key), map.floorKey(key), () -> "floorKey " + key + " " + map);
+            this.checkEquals(expected.ceilingKey(key), map.ceilingKey(key), () -> "ceilingKey " + key + " " + map);
+            this.checkEquals(expected.higherKey(key), map.higherKey(key), () -> "higherKey " + key + " " + map);
+            this.checkEquals(expected.floorEntry(key), map.floorEntry(key), () -> "floorEntry " + key + " " + map);
+        }
+    }
+
+    @Test
+    public void testForEach() {
+        final Map<String, Integer> visited = Maps.ordered();
+        this.createMap().forEach(visited::put);
+
+        this.checkEquals(this.createMap(), visited);
+    }
+
+    @Test
+    public void testHashCodeSameAsHashMap() {
+        final Map<String, Integer> hash = Maps.hash();
+        hash.put(KEY1, VALUE1);
+        hash.put(KEY2, null);
+
+        this.checkEquals(
+                hash.hashCode(),
+                this.createMap(KEY1, VALUE1, KEY2, null).hashCode()
+        );
+    }
+
+    @Test
+    public void testEntrySetHashCodeSameAsTreeMap() {
+        final TreeMap<String, Integer> tree = new TreeMap<>();
+        for (int i = 0; i < 6; i++) {
+            tree.put("key" + i, i * 111);
+        }
+
+        final Map<String, Integer> immutable = Maps.immutable(tree);
+        this.checkEquals(
+                tree.entrySet().hashCode(),
+                immutable.entrySet().hashCode(),
+                "entrySet hashCode"
+        );
+        this.checkEquals(tree.entrySet(), immutable.entrySet());
+        this.checkEquals(
+                tree.firstEntry().hashCode(),
+                ImmutableMapNavigableArray.copy(tree).firstEntry().hashCode(),
+                "firstEntry hashCode"
+        );
+    }
+
+    @Test
+    public void testNullKeyComparator() {
+        final TreeMap<String, Integer> tree = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+        tree.put(null, 1);
+        tree.put("a", 2);
+
+        final ImmutableMapNavigableArray<String, Integer> map = ImmutableMapNavigableArray.copy(tree);
+        this.getAndCheck(map, null, 1);
+        this.checkEquals(null, map.firstKey(), "firstKey");
+        this.checkEquals(null, map.firstEntry().getKey(), "firstEntry key");
+        this.checkEquals(tree.entrySet(), map.entrySet());
+        this.checkEquals(tree.entrySet().hashCode(), map.entrySet().hashCode(), "entrySet hashCode");
+        this.checkEquals(tree.toString(), map.toString(), "toString");
+    }
+
+    @Override
+    ImmutableMapNavigableArray<String, Integer> createMap(final String key0,
+                                                          final Integer value0,
+                                                          final String key1,
+                                                          final Integer value1) {
+        final TreeMap<String, Integer> tree = new TreeMap<>(Comparator.naturalOrder());
+        tree.put(key0, value0);
+        tree.put(key1, value1);
+        return ImmutableMapNavigableArray.copy(tree);
+    }
+
+    @Override
+    public Class<ImmutableMapNavigableArray<String, Integer>> type() {
+        return Cast.to(ImmutableMapNavigableArray.class);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+
+import java.util.Collections;
+import java.util.TreeMap;
+
+public final class ImmutableMapNavigableDescendingTest extends ImmutableMapTestCase3<ImmutableMapNavigableDescending<String, Integer>> {
+
+    @Test
+    public void testFirstAndLastKey() {
+        final ImmutableMapNavigableDescending<String, Integer> map = this.createMap();
+        this.checkEquals(KEY1, map.firstKey(), "firstKey");
+        this.checkEquals(KEY2, map.lastKey(), "lastKey");
+    }
+
+    @Test
+    public void testDescendingMap() {
+        final ImmutableMapNavigableDescending<String, Integer> map = this.createMap();
+        this.iterateAndCheck(map.descendingMap().keySet().iterator(), KEY2, KEY1);
+        this.checkEquals(map, map.descendingMap().descendingMap());
+    }
+
+    @Test
+    public void testHeadMap() {
+        this.checkEquals(
+                Maps.of(KEY1, VALUE1),
+                this.createMap().headMap(KEY2)
+        );
+    }
+
+    @Test
+    public void testTailMap() {
+        this.checkEquals(
+                Maps.of(KEY2, VALUE2),
+                this.createMap().tailMap(KEY2)
+        );
+    }
+
+    /**
+     * Creates an ascending map in reverse order and then returns its descending view, which is in natural order.
+     */
+    @Override
+    ImmutableMapNavigableDescending<String, Integer> createMap(final String key0,
+                                                               final Integer value0,
+                                                               final String key1,
+                                                               final Integer value1) {
+        final TreeMap<String, Integer> tree = new TreeMap<>(Collections.reverseOrder());
+        tree.put(key0, value0);
+        tree.put(key1, value1);
+        return Cast.to(
+                ImmutableMapNavigableArray.copy(tree)
+                        .descendingMap()
+        );
+    }
+
+    @Override
+    public Class<ImmutableMapNavigableDescending<String, Integer>> type() {
+        return Cast.to(ImmutableMapNavigableDescending.class);
+    }
+}
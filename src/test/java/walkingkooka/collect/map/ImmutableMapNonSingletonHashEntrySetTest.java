@@ -19,22 +19,20 @@ package walkingkooka.collect.map;
 
 import walkingkooka.Cast;
 
-import java.util.Map;
+public final class ImmutableMapNonSingletonHashEntrySetTest extends ImmutableMapEntrySetTestCase2<ImmutableMapNonSingletonHashEntrySet<String, Integer>> {
 
-public final class ImmutableMapNonSingletonMapEntrySetTest extends ImmutableMapEntrySetTestCase2<ImmutableMapNonSingletonMapEntrySet<String, Integer>> {
     @Override
-    ImmutableMapNonSingletonMapEntrySet<String, Integer> createSet(final String key0,
-                                                                   final Integer value0,
-                                                                   final String key1,
-                                                                   final Integer value1) {
-        final Map<String, Integer> map = Maps.ordered();
-        map.put(KEY1, VALUE1);
-        map.put(KEY2, VALUE2);
-        return ImmutableMapNonSingletonMapEntrySet.with(map);
+    ImmutableMapNonSingletonHashEntrySet<String, Integer> createSet(final String key0,
+                                                                    final Integer value0,
+                                                                    final String key1,
+                                                                    final Integer value1) {
+        return ImmutableMapNonSingletonHashEntrySet.with(
+                ImmutableMapNonSingletonHash.with(key0, value0, key1, value1)
+        );
     }
 
     @Override
-    public Class<ImmutableMapNonSingletonMapEntrySet<String, Integer>> type() {
-        return Cast.to(ImmutableMapNonSingletonMapEntrySet.class);
+    public Class<ImmutableMapNonSingletonHashEntrySet<String, Integer>> type() {
+        return Cast.to(ImmutableMapNonSingletonHashEntrySet.class);
     }
 }
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+public final class ImmutableMapNonSingletonHashTest extends ImmutableMapTestCase3<ImmutableMapNonSingletonHash<String, Integer>> {
+
+    @Test
+    public void testWithNullKey() {
+        final ImmutableMapNonSingletonHash<String, Integer> map = ImmutableMapNonSingletonHash.with(KEY1, VALUE1, null, VALUE2);
+        this.getAndCheck(map, null, VALUE2);
+        this.getAndCheck(map, KEY1, VALUE1);
+        this.containsKeyAndCheck(map, null);
+    }
+
+    @Test
+    public void testCopyNullKey() {
+        final Map<String, Integer> map = Maps.ordered();
+        map.put(KEY1, VALUE1);
+        map.put(null, VALUE2);
+
+        final ImmutableMapNonSingletonHash<String, Integer> copy = ImmutableMapNonSingletonHash.copy(map);
+        this.getAndCheck(copy, null, VALUE2);
+        this.checkEquals(map, copy);
+        this.checkEquals(map.hashCode(), copy.hashCode(), "hashCode");
+        this.checkEquals(map.entrySet().hashCode(), copy.entrySet().hashCode(), "entrySet hashCode");
+    }
+
+    @Test
+    public void testDuplicateNullKeyKeepsFirstPositionAndLastValue() {
+        final ImmutableMapNonSingletonHash<String, Integer> map = ImmutableMapNonSingletonHash.with(
+                null, VALUE1,
+                KEY2, VALUE2,
+                null, 333
+        );
+
+        this.sizeAndCheck(map, 2);
+        this.getAndCheck(map, null, 333);
+        this.iterateAndCheck(map.keySet().iterator(), null, KEY2);
+        this.iterateAndCheck(map.values().iterator(), 333, VALUE2);
+    }
+
+    @Test
+    public void testGetNullKeyAbsent() {
+        this.getAndCheckAbsent(this.createMap(), null);
+    }
+
+    @Test
+    public void testGetNullValue() {
+        final ImmutableMapNonSingletonHash<String, Integer> map = this.createMap(KEY1, null, KEY2, VALUE2);
+        this.getAndCheck(map, KEY1, null);
+        this.getAndCheck(map, KEY2, VALUE2);
+        this.containsKeyAndCheck(map, KEY1);
+    }
+
+    @Test
+    public void testDuplicateKeyKeepsFirstPositionAndLastValue() {
+        final ImmutableMapNonSingletonHash<String, Integer> map = ImmutableMapNonSingletonHash.with(
+                KEY1, VALUE1,
+                KEY2, VALUE2,
+                KEY1, 333
+        );
+
+        this.sizeAndCheck(map, 2);
+        this.getAndCheck(map, KEY1, 333);
+        this.iterateAndCheck(map.keySet().iterator(), KEY1, KEY2);
+        this.iterateAndCheck(map.values().iterator(), 333, VALUE2);
+    }
+
+    @Test
+    public void testCopyKeepsInsertionOrder() {
+        final Map<String, Integer> ordered = Maps.ordered();
+        for (int i = 99; i >= 0; i--) {
+            ordered.put("key" + i, i);
+        }
+
+        final ImmutableMapNonSingletonHash<String, Integer> map = ImmutableMapNonSingletonHash.copy(ordered);
+        this.checkEquals(ordered, map);
+        this.checkEquals(ordered.toString(), map.toString());
+        this.iterateAndCheck(map.keySet().iterator(), ordered.keySet().toArray(new String[0]));
+
+        for (int i = 0; i < 100; i++) {
+            this.getAndCheck(map, "key" + i, i);
+        }
+        this.getAndCheckAbsent(map, "key100");
+    }
+
+    @Test
+    public void testCopyIdentityHashMapEqualKeys() {
+        final Map<String, Integer> identity = new IdentityHashMap<>();
+        identity.put(KEY1, VALUE1);
+        identity.put(new String(KEY1), VALUE1);
+        identity.put(KEY2, VALUE2);
+
+        final ImmutableMapNonSingletonHash<String, Integer> map = ImmutableMapNonSingletonHash.copy(identity);
+        this.sizeAndCheck(map, 2);
+        this.getAndCheck(map, KEY1, VALUE1);
+        this.getAndCheck(map, KEY2, VALUE2);
+    }
+
+    @Test
+    public void testCollidingHashCodes() {
+        // "Aa" and "BB" have the same hash code
+        final ImmutableMapNonSingletonHash<String, Integer> map = ImmutableMapNonSingletonHash.with(
+                "Aa", 1,
+                "BB", 2,
+                "AaAa", 3,
+                "BBBB", 4,
+                "AaBB", 5
+        );
+
+        this.getAndCheck(map, "Aa", 1);
+        this.getAndCheck(map, "BB", 2);
+        this.getAndCheck(map, "AaAa", 3);
+        this.getAndCheck(map, "BBBB", 4);
+        this.getAndCheck(map, "AaBB", 5);
+        this.getAndCheckAbsent(map, "BBAa");
+    }
+
+    @Test
+    public void testEntrySetContains() {
+        final ImmutableMapNonSingletonHash<String, Integer> map = this.createMap();
+
+        this.checkEquals(true, map.entrySet().contains(Maps.entry(KEY1, VALUE1)), "contains");
+        this.checkEquals(false, map.entrySet().contains(Maps.entry(KEY1, VALUE2)), "contains different value");
+        this.checkEquals(false, map.entrySet().contains(KEY1), "contains key");
+    }
+
+    @Test
+    public void testForEach() {
+        final Map<String, Integer> visited = Maps.ordered();
+        this.createMap().forEach(visited::put);
+
+        this.checkEquals(this.createMap(), visited);
+    }
+
+    @Test
+    public void testHashCodeSameAsHashMap() {
+        final Map<String, Integer> hash = Maps.hash();
+        hash.put(KEY1, VALUE1);
+        hash.put(KEY2, null);
+
+        this.checkEquals(
+                hash.hashCode(),
+                this.createMap(KEY1, VALUE1, KEY2, null).hashCode()
+        );
+    }
+
+    @Test
+    public void testEntrySetHashCodeSameAsHashMap() {
+        final Map<String, Integer> hash = Maps.hash();
+        for (int i = 0; i < 6; i++) {
+            hash.put("key" + i, i * 111);
+        }
+
+        final Map<String, Integer> immutable = Maps.immutable(hash);
+        this.checkEquals(
+                hash.entrySet().hashCode(),
+                immutable.entrySet().hashCode(),
+                "entrySet hashCode"
+        );
+        this.checkEquals(hash.entrySet(), immutable.entrySet());
+    }
+
+    @Test
+    public void testEqualsHashMap() {
+        final Map<String, Integer> hash = Maps.hash();
+        hash.put(KEY2, VALUE2);
+        hash.put(KEY1, VALUE1);
+
+        this.checkEquals(hash, this.createMap());
+    }
+
+    @Override
+    ImmutableMapNonSingletonHash<String, Integer> createMap(final String key0,
+                                                            final Integer value0,
+                                                            final String key1,
+                                                            final Integer value1) {
+        return ImmutableMapNonSingletonHash.with(key0, value0, key1, value1);
+    }
+
+    @Override
+    public Class<ImmutableMapNonSingletonHash<String, Integer>> type() {
+        return Cast.to(ImmutableMapNonSingletonHash.class);
+    }
+}
@@ -52,11 +52,8 @@ public final class ImmutableMapTest extends ImmutableMapTestCase<ImmutableMap<St
     }
 
     @Test
-    public void testIsImmutableMapImmutable() {
-        final Map<String, Integer> map = Maps.hash();
-        map.put(KEY1, VALUE1);
-
-        this.immutableAndCheck(ImmutableMap.map(map), true);
+    public void testIsImmutableHashImmutable() {
+        this.immutableAndCheck(ImmutableMap.hash(KEY1, VALUE1, KEY2, VALUE2), true);
     }
 
     private void immutableAndCheck(final Map<String, Integer> map, final boolean expected) {
@@ -65,6 +65,26 @@ final public class MapsTest implements PublicStaticHelperTesting<Maps>,
     final static String KEY7 = "G7";
     final static Integer VALUE7 = 77;
 
+    @Test
+    public void testCache() {
+        final Map<String, Integer> cache = Maps.cache(1, (k, v) -> 1);
+        cache.put(KEY1, VALUE1);
+        cache.put(KEY2, VALUE2);
+
+        this.checkEquals(1, cache.size(), "size");
+    }
+
+    @Test
+    public void testCacheExpireAfterWrite() {
+        final long[] now = new long[1];
+        final Map<String, Integer> cache = Maps.cache(10, (k, v) -> 1, 5, () -> now[0]);
+        cache.put(KEY1, VALUE1);
+        this.checkEquals(VALUE1, cache.get(KEY1));
+
+        now[0] = 5;
+        this.checkEquals(null, cache.get(KEY1));
+    }
+
     @Test
     public void testOfKeyValue() {
         this.checkType(Maps.of(KEY1, VALUE1), ImmutableMapSingleton.class);
@@ -87,12 +107,12 @@ final public class MapsTest implements PublicStaticHelperTesting<Maps>,
 
     @Test
     public void testOfKeyValue5() {
-        this.checkType(Maps.of(KEY1, VALUE1, KEY2, VALUE2, KEY3, VALUE3, KEY4, VALUE4, KEY5, VALUE5), ImmutableMapNonSingletonArray.class);
+        this.checkType(Maps.of(KEY1, VALUE1, KEY2, VALUE2, KEY3, VALUE3, KEY4, VALUE4, KEY5, VALUE5), ImmutableMapNonSingletonHash.class);
     }
 
     @Test
     public void testOfKeyValue6() {
-        this.checkType(Maps.of(KEY1, VALUE1, KEY2, VALUE2, KEY3, VALUE3, KEY4, VALUE4, KEY5, VALUE5, KEY6, VALUE6), ImmutableMapNonSingletonArray.class);
+        this.checkType(Maps.of(KEY1, VALUE1, KEY2, VALUE2, KEY3, VALUE3, KEY4, VALUE4, KEY5, VALUE5, KEY6, VALUE6), ImmutableMapNonSingletonHash.class);
     }
 
     @Test
@@ -143,7 +163,42 @@ final public class MapsTest implements PublicStaticHelperTesting<Maps>,
         map.put(KEY3, VALUE3);
         map.put(KEY4, VALUE4);
         map.put(KEY5, VALUE5);
-        this.checkType(Maps.immutable(map), ImmutableMapNonSingletonMap.class);
+        this.checkType(Maps.immutable(map), ImmutableMapNonSingletonHash.class);
+    }
+
+    @Test
+    public void testImmutableMap1NullKey() {
+        final Map<String, Integer> map = Maps.ordered();
+        map.put(null, VALUE1);
+        this.immutableAndCheck(map);
+    }
+
+    @Test
+    public void testImmutableMap2NullKey() {
+        final Map<String, Integer> map = Maps.ordered();
+        map.put(null, VALUE1);
+        map.put(KEY2, VALUE2);
+        this.immutableAndCheck(map);
+    }
+
+    @Test
+    public void testImmutableMap5NullKey() {
+        final Map<String, Integer> map = Maps.ordered();
+        map.put(KEY1, VALUE1);
+        map.put(KEY2, VALUE2);
+        map.put(null, VALUE3);
+        map.put(KEY4, VALUE4);
+        map.put(KEY5, VALUE5);
+        this.immutableAndCheck(map);
+    }
+
+    private void immutableAndCheck(final Map<String, Integer> map) {
+        final Map<String, Integer> immutable = Maps.immutable(map);
+        this.checkEquals(map, immutable);
+        this.checkEquals(map.toString(), immutable.toString(), "toString");
+        this.checkEquals(map.hashCode(), immutable.hashCode(), "hashCode");
+        this.checkEquals(map.get(null), immutable.get(null), "get null");
+        this.checkEquals(true, immutable.containsKey(null), "containsKey null");
     }
 
     @Test
@@ -156,7 +211,7 @@ final public class MapsTest implements PublicStaticHelperTesting<Maps>,
         map.put(KEY5, VALUE5);
 
         final Map<String, Integer> immutable = Maps.immutable(map);
-        this.checkType(immutable, ImmutableMapNonSingletonMap.class);
+        this.checkType(immutable, ImmutableMapNavigableArray.class);
 
         this.iterateAndCheck(immutable.keySet().iterator(), KEY4, KEY5, KEY1, KEY2, KEY3);
     }
@@ -171,7 +226,7 @@ final public class MapsTest implements PublicStaticHelperTesting<Maps>,
         map.put("e5", VALUE5);
 
         final Map<String, Integer> immutable = Maps.immutable(map);
-        this.checkType(immutable, ImmutableMapNonSingletonMap.class);
+        this.checkType(immutable, ImmutableMapNavigableArray.class);
 
         this.iterateAndCheck(immutable.keySet().iterator(), "a1", "B2", "c3", "D4", "e5");
     }
@@ -182,6 +237,12 @@ final public class MapsTest implements PublicStaticHelperTesting<Maps>,
                 () -> " reflect of " + immutable);
     }
 
+    @Test
+    public void testPersistent() {
+        assertSame(Maps.persistent(), Maps.persistent());
+        this.checkEquals(Maps.empty(), Maps.persistent());
+    }
+
     @Test
     public void testReadOnlyImmutableMap() {
         final Map<String, Integer> immutable = Maps.of(KEY1, VALUE1);
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.build.BuilderTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PersistentMapBuilderTest implements ClassTesting2<PersistentMapBuilder<String, Integer>>,
+        BuilderTesting<PersistentMapBuilder<String, Integer>, PersistentMap<String, Integer>> {
+
+    @Test
+    public void testPutNullKeyFails() {
+        assertThrows(NullPointerException.class, () -> this.createBuilder().put(null, 1));
+    }
+
+    @Test
+    public void testPutAllNullFails() {
+        assertThrows(NullPointerException.class, () -> this.createBuilder().putAll(null));
+    }
+
+    @Test
+    public void testBuildEmpty() {
+        this.buildAndCheck(this.createBuilder(), PersistentMap.empty());
+    }
+
+    @Test
+    public void testPutAll() {
+        final Map<Integer, String> expected = Maps.sorted();
+        for (int i = 0; i < 5000; i++) {
+            expected.put(i * 17, "" + i);
+        }
+
+        final PersistentMap<Integer, String> map = PersistentMap.<Integer, String>empty()
+                .builder()
+                .putAll(expected)
+                .build();
+        this.checkEquals(expected, map);
+        this.checkEquals(expected.size(), map.size(), "size");
+    }
+
+    @Test
+    public void testSameAsWith() {
+        final PersistentMapBuilder<Integer, Integer> builder = PersistentMap.<Integer, Integer>empty().builder();
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+
+        for (int i = 0; i < 3000; i++) {
+            builder.put(i, i);
+            map = map.with(i, i);
+        }
+        for (int i = 0; i < 3000; i = i + 3) {
+            builder.remove(i);
+            map = map.without(i);
+        }
+
+        this.checkEquals(map.size(), builder.size(), "size");
+        this.checkEquals(map, builder.build());
+    }
+
+    @Test
+    public void testBuiltMapNotChangedByLaterPut() {
+        final PersistentMapBuilder<Integer, Integer> builder = PersistentMap.<Integer, Integer>empty().builder();
+        for (int i = 0; i < 100; i++) {
+            builder.put(i, i);
+        }
+
+        final PersistentMap<Integer, Integer> first = builder.build();
+        for (int i = 0; i < 100; i++) {
+            builder.put(i, -i);
+        }
+        builder.put(100, 100);
+        builder.remove(1);
+
+        final PersistentMap<Integer, Integer> second = builder.build();
+
+        this.checkEquals(100, first.size(), "first size");
+        for (int i = 0; i < 100; i++) {
+            this.checkEquals(i, first.get(i), "first " + i);
+        }
+
+        this.checkEquals(100, second.size(), "second size");
+        this.checkEquals(-2, second.get(2), "second 2");
+        this.checkEquals(false, second.containsKey(1), "second containsKey 1");
+    }
+
+    @Test
+    public void testOriginalMapNotChanged() {
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 100; i++) {
+            map = map.with(i, i);
+        }
+
+        final PersistentMap<Integer, Integer> original = map;
+        final PersistentMapBuilder<Integer, Integer> builder = map.builder();
+        for (int i = 0; i < 100; i++) {
+            builder.put(i, -i);
+        }
+        builder.remove(50);
+
+        this.checkEquals(100, original.size(), "size");
+        for (int i = 0; i < 100; i++) {
+            this.checkEquals(i, original.get(i), "original " + i);
+        }
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                this.createBuilder()
+                        .put("a1", 111),
+                "{a1=111}"
+        );
+    }
+
+    @Override
+    public PersistentMapBuilder<String, Integer> createBuilder() {
+        return PersistentMap.<String, Integer>empty()
+                .builder();
+    }
+
+    @Override
+    public Class<PersistentMap<String, Integer>> builderProductType() {
+        return Cast.to(PersistentMap.class);
+    }
+
+    @Override
+    public Class<PersistentMapBuilder<String, Integer>> type() {
+        return Cast.to(PersistentMapBuilder.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
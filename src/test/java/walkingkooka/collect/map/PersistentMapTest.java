@@ -0,0 +1,415 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.map;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.iterator.IteratorTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PersistentMapTest implements ClassTesting2<PersistentMap<String, Integer>>,
+        MapTesting<PersistentMap<String, Integer>, String, Integer>,
+        HashCodeEqualsDefinedTesting2<PersistentMap<String, Integer>>,
+        IteratorTesting,
+        ToStringTesting<PersistentMap<String, Integer>> {
+
+    private final static String KEY1 = "a1";
+    private final static Integer VALUE1 = 111;
+
+    private final static String KEY2 = "b2";
+    private final static Integer VALUE2 = 222;
+
+    @Test
+    public void testEmpty() {
+        final PersistentMap<String, Integer> map = PersistentMap.empty();
+        this.sizeAndCheck(map, 0);
+        this.isEmptyAndCheck(map, true);
+        this.getAndCheckAbsent(map, KEY1);
+        this.checkEquals(Maps.empty(), map);
+        this.toStringAndCheck(map, "{}");
+    }
+
+    @Test
+    public void testWithNullKeyFails() {
+        assertThrows(NullPointerException.class, () -> PersistentMap.empty().with(null, VALUE1));
+    }
+
+    @Test
+    public void testWith() {
+        final PersistentMap<String, Integer> empty = PersistentMap.empty();
+        final PersistentMap<String, Integer> map = empty.with(KEY1, VALUE1);
+
+        this.sizeAndCheck(empty, 0);
+        this.sizeAndCheck(map, 1);
+        this.getAndCheck(map, KEY1, VALUE1);
+    }
+
+    @Test
+    public void testWithSameValue() {
+        final PersistentMap<String, Integer> map = this.createMap();
+        assertSame(map, map.with(KEY1, VALUE1));
+    }
+
+    @Test
+    public void testWithReplaceValue() {
+        final PersistentMap<String, Integer> map = this.createMap();
+        final PersistentMap<String, Integer> replaced = map.with(KEY1, 333);
+
+        this.sizeAndCheck(replaced, 2);
+        this.getAndCheck(replaced, KEY1, 333);
+        this.getAndCheck(map, KEY1, VALUE1);
+    }
+
+    @Test
+    public void testWithNullValue() {
+        final PersistentMap<String, Integer> map = this.createMap()
+                .with(KEY1, null);
+
+        this.getAndCheck(map, KEY1, null);
+        this.containsKeyAndCheck(map, KEY1);
+        this.sizeAndCheck(map, 2);
+    }
+
+    @Test
+    public void testWithout() {
+        final PersistentMap<String, Integer> map = this.createMap();
+        final PersistentMap<String, Integer> without = map.without(KEY1);
+
+        this.sizeAndCheck(without, 1);
+        this.getAndCheckAbsent(without, KEY1);
+        this.getAndCheck(without, KEY2, VALUE2);
+        this.getAndCheck(map, KEY1, VALUE1);
+    }
+
+    @Test
+    public void testWithoutAbsent() {
+        final PersistentMap<String, Integer> map = this.createMap();
+        assertSame(map, map.without("absent!"));
+    }
+
+    @Test
+    public void testWithoutNull() {
+        final PersistentMap<String, Integer> map = this.createMap();
+        assertSame(map, map.without(null));
+    }
+
+    @Test
+    public void testWithoutAll() {
+        assertSame(
+                PersistentMap.empty(),
+                this.createMap()
+                        .without(KEY1)
+                        .without(KEY2)
+        );
+    }
+
+    @Test
+    public void testWithSharesUntouchedNodes() {
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 10000; i++) {
+            map = map.with(i, i);
+        }
+
+        final PersistentMap<Integer, Integer> updated = map.with(1, -1);
+        final PersistentMapNode[] before = children(map.root);
+        final PersistentMapNode[] after = children(updated.root);
+
+        int shared = 0;
+        for (int i = 0; i < before.length; i++) {
+            if (before[i] == after[i]) {
+                shared++;
+            }
+        }
+        this.checkEquals(before.length - 1, shared, "shared root children");
+    }
+
+    private static PersistentMapNode[] children(final PersistentMapNode node) {
+        final PersistentMapNode[] children = new PersistentMapNode[node.nodeCount()];
+        for (int i = 0; i < children.length; i++) {
+            children[i] = node.node(i);
+        }
+        return children;
+    }
+
+    @Test
+    public void testCollisions() {
+        final Collision a = new Collision("a");
+        final Collision b = new Collision("b");
+        final Collision c = new Collision("c");
+        final Collision d = new Collision("d", 1);
+
+        final PersistentMap<Collision, String> map = PersistentMap.<Collision, String>empty()
+                .with(a, "A")
+                .with(b, "B")
+                .with(d, "D")
+                .with(c, "C");
+
+        this.checkEquals(4, map.size(), "size");
+        this.checkEquals("A", map.get(a), "a");
+        this.checkEquals("B", map.get(b), "b");
+        this.checkEquals("C", map.get(c), "c");
+        this.checkEquals("D", map.get(d), "d");
+        this.checkEquals(null, map.get(new Collision("e")), "e");
+
+        final PersistentMap<Collision, String> without = map.without(b)
+                .without(a);
+        this.checkEquals(2, without.size(), "size");
+        this.checkEquals("C", without.get(c), "c");
+        this.checkEquals("D", without.get(d), "d");
+
+        this.checkEquals(
+                PersistentMap.<Collision, String>empty()
+                        .with(d, "D")
+                        .with(c, "C"),
+                without
+        );
+    }
+
+    /**
+     * A key with a hash code that differs only in the highest bits, ensuring all levels of the trie are used.
+     */
+    private static final class Collision {
+
+        Collision(final String name) {
+            this(name, 0);
+        }
+
+        Collision(final String name,
+                  final int high) {
+            this.name = name;
+            this.high = high;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0x12345678 | (this.high << 31);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Collision && this.name.equals(((Collision) other).name);
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+
+        private final String name;
+        private final int high;
+    }
+
+    @Test
+    public void testRandomAgainstHashMap() {
+        final Random random = new Random(1);
+        final Map<Integer, Integer> expected = Maps.hash();
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+
+        for (int i = 0; i < 20000; i++) {
+            // small hash codes with many shared low bits
+            final Integer key = random.nextInt(2000) * 1024;
+
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.without(key);
+            } else {
+                final Integer value = random.nextInt();
+                expected.put(key, value);
+                map = map.with(key, value);
+            }
+            this.checkEquals(expected.size(), map.size(), "size");
+        }
+
+        this.checkEquals(expected, map);
+        this.checkEquals(map, expected);
+        this.checkEquals(expected.hashCode(), map.hashCode(), "hashCode");
+        this.checkEquals((long) expected.size(), map.entrySet().stream().count(), "entrySet count");
+    }
+
+    @Test
+    public void testEqualsDifferentInsertionOrder() {
+        PersistentMap<Integer, Integer> ascending = PersistentMap.empty();
+        PersistentMap<Integer, Integer> descending = PersistentMap.empty();
+
+        for (int i = 0; i < 1000; i++) {
+            ascending = ascending.with(i * 33, i);
+            descending = descending.with((999 - i) * 33, 999 - i);
+        }
+
+        this.checkEquals(ascending, descending);
+    }
+
+    @Test
+    public void testEqualsAfterWithAndWithout() {
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 1000; i++) {
+            map = map.with(i, i);
+        }
+
+        PersistentMap<Integer, Integer> removed = map;
+        for (int i = 0; i < 1000; i = i + 2) {
+            removed = removed.without(i);
+        }
+
+        PersistentMap<Integer, Integer> odd = PersistentMap.empty();
+        for (int i = 1; i < 1000; i = i + 2) {
+            odd = odd.with(i, i);
+        }
+
+        this.checkEquals(odd, removed);
+    }
+
+    @Test
+    public void testEqualsSharedNodes() {
+        final PersistentMap<String, Integer> map = this.createMap();
+        this.checkEquals(
+                map.with("c3", 333),
+                map.with("c3", 333)
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentValue() {
+        this.checkNotEquals(this.createMap().with(KEY1, 999));
+    }
+
+    @Test
+    public void testEqualsHashMap() {
+        final Map<String, Integer> hash = Maps.hash();
+        hash.put(KEY1, VALUE1);
+        hash.put(KEY2, VALUE2);
+
+        this.checkEquals(hash, this.createMap());
+        this.checkEquals(this.createMap(), hash);
+    }
+
+    @Test
+    public void testBuilder() {
+        final PersistentMap<String, Integer> map = this.createMap();
+        final PersistentMap<String, Integer> built = map.builder()
+                .put("c3", 333)
+                .remove(KEY1)
+                .build();
+
+        this.sizeAndCheck(built, 2);
+        this.getAndCheck(built, "c3", 333);
+        this.getAndCheckAbsent(built, KEY1);
+        this.checkEquals(this.createMap(), map, "original changed");
+    }
+
+    @Test
+    public void testIterator() {
+        final Iterator<Entry<String, Integer>> iterator = this.createMap()
+                .entrySet()
+                .iterator();
+
+        final Map<String, Integer> visited = Maps.sorted();
+        while (iterator.hasNext()) {
+            final Entry<String, Integer> entry = iterator.next();
+            visited.put(entry.getKey(), entry.getValue());
+        }
+        this.checkEquals(this.createMap(), visited);
+
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testIteratorRemoveFails() {
+        this.removeUnsupportedFails(this.createMap().entrySet().iterator());
+    }
+
+    @Test
+    public void testForEach() {
+        final Map<String, Integer> visited = Maps.sorted();
+        this.createMap().forEach(visited::put);
+
+        this.checkEquals(this.createMap(), visited);
+    }
+
+    @Test
+    public void testPutFails() {
+        this.putFails(this.createMap(), "c3", 333);
+    }
+
+    @Test
+    public void testRemoveFails() {
+        this.removeFails(this.createMap(), KEY1);
+    }
+
+    @Test
+    public void testImmutable() {
+        final PersistentMap<String, Integer> map = this.createMap();
+        assertSame(map, Maps.immutable(map));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(PersistentMap.<String, Integer>empty().with(KEY1, VALUE1), "{a1=111}");
+    }
+
+    @Test
+    public void testEntrySetHashCodeSameAsHashMap() {
+        final Map<String, Integer> hash = Maps.hash();
+        PersistentMap<String, Integer> persistent = PersistentMap.empty();
+        for (int i = 0; i < 100; i++) {
+            hash.put("key" + i, i * 111);
+            persistent = persistent.with("key" + i, i * 111);
+        }
+
+        this.checkEquals(
+                hash.entrySet().hashCode(),
+                persistent.entrySet().hashCode(),
+                "entrySet hashCode"
+        );
+        this.checkEquals(hash.entrySet(), persistent.entrySet());
+    }
+
+    @Override
+    public PersistentMap<String, Integer> createMap() {
+        return PersistentMap.<String, Integer>empty()
+                .with(KEY1, VALUE1)
+                .with(KEY2, VALUE2);
+    }
+
+    @Override
+    public PersistentMap<String, Integer> createObject() {
+        return this.createMap();
+    }
+
+    @Override
+    public Class<PersistentMap<String, Integer>> type() {
+        return Cast.to(PersistentMap.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
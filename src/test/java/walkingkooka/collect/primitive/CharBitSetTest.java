@@ -0,0 +1,195 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.set.Sets;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CharBitSetTest implements ClassTesting2<CharBitSet>,
+        HashCodeEqualsDefinedTesting2<CharBitSet>,
+        ToStringTesting<CharBitSet> {
+
+    @Test
+    public void testEmpty() {
+        final CharBitSet set = CharBitSet.empty();
+        this.checkEquals(0, set.size(), "size");
+        this.checkEquals(true, set.isEmpty(), "isEmpty");
+        this.checkEquals(-1, set.next(0), "next");
+        this.checkEquals(false, set.contains('a'), "contains");
+        this.toStringAndCheck(set, "[]");
+    }
+
+    @Test
+    public void testAddRemove() {
+        final CharBitSet set = CharBitSet.empty();
+        this.checkEquals(true, set.add('a'), "add");
+        this.checkEquals(false, set.add('a'), "add again");
+        this.checkEquals(true, set.add(Character.MAX_VALUE), "add max");
+        this.checkEquals(2, set.size(), "size");
+
+        this.checkEquals(true, set.remove('a'), "remove");
+        this.checkEquals(false, set.remove('a'), "remove again");
+        this.checkEquals(false, set.remove('z'), "remove absent");
+        this.checkEquals(1, set.size(), "size");
+        assertArrayEquals(new char[]{Character.MAX_VALUE}, set.toArray());
+    }
+
+    @Test
+    public void testTest() {
+        final CharBitSet set = this.createObject();
+        this.checkEquals(true, set.test('b'), "test");
+        this.checkEquals(false, set.test('d'), "test");
+    }
+
+    @Test
+    public void testNext() {
+        final CharBitSet set = this.createObject();
+        this.checkEquals((int) 'a', set.next(-1), "next");
+        this.checkEquals((int) 'b', set.next('b'), "next");
+        this.checkEquals((int) 'x', set.next('c'), "next");
+        this.checkEquals(-1, set.next('y'), "next");
+        this.checkEquals(-1, set.next(Character.MAX_VALUE + 1), "next");
+    }
+
+    @Test
+    public void testSameAsHashSet() {
+        final Random random = new Random(1);
+        final Set<Character> expected = Sets.hash();
+        final CharBitSet set = CharBitSet.empty();
+
+        for (int i = 0; i < 5000; i++) {
+            final char c = (char) random.nextInt(2000);
+            if (random.nextInt(3) > 0) {
+                this.checkEquals(expected.add(c), set.add(c), "add");
+            } else {
+                this.checkEquals(expected.remove(c), set.remove(c), "remove");
+            }
+        }
+
+        this.checkEquals(expected.size(), set.size(), "size");
+        this.checkEquals(expected.hashCode(), set.hashCode(), "hashCode");
+        for (final char c : expected) {
+            this.checkEquals(true, set.contains(c), "contains");
+        }
+    }
+
+    @Test
+    public void testAddAllCharPredicate() {
+        final CharBitSet set = CharBitSet.empty();
+        set.addAll(CharPredicates.range('0', '9'));
+
+        this.checkEquals(10, set.size(), "size");
+        this.checkEquals(true, set.contains('5'), "contains");
+    }
+
+    @Test
+    public void testAddAllCharBitSet() {
+        final CharBitSet set = CharBitSet.empty();
+        set.add('z');
+        set.addAll(CharBitSet.with(new char[]{'a', Character.MAX_VALUE}));
+
+        this.checkEquals(3, set.size(), "size");
+        assertArrayEquals(new char[]{'a', 'z', Character.MAX_VALUE}, set.toArray());
+    }
+
+    @Test
+    public void testMatching() {
+        final CharBitSet set = CharBitSet.matching(CharPredicates.is('!').or(CharPredicates.is('?')));
+        this.checkEquals(2, set.size(), "size");
+        assertArrayEquals(new char[]{'!', '?'}, set.toArray());
+    }
+
+    @Test
+    public void testImmutableAddFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().add('z'));
+    }
+
+    @Test
+    public void testImmutableAddAllFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().addAll(CharPredicates.always()));
+    }
+
+    @Test
+    public void testImmutableRemoveFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().remove('a'));
+    }
+
+    @Test
+    public void testImmutableClearFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().clear());
+    }
+
+    @Test
+    public void testImmutableSame() {
+        final CharBitSet set = this.createObject();
+        assertSame(set, CharBitSet.immutable(set));
+    }
+
+    @Test
+    public void testImmutableCopy() {
+        final CharBitSet mutable = CharBitSet.empty();
+        mutable.add('a');
+
+        final CharSet immutable = CharBitSet.immutable(mutable);
+        mutable.add('b');
+
+        this.checkEquals(CharBitSet.with(new char[]{'a'}), immutable);
+    }
+
+    @Test
+    public void testEqualsDifferent() {
+        this.checkNotEquals(CharBitSet.with(new char[]{'a', 'b'}));
+    }
+
+    @Test
+    public void testHashCodeSameAsSet() {
+        this.checkEquals(Sets.of('a', 'b', 'x').hashCode(), this.createObject().hashCode());
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createObject(), "[a, b, x]");
+    }
+
+    @Override
+    public CharBitSet createObject() {
+        return CharBitSet.with(new char[]{'x', 'a', 'b'});
+    }
+
+    @Override
+    public Class<CharBitSet> type() {
+        return CharBitSet.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
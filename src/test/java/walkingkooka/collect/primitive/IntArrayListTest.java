@@ -0,0 +1,208 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class IntArrayListTest implements ClassTesting2<IntArrayList>,
+        HashCodeEqualsDefinedTesting2<IntArrayList>,
+        ToStringTesting<IntArrayList> {
+
+    @Test
+    public void testEmpty() {
+        final IntArrayList list = IntArrayList.empty();
+        this.checkEquals(0, list.size(), "size");
+        this.checkEquals(true, list.isEmpty(), "isEmpty");
+        this.toStringAndCheck(list, "[]");
+    }
+
+    @Test
+    public void testAddGet() {
+        final IntArrayList list = IntArrayList.empty();
+        for (int i = 0; i < 100; i++) {
+            list.add(i * 3);
+        }
+
+        this.checkEquals(100, list.size(), "size");
+        for (int i = 0; i < 100; i++) {
+            this.checkEquals(i * 3, list.get(i), "get " + i);
+        }
+    }
+
+    @Test
+    public void testGetInvalidIndexFails() {
+        assertThrows(IndexOutOfBoundsException.class, () -> this.createObject().get(3));
+    }
+
+    @Test
+    public void testGetNegativeIndexFails() {
+        assertThrows(IndexOutOfBoundsException.class, () -> this.createObject().get(-1));
+    }
+
+    @Test
+    public void testContainsAndIndexOf() {
+        final IntArrayList list = this.createObject();
+        this.checkEquals(true, list.contains(2), "contains");
+        this.checkEquals(false, list.contains(4), "contains");
+        this.checkEquals(1, list.indexOf(2), "indexOf");
+        this.checkEquals(-1, list.indexOf(4), "indexOf");
+    }
+
+    @Test
+    public void testSet() {
+        final IntArrayList list = this.createMutable();
+        this.checkEquals(2, list.set(1, 20), "previous");
+        assertArrayEquals(new int[]{1, 20, 3}, list.toArray());
+    }
+
+    @Test
+    public void testRemoveAt() {
+        final IntArrayList list = this.createMutable();
+        this.checkEquals(1, list.removeAt(0), "removed");
+        assertArrayEquals(new int[]{2, 3}, list.toArray());
+    }
+
+    @Test
+    public void testClear() {
+        final IntArrayList list = this.createMutable();
+        list.clear();
+        this.checkEquals(true, list.isEmpty(), "isEmpty");
+    }
+
+    @Test
+    public void testForEach() {
+        final List<Integer> visited = Lists.array();
+        this.createObject().forEach(visited::add);
+        this.checkEquals(Lists.of(1, 2, 3), visited);
+    }
+
+    @Test
+    public void testSameAsArrayList() {
+        final Random random = new Random(1);
+        final List<Integer> expected = new ArrayList<>();
+        final IntArrayList list = IntArrayList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            final int value = random.nextInt(100);
+            if (expected.isEmpty() || random.nextInt(4) > 0) {
+                expected.add(value);
+                list.add(value);
+            } else {
+                final int index = random.nextInt(expected.size());
+                this.checkEquals(expected.remove(index), list.removeAt(index), "removeAt");
+            }
+        }
+
+        this.checkEquals(expected.size(), list.size(), "size");
+        this.checkEquals(expected.hashCode(), list.hashCode(), "hashCode");
+        for (int i = 0; i < expected.size(); i++) {
+            this.checkEquals(expected.get(i), list.get(i), "get " + i);
+        }
+    }
+
+    @Test
+    public void testImmutableAddFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().add(4));
+    }
+
+    @Test
+    public void testImmutableSetFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().set(0, 4));
+    }
+
+    @Test
+    public void testImmutableRemoveAtFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().removeAt(0));
+    }
+
+    @Test
+    public void testImmutableClearFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().clear());
+    }
+
+    @Test
+    public void testImmutableSame() {
+        final IntArrayList list = this.createObject();
+        assertSame(list, IntArrayList.immutable(list));
+    }
+
+    @Test
+    public void testImmutableCopy() {
+        final IntArrayList mutable = this.createMutable();
+        final IntList immutable = IntArrayList.immutable(mutable);
+        mutable.add(4);
+
+        this.checkEquals(this.createObject(), immutable);
+    }
+
+    @Test
+    public void testHashCodeSameAsList() {
+        this.checkEquals(Lists.of(1, 2, 3).hashCode(), this.createObject().hashCode());
+    }
+
+    @Test
+    public void testEqualsMutable() {
+        this.checkEquals(this.createMutable());
+    }
+
+    @Test
+    public void testEqualsDifferent() {
+        this.checkNotEquals(IntArrayList.with(new int[]{1, 2, 4}));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createObject(), "[1, 2, 3]");
+    }
+
+    private IntArrayList createMutable() {
+        final IntArrayList list = IntArrayList.empty();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        return list;
+    }
+
+    @Override
+    public IntArrayList createObject() {
+        return IntArrayList.with(new int[]{1, 2, 3});
+    }
+
+    @Override
+    public Class<IntArrayList> type() {
+        return IntArrayList.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class IntObjectHashMapTest implements ClassTesting2<IntObjectHashMap<String>>,
+        HashCodeEqualsDefinedTesting2<IntObjectHashMap<String>>,
+        ToStringTesting<IntObjectHashMap<String>> {
+
+    @Test
+    public void testEmpty() {
+        final IntObjectHashMap<String> map = IntObjectHashMap.empty();
+        this.checkEquals(0, map.size(), "size");
+        this.checkEquals(true, map.isEmpty(), "isEmpty");
+        this.checkEquals(null, map.get(1), "get");
+        this.toStringAndCheck(map, "{}");
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        final IntObjectHashMap<String> map = IntObjectHashMap.empty();
+        this.checkEquals(null, map.put(1, "a"), "put");
+        this.checkEquals("a", map.put(1, "b"), "put again");
+        this.checkEquals("b", map.get(1), "get");
+        this.checkEquals(1, map.size(), "size");
+
+        this.checkEquals("b", map.remove(1), "remove");
+        this.checkEquals(null, map.remove(1), "remove again");
+        this.checkEquals(false, map.containsKey(1), "containsKey");
+        this.checkEquals(0, map.size(), "size");
+    }
+
+    @Test
+    public void testZeroKey() {
+        final IntObjectHashMap<String> map = IntObjectHashMap.empty();
+        this.checkEquals(false, map.containsKey(0), "containsKey");
+
+        map.put(0, null);
+        this.checkEquals(true, map.containsKey(0), "containsKey");
+        this.checkEquals(null, map.get(0), "get");
+        this.checkEquals(1, map.size(), "size");
+
+        map.put(0, "zero");
+        this.checkEquals("zero", map.remove(0), "remove");
+        this.checkEquals(false, map.containsKey(0), "containsKey");
+    }
+
+    @Test
+    public void testNullValue() {
+        final IntObjectHashMap<String> map = IntObjectHashMap.empty();
+        map.put(1, null);
+        this.checkEquals(true, map.containsKey(1), "containsKey");
+        this.checkEquals(null, map.get(1), "get");
+    }
+
+    @Test
+    public void testSameAsHashMap() {
+        final Random random = new Random(1);
+        final Map<Integer, String> expected = Maps.hash();
+        final IntObjectHashMap<String> map = IntObjectHashMap.empty();
+
+        for (int i = 0; i < 20000; i++) {
+            // a small range forces many collisions and removes of keys within probe sequences
+            final int key = random.nextInt(3000) - 1000;
+            if (random.nextInt(3) > 0) {
+                this.checkEquals(expected.put(key, "" + i), map.put(key, "" + i), "put");
+            } else {
+                this.checkEquals(expected.remove(key), map.remove(key), "remove");
+            }
+        }
+
+        this.checkEquals(expected.size(), map.size(), "size");
+        this.checkEquals(expected.hashCode(), map.hashCode(), "hashCode");
+        for (int key = -1000; key < 2000; key++) {
+            this.checkEquals(expected.get(key), map.get(key), "get " + key);
+            this.checkEquals(expected.containsKey(key), map.containsKey(key), "containsKey " + key);
+        }
+
+        final Map<Integer, String> visited = Maps.hash();
+        map.forEach(visited::put);
+        this.checkEquals(expected, visited, "forEach");
+    }
+
+    @Test
+    public void testKeys() {
+        assertArrayEquals(new int[]{0, 1}, this.createObject().keys());
+    }
+
+    @Test
+    public void testClear() {
+        final IntObjectHashMap<String> map = this.createMutable();
+        map.clear();
+        this.checkEquals(0, map.size(), "size");
+        this.checkEquals(false, map.containsKey(0), "containsKey");
+        this.checkEquals(false, map.containsKey(1), "containsKey");
+    }
+
+    @Test
+    public void testImmutablePutFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().put(2, "c"));
+    }
+
+    @Test
+    public void testImmutableRemoveFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().remove(1));
+    }
+
+    @Test
+    public void testImmutableClearFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().clear());
+    }
+
+    @Test
+    public void testImmutableSame() {
+        final IntObjectHashMap<String> map = this.createObject();
+        assertSame(map, IntObjectHashMap.immutable(map));
+    }
+
+    @Test
+    public void testImmutableCopy() {
+        final IntObjectHashMap<String> mutable = this.createMutable();
+        final IntObjectMap<String> immutable = IntObjectHashMap.immutable(mutable);
+        mutable.put(2, "c");
+
+        this.checkEquals(this.createObject(), immutable);
+    }
+
+    @Test
+    public void testEqualsDifferent() {
+        final IntObjectHashMap<String> map = IntObjectHashMap.empty();
+        map.put(0, "zero");
+        map.put(1, "different");
+        this.checkNotEquals(map);
+    }
+
+    @Test
+    public void testHashCodeSameAsMap() {
+        final Map<Integer, String> map = Maps.hash();
+        map.put(0, "zero");
+        map.put(1, "one");
+
+        this.checkEquals(map.hashCode(), this.createObject().hashCode());
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createObject(), "{0=zero, 1=one}");
+    }
+
+    private IntObjectHashMap<String> createMutable() {
+        final IntObjectHashMap<String> map = IntObjectHashMap.empty();
+        map.put(1, "one");
+        map.put(0, "zero");
+        return map;
+    }
+
+    @Override
+    public IntObjectHashMap<String> createObject() {
+        return Cast.to(IntObjectHashMap.immutable(this.createMutable()));
+    }
+
+    @Override
+    public Class<IntObjectHashMap<String>> type() {
+        return Cast.to(IntObjectHashMap.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
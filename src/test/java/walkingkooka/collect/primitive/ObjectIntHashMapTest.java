@@ -0,0 +1,208 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ObjectIntHashMapTest implements ClassTesting2<ObjectIntHashMap<String>>,
+        HashCodeEqualsDefinedTesting2<ObjectIntHashMap<String>>,
+        ToStringTesting<ObjectIntHashMap<String>> {
+
+    @Test
+    public void testEmpty() {
+        final ObjectIntHashMap<String> map = ObjectIntHashMap.empty();
+        this.checkEquals(0, map.size(), "size");
+        this.checkEquals(true, map.isEmpty(), "isEmpty");
+        this.checkEquals(-1, map.getOrDefault("a", -1), "getOrDefault");
+        this.toStringAndCheck(map, "{}");
+    }
+
+    @Test
+    public void testPutNullKeyFails() {
+        assertThrows(NullPointerException.class, () -> ObjectIntHashMap.empty().put(null, 1));
+    }
+
+    @Test
+    public void testAddNullKeyFails() {
+        assertThrows(NullPointerException.class, () -> ObjectIntHashMap.empty().add(null, 1));
+    }
+
+    @Test
+    public void testNullKeyAbsent() {
+        final ObjectIntHashMap<String> map = this.createMutable();
+        this.checkEquals(false, map.containsKey(null), "containsKey");
+        this.checkEquals(-1, map.getOrDefault(null, -1), "getOrDefault");
+        this.checkEquals(false, map.remove(null), "remove");
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        final ObjectIntHashMap<String> map = ObjectIntHashMap.empty();
+        map.put("a", 1);
+        map.put("a", 2);
+        this.checkEquals(2, map.getOrDefault("a", -1), "getOrDefault");
+        this.checkEquals(1, map.size(), "size");
+
+        this.checkEquals(true, map.remove("a"), "remove");
+        this.checkEquals(false, map.remove("a"), "remove again");
+        this.checkEquals(false, map.containsKey("a"), "containsKey");
+    }
+
+    @Test
+    public void testAdd() {
+        final ObjectIntHashMap<String> map = ObjectIntHashMap.empty();
+        this.checkEquals(5, map.add("a", 5), "add");
+        this.checkEquals(3, map.add("a", -2), "add");
+        this.checkEquals(3, map.getOrDefault("a", -1), "getOrDefault");
+    }
+
+    @Test
+    public void testSameAsHashMap() {
+        final Random random = new Random(1);
+        final Map<String, Integer> expected = Maps.hash();
+        final ObjectIntHashMap<String> map = ObjectIntHashMap.empty();
+
+        for (int i = 0; i < 20000; i++) {
+            // "Aa" and "BB" have the same hash code, forcing collisions
+            final String key = (random.nextBoolean() ? "Aa" : "BB") + random.nextInt(1000);
+            switch (random.nextInt(3)) {
+                case 0:
+                    expected.put(key, i);
+                    map.put(key, i);
+                    break;
+                case 1:
+                    this.checkEquals(expected.merge(key, i, Integer::sum).intValue(), map.add(key, i), "add");
+                    break;
+                default:
+                    this.checkEquals(null != expected.remove(key), map.remove(key), "remove");
+                    break;
+            }
+        }
+
+        this.checkEquals(expected.size(), map.size(), "size");
+        this.checkEquals(expected.hashCode(), map.hashCode(), "hashCode");
+        for (final Map.Entry<String, Integer> entry : expected.entrySet()) {
+            this.checkEquals(entry.getValue(), map.getOrDefault(entry.getKey(), -1), "get " + entry.getKey());
+        }
+
+        final Map<String, Integer> visited = Maps.hash();
+        map.forEach(visited::put);
+        this.checkEquals(expected, visited, "forEach");
+    }
+
+    @Test
+    public void testClear() {
+        final ObjectIntHashMap<String> map = this.createMutable();
+        map.clear();
+        this.checkEquals(0, map.size(), "size");
+        this.checkEquals(false, map.containsKey("a"), "containsKey");
+    }
+
+    @Test
+    public void testImmutablePutFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().put("c", 3));
+    }
+
+    @Test
+    public void testImmutableAddFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().add("a", 1));
+    }
+
+    @Test
+    public void testImmutableRemoveFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().remove("a"));
+    }
+
+    @Test
+    public void testImmutableClearFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createObject().clear());
+    }
+
+    @Test
+    public void testImmutableSame() {
+        final ObjectIntHashMap<String> map = this.createObject();
+        assertSame(map, ObjectIntHashMap.immutable(map));
+    }
+
+    @Test
+    public void testImmutableCopy() {
+        final ObjectIntHashMap<String> mutable = this.createMutable();
+        final ObjectIntMap<String> immutable = ObjectIntHashMap.immutable(mutable);
+        mutable.put("c", 3);
+
+        this.checkEquals(this.createObject(), immutable);
+    }
+
+    @Test
+    public void testEqualsDifferent() {
+        final ObjectIntHashMap<String> map = ObjectIntHashMap.empty();
+        map.put("a", 1);
+        map.put("b", 3);
+        this.checkNotEquals(map);
+    }
+
+    @Test
+    public void testHashCodeSameAsMap() {
+        final Map<String, Integer> map = Maps.hash();
+        map.put("a", 1);
+        map.put("b", 2);
+
+        this.checkEquals(map.hashCode(), this.createObject().hashCode());
+    }
+
+    @Test
+    public void testToString() {
+        final ObjectIntHashMap<String> map = ObjectIntHashMap.empty();
+        map.put("a", 1);
+        this.toStringAndCheck(map, "{a=1}");
+    }
+
+    private ObjectIntHashMap<String> createMutable() {
+        final ObjectIntHashMap<String> map = ObjectIntHashMap.empty();
+        map.put("a", 1);
+        map.put("b", 2);
+        return map;
+    }
+
+    @Override
+    public ObjectIntHashMap<String> createObject() {
+        return Cast.to(ObjectIntHashMap.immutable(this.createMutable()));
+    }
+
+    @Override
+    public Class<ObjectIntHashMap<String>> type() {
+        return Cast.to(ObjectIntHashMap.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
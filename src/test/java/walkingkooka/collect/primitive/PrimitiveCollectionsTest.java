@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.primitive;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.reflect.PublicStaticHelperTesting;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PrimitiveCollectionsTest implements PublicStaticHelperTesting<PrimitiveCollections> {
+
+    @Test
+    public void testCharSetChars() {
+        final CharSet set = PrimitiveCollections.charSet('c', 'a', 'b', 'a');
+        assertArrayEquals(new char[]{'a', 'b', 'c'}, set.toArray());
+        assertThrows(UnsupportedOperationException.class, () -> set.add('d'));
+    }
+
+    @Test
+    public void testCharSetCharPredicate() {
+        final CharSet set = PrimitiveCollections.charSet(CharPredicates.range('a', 'c'));
+        this.checkEquals(PrimitiveCollections.charSet('a', 'b', 'c'), set);
+    }
+
+    @Test
+    public void testIntListValuesCopied() {
+        final int[] values = new int[]{1, 2};
+        final IntList list = PrimitiveCollections.intList(values);
+        values[0] = 99;
+
+        this.checkEquals(1, list.get(0), "get");
+    }
+
+    @Test
+    public void testLongListValuesCopied() {
+        final long[] values = new long[]{1, 2};
+        final LongList list = PrimitiveCollections.longList(values);
+        values[0] = 99;
+
+        this.checkEquals(1L, list.get(0), "get");
+    }
+
+    @Test
+    public void testImmutableIntObjectMap() {
+        final IntObjectMap<String> map = PrimitiveCollections.intObjectMap();
+        map.put(1, "a");
+
+        final IntObjectMap<String> immutable = PrimitiveCollections.immutableIntObjectMap(map);
+        assertThrows(UnsupportedOperationException.class, () -> immutable.put(2, "b"));
+        this.checkEquals(map, immutable);
+    }
+
+    @Test
+    public void testImmutableObjectIntMap() {
+        final ObjectIntMap<String> map = PrimitiveCollections.objectIntMap();
+        map.put("a", 1);
+
+        final ObjectIntMap<String> immutable = PrimitiveCollections.immutableObjectIntMap(map);
+        assertThrows(UnsupportedOperationException.class, () -> immutable.put("b", 2));
+        this.checkEquals(map, immutable);
+    }
+
+    @Override
+    public Class<PrimitiveCollections> type() {
+        return PrimitiveCollections.class;
+    }
+
+    @Override
+    public boolean canHavePublicTypes(final Method method) {
+        return false;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
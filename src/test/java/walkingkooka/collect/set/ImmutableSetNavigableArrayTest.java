@@ -0,0 +1,278 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.set;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+
+import java.util.ArrayList;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ImmutableSetNavigableArrayTest extends ImmutableSetTestCase2<ImmutableSetNavigableArray<String>> {
+
+    private final static String ELEMENT1 = "1a";
+    private final static String ELEMENT2 = "2b";
+
+    @Test
+    public void testAddFails() {
+        this.addFails(this.createSet(), "fails!!!");
+    }
+
+    @Test
+    public void testContains() {
+        this.containsAndCheck(this.createSet(), ELEMENT1);
+    }
+
+    @Test
+    public void testContains2() {
+        this.containsAndCheck(this.createSet(), ELEMENT2);
+    }
+
+    @Test
+    public void testIterator() {
+        this.iterateAndCheck(this.createSet().iterator(), ELEMENT1, ELEMENT2);
+    }
+
+    @Test
+    public void testDescendingIterator() {
+        this.iterateAndCheck(this.createSet().descendingIterator(), ELEMENT2, ELEMENT1);
+    }
+
+    @Test
+    public void testRemoveFails() {
+        this.removeFails(this.createSet(), ELEMENT1);
+    }
+
+    @Test
+    public void testSize() {
+        this.sizeAndCheck(this.createSet(), 2);
+    }
+
+    @Test
+    public void testCopyKeepsComparator() {
+        final TreeSet<String> sorted = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        sorted.add("b");
+        sorted.add("A");
+
+        final ImmutableSetNavigableArray<String> set = ImmutableSetNavigableArray.copy(sorted);
+        this.checkEquals(String.CASE_INSENSITIVE_ORDER, set.comparator(), "comparator");
+        this.containsAndCheck(set, "a");
+        this.containsAndCheck(set, "B");
+        this.iterateAndCheck(set.iterator(), "A", "b");
+    }
+
+    @Test
+    public void testFirstEmptyFails() {
+        assertThrows(NoSuchElementException.class, () -> this.createSet().headSet(ELEMENT1).first());
+    }
+
+    @Test
+    public void testLastEmptyFails() {
+        assertThrows(NoSuchElementException.class, () -> this.createSet().tailSet(ELEMENT2, false).last());
+    }
+
+    @Test
+    public void testPollFirstFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createSet().pollFirst());
+    }
+
+    @Test
+    public void testPollLastFails() {
+        assertThrows(UnsupportedOperationException.class, () -> this.createSet().pollLast());
+    }
+
+    @Test
+    public void testSubSetFromGreaterThanToFails() {
+        assertThrows(IllegalArgumentException.class, () -> this.createSet().subSet("z", "a"));
+    }
+
+    @Test
+    public void testNavigationSameAsTreeSet() {
+        final TreeSet<String> tree = tree();
+        final ImmutableSetNavigableArray<String> set = ImmutableSetNavigableArray.copy(tree);
+
+        this.checkNavigation(tree, set);
+        this.checkNavigation(tree.descendingSet(), set.descendingSet());
+    }
+
+    @Test
+    public void testSubSetsSameAsTreeSet() {
+        final TreeSet<String> tree = tree();
+        final ImmutableSetNavigableArray<String> set = ImmutableSetNavigableArray.copy(tree);
+
+        for (final String from : ELEMENTS) {
+            for (final String to : ELEMENTS) {
+                if (from.compareTo(to) > 0) {
+                    continue;
+                }
+                for (final boolean fromInclusive : new boolean[]{false, true}) {
+                    for (final boolean toInclusive : new boolean[]{false, true}) {
+                        this.checkNavigation(
+                                tree.subSet(from, fromInclusive, to, toInclusive),
+                                set.subSet(from, fromInclusive, to, toInclusive)
+                        );
+                        this.checkNavigation(
+                                tree.descendingSet().subSet(to, toInclusive, from, fromInclusive),
+                                set.descendingSet().subSet(to, toInclusive, from, fromInclusive)
+                        );
+                    }
+                }
+            }
+
+            for (final boolean inclusive : new boolean[]{false, true}) {
+                this.checkNavigation(tree.headSet(from, inclusive), set.headSet(from, inclusive));
+                this.checkNavigation(tree.tailSet(from, inclusive), set.tailSet(from, inclusive));
+                this.checkNavigation(
+                        tree.descendingSet().headSet(from, inclusive),
+                        set.descendingSet().headSet(from, inclusive)
+                );
+                this.checkNavigation(
+                        tree.descendingSet().tailSet(from, inclusive),
+                        set.descendingSet().tailSet(from, inclusive)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testHeadSetTailSetOutOfRangeFails() {
+        final ImmutableSetNavigableArray<String> set = ImmutableSetNavigableArray.copy(tree());
+
+        assertThrows(IllegalArgumentException.class, () -> set.headSet("c").tailSet("e"));
+        assertThrows(IllegalArgumentException.class, () -> set.tailSet("e").headSet("c"));
+        assertThrows(IllegalArgumentException.class, () -> set.subSet("c", "e").subSet("a", "d"));
+        assertThrows(IllegalArgumentException.class, () -> set.headSet("d", false).headSet("d", true));
+    }
+
+    @Test
+    public void testNestedSubSetsSameAsTreeSet() {
+        final TreeSet<String> tree = tree();
+        final ImmutableSetNavigableArray<String> set = ImmutableSetNavigableArray.copy(tree);
+
+        for (final boolean inclusive : new boolean[]{false, true}) {
+            this.checkNestedSubSets(tree.headSet("d", inclusive), set.headSet("d", inclusive));
+            this.checkNestedSubSets(tree.headSet("e", inclusive), set.headSet("e", inclusive));
+            this.checkNestedSubSets(tree.tailSet("d", inclusive), set.tailSet("d", inclusive));
+            this.checkNestedSubSets(tree.subSet("c", inclusive, "f", !inclusive), set.subSet("c", inclusive, "f", !inclusive));
+            this.checkNestedSubSets(
+                    tree.descendingSet().headSet("d", inclusive),
+                    set.descendingSet().headSet("d", inclusive)
+            );
+        }
+    }
+
+    private void checkNestedSubSets(final NavigableSet<String> expected,
+                                    final NavigableSet<String> set) {
+        for (final String from : ELEMENTS) {
+            for (final boolean fromInclusive : new boolean[]{false, true}) {
+                this.checkNestedSubSet(
+                        () -> expected.headSet(from, fromInclusive),
+                        () -> set.headSet(from, fromInclusive)
+                );
+                this.checkNestedSubSet(
+                        () -> expected.tailSet(from, fromInclusive),
+                        () -> set.tailSet(from, fromInclusive)
+                );
+
+                for (final String to : ELEMENTS) {
+                    for (final boolean toInclusive : new boolean[]{false, true}) {
+                        this.checkNestedSubSet(
+                                () -> expected.subSet(from, fromInclusive, to, toInclusive),
+                                () -> set.subSet(from, fromInclusive, to, toInclusive)
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    private void checkNestedSubSet(final Supplier<NavigableSet<String>> expected,
+                                   final Supplier<NavigableSet<String>> set) {
+        NavigableSet<String> expectedSet;
+        try {
+            expectedSet = expected.get();
+        } catch (final IllegalArgumentException cause) {
+            expectedSet = null;
+        }
+
+        if (null == expectedSet) {
+            assertThrows(IllegalArgumentException.class, set::get);
+        } else {
+            this.checkNavigation(expectedSet, set.get());
+        }
+    }
+
+    private final static String[] ELEMENTS = new String[]{"", "a", "b", "c", "d", "e", "f", "g", "h", "z"};
+
+    private static TreeSet<String> tree() {
+        final TreeSet<String> tree = new TreeSet<>();
+        tree.add("b");
+        tree.add("d");
+        tree.add("f");
+        tree.add("h");
+        return tree;
+    }
+
+    private void checkNavigation(final NavigableSet<String> expected,
+                                 final NavigableSet<String> set) {
+        this.checkEquals(expected, set);
+        this.checkEquals(expected.hashCode(), set.hashCode(), "hashCode");
+        this.checkEquals(expected.toString(), set.toString(), "toString");
+        this.checkEquals(expected.size(), set.size(), () -> "size " + set);
+        this.checkEquals(new ArrayList<>(expected), new ArrayList<>(set), () -> "iterator " + set);
+        this.checkEquals(new ArrayList<>(expected.descendingSet()), new ArrayList<>(set.descendingSet()), () -> "descendingSet " + set);
+
+        if (!expected.isEmpty()) {
+            this.checkEquals(expected.first(), set.first(), () -> "first " + set);
+            this.checkEquals(expected.last(), set.last(), () -> "last " + set);
+        }
+
+        for (final String element : ELEMENTS) {
+            this.checkEquals(expected.contains(element), set.contains(element), () -> "contains " + element + " " + set);
+            this.checkEquals(expected.lower(element), set.lower(element), () -> "lower " + element + " " + set);
+            this.checkEquals(expected.floor(element), set.floor(element), () -> "floor " + element + " " + set);
+            this.checkEquals(expected.ceiling(element), set.ceiling(element), () -> "ceiling " + element + " " + set);
+            this.checkEquals(expected.higher(element), set.higher(element), () -> "higher " + element + " " + set);
+        }
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createSet(), "[1a, 2b]");
+    }
+
+    @Override
+    public ImmutableSetNavigableArray<String> createSet() {
+        final TreeSet<String> tree = new TreeSet<>();
+        tree.add(ELEMENT2);
+        tree.add(ELEMENT1);
+        return ImmutableSetNavigableArray.copy(tree);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ImmutableSetNavigableArray<String>> type() {
+        return Cast.to(ImmutableSetNavigableArray.class);
+    }
+}
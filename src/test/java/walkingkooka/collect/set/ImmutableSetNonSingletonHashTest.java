@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.set;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+public final class ImmutableSetNonSingletonHashTest extends ImmutableSetTestCase2<ImmutableSetNonSingletonHash<String>> {
+
+    private final static String ELEMENT1 = "1a";
+    private final static String ELEMENT2 = "2b";
+
+    @Test
+    public void testAddFails() {
+        this.addFails(this.createSet(), "fails!!!");
+    }
+
+    @Test
+    public void testContains() {
+        this.containsAndCheck(this.createSet(), ELEMENT1);
+    }
+
+    @Test
+    public void testContains2() {
+        this.containsAndCheck(this.createSet(), ELEMENT2);
+    }
+
+    @Test
+    public void testContainsNull() {
+        final ImmutableSetNonSingletonHash<String> set = this.createSet(ELEMENT1, null);
+        this.containsAndCheck(set, null);
+        this.containsAndCheck(set, ELEMENT1);
+    }
+
+    @Test
+    public void testIterator() {
+        this.iterateAndCheck(this.createSet().iterator(), ELEMENT1, ELEMENT2);
+    }
+
+    @Test
+    public void testRemoveFails() {
+        this.removeFails(this.createSet(), ELEMENT1);
+    }
+
+    @Test
+    public void testSize() {
+        this.sizeAndCheck(this.createSet(), 2);
+    }
+
+    @Test
+    public void testDuplicatesIgnored() {
+        final ImmutableSetNonSingletonHash<String> set = this.createSet(ELEMENT1, ELEMENT2, ELEMENT1, ELEMENT2);
+        this.sizeAndCheck(set, 2);
+        this.iterateAndCheck(set.iterator(), ELEMENT1, ELEMENT2);
+    }
+
+    @Test
+    public void testManyElementsKeepsInsertionOrder() {
+        final Set<String> ordered = Sets.ordered();
+        for (int i = 99; i >= 0; i--) {
+            ordered.add("element-" + i);
+        }
+
+        final ImmutableSetNonSingletonHash<String> set = this.createSet(ordered.toArray(new String[0]));
+        this.checkEquals(ordered, set);
+        this.checkEquals(ordered.hashCode(), set.hashCode(), "hashCode");
+        this.toStringAndCheck(set, ordered.toString());
+        this.iterateAndCheck(set.iterator(), ordered.toArray(new String[0]));
+
+        for (final String element : ordered) {
+            this.containsAndCheck(set, element);
+        }
+        this.containsAndCheckAbsent(set, "element-100");
+        this.containsAndCheckAbsent(set, null);
+    }
+
+    @Test
+    public void testManyElementsDuplicates() {
+        final String[] elements = new String[20];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = "element-" + (i % 10);
+        }
+
+        final ImmutableSetNonSingletonHash<String> set = this.createSet(elements);
+        this.sizeAndCheck(set, 10);
+        this.containsAndCheck(set, "element-9");
+    }
+
+    @Test
+    public void testManyElementsCollidingHashCodes() {
+        // "Aa" and "BB" have the same hash code
+        final ImmutableSetNonSingletonHash<String> set = this.createSet(
+                "Aa", "BB", "AaAa", "BBBB", "AaBB", "BBAa", "AaAaAa", "BBBBBB", "AaAaBB", "Cc"
+        );
+
+        this.sizeAndCheck(set, 10);
+        this.containsAndCheck(set, "AaBB");
+        this.containsAndCheck(set, "BBAa");
+        this.containsAndCheck(set, "BBBBBB");
+        this.containsAndCheckAbsent(set, "BBBBAa");
+    }
+
+    @Test
+    public void testImmutableIdentitySetEqualElements() {
+        final Set<String> identity = Collections.newSetFromMap(new IdentityHashMap<>());
+        identity.add(ELEMENT1);
+        identity.add(new String(ELEMENT1));
+
+        this.checkEquals(Sets.of(ELEMENT1), Sets.immutable(identity));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createSet(), "[1a, 2b]");
+    }
+
+    @Override
+    public ImmutableSetNonSingletonHash<String> createSet() {
+        return this.createSet(ELEMENT1, ELEMENT2);
+    }
+
+    private ImmutableSetNonSingletonHash<String> createSet(final String... elements) {
+        return ImmutableSetNonSingletonHash.withArray(elements.clone(), elements.length);
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<ImmutableSetNonSingletonHash<String>> type() {
+        return Cast.to(ImmutableSetNonSingletonHash.class);
+    }
+}
@@ -101,6 +101,24 @@ public final class ImmutableSetTest extends ImmutableSetTestCase<ImmutableSet<?>
         this.iterateAndCheck(immutable.iterator(), setIterator.next(), setIterator.next());
     }
 
+    @Test
+    public void testImmutableUnsortedSetNotWrapped() {
+        final Set<String> set = Sets.hash();
+        set.add("1a");
+        set.add("2b");
+
+        this.checkEquals(ImmutableSetNonSingletonHash.class, Sets.immutable(set).getClass());
+    }
+
+    @Test
+    public void testImmutableSortedSetNavigable() {
+        final Set<String> set = Sets.sorted(String.CASE_INSENSITIVE_ORDER);
+        set.add("1a");
+        set.add("2b");
+
+        this.checkEquals(ImmutableSetNavigableArray.class, Sets.immutable(set).getClass());
+    }
+
     @Test
     public void testImmutableSortedSet1() {
         final Set<String> set = Sets.sorted();
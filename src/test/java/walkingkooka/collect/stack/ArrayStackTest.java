@@ -24,7 +24,9 @@ import walkingkooka.collect.iterator.IteratorTesting;
 import walkingkooka.collect.iterator.Iterators;
 import walkingkooka.collect.list.Lists;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -141,6 +143,117 @@ final public class ArrayStackTest extends StackTestCase<ArrayStack<String>, Stri
         this.checkEquals("4b", with123b4b.peek(), "peeking stack with 4 elements");
     }
 
+    @Test
+    public void testPushSharesArray() {
+        final ArrayStack<String> stack1 = ArrayStack.with("1");
+        final ArrayStack<String> stack2 = stack1.push("2");
+        final ArrayStack<String> stack3 = stack2.push("3");
+
+        assertSame(stack1.array, stack3.array, "array");
+        this.check(stack1, 1, "1");
+        this.check(stack2, 2, "1", "2");
+        this.check(stack3, 3, "1", "2", "3");
+    }
+
+    @Test
+    public void testPushTwiceSameStackCopies() {
+        final ArrayStack<String> stack1 = ArrayStack.with("1");
+        final ArrayStack<String> stack12 = stack1.push("2");
+        final ArrayStack<String> stack1x = stack1.push("x");
+
+        assertNotSame(stack12.array, stack1x.array, "array");
+        this.check(stack12, 2, "1", "2");
+        this.check(stack1x, 2, "1", "x");
+        this.check(stack1, 1, "1");
+    }
+
+    @Test
+    public void testPopPushCopies() {
+        final ArrayStack<String> stack123 = ArrayStack.with("1").push("2").push("3");
+        final Stack<String> stack12x = stack123.pop().push("x");
+
+        this.check(stack123, 3, "1", "2", "3");
+        this.check(Cast.to(stack12x), 3, "1", "2", "x");
+    }
+
+    @Test
+    public void testPushAllSharesArray() {
+        final ArrayStack<String> stack1 = ArrayStack.with("1");
+        final ArrayStack<String> stack123 = stack1.pushAll(Lists.of("2", "3").iterator());
+        final ArrayStack<String> stack1x = stack1.pushAll(Lists.of("x").iterator());
+
+        assertSame(stack1.array, stack123.array, "array");
+        this.check(stack123, 3, "1", "2", "3");
+        this.check(stack1x, 2, "1", "x");
+    }
+
+    @Test
+    public void testManyPushesGrowsArray() {
+        ArrayStack<String> stack = ArrayStack.with("0");
+        Object[] array = stack.array;
+        int copies = 0;
+        final int count = 10000;
+
+        for (int i = 1; i < count; i++) {
+            stack = stack.push(String.valueOf(i));
+            if (array != stack.array) {
+                array = stack.array;
+                copies++;
+            }
+        }
+
+        this.checkEquals(count, stack.size(), "size");
+        final int c = copies;
+        this.checkEquals(true, copies < 30, () -> "copies " + c);
+
+        Stack<String> popping = stack;
+        for (int i = count - 1; i >= 0; i--) {
+            this.checkEquals(String.valueOf(i), popping.peek());
+            popping = popping.pop();
+        }
+        this.checkEquals(true, popping.isEmpty(), "isEmpty");
+    }
+
+    @Test
+    public void testConcurrentPushesSameStack() throws Exception {
+        final ArrayStack<String> stack = ArrayStack.with("0").push("1");
+        final int threadCount = 8;
+        final List<ArrayStack<String>> results = Lists.copyOnWrite();
+
+        final List<Thread> threads = Lists.array();
+        for (int t = 0; t < threadCount; t++) {
+            final String item = "t" + t;
+            threads.add(new Thread(() -> {
+                ArrayStack<String> pushed = stack;
+                for (int i = 0; i < 100; i++) {
+                    pushed = pushed.push(item);
+                }
+                results.add(pushed);
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        this.checkEquals(threadCount, results.size(), "results");
+        for (final ArrayStack<String> result : results) {
+            this.checkEquals(102, result.size(), "size");
+
+            final Iterator<String> iterator = result.iterator();
+            this.checkEquals("0", iterator.next());
+            this.checkEquals("1", iterator.next());
+
+            final String item = result.peek();
+            while (iterator.hasNext()) {
+                this.checkEquals(item, iterator.next());
+            }
+        }
+        this.check(stack, 2, "0", "1");
+    }
+
     @Test
     public void testIterator() {
         final Stack<String> stack = ArrayStack.with("1").push("2").push("3");
@@ -257,7 +370,7 @@ final public class ArrayStackTest extends StackTestCase<ArrayStack<String>, Stri
     }
 
     private void check(final ArrayStack<String> stack, final int last, final String... array) {
-        assertArrayEquals(array, stack.array, "array");
+        assertArrayEquals(array, Arrays.copyOf(stack.array, stack.last), "array");
         this.checkEquals(last, stack.last, "last");
 
         this.checkSize(stack, array.length);
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.stack;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.iterator.IteratorTesting;
+import walkingkooka.collect.iterator.Iterators;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class ConcurrentStackTest implements ClassTesting2<ConcurrentStack<Object>>,
+        StackTesting<ConcurrentStack<Object>, Object>,
+        IteratorTesting {
+
+    @Test
+    public void testCreate() {
+        final ConcurrentStack<Object> stack = ConcurrentStack.create();
+        this.checkSize(stack, 0);
+        this.checkEquals(true, stack.isEmpty(), "isEmpty");
+    }
+
+    @Test
+    public void testPushNullFails() {
+        assertThrows(NullPointerException.class, () -> ConcurrentStack.create().push(null));
+    }
+
+    @Test
+    public void testPushAllNullItemFails() {
+        final ConcurrentStack<String> stack = ConcurrentStack.create();
+        assertThrows(NullPointerException.class, () -> stack.pushAll(Arrays.asList("1", null).iterator()));
+        this.checkSize(stack, 0);
+    }
+
+    @Test
+    public void testPush() {
+        final ConcurrentStack<String> stack = ConcurrentStack.create();
+
+        assertSame(stack, stack.push("1"), "this not returned");
+        this.checkSize(stack, 1);
+
+        assertSame(stack, stack.push("2"), "this not returned");
+        this.checkSize(stack, 2);
+
+        this.checkEquals("2", stack.peek(), "peek");
+        this.iterateAndCheck(stack.iterator(), "1", "2");
+    }
+
+    @Test
+    public void testPushAllEmptyIterator() {
+        final ConcurrentStack<String> stack = ConcurrentStack.create();
+        assertSame(stack, stack.pushAll(Iterators.empty()), "this not returned");
+        this.checkSize(stack, 0);
+    }
+
+    @Test
+    public void testPushAll() {
+        final ConcurrentStack<String> stack = ConcurrentStack.create();
+        stack.push("1");
+
+        assertSame(stack, stack.pushAll(Lists.of("2", "3").iterator()), "this not returned");
+        this.checkSize(stack, 3);
+        this.checkEquals("3", stack.peek(), "peek");
+        this.iterateAndCheck(stack.iterator(), "1", "2", "3");
+    }
+
+    @Test
+    public void testPopAndPeek() {
+        final ConcurrentStack<String> stack = ConcurrentStack.create();
+        stack.push("1");
+        stack.push("2");
+
+        assertSame(stack, stack.pop(), "this not returned");
+        this.checkSize(stack, 1);
+        this.checkEquals("1", stack.peek(), "peek");
+
+        stack.pop();
+        this.checkSize(stack, 0);
+        this.checkEquals(true, stack.isEmpty(), "isEmpty");
+    }
+
+    @Test
+    public void testPoll() {
+        final ConcurrentStack<String> stack = ConcurrentStack.create();
+        stack.push("1");
+        stack.push("2");
+
+        this.checkEquals(Optional.of("2"), stack.poll(), "poll");
+        this.checkEquals(Optional.of("1"), stack.poll(), "poll");
+        this.checkEquals(Optional.empty(), stack.poll(), "poll");
+        this.checkSize(stack, 0);
+    }
+
+    @Test
+    public void testIteratorSnapshot() {
+        final ConcurrentStack<String> stack = ConcurrentStack.create();
+        stack.push("1");
+        stack.push("2");
+
+        final java.util.Iterator<String> iterator = stack.iterator();
+        stack.push("3");
+        stack.pop();
+        stack.pop();
+
+        this.iterateAndCheck(iterator, "1", "2");
+    }
+
+    @Test
+    public void testIteratorRemoveUnsupported() {
+        final ConcurrentStack<String> stack = ConcurrentStack.create();
+        stack.push("1");
+        this.removeUnsupportedFails(stack.iterator());
+    }
+
+    @Test
+    public void testConcurrentPushAndPoll() throws Exception {
+        final ConcurrentStack<Integer> stack = ConcurrentStack.create();
+        final int threadCount = 8;
+        final int perThread = 10000;
+
+        final boolean[] polled = new boolean[threadCount * perThread];
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[threadCount];
+
+        for (int t = 0; t < threadCount; t++) {
+            final int base = t * perThread;
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        stack.push(base + i);
+                        if (0 == (i & 1)) {
+                            this.poll(stack, polled);
+                        }
+                    }
+                } catch (final Throwable cause) {
+                    failure.compareAndSet(null, cause);
+                }
+            });
+            threads[t].start();
+        }
+
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        this.checkEquals(null, failure.get(), "failure");
+
+        this.checkSize(stack, threadCount * perThread / 2);
+        while (false == stack.isEmpty()) {
+            this.poll(stack, polled);
+        }
+
+        for (int i = 0; i < polled.length; i++) {
+            this.checkEquals(true, polled[i], "item " + i + " not polled");
+        }
+    }
+
+    private void poll(final ConcurrentStack<Integer> stack,
+                      final boolean[] polled) {
+        final int item = stack.poll()
+                .orElseThrow(() -> new IllegalStateException("Stack empty"));
+        synchronized (polled) {
+            if (polled[item]) {
+                throw new IllegalStateException("Item " + item + " polled twice");
+            }
+            polled[item] = true;
+        }
+    }
+
+    @Test
+    public void testEqualsArrayStack() {
+        final ConcurrentStack<String> stack = ConcurrentStack.create();
+        stack.push("1");
+        stack.push("2");
+
+        this.checkEquals(
+                Stacks.array()
+                        .push("1")
+                        .push("2"),
+                stack
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentOrder() {
+        final ConcurrentStack<String> stack = ConcurrentStack.create();
+        stack.push("1");
+        stack.push("2");
+
+        final ConcurrentStack<String> other = ConcurrentStack.create();
+        other.push("2");
+        other.push("1");
+
+        this.checkNotEquals(stack, other);
+    }
+
+    @Test
+    public void testHashCodeSameAsArrayStack() {
+        final ConcurrentStack<String> stack = ConcurrentStack.create();
+        stack.push("1");
+        stack.push("2");
+
+        this.checkEquals(
+                Stacks.array()
+                        .push("1")
+                        .push("2")
+                        .hashCode(),
+                stack.hashCode()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        final ConcurrentStack<String> stack = ConcurrentStack.create();
+        stack.push("1");
+        stack.push("2");
+        stack.push("3");
+
+        this.toStringAndCheck(stack, "[1,2,3]");
+    }
+
+    @Test
+    public void testToStringEmpty() {
+        this.toStringAndCheck(ConcurrentStack.create(), "[]");
+    }
+
+    @Override
+    public ConcurrentStack<Object> createStack() {
+        return ConcurrentStack.create();
+    }
+
+    @Override
+    public Class<ConcurrentStack<Object>> type() {
+        return Cast.to(ConcurrentStack.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -23,6 +23,8 @@ import walkingkooka.collect.iterator.IteratorTesting;
 import walkingkooka.collect.iterator.Iterators;
 import walkingkooka.collect.list.Lists;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -39,7 +41,7 @@ final public class EmptyArrayStackTest extends StackTestCase<EmptyArrayStack<Obj
     @Test
     public void testPush() {
         final ArrayStack<String> stack = Cast.to(EmptyArrayStack.instance().push("1"));
-        assertArrayEquals(new Object[]{"1"}, stack.array, "array");
+        assertArrayEquals(new Object[]{"1"}, Arrays.copyOf(stack.array, stack.last), "array");
         this.checkEquals(1, stack.last, "last");
     }
 
@@ -54,7 +56,7 @@ final public class EmptyArrayStackTest extends StackTestCase<EmptyArrayStack<Obj
         final ArrayStack<String> stack
                 = Cast.to(EmptyArrayStack.<String>instance().pushAll(Lists.of("1", "2", "3")
                 .iterator()));
-        assertArrayEquals(new Object[]{"1", "2", "3"}, stack.array, "array");
+        assertArrayEquals(new Object[]{"1", "2", "3"}, Arrays.copyOf(stack.array, stack.last), "array");
         this.checkEquals(3, stack.last, "last");
     }
 
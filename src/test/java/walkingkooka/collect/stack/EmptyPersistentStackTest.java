@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.stack;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.iterator.IteratorTesting;
+import walkingkooka.collect.iterator.Iterators;
+import walkingkooka.collect.list.Lists;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final public class EmptyPersistentStackTest extends StackTestCase<EmptyPersistentStack<Object>, Object>
+        implements IteratorTesting {
+
+    @Test
+    public void testCreate() {
+        this.checkSize(EmptyPersistentStack.instance(), 0);
+    }
+
+    @Test
+    public void testPush() {
+        final Stack<String> stack = EmptyPersistentStack.<String>instance().push("1");
+        this.checkSize(stack, 1);
+        this.checkEquals("1", stack.peek(), "peek");
+        assertSame(EmptyPersistentStack.instance(), stack.pop());
+    }
+
+    @Test
+    public void testPushAllEmptyIteratorReturnsThis() {
+        final Stack<Object> stack = EmptyPersistentStack.instance();
+        assertSame(stack, stack.pushAll(Iterators.empty()));
+    }
+
+    @Test
+    public void testPushAll() {
+        final Stack<String> stack = EmptyPersistentStack.<String>instance()
+                .pushAll(Lists.of("1", "2", "3").iterator());
+        this.checkSize(stack, 3);
+        this.iterateAndCheck(stack.iterator(), "1", "2", "3");
+    }
+
+    @Test
+    public void testIterator() {
+        this.iterateAndCheck(EmptyPersistentStack.instance().iterator());
+    }
+
+    @Test
+    public void testEqualsEmptyArrayStack() {
+        this.checkEqualsAndHashCode(EmptyPersistentStack.instance(), Stacks.array());
+    }
+
+    @Test
+    public void testEqualsNotEmpty() {
+        this.checkNotEquals(EmptyPersistentStack.instance(), Stacks.persistent().push("*"));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(EmptyPersistentStack.instance(), "[]");
+    }
+
+    @Override
+    public EmptyPersistentStack<Object> createStack() {
+        return EmptyPersistentStack.instance();
+    }
+
+    @Override
+    public Class<EmptyPersistentStack<Object>> type() {
+        return Cast.to(EmptyPersistentStack.class);
+    }
+}
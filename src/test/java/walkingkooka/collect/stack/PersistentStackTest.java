@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.collect.stack;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.collect.iterator.IteratorTesting;
+import walkingkooka.collect.iterator.Iterators;
+import walkingkooka.collect.list.Lists;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final public class PersistentStackTest extends StackTestCase<PersistentStack<String>, String> implements IteratorTesting {
+
+    @Test
+    public void testPush() {
+        final Stack<String> stack = EmptyPersistentStack.<String>instance().push("1");
+        this.check(stack, "1");
+    }
+
+    @Test
+    public void testManyPushes() {
+        final PersistentStack<String> stack1 = this.createStack();
+        final PersistentStack<String> stack2 = stack1.push("2");
+        assertNotSame(stack1, stack2, "shouldnt have returned this");
+
+        this.check(stack2, "1", "2");
+        this.check(stack1, "1");
+    }
+
+    @Test
+    public void testPushSharesBelow() {
+        final PersistentStack<String> stack1 = this.createStack();
+        final PersistentStack<String> stack12 = stack1.push("2");
+        final PersistentStack<String> stack1x = stack1.push("x");
+
+        assertSame(stack1, stack12.pop(), "pop");
+        assertSame(stack1, stack1x.pop(), "pop");
+        this.check(stack12, "1", "2");
+        this.check(stack1x, "1", "x");
+    }
+
+    @Test
+    public void testPushAllEmptyIteratorReturnsThis() {
+        final PersistentStack<String> stack = this.createStack();
+        assertSame(stack, stack.pushAll(Iterators.empty()));
+    }
+
+    @Test
+    public void testPushAll() {
+        final PersistentStack<String> stack = this.createStack()
+                .pushAll(Lists.of("2", "3").iterator());
+        this.check(stack, "1", "2", "3");
+    }
+
+    @Test
+    public void testPushAllFromEmpty() {
+        final Stack<String> stack = EmptyPersistentStack.<String>instance()
+                .pushAll(Lists.of("1", "2", "3").iterator());
+        this.checkEquals(PersistentStack.class, stack.getClass(), "class");
+        this.check(stack, "1", "2", "3");
+    }
+
+    @Test
+    public void testPop() {
+        final Stack<String> stack = this.createStack()
+                .push("2")
+                .push("3")
+                .pop();
+        this.check(stack, "1", "2");
+    }
+
+    @Test
+    public void testPopIntoEmpty() {
+        assertSame(EmptyPersistentStack.instance(), this.createStack().pop());
+    }
+
+    @Test
+    public void testPeek() {
+        this.checkEquals("3", this.createStack().push("2").push("3").peek());
+    }
+
+    @Test
+    public void testManyPushesAndPops() {
+        final int count = 100000;
+        Stack<Integer> stack = Stacks.persistent();
+        for (int i = 0; i < count; i++) {
+            stack = stack.push(i);
+        }
+        this.checkSize(stack, count);
+
+        for (int i = count - 1; i >= 0; i--) {
+            this.checkEquals(i, stack.peek());
+            stack = stack.pop();
+        }
+        this.checkSize(stack, 0);
+    }
+
+    @Test
+    public void testIterator() {
+        this.iterateAndCheck(
+                this.createStack().push("2").push("3").iterator(),
+                "1", "2", "3"
+        );
+    }
+
+    @Test
+    public void testIteratorAfterPopPush() {
+        this.iterateAndCheck(
+                this.createStack().push("2").push("-popped-").pop().push("3").iterator(),
+                "1", "2", "3"
+        );
+    }
+
+    @Test
+    public void testIteratorWithRemove() {
+        this.removeUnsupportedFails(this.createStack().iterator());
+    }
+
+    @Test
+    public void testEqualsDifferentItem() {
+        this.checkNotEquals(this.createStack().push("2"), this.createStack().push("different"));
+    }
+
+    @Test
+    public void testEqualsDifferentBelow() {
+        this.checkNotEquals(this.createStack().push("2"), PersistentStack.with("different", EmptyPersistentStack.instance()).push("2"));
+    }
+
+    @Test
+    public void testEqualsDifferentSize() {
+        this.checkNotEquals(this.createStack().push("2"));
+    }
+
+    @Test
+    public void testEqualsSeparatelyBuilt() {
+        this.checkEqualsAndHashCode(
+                this.createStack().push("2").push("3"),
+                this.createStack().push("2").push("3")
+        );
+    }
+
+    @Test
+    public void testEqualsArrayStack() {
+        this.checkEqualsAndHashCode(
+                this.createStack().push("2").push("3"),
+                Stacks.<String>array().push("1").push("2").push("3")
+        );
+    }
+
+    @Test
+    public void testEqualsArrayListStack() {
+        this.checkEquals(
+                this.createStack().push("2"),
+                Stacks.<String>arrayList().push("1").push("2")
+        );
+    }
+
+    @Test
+    public void testEqualsNullItems() {
+        this.checkEqualsAndHashCode(
+                this.createStack().push(null),
+                this.createStack().push(null)
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createStack().push("2").push("3"), "[1,2,3]");
+    }
+
+    private void check(final Stack<String> stack,
+                       final String... items) {
+        this.checkSize(stack, items.length);
+        this.iterateAndCheck(stack.iterator(), items);
+        this.checkEquals(items[items.length - 1], stack.peek(), "peek");
+    }
+
+    @Override
+    public PersistentStack<String> createStack() {
+        return PersistentStack.with("1", EmptyPersistentStack.instance());
+    }
+
+    @Override
+    public Class<PersistentStack<String>> type() {
+        return Cast.to(PersistentStack.class);
+    }
+}
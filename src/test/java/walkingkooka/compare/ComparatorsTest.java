@@ -18,10 +18,17 @@
 package walkingkooka.compare;
 
 import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
 import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.reflect.PublicStaticHelperTesting;
+import walkingkooka.text.CaseSensitivity;
 
 import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 final public class ComparatorsTest implements PublicStaticHelperTesting<Comparators> {
 
@@ -69,6 +76,73 @@ final public class ComparatorsTest implements PublicStaticHelperTesting<Comparat
         );
     }
 
+    // sort.............................................................................................................
+
+    @Test
+    public void testSortNullListFails() {
+        assertThrows(NullPointerException.class, () -> Comparators.sort(null, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void testSortNullComparatorFails() {
+        assertThrows(NullPointerException.class, () -> Comparators.sort(Lists.array(), null));
+    }
+
+    @Test
+    public void testSortComparator() {
+        this.sortAndCheck(Comparator.<String>naturalOrder().reversed());
+    }
+
+    @Test
+    public void testSortCaseSensitive() {
+        this.sortAndCheck(CaseSensitivity.SENSITIVE.comparator());
+    }
+
+    @Test
+    public void testSortCaseInsensitive() {
+        this.sortAndCheck(CaseSensitivity.INSENSITIVE.comparator());
+    }
+
+    @Test
+    public void testSortNormalizing() {
+        this.sortAndCheck(Comparators.normalizing(CharPredicates.digit()));
+    }
+
+    private void sortAndCheck(final Comparator<String> comparator) {
+        final List<String> values = Lists.of(
+                "banana",
+                "Apple",
+                "apple",
+                "APPLE",
+                "b123a",
+                "b4a",
+                "B4a",
+                "carrot",
+                "",
+                "a1",
+                "a ",
+                "Zebra",
+                "zebra2",
+                "\u00C4pple",
+                "\u00E4pple",
+                "apple-banana"
+        );
+
+        final List<String> expected = Lists.array();
+        expected.addAll(values);
+        expected.sort(comparator);
+
+        final List<String> sorted = Lists.array();
+        sorted.addAll(values);
+        Comparators.sort(sorted, comparator);
+
+        this.checkEquals(
+                expected,
+                sorted,
+                () -> "sort " + comparator
+        );
+    }
+
     // helpers
 
     @Override
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.compare;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Comparator;
+
+public final class SortKeyCharArrayTest implements ClassTesting2<SortKeyCharArray<?>>,
+        ComparatorTesting {
+
+    @Test
+    public void testCompareEquals() {
+        this.compareAndCheck2("abc", "abc", Comparators.EQUAL);
+    }
+
+    @Test
+    public void testCompareEmpty() {
+        this.compareAndCheck2("", "", Comparators.EQUAL);
+    }
+
+    @Test
+    public void testCompareLess() {
+        this.compareAndCheck2("abc", "abd", Comparators.LESS);
+    }
+
+    @Test
+    public void testCompareMore() {
+        this.compareAndCheck2("b", "abc", Comparators.MORE);
+    }
+
+    @Test
+    public void testComparePrefixLess() {
+        this.compareAndCheck2("abc", "abcd", Comparators.LESS);
+    }
+
+    private void compareAndCheck2(final String value,
+                                  final String other,
+                                  final int expected) {
+        this.compareAndCheck(
+                Comparator.naturalOrder(),
+                key(value),
+                key(other),
+                expected
+        );
+    }
+
+    private static SortKey<String> key(final String value) {
+        return SortKeyCharArray.with(value, value.toCharArray());
+    }
+
+    @Override
+    public Class<SortKeyCharArray<?>> type() {
+        return Cast.to(SortKeyCharArray.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
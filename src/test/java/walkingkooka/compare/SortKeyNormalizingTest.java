@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.compare;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Comparator;
+
+public final class SortKeyNormalizingTest implements ClassTesting2<SortKeyNormalizing<?>>,
+        ComparatorTesting {
+
+    private final static Comparator<String> COMPARATOR = NormalizingCharSequenceComparator.with(CharPredicates.digit());
+
+    private final static String[] VALUES = new String[]{
+            "",
+            "a",
+            "abc",
+            "1",
+            "123",
+            "1a",
+            "xa",
+            "b1a",
+            "bXa",
+            "b4aX",
+            "b456a",
+            "b12345aX",
+            "a ",
+            "a1",
+            "123a",
+            "4a",
+            "b123",
+            "b4",
+    };
+
+    @Test
+    public void testCompareSameAsComparator() {
+        for (final String value : VALUES) {
+            for (final String other : VALUES) {
+                this.checkEquals(
+                        Comparators.normalize(COMPARATOR.compare(value, other)),
+                        Comparators.normalize(key(value).compareTo(key(other))),
+                        () -> "compare " + value + " " + other
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testCompareRunsCollapsed() {
+        this.compareAndCheck(
+                Comparator.naturalOrder(),
+                key("b123a"),
+                key("b4a"),
+                Comparators.EQUAL
+        );
+    }
+
+    private static SortKey<String> key(final String value) {
+        return SortKeyNormalizing.with(value, CharPredicates.digit());
+    }
+
+    @Override
+    public Class<SortKeyNormalizing<?>> type() {
+        return Cast.to(SortKeyNormalizing.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.compare;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class SortKeyTest implements ClassTesting2<SortKey<?>> {
+
+    @Test
+    public void testCharsNullKeyFails() {
+        assertThrows(NullPointerException.class, () -> SortKey.chars("value", null));
+    }
+
+    @Test
+    public void testChars() {
+        final String value = "value";
+        final SortKey<String> key = SortKey.chars(value, value.toCharArray());
+        this.checkEquals(value, key.value());
+        this.checkEquals(value, key.toString());
+    }
+
+    @Override
+    public Class<SortKey<?>> type() {
+        return Cast.to(SortKey.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -26,6 +26,7 @@ import walkingkooka.text.CharSequences;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class FileExtensionTest implements ComparableTesting2<FileExtension>,
@@ -97,6 +98,22 @@ public final class FileExtensionTest implements ComparableTesting2<FileExtension
         this.checkNotEquals(FileExtension.with("different"));
     }
 
+    @Test
+    public void testIntern() {
+        final FileExtension extension = FileExtension.with("intern1");
+        assertSame(extension, extension.intern());
+        assertSame(extension, FileExtension.with("intern1").intern());
+    }
+
+    @Test
+    public void testInternDifferentCase() {
+        final FileExtension extension = FileExtension.with("intern2");
+        assertSame(extension, extension.intern());
+
+        final FileExtension upper = FileExtension.with("INTERN2");
+        assertSame(upper, upper.intern());
+    }
+
     @Test
     public void testEqualsDifferentCase() {
         this.checkEquals(FileExtension.with("TXT"));
@@ -22,6 +22,7 @@ import walkingkooka.reflect.ClassTesting2;
 import walkingkooka.reflect.JavaVisibility;
 import walkingkooka.text.CaseSensitivity;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 final public class StringNameTest implements ClassTesting2<StringName>,
@@ -34,6 +35,13 @@ final public class StringNameTest implements ClassTesting2<StringName>,
         assertThrows(IllegalArgumentException.class, () -> StringName.with("name-" + StringPath.SEPARATOR.string()));
     }
 
+    @Test
+    public void testIntern() {
+        final StringName name = StringName.with(new String("abc"));
+        assertSame(name, name.intern());
+        assertSame(name, StringName.with(new String("abc")).intern());
+    }
+
     @Test
     public void testCompareToArraySort() {
         final StringName a1 = StringName.with("A1");
@@ -30,6 +30,13 @@ public final class PackageNameTest extends PackageNameOrTypeNameJavaNameTestCase
     public void testEmptyFails() {
     }
 
+    @Test
+    public void testIntern() {
+        final PackageName name = PackageName.with("intern.test1");
+        assertSame(name, name.intern());
+        assertSame(name, PackageName.with("intern.test1").intern());
+    }
+
     @Test
     public void testFromPackageNullFails() {
         assertThrows(NullPointerException.class, () -> PackageName.from(null));
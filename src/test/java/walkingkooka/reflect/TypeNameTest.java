@@ -23,10 +23,23 @@ import walkingkooka.InvalidCharacterException;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public final class TypeNameTest extends PackageNameOrTypeNameJavaNameTestCase<ClassName> {
 
+    @Test
+    public void testInternConstant() {
+        assertSame(ClassName.STRING, ClassName.fromClass(String.class).intern());
+    }
+
+    @Test
+    public void testIntern() {
+        final ClassName name = ClassName.with("intern.Test1");
+        assertSame(name, name.intern());
+        assertSame(name, ClassName.with("intern.Test1").intern());
+    }
+
     @Test
     public void testFromClassNullFails() {
         assertThrows(NullPointerException.class, () -> ClassName.fromClass(null));
@@ -25,10 +25,60 @@ import java.lang.reflect.Method;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final public class AsciiTest implements PublicStaticHelperTesting<Ascii> {
 
+    // isAllAscii....................................................................................................
+
+    @Test
+    public void testIsAllAsciiNullFails() {
+        assertThrows(NullPointerException.class, () -> Ascii.isAllAscii(null));
+    }
+
+    @Test
+    public void testIsAllAscii() {
+        assertTrue(Ascii.isAllAscii("abc\u007F 123"));
+    }
+
+    @Test
+    public void testIsAllAsciiNonAscii() {
+        assertFalse(Ascii.isAllAscii("abc 12\u00803"));
+    }
+
+    @Test
+    public void testIsAllAsciiCharArrayInvalidRangeFails() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Ascii.isAllAscii(new char[2], 1, 3));
+    }
+
+    @Test
+    public void testIsAllAsciiCharArray() {
+        assertTrue(Ascii.isAllAscii("\u0080abcdefgh\u0080".toCharArray(), 1, 9));
+    }
+
+    // isAllPrintable................................................................................................
+
+    @Test
+    public void testIsAllPrintable() {
+        assertTrue(Ascii.isAllPrintable(" abc~XYZ 123"));
+    }
+
+    @Test
+    public void testIsAllPrintableControl() {
+        assertFalse(Ascii.isAllPrintable("abc 123\t"));
+    }
+
+    @Test
+    public void testIsAllPrintableDelete() {
+        assertFalse(Ascii.isAllPrintable("abc\u007F123"));
+    }
+
+    @Test
+    public void testIsAllPrintableCharArray() {
+        assertTrue(Ascii.isAllPrintable("\tabcdefgh\t".toCharArray(), 1, 9));
+    }
+
     // isLetter
 
     @Test
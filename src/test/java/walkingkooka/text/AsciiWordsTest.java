@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Random;
+
+public final class AsciiWordsTest implements ClassTesting2<AsciiWords> {
+
+    /**
+     * Characters near the interesting boundaries of each classification.
+     */
+    private final static char[] SAMPLES = {
+            0, '\t', '\n', 0x0B, '\f', '\r', 0x1B, 0x1C, 0x1F, ' ', '!', 'a', '~', 0x7F, 0x80, 0xA0, 0x1680,
+            0x2003, 0x3000, 0x8020, 0xFFFF
+    };
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testIsWhitespace() {
+        for (int i = 0; i < 0x10000; i++) {
+            final char c = (char) i;
+            this.checkEquals(Character.isWhitespace(c), AsciiWords.isWhitespace(c, AsciiWords.WHITESPACE), () -> "whitespace " + (int) c);
+            this.checkEquals(Character.isSpace(c), AsciiWords.isWhitespace(c, AsciiWords.SPACE), () -> "space " + (int) c);
+        }
+    }
+
+    @Test
+    public void testRandom() {
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 20000; i++) {
+            final int length = random.nextInt(20);
+            final char[] chars = new char[length];
+
+            // mostly a single sample to create long runs
+            final char fill = SAMPLES[random.nextInt(SAMPLES.length)];
+            for (int j = 0; j < length; j++) {
+                chars[j] = random.nextInt(8) == 0 ?
+                        SAMPLES[random.nextInt(SAMPLES.length)] :
+                        fill;
+            }
+
+            final int start = length > 0 ? random.nextInt(length) : 0;
+            this.check(chars, start, length);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private void check(final char[] chars,
+                       final int start,
+                       final int end) {
+        final String string = new String(chars);
+        final String message = CharSequences.quoteAndEscape(string) + " " + start + ".." + end;
+
+        boolean ascii = true;
+        boolean printable = true;
+        int firstSpace = -1;
+        int firstNonWhitespace = -1;
+        int firstNonSpace = -1;
+        int lastNonWhitespace = -1;
+
+        for (int i = start; i < end; i++) {
+            final char c = chars[i];
+            ascii &= Ascii.is(c);
+            printable &= Ascii.isPrintable(c);
+
+            if (-1 == firstSpace && Character.isSpace(c)) {
+                firstSpace = i;
+            }
+            if (-1 == firstNonSpace && !Character.isSpace(c)) {
+                firstNonSpace = i;
+            }
+            if (!Character.isWhitespace(c)) {
+                if (-1 == firstNonWhitespace) {
+                    firstNonWhitespace = i;
+                }
+                lastNonWhitespace = i;
+            }
+        }
+
+        this.checkEquals(ascii, AsciiWords.isAllAscii(string, start, end), () -> "isAllAscii " + message);
+        this.checkEquals(ascii, AsciiWords.isAllAscii(chars, start, end), () -> "isAllAscii char[] " + message);
+        this.checkEquals(printable, AsciiWords.isAllPrintable(string, start, end), () -> "isAllPrintable " + message);
+        this.checkEquals(printable, AsciiWords.isAllPrintable(chars, start, end), () -> "isAllPrintable char[] " + message);
+        this.checkEquals(firstSpace, AsciiWords.firstWhitespace(string, start, end, AsciiWords.SPACE), () -> "firstWhitespace " + message);
+        this.checkEquals(firstNonSpace, AsciiWords.firstNonWhitespace(string, start, end, AsciiWords.SPACE), () -> "firstNonWhitespace space " + message);
+        this.checkEquals(firstNonWhitespace, AsciiWords.firstNonWhitespace(string, start, end, AsciiWords.WHITESPACE), () -> "firstNonWhitespace " + message);
+        this.checkEquals(firstNonWhitespace, AsciiWords.firstNonWhitespace(chars, start, end, AsciiWords.WHITESPACE), () -> "firstNonWhitespace char[] " + message);
+        this.checkEquals(lastNonWhitespace, AsciiWords.lastNonWhitespace(string, start, end, AsciiWords.WHITESPACE), () -> "lastNonWhitespace " + message);
+        this.checkEquals(lastNonWhitespace, AsciiWords.lastNonWhitespace(chars, start, end, AsciiWords.WHITESPACE), () -> "lastNonWhitespace char[] " + message);
+    }
+
+    @Override
+    public Class<AsciiWords> type() {
+        return AsciiWords.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.HashCodeEqualsDefinedTesting2;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.map.Maps;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CaseFoldedKeyTest implements ClassTesting2<CaseFoldedKey>,
+        HashCodeEqualsDefinedTesting2<CaseFoldedKey>,
+        ToStringTesting<CaseFoldedKey> {
+
+    private final static String VALUE = "Hello World";
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(NullPointerException.class, () -> CaseFoldedKey.with(null));
+    }
+
+    @Test
+    public void testWith() {
+        this.checkEquals(VALUE, CaseFoldedKey.with(VALUE).value());
+    }
+
+    @Test
+    public void testWithStringBuilder() {
+        this.checkEquals(VALUE, CaseFoldedKey.with(new StringBuilder(VALUE)).value());
+    }
+
+    @Test
+    public void testHashCodeSameAsCaseSensitivityInsensitive() {
+        this.checkEquals(
+                CaseSensitivity.INSENSITIVE.hash(VALUE),
+                CaseFoldedKey.with(VALUE).hashCode()
+        );
+    }
+
+    @Test
+    public void testEqualsDifferentCase() {
+        this.checkEqualsAndHashCode(CaseFoldedKey.with(VALUE.toUpperCase()));
+    }
+
+    @Test
+    public void testEqualsDifferentCase2() {
+        this.checkEqualsAndHashCode(CaseFoldedKey.with(VALUE.toLowerCase()));
+    }
+
+    @Test
+    public void testEqualsDifferent() {
+        this.checkNotEquals(CaseFoldedKey.with("different"));
+    }
+
+    @Test
+    public void testMapKey() {
+        final Map<CaseFoldedKey, Integer> map = Maps.hash();
+        map.put(CaseFoldedKey.with("ABC"), 1);
+        map.put(CaseFoldedKey.with("xyz"), 2);
+
+        this.checkEquals(1, map.get(CaseFoldedKey.with("abc")));
+        this.checkEquals(2, map.get(CaseFoldedKey.with("XYZ")));
+        this.checkEquals(null, map.get(CaseFoldedKey.with("different")));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(CaseFoldedKey.with(VALUE), VALUE);
+    }
+
+    @Override
+    public CaseFoldedKey createObject() {
+        return CaseFoldedKey.with(VALUE);
+    }
+
+    @Override
+    public Class<CaseFoldedKey> type() {
+        return CaseFoldedKey.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+public final class CaseFoldingTest implements ClassTesting2<CaseFolding> {
+
+    // fold.............................................................................................................
+
+    @Test
+    public void testFoldAllCharacters() {
+        for (int i = Character.MIN_VALUE; i <= Character.MAX_VALUE; i++) {
+            final char c = (char) i;
+            final char expected = Character.toLowerCase(c);
+            final char folded = CaseFolding.fold(c);
+            if (expected != folded) {
+                this.checkEquals(
+                        expected,
+                        folded,
+                        () -> "fold " + CharSequences.quoteAndEscape(c)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testFoldCached() {
+        final char c = 'Ä';
+        this.checkEquals(CaseFolding.fold(c), CaseFolding.fold(c));
+    }
+
+    // hash.............................................................................................................
+
+    @Test
+    public void testHashEmpty() {
+        this.hashAndCheck("");
+    }
+
+    @Test
+    public void testHashLessThanWord() {
+        this.hashAndCheck("aBc");
+    }
+
+    @Test
+    public void testHashWord() {
+        this.hashAndCheck("aBcD");
+    }
+
+    @Test
+    public void testHashSeveralWordsAndRemainder() {
+        this.hashAndCheck("ABCDEFGHIJKLMNOPQRSTUVWXYZ@[`{");
+    }
+
+    @Test
+    public void testHashNonAscii() {
+        this.hashAndCheck("ABCÄÖÜäxyz123");
+    }
+
+    @Test
+    public void testHashNonString() {
+        this.hashAndCheck(new StringBuilder("ABCÄÖÜäxyz123"));
+    }
+
+    private void hashAndCheck(final CharSequence chars) {
+        this.checkEquals(
+                chars.toString().toLowerCase().hashCode(),
+                CaseFolding.hash(chars),
+                () -> "hash " + CharSequences.quoteAndEscape(chars)
+        );
+    }
+
+    // equals...........................................................................................................
+
+    @Test
+    public void testEqualsSame() {
+        final String chars = "abc";
+        this.equalsAndCheck(chars, chars, true);
+    }
+
+    @Test
+    public void testEqualsDifferentLength() {
+        this.equalsAndCheck("abc", "abcd", false);
+    }
+
+    @Test
+    public void testEqualsSameCase() {
+        this.equalsAndCheck("abcdefghij", "abcdefghij", true);
+    }
+
+    @Test
+    public void testEqualsDifferentCase() {
+        this.equalsAndCheck("abcdefghij", "ABCDEFGHIJ", true);
+    }
+
+    @Test
+    public void testEqualsDifferentCaseDifferentLastChar() {
+        this.equalsAndCheck("abcdefghij", "ABCDEFGHIK", false);
+    }
+
+    @Test
+    public void testEqualsDifferentCaseDifferentWord() {
+        this.equalsAndCheck("abcdefghij", "ABCEEFGHIJ", false);
+    }
+
+    @Test
+    public void testEqualsAsciiLettersAndNonLetters() {
+        // @ is 1 before A, [ is 1 after Z, ` is 1 before a, { is 1 after z
+        this.equalsAndCheck("@[`{", "`{@[", false);
+    }
+
+    @Test
+    public void testEqualsNonAsciiDifferentCase() {
+        this.equalsAndCheck("abcÄÖÜxyz", "ABCäöüXYZ", true);
+    }
+
+    @Test
+    public void testEqualsNonAsciiDifferent() {
+        this.equalsAndCheck("abcÄÖÜxyz", "ABCäöýXYZ", false);
+    }
+
+    @Test
+    public void testEqualsNonString() {
+        this.equalsAndCheck(new StringBuilder("abcÄÖÜxyz"), "ABCäöüXYZ", true);
+    }
+
+    private void equalsAndCheck(final CharSequence chars,
+                                final CharSequence otherChars,
+                                final boolean expected) {
+        this.checkEquals(
+                expected,
+                CaseFolding.equals(chars, otherChars),
+                () -> "equals " + CharSequences.quoteAndEscape(chars) + " " + CharSequences.quoteAndEscape(otherChars)
+        );
+        this.checkEquals(
+                expected,
+                CaseFolding.equals(otherChars, chars),
+                () -> "equals " + CharSequences.quoteAndEscape(otherChars) + " " + CharSequences.quoteAndEscape(chars)
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<CaseFolding> type() {
+        return CaseFolding.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
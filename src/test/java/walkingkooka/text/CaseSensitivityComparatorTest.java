@@ -19,6 +19,7 @@ package walkingkooka.text;
 
 import org.junit.jupiter.api.Test;
 import walkingkooka.Cast;
+import walkingkooka.compare.Comparators;
 import walkingkooka.compare.ComparatorTesting2;
 import walkingkooka.reflect.ClassTesting2;
 import walkingkooka.reflect.JavaVisibility;
@@ -162,6 +163,41 @@ final public class CaseSensitivityComparatorTest implements ClassTesting2<CaseSe
                 a1, b2, c3, d4);
     }
 
+    // sortKey..........................................................................................................
+
+    @Test
+    public void testSortKeySensitive() {
+        this.sortKeyAndCheck(SENSITIVE);
+    }
+
+    @Test
+    public void testSortKeyInsensitive() {
+        this.sortKeyAndCheck(INSENSITIVE);
+    }
+
+    private void sortKeyAndCheck(final CaseSensitivityComparator<CharSequence> comparator) {
+        final String[] values = new String[]{
+                "",
+                "apple",
+                "APPLE",
+                "Apple-banana",
+                "banana",
+                "\u00C4pple",
+                "\u00E4pple",
+                "ZEBRA",
+        };
+
+        for (final String value : values) {
+            for (final String other : values) {
+                this.checkEquals(
+                        Comparators.normalize(comparator.compare(value, other)),
+                        Comparators.normalize(comparator.sortKey(value).compareTo(comparator.sortKey(other))),
+                        () -> comparator + " compare " + value + " " + other
+                );
+            }
+        }
+    }
+
     // toString.........................................................................................................
 
     @Test
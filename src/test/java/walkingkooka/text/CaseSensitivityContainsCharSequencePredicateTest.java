@@ -53,6 +53,26 @@ final public class CaseSensitivityContainsCharSequencePredicateTest extends
         this.testFalseCaseInsensitive("xyz", "abc def ghi");
     }
 
+    @Test
+    public void testEmptyValue() {
+        this.testFalseCaseSensitive("abc", "");
+    }
+
+    @Test
+    public void testAtEndCaseInsensitive() {
+        this.testTrueCaseInsensitive("GHI", "abc def ghi");
+    }
+
+    @Test
+    public void testPartialMatchesCaseInsensitive() {
+        this.testTrueCaseInsensitive("ABAC", "ababac");
+    }
+
+    @Test
+    public void testNonAsciiCaseInsensitive() {
+        this.testTrueCaseInsensitive("ÄBÇ", "abc äbç def");
+    }
+
     @Override
     CaseSensitivityContainsCharSequencePredicate<String> createPredicate(final String chars,
                                                                          final CaseSensitivity sensitivity) {
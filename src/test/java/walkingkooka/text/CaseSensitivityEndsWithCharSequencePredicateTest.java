@@ -53,6 +53,21 @@ final public class CaseSensitivityEndsWithCharSequencePredicateTest extends
         this.testFalseCaseInsensitive("xyz", "abc def ghi");
     }
 
+    @Test
+    public void testEmptyValue() {
+        this.testFalseCaseSensitive("abc", "");
+    }
+
+    @Test
+    public void testFirstCharacterDifferentCaseInsensitive() {
+        this.testFalseCaseInsensitive("XHI", "abc def ghi");
+    }
+
+    @Test
+    public void testNonAsciiCaseInsensitive() {
+        this.testTrueCaseInsensitive("ÄBÇ", "abc äbç");
+    }
+
     @Override
     CaseSensitivityEndsWithCharSequencePredicate<String> createPredicate(final String chars,
                                                                          final CaseSensitivity sensitivity) {
@@ -53,6 +53,26 @@ final public class CaseSensitivityStartsWithCharSequencePredicateTest extends
         this.testFalseCaseInsensitive("xyz", "abc def ghi");
     }
 
+    @Test
+    public void testEmptyValue() {
+        this.testFalseCaseSensitive("abc", "");
+    }
+
+    @Test
+    public void testSingleCharacterCaseInsensitive() {
+        this.testTrueCaseInsensitive("A", "abc");
+    }
+
+    @Test
+    public void testLastCharacterDifferentCaseInsensitive() {
+        this.testFalseCaseInsensitive("ABD", "abc def");
+    }
+
+    @Test
+    public void testNonAsciiCaseInsensitive() {
+        this.testTrueCaseInsensitive("ÄBÇ", "äbç def");
+    }
+
     @Override
     CaseSensitivityStartsWithCharSequencePredicate<String> createPredicate(final String chars,
                                                                            final CaseSensitivity sensitivity) {
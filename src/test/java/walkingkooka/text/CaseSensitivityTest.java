@@ -130,6 +130,16 @@ final public class CaseSensitivityTest implements ClassTesting2<CaseSensitivity>
         this.equalsAndCheck(CaseSensitivity.INSENSITIVE, "apple", "APPLE", true);
     }
 
+    @Test
+    public void testEqualsInsensitiveDifferentCaseNonAscii() {
+        this.equalsAndCheck(CaseSensitivity.INSENSITIVE, "\u00E4pple-banana", "\u00C4PPLE-BANANA", true);
+    }
+
+    @Test
+    public void testEqualsInsensitiveDifferentCaseStringBuilder() {
+        this.equalsAndCheck(CaseSensitivity.INSENSITIVE, "apple-banana", new StringBuilder("APPLE-BANANA"), true);
+    }
+
     private void equalsAndCheck(final CaseSensitivity sensitivity,
                                 final CharSequence chars,
                                 final CharSequence otherChars,
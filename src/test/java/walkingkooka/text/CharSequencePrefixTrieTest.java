@@ -0,0 +1,228 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class CharSequencePrefixTrieTest implements ClassTesting2<CharSequencePrefixTrie<String>>,
+        ToStringTesting<CharSequencePrefixTrie<String>> {
+
+    @Test
+    public void testWithNullPrefixesFails() {
+        assertThrows(NullPointerException.class, () -> CharSequencePrefixTrie.with(null, CaseSensitivity.SENSITIVE));
+    }
+
+    @Test
+    public void testWithNullSensitivityFails() {
+        assertThrows(NullPointerException.class, () -> CharSequencePrefixTrie.with(Lists.of("a"), null));
+    }
+
+    @Test
+    public void testWithNullPrefixFails() {
+        assertThrows(NullPointerException.class, () -> CharSequencePrefixTrie.with(Lists.of("a", null), CaseSensitivity.SENSITIVE));
+    }
+
+    @Test
+    public void testWithDuplicatePrefixFails() {
+        assertThrows(IllegalArgumentException.class, () -> CharSequencePrefixTrie.with(Lists.of("abc", "abc"), CaseSensitivity.SENSITIVE));
+    }
+
+    @Test
+    public void testWithDuplicatePrefixCaseInsensitiveFails() {
+        assertThrows(IllegalArgumentException.class, () -> CharSequencePrefixTrie.with(Lists.of("abc", "ABC"), CaseSensitivity.INSENSITIVE));
+    }
+
+    @Test
+    public void testWithDifferentCaseSensitive() {
+        this.matchesAndCheck(
+                CharSequencePrefixTrie.with(Lists.of("abc", "ABC"), CaseSensitivity.SENSITIVE),
+                "ABCD",
+                "ABC"
+        );
+    }
+
+    @Test
+    public void testMatchesNone() {
+        this.matchesAndCheck(
+                this.createTrie(),
+                "xyz"
+        );
+    }
+
+    @Test
+    public void testMatchesEmptyText() {
+        this.matchesAndCheck(
+                this.createTrie(),
+                ""
+        );
+    }
+
+    @Test
+    public void testMatches() {
+        this.matchesAndCheck(
+                this.createTrie(),
+                "/api/users/123",
+                "/", "/api", "/api/users"
+        );
+    }
+
+    @Test
+    public void testMatchesExact() {
+        this.matchesAndCheck(
+                this.createTrie(),
+                "/api",
+                "/", "/api"
+        );
+    }
+
+    @Test
+    public void testMatchesCaseInsensitive() {
+        this.matchesAndCheck(
+                CharSequencePrefixTrie.with(Lists.of("/api", "/API/Users", "/Ä"), CaseSensitivity.INSENSITIVE),
+                "/Api/USERS/1",
+                "/api", "/API/Users"
+        );
+        this.matchesAndCheck(
+                CharSequencePrefixTrie.with(Lists.of("/api", "/API/Users", "/Ä"), CaseSensitivity.INSENSITIVE),
+                "/ä",
+                "/Ä"
+        );
+    }
+
+    @Test
+    public void testMatchesEmptyPrefix() {
+        this.matchesAndCheck(
+                CharSequencePrefixTrie.with(Lists.of("", "a"), CaseSensitivity.SENSITIVE),
+                "xyz",
+                ""
+        );
+    }
+
+    @Test
+    public void testMatchesSameAsStartsWith() {
+        final Random random = new Random(1);
+        final List<String> prefixes = Lists.array();
+        while (prefixes.size() < 100) {
+            final String prefix = randomText(random, 1 + random.nextInt(5));
+            if (false == prefixes.contains(prefix.toLowerCase())) {
+                prefixes.add(prefix.toLowerCase());
+            }
+        }
+
+        for (final CaseSensitivity sensitivity : CaseSensitivity.values()) {
+            final CharSequencePrefixTrie<String> trie = CharSequencePrefixTrie.with(prefixes, sensitivity);
+
+            for (int i = 0; i < 1000; i++) {
+                final String text = randomText(random, random.nextInt(8));
+
+                final List<String> expected = Lists.array();
+                prefixes.stream()
+                        .filter(p -> sensitivity.startsWith(text, p))
+                        .sorted((l, r) -> l.length() - r.length())
+                        .forEach(expected::add);
+
+                this.checkEquals(expected, trie.matches(text), () -> sensitivity + " " + text);
+                this.checkEquals(
+                        expected.isEmpty() ?
+                                Optional.empty() :
+                                Optional.of(expected.get(expected.size() - 1)),
+                        trie.longest(text),
+                        () -> "longest " + sensitivity + " " + text
+                );
+            }
+        }
+    }
+
+    private static String randomText(final Random random,
+                                     final int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = "abcABC".charAt(random.nextInt(6));
+        }
+        return new String(chars);
+    }
+
+    private void matchesAndCheck(final CharSequencePrefixTrie<String> trie,
+                                 final String text,
+                                 final String... expected) {
+        this.checkEquals(
+                Lists.of(expected),
+                trie.matches(text),
+                () -> trie + " matches " + CharSequences.quoteAndEscape(text)
+        );
+    }
+
+    @Test
+    public void testLongest() {
+        this.checkEquals(
+                Optional.of("/api/users"),
+                this.createTrie().longest("/api/users/123")
+        );
+    }
+
+    @Test
+    public void testLongestNone() {
+        this.checkEquals(
+                Optional.empty(),
+                this.createTrie().longest("xyz")
+        );
+    }
+
+    @Test
+    public void testPrefixes() {
+        this.checkEquals(
+                Lists.of("/api/users", "/api", "/", "/admin"),
+                this.createTrie().prefixes()
+        );
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                CharSequencePrefixTrie.with(Lists.of("a", "b"), CaseSensitivity.INSENSITIVE),
+                "[a, b] (CaseInsensitive)"
+        );
+    }
+
+    private CharSequencePrefixTrie<String> createTrie() {
+        return CharSequencePrefixTrie.with(
+                Lists.of("/api/users", "/api", "/", "/admin"),
+                CaseSensitivity.SENSITIVE
+        );
+    }
+
+    @Override
+    public Class<CharSequencePrefixTrie<String>> type() {
+        return walkingkooka.Cast.to(CharSequencePrefixTrie.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Arrays;
+
+public final class CharSequenceRadixSortParallelTaskTest implements ClassTesting2<CharSequenceRadixSortParallelTask<?>> {
+
+    @Test
+    public void testSortLessThanThresholdSensitive() {
+        this.sortAndCheck(CaseSensitivity.SENSITIVE, 1000);
+    }
+
+    @Test
+    public void testSortLessThanThresholdInsensitive() {
+        this.sortAndCheck(CaseSensitivity.INSENSITIVE, 1000);
+    }
+
+    @Test
+    public void testSortSensitive() {
+        this.sortAndCheck(CaseSensitivity.SENSITIVE, 5 * CharSequenceRadixSortParallelTask.PARALLEL_THRESHOLD);
+    }
+
+    @Test
+    public void testSortInsensitive() {
+        this.sortAndCheck(CaseSensitivity.INSENSITIVE, 5 * CharSequenceRadixSortParallelTask.PARALLEL_THRESHOLD);
+    }
+
+    private void sortAndCheck(final CaseSensitivity sensitivity,
+                              final int count) {
+        final String[] values = CharSequenceRadixSortTest.values(count);
+
+        final String[] expected = values.clone();
+        Arrays.sort(expected, sensitivity.comparator());
+
+        final String[] sorted = values.clone();
+        CharSequenceRadixSortParallelTask.sort(sorted, sensitivity);
+
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] != sorted[i]) {
+                this.checkEquals(
+                        Arrays.asList(expected),
+                        Arrays.asList(sorted),
+                        () -> sensitivity + " sort " + count
+                );
+            }
+        }
+    }
+
+    @Override
+    public Class<CharSequenceRadixSortParallelTask<?>> type() {
+        return Cast.to(CharSequenceRadixSortParallelTask.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
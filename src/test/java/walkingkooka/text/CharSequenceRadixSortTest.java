@@ -0,0 +1,161 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public final class CharSequenceRadixSortTest implements ClassTesting2<CharSequenceRadixSort<?>>,
+        ToStringTesting<CharSequenceRadixSort<?>> {
+
+    @Test
+    public void testSortEmpty() {
+        this.sortAndCheck(CaseSensitivity.SENSITIVE);
+    }
+
+    @Test
+    public void testSortOne() {
+        this.sortAndCheck(CaseSensitivity.SENSITIVE, "a");
+    }
+
+    @Test
+    public void testSortFewSensitive() {
+        this.sortAndCheck(
+                CaseSensitivity.SENSITIVE,
+                "banana", "Apple", "apple", "", "APPLE", "apple-banana", "Äpple", "äpple", "Zebra"
+        );
+    }
+
+    @Test
+    public void testSortFewInsensitive() {
+        this.sortAndCheck(
+                CaseSensitivity.INSENSITIVE,
+                "banana", "Apple", "apple", "", "APPLE", "apple-banana", "Äpple", "äpple", "Zebra"
+        );
+    }
+
+    @Test
+    public void testSortManySensitive() {
+        this.sortAndCheck(CaseSensitivity.SENSITIVE, values(5000));
+    }
+
+    @Test
+    public void testSortManyInsensitive() {
+        this.sortAndCheck(CaseSensitivity.INSENSITIVE, values(5000));
+    }
+
+    @Test
+    public void testSortManyStringBuilders() {
+        final CharSequence[] values = Arrays.stream(values(1000))
+                .map(StringBuilder::new)
+                .toArray(CharSequence[]::new);
+        this.sortAndCheck(CaseSensitivity.INSENSITIVE, values);
+    }
+
+    @Test
+    public void testSortLongCommonPrefix() {
+        this.sortAndCheck(CaseSensitivity.SENSITIVE, longCommonPrefix(64));
+    }
+
+    @Test
+    public void testSortLongCommonPrefixInsensitive() {
+        this.sortAndCheck(CaseSensitivity.INSENSITIVE, longCommonPrefix(64));
+    }
+
+    @Test
+    public void testSortManyDuplicates() {
+        final String[] values = new String[100];
+        Arrays.fill(values, "duplicate");
+        values[50] = "DUPLICATE";
+        this.sortAndCheck(CaseSensitivity.INSENSITIVE, values);
+    }
+
+    /**
+     * Creates values that share a prefix far longer than a safe recursion depth.
+     */
+    static String[] longCommonPrefix(final int count) {
+        final String prefix = CharSequences.repeating('p', 50000).toString();
+        final String[] values = values(count);
+        for (int i = 0; i < count; i++) {
+            values[i] = prefix + values[i];
+        }
+        return values;
+    }
+
+    /**
+     * Creates many values with common prefixes, different case, duplicates and non ASCII chars.
+     */
+    static String[] values(final int count) {
+        final Random random = new Random(count);
+        final char[] chars = new char[]{'a', 'A', 'b', 'B', 'z', 'Z', '0', '-', 'Ä', 'ä', 'Ā', 'ā'};
+
+        final String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            final int length = random.nextInt(12);
+            final StringBuilder b = new StringBuilder();
+            for (int j = 0; j < length; j++) {
+                b.append(chars[random.nextInt(chars.length)]);
+            }
+            values[i] = b.toString();
+        }
+        return values;
+    }
+
+    private void sortAndCheck(final CaseSensitivity sensitivity,
+                              final CharSequence... values) {
+        final CharSequence[] expected = values.clone();
+        Arrays.sort(expected, sensitivity.comparator());
+
+        final CharSequence[] sorted = values.clone();
+        CharSequenceRadixSort.sort(sorted, sensitivity);
+
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] != sorted[i]) {
+                this.checkEquals(
+                        Arrays.asList(expected),
+                        Arrays.asList(sorted),
+                        () -> sensitivity + " sort " + values.length
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                CharSequenceRadixSort.with(new String[0], CaseSensitivity.INSENSITIVE),
+                CaseSensitivity.INSENSITIVE.toString()
+        );
+    }
+
+    @Override
+    public Class<CharSequenceRadixSort<?>> type() {
+        return Cast.to(CharSequenceRadixSort.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
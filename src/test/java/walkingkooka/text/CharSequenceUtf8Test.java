@@ -0,0 +1,321 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+public final class CharSequenceUtf8Test implements ClassTesting2<CharSequenceUtf8> {
+
+    private final static String ASCII = "Hello World 123";
+
+    private final static String TWO_BYTES = "\u00C4pfel \u00FC\u00F1\u00EE";
+
+    private final static String THREE_BYTES = "\u20AC uro \u4E2D\u6587";
+
+    private final static String SURROGATES = "\uD83D\uDE00 smile \uD834\uDD1E";
+
+    private final static String MIXED = ASCII + TWO_BYTES + THREE_BYTES + SURROGATES + ASCII;
+
+    // encode...........................................................................................................
+
+    @Test
+    public void testEncodeEmpty() {
+        this.encodeAndCheck("");
+    }
+
+    @Test
+    public void testEncodeAscii() {
+        this.encodeAndCheck(ASCII);
+    }
+
+    @Test
+    public void testEncodeTwoBytes() {
+        this.encodeAndCheck(TWO_BYTES);
+    }
+
+    @Test
+    public void testEncodeThreeBytes() {
+        this.encodeAndCheck(THREE_BYTES);
+    }
+
+    @Test
+    public void testEncodeSurrogates() {
+        this.encodeAndCheck(SURROGATES);
+    }
+
+    @Test
+    public void testEncodeUnpairedHighSurrogate() {
+        this.encodeAndCheck("a\uD83Db");
+    }
+
+    @Test
+    public void testEncodeUnpairedHighSurrogateLast() {
+        this.encodeAndCheck("ab\uD83D");
+    }
+
+    @Test
+    public void testEncodeUnpairedLowSurrogate() {
+        this.encodeAndCheck("a\uDE00b");
+    }
+
+    @Test
+    public void testEncodeMixed() {
+        this.encodeAndCheck(MIXED);
+    }
+
+    @Test
+    public void testEncodeStringBuilder() {
+        this.encodeAndCheck(new StringBuilder(MIXED));
+    }
+
+    @Test
+    public void testEncodeSmallBuffersResumes() {
+        for (int size = 4; size < 16; size++) {
+            this.encodeAndCheck(MIXED, ByteBuffer.allocate(size));
+        }
+    }
+
+    @Test
+    public void testEncodeSmallDirectBuffersResumes() {
+        for (int size = 4; size < 16; size++) {
+            this.encodeAndCheck(MIXED, ByteBuffer.allocateDirect(size));
+        }
+    }
+
+    @Test
+    public void testEncodeFullBufferSurrogatePairNotSplit() {
+        final ByteBuffer bytes = ByteBuffer.allocate(3);
+        this.checkEquals(
+                1,
+                CharSequenceUtf8.encode("a\uD83D\uDE00", 0, bytes)
+        );
+        this.checkEquals(1, bytes.position(), "position");
+    }
+
+    @Test
+    public void testEncodedLength() {
+        for (final String chars : new String[]{"", ASCII, TWO_BYTES, THREE_BYTES, SURROGATES, MIXED, "a\uD83Db", "ab\uD83D", "a\uDE00b"}) {
+            final ByteBuffer bytes = ByteBuffer.allocate(4 * chars.length());
+            CharSequenceUtf8.encode(chars, 0, bytes);
+
+            this.checkEquals(
+                    bytes.position(),
+                    CharSequenceUtf8.encodedLength(chars),
+                    () -> "encodedLength " + CharSequences.quoteAndEscape(chars)
+            );
+        }
+    }
+
+    private void encodeAndCheck(final CharSequence chars) {
+        this.encodeAndCheck(chars, ByteBuffer.allocate(4 * chars.length()));
+    }
+
+    private void encodeAndCheck(final CharSequence chars,
+                                final ByteBuffer buffer) {
+        final byte[] expected = chars.toString().getBytes(StandardCharsets.UTF_8);
+        final byte[] encoded = new byte[expected.length * 2];
+        int count = 0;
+
+        final int length = chars.length();
+        int i = 0;
+        do {
+            buffer.clear();
+            i = CharSequenceUtf8.encode(chars, i, buffer);
+            buffer.flip();
+
+            final int remaining = buffer.remaining();
+            buffer.get(encoded, count, remaining);
+            count = count + remaining;
+        } while (i < length);
+
+        this.checkEquals(
+                Arrays.toString(expected),
+                Arrays.toString(Arrays.copyOf(encoded, count)),
+                () -> "encode " + CharSequences.quoteAndEscape(chars)
+        );
+    }
+
+    // decode...........................................................................................................
+
+    @Test
+    public void testDecodeEmpty() {
+        this.decodeAndCheck("");
+    }
+
+    @Test
+    public void testDecodeAscii() {
+        this.decodeAndCheck(ASCII);
+    }
+
+    @Test
+    public void testDecodeTwoBytes() {
+        this.decodeAndCheck(TWO_BYTES);
+    }
+
+    @Test
+    public void testDecodeThreeBytes() {
+        this.decodeAndCheck(THREE_BYTES);
+    }
+
+    @Test
+    public void testDecodeSurrogates() {
+        this.decodeAndCheck(SURROGATES);
+    }
+
+    @Test
+    public void testDecodeMixed() {
+        this.decodeAndCheck(MIXED);
+    }
+
+    @Test
+    public void testDecodeIncompleteLeftInBuffer() {
+        final byte[] bytes = "a\u20AC".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, bytes.length - 1);
+
+        final StringBuilder b = new StringBuilder();
+        CharSequenceUtf8.decode(buffer, b);
+
+        this.checkEquals("a", b.toString());
+        this.checkEquals(1, buffer.position(), "position");
+    }
+
+    @Test
+    public void testDecodeMalformed() {
+        this.decodeAndCheck(
+                new byte[]{
+                        'a',
+                        (byte) 0xC0, (byte) 0x80, // overlong
+                        (byte) 0xE0, (byte) 0x80, (byte) 0x80, // overlong
+                        (byte) 0xED, (byte) 0xA0, (byte) 0x80, // surrogate
+                        (byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80, // > max code point
+                        (byte) 0xE2, (byte) 0x82, 'b', // truncated
+                        (byte) 0xFF,
+                        'c'
+                }
+        );
+    }
+
+    @Test
+    public void testDecodeRandomBytes() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            final byte[] bytes = new byte[random.nextInt(40)];
+            for (int j = 0; j < bytes.length; j++) {
+                // favour bytes near boundaries
+                bytes[j] = (byte) (random.nextBoolean() ?
+                        random.nextInt(256) :
+                        0x80 + random.nextInt(0x80));
+            }
+            this.decodeAndCheck(bytes);
+        }
+    }
+
+    @Test
+    public void testDecodeCharBufferSmall() {
+        final byte[] bytes = MIXED.getBytes(StandardCharsets.UTF_8);
+
+        for (int size = 2; size < 16; size++) {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            final CharBuffer chars = CharBuffer.allocate(size);
+            final StringBuilder b = new StringBuilder();
+
+            while (buffer.hasRemaining()) {
+                chars.clear();
+                CharSequenceUtf8.decode(buffer, chars);
+                chars.flip();
+                b.append(chars);
+            }
+
+            this.checkEquals(MIXED, b.toString(), "CharBuffer size " + size);
+        }
+    }
+
+    @Test
+    public void testDecodeChunksCompacted() {
+        final byte[] bytes = MIXED.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(5);
+        final StringBuilder b = new StringBuilder();
+
+        int i = 0;
+        while (i < bytes.length) {
+            final int count = Math.min(buffer.remaining(), bytes.length - i);
+            buffer.put(bytes, i, count);
+            i = i + count;
+
+            buffer.flip();
+            CharSequenceUtf8.decode(buffer, b);
+            buffer.compact();
+        }
+
+        this.checkEquals(MIXED, b.toString());
+    }
+
+    private void decodeAndCheck(final String chars) {
+        this.decodeAndCheck(chars.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void decodeAndCheck(final byte[] bytes) {
+        final String expected = new String(bytes, StandardCharsets.UTF_8);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final StringBuilder b = new StringBuilder();
+        CharSequenceUtf8.decode(buffer, b);
+
+        // an incomplete sequence at the end is left and would be replaced by a single replacement char
+        if (buffer.hasRemaining()) {
+            b.append(CharSequenceUtf8.REPLACEMENT);
+        }
+
+        this.checkEquals(
+                CharSequences.escape(expected),
+                CharSequences.escape(b),
+                () -> "decode " + Arrays.toString(bytes)
+        );
+
+        final CharBuffer chars = CharBuffer.allocate(bytes.length + 1);
+        buffer.rewind();
+        CharSequenceUtf8.decode(buffer, chars);
+        chars.flip();
+
+        this.checkEquals(
+                CharSequences.escape(b.substring(0, b.length() - (buffer.hasRemaining() ? 1 : 0))),
+                CharSequences.escape(chars),
+                () -> "decode CharBuffer " + Arrays.toString(bytes)
+        );
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<CharSequenceUtf8> type() {
+        return CharSequenceUtf8.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
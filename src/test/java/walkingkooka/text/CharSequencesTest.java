@@ -26,8 +26,13 @@ import walkingkooka.reflect.PublicStaticHelperTesting;
 import walkingkooka.reflect.ThrowableTesting;
 
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -175,6 +180,59 @@ final public class CharSequencesTest implements PublicStaticHelperTesting<CharSe
                 (byte) 0x12, (byte) 0x34, (byte) 0x56, (byte) 0x78, (byte) 0x90, (byte) 0xab, (byte) 0xcd, (byte) 0xef);
     }
 
+    @Test
+    public void testBigEndianHexDigitsByteBufferNullFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.bigEndianHexDigits("12", null));
+    }
+
+    @Test
+    public void testBigEndianHexDigitsByteBuffer() {
+        final ByteBuffer bytes = ByteBuffer.allocate(3);
+        CharSequences.bigEndianHexDigits("0aFf10", bytes);
+        this.checkEquals(
+                Arrays.toString(new byte[]{0x0a, (byte) 0xff, 0x10}),
+                Arrays.toString(bytes.array())
+        );
+    }
+
+    @Test
+    public void testBigEndianHexDigitsReaderNullFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.bigEndianHexDigitsReader(null));
+    }
+
+    @Test
+    public void testBigEndianHexDigitsWriterNullFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.bigEndianHexDigitsWriter(null));
+    }
+
+    @Test
+    public void testToBigEndianHexDigitsNullBytesFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.toBigEndianHexDigits((byte[]) null));
+    }
+
+    @Test
+    public void testToBigEndianHexDigitsNullByteBufferFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.toBigEndianHexDigits((ByteBuffer) null));
+    }
+
+    @Test
+    public void testToBigEndianHexDigits() {
+        this.checkEquals(
+                "1234567890abcdef",
+                CharSequences.toBigEndianHexDigits(
+                        new byte[]{(byte) 0x12, (byte) 0x34, (byte) 0x56, (byte) 0x78, (byte) 0x90, (byte) 0xab, (byte) 0xcd, (byte) 0xef}
+                )
+        );
+    }
+
+    @Test
+    public void testToBigEndianHexDigitsByteBuffer() {
+        this.checkEquals(
+                "0aff",
+                CharSequences.toBigEndianHexDigits(ByteBuffer.wrap(new byte[]{0x0a, (byte) 0xff}))
+        );
+    }
+
     private void bigEndianHexDigitsAndCheck(final String hexDigits, final byte... expected) {
         final byte[] bytes = CharSequences.bigEndianHexDigits(hexDigits);
         if (false == Arrays.equals(expected, bytes)) {
@@ -184,6 +242,35 @@ final public class CharSequencesTest implements PublicStaticHelperTesting<CharSe
         }
     }
 
+    // borrow.......................................................................................................
+
+    @Test
+    public void testBorrow() {
+        try (final PooledBuilder b = CharSequences.borrow()) {
+            this.checkEquals("abc", b.append("abc").toString());
+        }
+    }
+
+    @Test
+    public void testQuoteAndEscapeInsideBorrow() {
+        try (final PooledBuilder b = CharSequences.borrow()) {
+            b.append(CharSequences.quoteAndEscape("a\nb"));
+            b.append(CharSequences.escape("\t"));
+            this.checkEquals("\"a\\nb\"\\t", b.toString());
+        }
+    }
+
+    // prefixTrie...................................................................................................
+
+    @Test
+    public void testPrefixTrie() {
+        this.checkEquals(
+                Lists.of("a", "ab"),
+                CharSequences.prefixTrie(Lists.of("ab", "a", "b"), CaseSensitivity.INSENSITIVE)
+                        .matches("ABC")
+        );
+    }
+
     // capitalize....................................................................................
 
     @Test
@@ -342,12 +429,86 @@ final public class CharSequencesTest implements PublicStaticHelperTesting<CharSe
         equalsAndCheck(test, other, false);
     }
 
+    @Test
+    public void testEqualsStringBuilder() {
+        equalsAndCheck(new StringBuilder("apple"), "apple", true);
+    }
+
+    @Test
+    public void testEqualsStringBuilderDifferent() {
+        equalsAndCheck(new StringBuilder("apple"), "apply", false);
+    }
+
+    @Test
+    public void testEqualsConcatCharSequence() {
+        equalsAndCheck(ConcatCharSequence.with("app", "le"), "apple", true);
+    }
+
     private void equalsAndCheck(final CharSequence chars, final String endsWith, final boolean result) {
         this.checkEquals(result,
                 CharSequences.equals(chars, endsWith),
                 CharSequences.quote(chars) + " equals " + CharSequences.quote(endsWith));
     }
 
+    // utf8.............................................................................................................
+
+    @Test
+    public void testDecodeUtf8NullBytesFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.decodeUtf8(null, new StringBuilder()));
+    }
+
+    @Test
+    public void testDecodeUtf8NullStringBuilderFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.decodeUtf8(ByteBuffer.allocate(1), (StringBuilder) null));
+    }
+
+    @Test
+    public void testDecodeUtf8NullCharBufferFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.decodeUtf8(ByteBuffer.allocate(1), (CharBuffer) null));
+    }
+
+    @Test
+    public void testDecodeUtf8() {
+        final String text = "abc \u00C4 \u20AC \uD83D\uDE00";
+        final StringBuilder b = new StringBuilder();
+        CharSequences.decodeUtf8(
+                ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)),
+                b
+        );
+        this.checkEquals(text, b.toString());
+    }
+
+    @Test
+    public void testEncodeUtf8NullCharsFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.encodeUtf8(null, ByteBuffer.allocate(1)));
+    }
+
+    @Test
+    public void testEncodeUtf8NullBytesFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.encodeUtf8("abc", null));
+    }
+
+    @Test
+    public void testEncodeUtf8InvalidStartFails() {
+        assertThrows(StringIndexOutOfBoundsException.class, () -> CharSequences.encodeUtf8("abc", 4, ByteBuffer.allocate(1)));
+    }
+
+    @Test
+    public void testEncodeUtf8() {
+        final String text = "abc \u00C4 \u20AC \uD83D\uDE00";
+        final ByteBuffer bytes = ByteBuffer.allocate(100);
+        this.checkEquals(text.length(), CharSequences.encodeUtf8(text, bytes), "next");
+
+        bytes.flip();
+        final byte[] encoded = new byte[bytes.remaining()];
+        bytes.get(encoded);
+
+        this.checkEquals(
+                Arrays.toString(text.getBytes(StandardCharsets.UTF_8)),
+                Arrays.toString(encoded)
+        );
+    }
+
     // escape/unescape .......................................................................
 
     @Test
@@ -558,6 +719,50 @@ final public class CharSequencesTest implements PublicStaticHelperTesting<CharSe
         this.checkEquals(CharSequences.isNullOrEmpty(chars), result, () -> chars + " isNullOrEmpty");
     }
 
+    // lines.........................................................................................................
+
+    @Test
+    public void testLinesNullFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.lines(null));
+    }
+
+    @Test
+    public void testLinesEmpty() {
+        this.linesAndCheck("");
+    }
+
+    @Test
+    public void testLinesWithoutLineEnding() {
+        this.linesAndCheck("abc", "abc");
+    }
+
+    @Test
+    public void testLinesCrCrNlNl() {
+        this.linesAndCheck("a\rb\r\nc\nd", "a", "b", "c", "d");
+    }
+
+    @Test
+    public void testLinesEmptyLines() {
+        this.linesAndCheck("\n\r\r\na\n\r", "", "", "", "a", "");
+    }
+
+    @Test
+    public void testLinesFinalLineEnding() {
+        this.linesAndCheck("a\r\nb\r\n", "a", "b");
+    }
+
+    private void linesAndCheck(final CharSequence chars,
+                               final String... lines) {
+        this.checkEquals(
+                Lists.of(lines),
+                CharSequences.lines(chars)
+                        .stream()
+                        .map(CharSequence::toString)
+                        .collect(Collectors.toList()),
+                () -> "lines " + CharSequences.quoteAndEscape(chars)
+        );
+    }
+
     // padLeft................................................
 
     private final static int LENGTH = CHARS.length() + 3; // 3 + 3
@@ -1006,6 +1211,58 @@ final public class CharSequencesTest implements PublicStaticHelperTesting<CharSe
                 "Quote if necessary \"" + sequence + "\" ");
     }
 
+    // radixSort........................................................................................................
+
+    @Test
+    public void testRadixSortNullArrayFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.radixSort((String[]) null, CaseSensitivity.SENSITIVE));
+    }
+
+    @Test
+    public void testRadixSortNullCaseSensitivityFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.radixSort(new String[0], null));
+    }
+
+    @Test
+    public void testRadixSortNullListFails() {
+        assertThrows(NullPointerException.class, () -> CharSequences.radixSort((List<String>) null, CaseSensitivity.SENSITIVE));
+    }
+
+    @Test
+    public void testRadixSortListSensitive() {
+        this.radixSortAndCheck(CaseSensitivity.SENSITIVE);
+    }
+
+    @Test
+    public void testRadixSortListInsensitive() {
+        this.radixSortAndCheck(CaseSensitivity.INSENSITIVE);
+    }
+
+    private void radixSortAndCheck(final CaseSensitivity sensitivity) {
+        final List<String> list = Lists.array();
+        list.addAll(Lists.of("banana", "Apple", "apple", "", "APPLE", "apple-banana", "Zebra"));
+
+        final List<String> expected = Lists.array();
+        expected.addAll(list);
+        expected.sort(sensitivity.comparator());
+
+        CharSequences.radixSort(list, sensitivity);
+        this.checkEquals(expected, list, () -> "radixSort " + sensitivity);
+    }
+
+    @Test
+    public void testRadixSortParallelListInsensitive() {
+        final List<String> list = Lists.array();
+        list.addAll(Lists.of(CharSequenceRadixSortTest.values(20000)));
+
+        final List<String> expected = Lists.array();
+        expected.addAll(list);
+        expected.sort(CaseSensitivity.INSENSITIVE.comparator());
+
+        CharSequences.radixSortParallel(list, CaseSensitivity.INSENSITIVE);
+        this.checkEquals(expected, list);
+    }
+
     // startsWith.......................................................................................................
 
     @Test
@@ -139,6 +139,30 @@ final public class ConcatCharSequenceTest implements ClassTesting2<ConcatCharSeq
         this.checkNotEquals(ConcatCharSequence.with(FIRST, "1"));
     }
 
+    @Test
+    public void testEqualsDifferentSplit() {
+        this.checkEquals(ConcatCharSequence.with("ab", "c1234"));
+    }
+
+    @Test
+    public void testEqualsSubCharSequence() {
+        this.checkEquals(SubCharSequence.with(".abc1234.", 1, 8));
+    }
+
+    @Test
+    public void testHashCodeSameAsString() {
+        this.checkEquals((FIRST + SECOND).hashCode(), this.createCharSequence().hashCode());
+    }
+
+    @Test
+    public void testHashCodeNested() {
+        final CharSequence chars = ConcatCharSequence.with(
+                ConcatCharSequence.with("a", new StringBuilder("bcd")),
+                ConcatCharSequence.with(RepeatingCharSequence.with('x', 40), "!")
+        );
+        this.checkEquals(chars.toString().hashCode(), chars.hashCode());
+    }
+
     @Override
     public ConcatCharSequence createCharSequence() {
         return (ConcatCharSequence) ConcatCharSequence.with(FIRST, SECOND);
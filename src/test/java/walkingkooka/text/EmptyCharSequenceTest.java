@@ -39,6 +39,11 @@ final public class EmptyCharSequenceTest implements ClassTesting2<EmptyCharSeque
         this.subSequenceFails(EmptyCharSequence.INSTANCE, 0, 1);
     }
 
+    @Test
+    public void testHashCodeSameAsString() {
+        this.checkEquals("".hashCode(), EmptyCharSequence.INSTANCE.hashCode());
+    }
+
     @Override
     @Test
     public void testSubSequenceWithSameFromAndToReturnsThis() {
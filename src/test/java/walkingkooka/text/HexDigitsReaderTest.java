@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class HexDigitsReaderTest implements ClassTesting2<HexDigitsReader>,
+        ToStringTesting<HexDigitsReader> {
+
+    @Test
+    public void testWithNullInputStreamFails() {
+        assertThrows(NullPointerException.class, () -> HexDigitsReader.with(null));
+    }
+
+    @Test
+    public void testReadEmpty() throws IOException {
+        this.checkEquals(-1, HexDigitsReader.with(new ByteArrayInputStream(new byte[0])).read());
+    }
+
+    @Test
+    public void testReadSingleChars() throws IOException {
+        final HexDigitsReader reader = HexDigitsReader.with(new ByteArrayInputStream(new byte[]{0x1f, (byte) 0xa0}));
+        final StringBuilder b = new StringBuilder();
+
+        for (; ; ) {
+            final int c = reader.read();
+            if (-1 == c) {
+                break;
+            }
+            b.append((char) c);
+        }
+
+        this.checkEquals("1fa0", b.toString());
+    }
+
+    @Test
+    public void testReadOddSizedBuffers() throws IOException {
+        final byte[] bytes = HexDigitsTest.allBytes();
+        final String expected = HexDigits.encode(bytes);
+
+        for (int size = 1; size < 10; size++) {
+            this.readAndCheck(new ByteArrayInputStream(bytes), size, expected);
+        }
+    }
+
+    @Test
+    public void testReadMoreThanBuffer() throws IOException {
+        final byte[] bytes = new byte[10000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31);
+        }
+
+        this.readAndCheck(new ByteArrayInputStream(bytes), 333, HexDigits.encode(bytes));
+    }
+
+    private void readAndCheck(final InputStream input,
+                              final int size,
+                              final String expected) throws IOException {
+        try (final HexDigitsReader reader = HexDigitsReader.with(input)) {
+            final StringBuilder b = new StringBuilder();
+            final char[] buffer = new char[size];
+
+            for (; ; ) {
+                final int count = reader.read(buffer);
+                if (-1 == count) {
+                    break;
+                }
+                b.append(buffer, 0, count);
+            }
+
+            this.checkEquals(expected, b.toString(), () -> "buffer size " + size);
+        }
+    }
+
+    @Test
+    public void testToString() {
+        final InputStream input = new ByteArrayInputStream(new byte[0]);
+        this.toStringAndCheck(HexDigitsReader.with(input), input.toString());
+    }
+
+    @Override
+    public Class<HexDigitsReader> type() {
+        return HexDigitsReader.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class HexDigitsTest implements ClassTesting2<HexDigits> {
+
+    @Test
+    public void testValue() {
+        for (int i = 0; i < 0x10000; i++) {
+            final char c = (char) i;
+            final int expected = Character.digit(c, 16);
+            final int value = HexDigits.value(c);
+            if (expected != value) {
+                this.checkEquals(expected, value, () -> "value " + CharSequences.quoteAndEscape(c));
+            }
+        }
+    }
+
+    // decode...........................................................................................................
+
+    @Test
+    public void testDecodeInvalidCharacterFirstReported() {
+        final InvalidCharacterException thrown = assertThrows(
+                InvalidCharacterException.class,
+                () -> HexDigits.decode("12x4y6")
+        );
+        this.checkEquals(2, thrown.position(), "position");
+    }
+
+    @Test
+    public void testDecodeNonAsciiDigit() {
+        this.checkEquals(
+                Arrays.toString(new byte[]{0x12, 0x12, 0x1a}),
+                Arrays.toString(HexDigits.decode("12١٢\uff11\uff41"))
+        );
+    }
+
+    @Test
+    public void testDecodeNonAsciiInvalidCharacterFails() {
+        final InvalidCharacterException thrown = assertThrows(
+                InvalidCharacterException.class,
+                () -> HexDigits.decode("12\u00e9f")
+        );
+        this.checkEquals(2, thrown.position(), "position");
+    }
+
+    @Test
+    public void testDecodeAllBytes() {
+        final byte[] bytes = allBytes();
+        this.checkEquals(
+                Arrays.toString(bytes),
+                Arrays.toString(HexDigits.decode(HexDigits.encode(bytes)))
+        );
+    }
+
+    @Test
+    public void testDecodeUpperCase() {
+        this.checkEquals(
+                Arrays.toString(new byte[]{(byte) 0xab, (byte) 0xcd, (byte) 0xef}),
+                Arrays.toString(HexDigits.decode("ABCDEF"))
+        );
+    }
+
+    @Test
+    public void testDecodeByteBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocate(4);
+        buffer.put((byte) 9);
+
+        HexDigits.decode("0aff", buffer);
+
+        this.checkEquals(3, buffer.position(), "position");
+        this.checkEquals(
+                Arrays.toString(new byte[]{9, 10, (byte) 0xff, 0}),
+                Arrays.toString(buffer.array())
+        );
+    }
+
+    @Test
+    public void testDecodeByteBufferInvalidCharacterNothingWritten() {
+        final ByteBuffer buffer = ByteBuffer.allocate(4);
+
+        final InvalidCharacterException thrown = assertThrows(
+                InvalidCharacterException.class,
+                () -> HexDigits.decode("0a0g", buffer)
+        );
+        this.checkEquals(3, thrown.position(), "position");
+        this.checkEquals(0, buffer.position(), "position");
+        this.checkEquals(
+                Arrays.toString(new byte[4]),
+                Arrays.toString(buffer.array())
+        );
+    }
+
+    @Test
+    public void testDecodeByteBufferOverflowFails() {
+        assertThrows(
+                BufferOverflowException.class,
+                () -> HexDigits.decode("010203", ByteBuffer.allocate(2))
+        );
+    }
+
+    // encode...........................................................................................................
+
+    @Test
+    public void testEncodeEmpty() {
+        this.checkEquals("", HexDigits.encode(new byte[0]));
+    }
+
+    @Test
+    public void testEncode() {
+        this.checkEquals(
+                "00017f80ff",
+                HexDigits.encode(new byte[]{0, 1, 0x7f, (byte) 0x80, (byte) 0xff})
+        );
+    }
+
+    @Test
+    public void testEncodeAllBytes() {
+        final byte[] bytes = allBytes();
+        final StringBuilder b = new StringBuilder();
+        for (final byte value : bytes) {
+            b.append(String.format("%02x", value & 0xff));
+        }
+        this.checkEquals(b.toString(), HexDigits.encode(bytes));
+    }
+
+    @Test
+    public void testEncodeByteBuffer() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0, 1, 0x7f, (byte) 0x80, (byte) 0xff});
+        buffer.position(1);
+
+        this.checkEquals("017f80ff", HexDigits.encode(buffer));
+        this.checkEquals(5, buffer.position(), "position");
+    }
+
+    static byte[] allBytes() {
+        final byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    // ClassTesting.....................................................................................................
+
+    @Override
+    public Class<HexDigits> type() {
+        return HexDigits.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.InvalidCharacterException;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class HexDigitsWriterTest implements ClassTesting2<HexDigitsWriter>,
+        ToStringTesting<HexDigitsWriter> {
+
+    @Test
+    public void testWithNullOutputStreamFails() {
+        assertThrows(NullPointerException.class, () -> HexDigitsWriter.with(null));
+    }
+
+    @Test
+    public void testWrite() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (final HexDigitsWriter writer = HexDigitsWriter.with(output)) {
+            writer.write("1fA");
+            writer.write('0');
+            writer.write("ff");
+        }
+
+        this.checkEquals(
+                Arrays.toString(new byte[]{0x1f, (byte) 0xa0, (byte) 0xff}),
+                Arrays.toString(output.toByteArray())
+        );
+    }
+
+    @Test
+    public void testWriteMoreThanBuffer() throws IOException {
+        final byte[] bytes = new byte[10000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 31);
+        }
+        final String hexDigits = HexDigits.encode(bytes);
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (final HexDigitsWriter writer = HexDigitsWriter.with(output)) {
+            for (int i = 0; i < hexDigits.length(); i = i + 333) {
+                writer.write(hexDigits, i, Math.min(333, hexDigits.length() - i));
+            }
+        }
+
+        this.checkEquals(
+                Arrays.toString(bytes),
+                Arrays.toString(output.toByteArray())
+        );
+    }
+
+    @Test
+    public void testWriteInvalidCharacterFails() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final HexDigitsWriter writer = HexDigitsWriter.with(output);
+        writer.write("01");
+
+        final InvalidCharacterException thrown = assertThrows(
+                InvalidCharacterException.class,
+                () -> writer.write("02x3")
+        );
+        this.checkEquals(2, thrown.position(), "position");
+
+        writer.flush();
+        this.checkEquals(
+                Arrays.toString(new byte[]{1}),
+                Arrays.toString(output.toByteArray())
+        );
+    }
+
+    @Test
+    public void testCloseOddDigitsFails() throws IOException {
+        final HexDigitsWriter writer = HexDigitsWriter.with(new ByteArrayOutputStream());
+        writer.write("123");
+
+        assertThrows(IOException.class, writer::close);
+    }
+
+    @Test
+    public void testCloseTwice() throws IOException {
+        final CloseCountingOutputStream output = new CloseCountingOutputStream();
+        final HexDigitsWriter writer = HexDigitsWriter.with(output);
+        writer.write("12");
+        writer.close();
+        writer.close();
+
+        this.checkEquals(1, output.closeCount, "closeCount");
+        this.checkEquals(
+                Arrays.toString(new byte[]{0x12}),
+                Arrays.toString(output.toByteArray())
+        );
+    }
+
+    @Test
+    public void testCloseOddDigitsFailsOnce() throws IOException {
+        final CloseCountingOutputStream output = new CloseCountingOutputStream();
+        final HexDigitsWriter writer = HexDigitsWriter.with(output);
+        writer.write("123");
+
+        assertThrows(IOException.class, writer::close);
+        writer.close();
+
+        this.checkEquals(1, output.closeCount, "closeCount");
+    }
+
+    private static final class CloseCountingOutputStream extends ByteArrayOutputStream {
+
+        @Override
+        public void close() {
+            this.closeCount++;
+        }
+
+        int closeCount;
+    }
+
+    @Test
+    public void testToString() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.toStringAndCheck(HexDigitsWriter.with(output), output.toString());
+    }
+
+    @Override
+    public Class<HexDigitsWriter> type() {
+        return HexDigitsWriter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
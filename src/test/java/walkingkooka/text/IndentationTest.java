@@ -41,6 +41,19 @@ final public class IndentationTest implements ClassTesting2<Indentation>,
     public void testIfClassIsFinalIfAllConstructorsArePrivate() {
     }
 
+    @Test
+    public void testInternSpacesConstant() {
+        assertSame(Indentation.SPACES2, Indentation.SPACES2.subSequence(0, 2).intern());
+        assertSame(Indentation.SPACES2, Indentation.with("    ").subSequence(0, 2).intern());
+    }
+
+    @Test
+    public void testIntern() {
+        final Indentation indentation = Indentation.with("\t\t");
+        assertSame(indentation, indentation.intern());
+        assertSame(indentation, Indentation.with("\t\t").intern());
+    }
+
     @Test
     public void testCarriageReturnRepeatingCharFails() {
         assertThrows(IllegalArgumentException.class, () -> Indentation.with('\r', 1));
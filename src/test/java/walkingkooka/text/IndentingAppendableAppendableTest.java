@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class IndentingAppendableAppendableTest implements ClassTesting2<IndentingAppendableAppendable>,
+        ToStringTesting<IndentingAppendableAppendable> {
+
+    @Test
+    public void testAppendNotStringBuilder() {
+        final StringBuilder b = new StringBuilder();
+        final Appendable output = new Appendable() {
+            @Override
+            public Appendable append(final CharSequence chars) {
+                b.append(chars);
+                return this;
+            }
+
+            @Override
+            public Appendable append(final CharSequence chars, final int start, final int end) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Appendable append(final char c) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        IndentingAppendableAppendable.with(output, Indentation.SPACES2, LineEnding.NL)
+                .indent()
+                .append("a\nb")
+                .flush();
+
+        this.checkEquals("  a\n  b", b.toString());
+    }
+
+    @Test
+    public void testAppendFailsWrapped() {
+        final Appendable output = new Appendable() {
+            @Override
+            public Appendable append(final CharSequence chars) throws IOException {
+                throw new IOException("fail!");
+            }
+
+            @Override
+            public Appendable append(final CharSequence chars, final int start, final int end) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Appendable append(final char c) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        final IndentingAppendableAppendable appendable = IndentingAppendableAppendable.with(output, Indentation.SPACES2, LineEnding.NL);
+        appendable.append("abc");
+        assertThrows(TextException.class, appendable::flush);
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                IndentingAppendableAppendable.with(new StringBuilder("abc"), Indentation.SPACES2, LineEnding.NL),
+                "abc"
+        );
+    }
+
+    @Override
+    public Class<IndentingAppendableAppendable> type() {
+        return IndentingAppendableAppendable.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
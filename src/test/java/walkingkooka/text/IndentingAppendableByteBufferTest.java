@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class IndentingAppendableByteBufferTest implements ClassTesting2<IndentingAppendableByteBuffer>,
+        ToStringTesting<IndentingAppendableByteBuffer> {
+
+    @Test
+    public void testWithNullByteBufferFails() {
+        assertThrows(NullPointerException.class, () -> IndentingAppendable.byteBuffer(null, Indentation.SPACES2, LineEnding.NL));
+    }
+
+    @Test
+    public void testAppend() {
+        final ByteBuffer output = ByteBuffer.allocate(100);
+        IndentingAppendable.byteBuffer(output, Indentation.SPACES2, LineEnding.NL)
+                .indent()
+                .append("aé\nb€")
+                .flush();
+
+        this.checkEquals("  aé\n  b€", decode(output));
+    }
+
+    @Test
+    public void testSurrogatePairStraddlesBuffer() {
+        final String text = CharSequences.repeating('a', IndentingAppendable.BUFFER_SIZE - 1) + "😀b";
+
+        final ByteBuffer output = ByteBuffer.allocate(IndentingAppendable.BUFFER_SIZE * 2);
+        IndentingAppendable.byteBuffer(output, Indentation.SPACES2, LineEnding.NL)
+                .append(text)
+                .flush();
+
+        this.checkEquals(text, decode(output));
+    }
+
+    @Test
+    public void testOverflowFails() {
+        final IndentingAppendable appendable = IndentingAppendable.byteBuffer(ByteBuffer.allocate(2), Indentation.SPACES2, LineEnding.NL);
+        appendable.append("abc");
+        assertThrows(BufferOverflowException.class, appendable::flush);
+    }
+
+    @Test
+    public void testOverflowWritesNothing() {
+        final ByteBuffer output = ByteBuffer.allocate(6);
+        final IndentingAppendable appendable = IndentingAppendable.byteBuffer(output, Indentation.SPACES2, LineEnding.NL);
+        appendable.indent()
+                .append("a")
+                .flush();
+        appendable.append("\nbé");
+
+        assertThrows(BufferOverflowException.class, appendable::flush);
+        this.checkEquals("  a", decode(output));
+
+        output.clear();
+        appendable.flush();
+        this.checkEquals("\n  bé", decode(output));
+    }
+
+    private static String decode(final ByteBuffer bytes) {
+        return new String(bytes.array(), 0, bytes.position(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testToString() {
+        final ByteBuffer output = ByteBuffer.allocate(1);
+        this.toStringAndCheck(IndentingAppendableByteBuffer.with(output, Indentation.SPACES2, LineEnding.NL), output.toString());
+    }
+
+    @Override
+    public Class<IndentingAppendableByteBuffer> type() {
+        return IndentingAppendableByteBuffer.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class IndentingAppendableTest implements ClassTesting2<IndentingAppendable> {
+
+    @Test
+    public void testAppendableNullOutputFails() {
+        assertThrows(NullPointerException.class, () -> IndentingAppendable.appendable(null, Indentation.SPACES2, LineEnding.NL));
+    }
+
+    @Test
+    public void testAppendableNullIndentationFails() {
+        assertThrows(NullPointerException.class, () -> IndentingAppendable.appendable(new StringBuilder(), null, LineEnding.NL));
+    }
+
+    @Test
+    public void testAppendableNullLineEndingFails() {
+        assertThrows(NullPointerException.class, () -> IndentingAppendable.appendable(new StringBuilder(), Indentation.SPACES2, null));
+    }
+
+    @Test
+    public void testAppend() {
+        this.appendAndCheck(
+                LineEnding.NL,
+                (a) -> a.append("abc"),
+                "abc"
+        );
+    }
+
+    @Test
+    public void testAppendNull() {
+        this.appendAndCheck(
+                LineEnding.NL,
+                (a) -> a.append(null),
+                "null"
+        );
+    }
+
+    @Test
+    public void testAppendStartEnd() {
+        this.appendAndCheck(
+                LineEnding.NL,
+                (a) -> a.append("abcdef", 1, 4),
+                "bcd"
+        );
+    }
+
+    @Test
+    public void testAppendStartEndInvalidFails() {
+        final IndentingAppendable appendable = IndentingAppendable.appendable(new StringBuilder(), Indentation.SPACES2, LineEnding.NL);
+        assertThrows(IndexOutOfBoundsException.class, () -> appendable.append("abc", 2, 4));
+    }
+
+    @Test
+    public void testAppendChar() {
+        this.appendAndCheck(
+                LineEnding.CRNL,
+                (a) -> a.append('a').append('\r').append('\n').indent().append('b').append('\r').append('c').append('\n'),
+                "a\r\n  b\r\n  c\r\n"
+        );
+    }
+
+    @Test
+    public void testIndentOutdent() {
+        this.appendAndCheck(
+                LineEnding.NL,
+                (a) -> a.append("class A {\n")
+                        .indent()
+                        .append("void m() {\n")
+                        .indent()
+                        .append("return;\n")
+                        .outdent()
+                        .append("}\n")
+                        .outdent()
+                        .append("}\n"),
+                "class A {\n  void m() {\n    return;\n  }\n}\n"
+        );
+    }
+
+    @Test
+    public void testEmptyLinesNotIndented() {
+        this.appendAndCheck(
+                LineEnding.NL,
+                (a) -> a.indent().append("a\n\nb"),
+                "  a\n\n  b"
+        );
+    }
+
+    @Test
+    public void testLineEndingsNormalized() {
+        this.appendAndCheck(
+                LineEnding.CRNL,
+                (a) -> a.indent().append("a\rb\nc\r\nd"),
+                "  a\r\n  b\r\n  c\r\n  d"
+        );
+    }
+
+    @Test
+    public void testCrNlStraddlesAppends() {
+        this.appendAndCheck(
+                LineEnding.NL,
+                (a) -> a.append("a\r").append("\nb\r").append("c"),
+                "a\nb\nc"
+        );
+    }
+
+    @Test
+    public void testLineStart() {
+        this.appendAndCheck(
+                LineEnding.NL,
+                (a) -> a.lineStart().append("a").lineStart().lineStart().append("b"),
+                "a\nb"
+        );
+    }
+
+    @Test
+    public void testDeepIndentation() {
+        final StringBuilder expected = new StringBuilder();
+        final String line = "line";
+
+        this.appendAndCheck(
+                LineEnding.NL,
+                (a) -> {
+                    for (int i = 0; i < 100; i++) {
+                        a.append(line).append("\n").indent();
+                        expected.append(CharSequences.repeating(' ', i * 2))
+                                .append(line)
+                                .append('\n');
+                    }
+                    return a;
+                },
+                expected
+        );
+    }
+
+    @Test
+    public void testMoreThanBuffer() {
+        final StringBuilder expected = new StringBuilder();
+
+        this.appendAndCheck(
+                LineEnding.NL,
+                (a) -> {
+                    a.indent();
+                    for (int i = 0; i < 10000; i++) {
+                        a.append("line ").append(String.valueOf(i)).append('\n');
+                        expected.append("  line ").append(i).append('\n');
+                    }
+                    return a;
+                },
+                expected
+        );
+    }
+
+    @Test
+    public void testOutdentEmptyFails() {
+        assertThrows(
+                IllegalStateException.class,
+                () -> IndentingAppendable.appendable(new StringBuilder(), Indentation.SPACES2, LineEnding.NL).outdent()
+        );
+    }
+
+    @Test
+    public void testIndentation() {
+        final IndentingAppendable appendable = IndentingAppendable.appendable(new StringBuilder(), Indentation.SPACES2, LineEnding.NL);
+        assertSame(Indentation.EMPTY, appendable.indentation());
+
+        appendable.indent().indent();
+        assertSame(Indentation.SPACES4, appendable.indentation());
+    }
+
+    @Test
+    public void testLineEnding() {
+        assertSame(
+                LineEnding.CR,
+                IndentingAppendable.appendable(new StringBuilder(), Indentation.SPACES2, LineEnding.CR).lineEnding()
+        );
+    }
+
+    @Test
+    public void testNonSpaceIndentation() {
+        this.appendAndCheck(
+                LineEnding.NL,
+                Indentation.with("\t"),
+                (a) -> a.indent().append("a\n").indent().append("b"),
+                "\ta\n\t\tb"
+        );
+    }
+
+    private void appendAndCheck(final LineEnding lineEnding,
+                                final Function<IndentingAppendable, IndentingAppendable> append,
+                                final CharSequence expected) {
+        this.appendAndCheck(lineEnding, Indentation.SPACES2, append, expected);
+    }
+
+    private void appendAndCheck(final LineEnding lineEnding,
+                                final Indentation indentation,
+                                final Function<IndentingAppendable, IndentingAppendable> append,
+                                final CharSequence expected) {
+        final StringBuilder output = new StringBuilder();
+        final IndentingAppendable appendable = IndentingAppendable.appendable(output, indentation, lineEnding);
+        append.apply(appendable)
+                .flush();
+
+        this.checkEquals(expected.toString(), output.toString());
+    }
+
+    @Override
+    public Class<IndentingAppendable> type() {
+        return IndentingAppendable.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.StringWriter;
+import java.io.Writer;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class IndentingAppendableWriterTest implements ClassTesting2<IndentingAppendableWriter>,
+        ToStringTesting<IndentingAppendableWriter> {
+
+    @Test
+    public void testWithNullWriterFails() {
+        assertThrows(NullPointerException.class, () -> IndentingAppendable.writer(null, Indentation.SPACES2, LineEnding.NL));
+    }
+
+    @Test
+    public void testWriteAndFlush() {
+        final StringBuilder flushed = new StringBuilder();
+        final StringWriter output = new StringWriter() {
+            @Override
+            public void flush() {
+                flushed.append(this);
+            }
+        };
+
+        final IndentingAppendable appendable = IndentingAppendable.writer(output, Indentation.SPACES4, LineEnding.CRNL);
+        appendable.append("a\n")
+                .indent()
+                .append("b");
+        this.checkEquals("", output.toString(), "nothing written before flush");
+
+        appendable.flush();
+        this.checkEquals("a\r\n    b", output.toString());
+        this.checkEquals("a\r\n    b", flushed.toString(), "flushed");
+    }
+
+    @Test
+    public void testWriteFlushedWhenBufferFull() {
+        final StringWriter output = new StringWriter();
+        final IndentingAppendable appendable = IndentingAppendable.writer(output, Indentation.SPACES2, LineEnding.NL);
+
+        final String text = CharSequences.repeating('a', IndentingAppendable.BUFFER_SIZE + 1).toString();
+        appendable.append(text);
+        this.checkEquals(IndentingAppendable.BUFFER_SIZE, output.toString().length(), "written");
+
+        appendable.flush();
+        this.checkEquals(text, output.toString());
+    }
+
+    @Test
+    public void testToString() {
+        final Writer writer = new StringWriter().append("abc");
+        this.toStringAndCheck(IndentingAppendableWriter.with(writer, Indentation.SPACES2, LineEnding.NL), "abc");
+    }
+
+    @Override
+    public Class<IndentingAppendableWriter> type() {
+        return IndentingAppendableWriter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LineAndColumnIndexTest implements ClassTesting2<LineAndColumnIndex>,
+        ToStringTesting<LineAndColumnIndex> {
+
+    @Test
+    public void testWithNullFails() {
+        assertThrows(NullPointerException.class, () -> LineAndColumnIndex.with(null));
+    }
+
+    @Test
+    public void testText() {
+        final String text = "abc";
+        assertSame(text, LineAndColumnIndex.with(text).text());
+    }
+
+    @Test
+    public void testLineAndColumnInvalidPosFails() {
+        final LineAndColumnIndex index = LineAndColumnIndex.with("abc");
+        assertThrows(StringIndexOutOfBoundsException.class, () -> index.lineAndColumn(-1));
+        assertThrows(StringIndexOutOfBoundsException.class, () -> index.lineAndColumn(4));
+    }
+
+    @Test
+    public void testLineAndColumn() {
+        final LineAndColumnIndex index = LineAndColumnIndex.with("first\r\nsecond\rthird\n\nfifth");
+
+        this.lineAndColumnAndCheck(index, 0, 1, 1, "first");
+        this.lineAndColumnAndCheck(index, 5, 1, 6, "first");
+        this.lineAndColumnAndCheck(index, 6, 1, 6, "first");
+        this.lineAndColumnAndCheck(index, 9, 2, 3, "second");
+        this.lineAndColumnAndCheck(index, 14, 3, 1, "third");
+        this.lineAndColumnAndCheck(index, 20, 4, 1, "");
+        this.lineAndColumnAndCheck(index, 21, 5, 1, "fifth");
+        this.lineAndColumnAndCheck(index, 26, 5, 6, "fifth");
+    }
+
+    private void lineAndColumnAndCheck(final LineAndColumnIndex index,
+                                       final int pos,
+                                       final int lineNumber,
+                                       final int column,
+                                       final String line) {
+        this.checkEquals(
+                LineAndColumn.with(lineNumber, column, line),
+                index.lineAndColumn(pos),
+                () -> "lineAndColumn " + pos
+        );
+    }
+
+    @Test
+    public void testLineAndColumnAfterTextGrows() {
+        final StringBuilder text = new StringBuilder("ab\r");
+        final LineAndColumnIndex index = LineAndColumnIndex.with(text);
+
+        this.lineAndColumnAndCheck(index, 3, 1, 3, "ab");
+        this.checkEquals(1, index.lineCount(), "lineCount");
+
+        text.append("\ncd\nef");
+
+        this.lineAndColumnAndCheck(index, 3, 1, 3, "ab");
+        this.lineAndColumnAndCheck(index, 4, 2, 1, "cd");
+        this.lineAndColumnAndCheck(index, 9, 3, 3, "ef");
+        this.checkEquals(3, index.lineCount(), "lineCount");
+        this.checkEquals(7, index.offset(3, 1), "3,1");
+    }
+
+    @Test
+    public void testLineAndColumnSameAsReference() {
+        final Random random = new Random(1);
+        final char[] chars = {'a', 'b', '\r', '\n'};
+
+        for (int i = 0; i < 2000; i++) {
+            final StringBuilder b = new StringBuilder();
+            final int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                b.append(chars[random.nextInt(chars.length)]);
+            }
+            final String text = b.toString();
+
+            final LineAndColumnIndex index = LineAndColumnIndex.with(text);
+            for (int pos = 0; pos <= length; pos++) {
+                final int p = pos;
+                final LineAndColumn lineAndColumn = index.lineAndColumn(pos);
+                this.checkEquals(
+                        reference(text, pos),
+                        lineAndColumn,
+                        () -> CharSequences.quoteAndEscape(text) + " " + p
+                );
+
+                final int offset = index.offset(lineAndColumn.lineNumber(), lineAndColumn.columnNumber());
+                this.checkEquals(
+                        lineAndColumn,
+                        index.lineAndColumn(offset),
+                        () -> "offset " + CharSequences.quoteAndEscape(text) + " " + p
+                );
+            }
+        }
+    }
+
+    /**
+     * The original single position algorithm used by {@link LineAndColumn#determine(CharSequence, int)}.
+     */
+    private static LineAndColumn reference(final CharSequence chars, final int pos) {
+        final int length = chars.length();
+        int lineNumber = LineAndColumn.LINE_NUMBER_START;
+        char previous = 0;
+        int startOfLine = 0;
+
+        final int last = Math.min(pos + 1, length);
+
+        for (int i = 0; i < last; i++) {
+            final char c = chars.charAt(i);
+            if (('\r' == c) || ('\n' == c)) {
+                if ((c == previous) || (('\r' == c) && ('\n' == previous))) {
+                    startOfLine = i;
+                    lineNumber++;
+                }
+                previous = c;
+                continue;
+            }
+            if (('\n' == previous) || ('\r' == previous)) {
+                startOfLine = i;
+                lineNumber++;
+            }
+            previous = c;
+        }
+
+        int column = LineAndColumn.COLUMN_START;
+        int end = length;
+        for (int j = startOfLine; j < length; j++) {
+            final char c = chars.charAt(j);
+            if (('\r' == c) || ('\n' == c)) {
+                end = j;
+                break;
+            }
+            if (j < pos) {
+                column++;
+            }
+        }
+        final CharSequence line = chars.subSequence(startOfLine, end);
+        final int lineLength = line.length();
+        if (lineLength > 0) {
+            column = Math.min(column, lineLength + 1);
+        }
+
+        return LineAndColumn.with(lineNumber, column, line);
+    }
+
+    @Test
+    public void testLazyScanning() {
+        final String text = text(10000);
+        final LineAndColumnIndex index = LineAndColumnIndex.with(text);
+        this.checkEquals(0, index.scanned, "scanned");
+
+        this.lineAndColumnAndCheck(index, 8, 2, 3, "line1");
+        this.checkEquals(LineAndColumnIndex.CHUNK_SIZE, index.scanned, "scanned");
+    }
+
+    @Test
+    public void testManyChunks() {
+        final int lines = 10000;
+        final String text = text(lines);
+        final LineAndColumnIndex index = LineAndColumnIndex.with(text);
+
+        this.checkEquals(lines, index.lineCount(), "lineCount");
+        this.checkEquals(text.length(), index.scanned, "scanned");
+
+        for (int i = 0; i < lines; i = i + 97) {
+            final int offset = index.offset(i + 1, 2);
+            this.checkEquals(text.indexOf("line" + i + "\n") + 1, offset, "offset");
+            this.lineAndColumnAndCheck(index, offset, i + 1, 2, "line" + i);
+        }
+    }
+
+    @Test
+    public void testOffsetAfterLastLineFails() {
+        assertThrows(IllegalArgumentException.class, () -> LineAndColumnIndex.with("a\nb").offset(3, 1));
+    }
+
+    @Test
+    public void testOffsetAfterLineEndFails() {
+        assertThrows(IllegalArgumentException.class, () -> LineAndColumnIndex.with("ab\ncd").offset(1, 4));
+    }
+
+    @Test
+    public void testOffsetInvalidLineNumberFails() {
+        assertThrows(IllegalArgumentException.class, () -> LineAndColumnIndex.with("a").offset(0, 1));
+    }
+
+    @Test
+    public void testOffsetInvalidColumnNumberFails() {
+        assertThrows(IllegalArgumentException.class, () -> LineAndColumnIndex.with("a").offset(1, 0));
+    }
+
+    @Test
+    public void testOffset() {
+        final LineAndColumnIndex index = LineAndColumnIndex.with("ab\r\ncd\n\nef");
+        this.checkEquals(0, index.offset(1, 1), "1,1");
+        this.checkEquals(2, index.offset(1, 3), "1,3");
+        this.checkEquals(5, index.offset(2, 2), "2,2");
+        this.checkEquals(7, index.offset(3, 1), "3,1");
+        this.checkEquals(10, index.offset(4, 3), "4,3");
+    }
+
+    @Test
+    public void testLineCountEmpty() {
+        this.checkEquals(1, LineAndColumnIndex.with("").lineCount());
+    }
+
+    private static String text(final int lines) {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            b.append("line").append(i).append('\n');
+        }
+        return b.toString();
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(LineAndColumnIndex.with("a\nb"), "\"a\\nb\"");
+    }
+
+    @Override
+    public Class<LineAndColumnIndex> type() {
+        return LineAndColumnIndex.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LineEndingReaderTest implements ClassTesting2<LineEndingReader>,
+        ToStringTesting<LineEndingReader> {
+
+    private final static String TEXT = "a\rb\r\nc\nd\n\re\r\r\nf\r";
+
+    @Test
+    public void testWithNullReaderFails() {
+        assertThrows(NullPointerException.class, () -> LineEndingReader.with(null, LineEnding.NL));
+    }
+
+    @Test
+    public void testWithNullLineEndingFails() {
+        assertThrows(NullPointerException.class, () -> LineEndingReader.with(new StringReader(""), null));
+    }
+
+    @Test
+    public void testReadEmpty() throws IOException {
+        this.checkEquals(-1, LineEndingReader.with(new StringReader(""), LineEnding.NL).read());
+    }
+
+    @Test
+    public void testReadNl() throws IOException {
+        this.readAndCheck(LineEnding.NL, "a\nb\nc\nd\n\ne\n\nf\n");
+    }
+
+    @Test
+    public void testReadCr() throws IOException {
+        this.readAndCheck(LineEnding.CR, "a\rb\rc\rd\r\re\r\rf\r");
+    }
+
+    @Test
+    public void testReadCrNl() throws IOException {
+        this.readAndCheck(LineEnding.CRNL, "a\r\nb\r\nc\r\nd\r\n\r\ne\r\n\r\nf\r\n");
+    }
+
+    @Test
+    public void testReadNone() throws IOException {
+        this.readAndCheck(LineEnding.NONE, "abcdef");
+    }
+
+    @Test
+    public void testCrNlStraddlesReads() throws IOException {
+        // a reader that returns a single char for each read
+        final Reader reader = new StringReader("ab\r\ncd\r\nef") {
+            @Override
+            public int read(final char[] chars, final int offset, final int length) throws IOException {
+                return super.read(chars, offset, Math.min(1, length));
+            }
+        };
+        this.checkEquals("ab\ncd\nef", read(LineEndingReader.with(reader, LineEnding.NL), 100));
+    }
+
+    @Test
+    public void testLarge() throws IOException {
+        final StringBuilder text = new StringBuilder();
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            text.append(i).append(i % 3 == 0 ? "\r\n" : i % 3 == 1 ? "\r" : "\n");
+            expected.append(i).append("\r\n");
+        }
+
+        this.checkEquals(
+                expected.toString(),
+                read(LineEndingReader.with(new StringReader(text.toString()), LineEnding.CRNL), 333)
+        );
+    }
+
+    private void readAndCheck(final LineEnding lineEnding,
+                              final String expected) throws IOException {
+        for (int size = 1; size < 5; size++) {
+            this.checkEquals(
+                    expected,
+                    read(LineEndingReader.with(new StringReader(TEXT), lineEnding), size),
+                    lineEnding + " buffer size " + size
+            );
+        }
+    }
+
+    private static String read(final Reader reader,
+                               final int size) throws IOException {
+        final StringBuilder b = new StringBuilder();
+        final char[] buffer = new char[size];
+
+        for (; ; ) {
+            final int count = reader.read(buffer);
+            if (-1 == count) {
+                break;
+            }
+            b.append(buffer, 0, count);
+        }
+        reader.close();
+
+        return b.toString();
+    }
+
+    @Test
+    public void testToString() {
+        final Reader reader = new StringReader("");
+        this.toStringAndCheck(LineEndingReader.with(reader, LineEnding.NL), reader.toString());
+    }
+
+    @Override
+    public Class<LineEndingReader> type() {
+        return LineEndingReader.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -89,6 +89,46 @@ final public class LineEndingTest implements ClassTesting2<LineEnding>,
         assertSame(LineEnding.NONE, LineEnding.from(""));
     }
 
+    @Test
+    public void testNormalizeNullFails() {
+        assertThrows(NullPointerException.class, () -> LineEnding.NL.normalize(null));
+    }
+
+    @Test
+    public void testNormalizeUnchanged() {
+        final String text = "a\nb\nc";
+        assertSame(text, LineEnding.NL.normalize(text));
+    }
+
+    @Test
+    public void testNormalizeCr() {
+        this.normalizeAndCheck(LineEnding.CR, "a\rb\rc\rd\r\re\r\rf\r");
+    }
+
+    @Test
+    public void testNormalizeCrNl() {
+        this.normalizeAndCheck(LineEnding.CRNL, "a\r\nb\r\nc\r\nd\r\n\r\ne\r\n\r\nf\r\n");
+    }
+
+    @Test
+    public void testNormalizeNl() {
+        this.normalizeAndCheck(LineEnding.NL, "a\nb\nc\nd\n\ne\n\nf\n");
+    }
+
+    @Test
+    public void testNormalizeNone() {
+        this.normalizeAndCheck(LineEnding.NONE, "abcdef");
+    }
+
+    private void normalizeAndCheck(final LineEnding lineEnding,
+                                   final String expected) {
+        this.checkEquals(
+                expected,
+                lineEnding.normalize(new StringBuilder("a\rb\r\nc\nd\n\re\r\r\nf\r")),
+                () -> lineEnding + " normalize"
+        );
+    }
+
     @Test
     public void testEqualsDifferent() {
         this.checkNotEquals(LineEnding.NL);
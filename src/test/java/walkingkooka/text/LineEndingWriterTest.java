@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class LineEndingWriterTest implements ClassTesting2<LineEndingWriter>,
+        ToStringTesting<LineEndingWriter> {
+
+    private final static String TEXT = "a\rb\r\nc\nd\n\re\r\r\nf\r";
+
+    @Test
+    public void testWithNullWriterFails() {
+        assertThrows(NullPointerException.class, () -> LineEndingWriter.with(null, LineEnding.NL));
+    }
+
+    @Test
+    public void testWithNullLineEndingFails() {
+        assertThrows(NullPointerException.class, () -> LineEndingWriter.with(new StringWriter(), null));
+    }
+
+    @Test
+    public void testWriteNl() throws IOException {
+        this.writeAndCheck(LineEnding.NL, "a\nb\nc\nd\n\ne\n\nf\n");
+    }
+
+    @Test
+    public void testWriteCr() throws IOException {
+        this.writeAndCheck(LineEnding.CR, "a\rb\rc\rd\r\re\r\rf\r");
+    }
+
+    @Test
+    public void testWriteCrNl() throws IOException {
+        this.writeAndCheck(LineEnding.CRNL, "a\r\nb\r\nc\r\nd\r\n\r\ne\r\n\r\nf\r\n");
+    }
+
+    @Test
+    public void testWriteNone() throws IOException {
+        this.writeAndCheck(LineEnding.NONE, "abcdef");
+    }
+
+    @Test
+    public void testWriteChar() throws IOException {
+        final StringWriter output = new StringWriter();
+        try (final LineEndingWriter writer = LineEndingWriter.with(output, LineEnding.NL)) {
+            writer.write('a');
+            writer.write('\r');
+            writer.write('\n');
+            writer.write('\r');
+            writer.write('b');
+        }
+
+        this.checkEquals("a\n\nb", output.toString());
+    }
+
+    private void writeAndCheck(final LineEnding lineEnding,
+                               final String expected) throws IOException {
+        for (int size = 1; size < 5; size++) {
+            final StringWriter output = new StringWriter();
+            try (final LineEndingWriter writer = LineEndingWriter.with(output, lineEnding)) {
+                for (int i = 0; i < TEXT.length(); i = i + size) {
+                    writer.write(TEXT, i, Math.min(size, TEXT.length() - i));
+                }
+            }
+
+            this.checkEquals(
+                    expected,
+                    output.toString(),
+                    lineEnding + " write size " + size
+            );
+        }
+    }
+
+    @Test
+    public void testToString() {
+        final StringWriter writer = new StringWriter();
+        writer.append("abc");
+        this.toStringAndCheck(LineEndingWriter.with(writer, LineEnding.NL), "abc");
+    }
+
+    @Override
+    public Class<LineEndingWriter> type() {
+        return LineEndingWriter.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public final class PooledBuilderStripeTest implements ClassTesting2<PooledBuilderStripe>,
+        ToStringTesting<PooledBuilderStripe> {
+
+    @Test
+    public void testTakeEmpty() {
+        this.checkEquals(null, PooledBuilderStripe.with(2).take());
+    }
+
+    @Test
+    public void testGiveTake() {
+        final PooledBuilderStripe stripe = PooledBuilderStripe.with(2);
+        final StringBuilder first = new StringBuilder();
+        final StringBuilder second = new StringBuilder();
+        stripe.give(first);
+        stripe.give(second);
+
+        this.checkEquals(2, stripe.count(), "count");
+        assertSame(second, stripe.take());
+        assertSame(first, stripe.take());
+        this.checkEquals(null, stripe.take());
+    }
+
+    @Test
+    public void testGiveFull() {
+        final PooledBuilderStripe stripe = PooledBuilderStripe.with(1);
+        final StringBuilder kept = new StringBuilder();
+        stripe.give(kept);
+        stripe.give(new StringBuilder());
+
+        this.checkEquals(1, stripe.count(), "count");
+        assertSame(kept, stripe.take());
+    }
+
+    @Test
+    public void testToString() {
+        final PooledBuilderStripe stripe = PooledBuilderStripe.with(2);
+        stripe.give(new StringBuilder());
+
+        this.toStringAndCheck(stripe, "count=1");
+    }
+
+    @Override
+    public Class<PooledBuilderStripe> type() {
+        return PooledBuilderStripe.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
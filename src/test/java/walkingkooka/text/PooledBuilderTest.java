@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PooledBuilderTest implements ClassTesting2<PooledBuilder> {
+
+    @Test
+    public void testAppend() {
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            b.append('a')
+                    .append("bc")
+                    .append((CharSequence) "def")
+                    .append("..gh..", 2, 4)
+                    .append(1)
+                    .append(23L)
+                    .append(Boolean.TRUE);
+
+            this.checkEquals("abcdefgh123true", b.toString());
+            this.checkEquals(15, b.length(), "length");
+            this.checkEquals('c', b.charAt(2), "charAt");
+            this.checkEquals("cd", b.subSequence(2, 4), "subSequence");
+        }
+    }
+
+    @Test
+    public void testSetLength() {
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            b.append("abc").setLength(1);
+            this.checkEquals("a", b.toString());
+        }
+    }
+
+    @Test
+    public void testBorrowEmpty() {
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            b.append("abc");
+        }
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            this.checkEquals("", b.toString());
+        }
+    }
+
+    @Test
+    public void testCloseReturnsToPool() {
+        drainPool();
+
+        final StringBuilder builder;
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            builder = b.builder();
+        }
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            assertSame(builder, b.builder());
+        }
+    }
+
+    @Test
+    public void testNestedBorrowDifferent() {
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            try (final PooledBuilder c = PooledBuilder.borrow()) {
+                assertNotSame(b.builder(), c.builder());
+            }
+        }
+    }
+
+    @Test
+    public void testCloseLargeNotReturnedToPool() {
+        final StringBuilder builder;
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            builder = b.builder();
+            b.append(CharSequences.repeating('x', PooledBuilder.MAX_LENGTH + 1));
+        }
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            assertNotSame(builder, b.builder());
+        }
+    }
+
+    @Test
+    public void testCloseLargeCapacityTruncatedNotReturnedToPool() {
+        final StringBuilder builder;
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            builder = b.builder();
+            b.append(CharSequences.repeating('x', PooledBuilder.MAX_LENGTH + 1));
+            b.setLength(0);
+        }
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            assertNotSame(builder, b.builder());
+        }
+    }
+
+    @Test
+    public void testBorrowFromOtherStripe() {
+        drainPool();
+
+        final StringBuilder builder;
+        try (final PooledBuilder b = PooledBuilder.borrow()) {
+            builder = b.builder();
+        }
+
+        for (int i = 0; i < PooledBuilder.STRIPE_COUNT; i++) {
+            try (final PooledBuilder b = PooledBuilder.borrow()) {
+                assertSame(builder, b.builder());
+            }
+        }
+    }
+
+    @Test
+    public void testPoolSizeLimited() {
+        final List<PooledBuilder> borrowed = Lists.array();
+        for (int i = 0; i < PooledBuilder.POOL_SIZE * 2; i++) {
+            borrowed.add(PooledBuilder.borrow());
+        }
+        borrowed.forEach(PooledBuilder::close);
+
+        this.checkEquals(PooledBuilder.POOL_SIZE, PooledBuilder.poolCount(), "poolCount");
+    }
+
+    @Test
+    public void testCloseTwice() {
+        final PooledBuilder b = PooledBuilder.borrow();
+        b.close();
+
+        final int poolCount = PooledBuilder.poolCount();
+        b.close();
+        this.checkEquals(poolCount, PooledBuilder.poolCount(), "poolCount");
+    }
+
+    @Test
+    public void testAfterCloseFails() {
+        final PooledBuilder b = PooledBuilder.borrow();
+        b.close();
+
+        assertThrows(IllegalStateException.class, () -> b.append('a'));
+        assertThrows(IllegalStateException.class, b::toString);
+    }
+
+    /**
+     * Borrows and never returns all idle builders, so builders left by other tests are not borrowed.
+     */
+    private static void drainPool() {
+        while (PooledBuilder.poolCount() > 0) {
+            PooledBuilder.borrow();
+        }
+    }
+
+    @Override
+    public Class<PooledBuilder> type() {
+        return PooledBuilder.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
@@ -116,6 +116,180 @@ public class ReaderConsumingCharSequenceTest implements ClassTesting2<ReaderCons
         this.checkEquals(ReaderConsumingCharSequence.with(new StringReader("different"), 100));
     }
 
+    @Test
+    public void testManyChunks() {
+        final String text = text(ReaderConsumingCharSequence.CHUNK_SIZE * 3 + 123);
+        final ReaderConsumingCharSequence chars = ReaderConsumingCharSequence.with(new StringReader(text), 333);
+
+        this.checkCharAt(chars, text);
+        this.checkEquals(4, chars.chunkCount, "chunkCount");
+        this.checkEquals(text.length(), chars.length(), "length");
+        this.checkSubSequence(chars, 100, text.length() - 100, text.substring(100, text.length() - 100));
+        this.toStringAndCheck(chars, text);
+    }
+
+    @Test
+    public void testReadDoesNotCrossChunk() {
+        final String text = text(ReaderConsumingCharSequence.CHUNK_SIZE + 1);
+        final ReaderConsumingCharSequence chars = ReaderConsumingCharSequence.with(new StringReader(text), ReaderConsumingCharSequence.CHUNK_SIZE - 1);
+
+        this.checkCharAt(chars, text);
+        this.checkEquals(2, chars.chunkCount, "chunkCount");
+    }
+
+    @Test
+    public void testCharAtLengthFails() {
+        final ReaderConsumingCharSequence chars = this.createCharSequence("abc");
+
+        final StringIndexOutOfBoundsException thrown = assertThrows(
+                StringIndexOutOfBoundsException.class,
+                () -> chars.charAt(3)
+        );
+        this.checkEquals("Index 3 must be less than 3", thrown.getMessage());
+    }
+
+    @Test
+    public void testCharAtLengthChunkBoundaryFails() {
+        final int size = ReaderConsumingCharSequence.CHUNK_SIZE;
+        final ReaderConsumingCharSequence chars = ReaderConsumingCharSequence.with(new StringReader(text(size)), 1000);
+
+        this.checkCharAt(chars, size - 1, text(size).charAt(size - 1));
+        assertThrows(
+                StringIndexOutOfBoundsException.class,
+                () -> chars.charAt(size)
+        );
+        assertThrows(
+                StringIndexOutOfBoundsException.class,
+                () -> chars.charAt(size + 1)
+        );
+    }
+
+    @Test
+    public void testCharAtAfterLengthFails() {
+        final ReaderConsumingCharSequence chars = this.createCharSequence("abc");
+
+        assertThrows(
+                StringIndexOutOfBoundsException.class,
+                () -> chars.charAt(4)
+        );
+    }
+
+    @Test
+    public void testDiscardBeforeInvalidIndexFails() {
+        final ReaderConsumingCharSequence chars = this.createCharSequence("abc");
+        assertThrows(StringIndexOutOfBoundsException.class, () -> chars.discardBefore(-1));
+    }
+
+    @Test
+    public void testDiscardBeforeAfterReadFails() {
+        final ReaderConsumingCharSequence chars = this.createCharSequence("abcdefghijklmnopqrstuvwxyz");
+        chars.charAt(1);
+        assertThrows(StringIndexOutOfBoundsException.class, () -> chars.discardBefore(6));
+    }
+
+    @Test
+    public void testDiscardBefore() {
+        final String text = "abcdefghijklmnopqrstuvwxyz";
+        final ReaderConsumingCharSequence chars = this.createCharSequence(text);
+        chars.charAt(7);
+        chars.discardBefore(3);
+
+        this.checkCharAt(chars, 3, 'd');
+        this.checkCharAt(chars, 25, 'z');
+        this.checkSubSequence(chars, 3, 6, "def");
+        this.toStringAndCheck(chars, text.substring(3));
+
+        assertThrows(StringIndexOutOfBoundsException.class, () -> chars.charAt(2));
+        assertThrows(StringIndexOutOfBoundsException.class, () -> chars.subSequence(2, 4));
+    }
+
+    @Test
+    public void testDiscardBeforeReleasesChunks() {
+        final int size = ReaderConsumingCharSequence.CHUNK_SIZE;
+        final String text = text(size * 4);
+        final ReaderConsumingCharSequence chars = ReaderConsumingCharSequence.with(new StringReader(text), 1000);
+
+        chars.charAt(size * 3 - 1);
+        final int chunkCount = chars.chunkCount;
+
+        chars.discardBefore(size * 2 + 1);
+        this.checkEquals(chunkCount - 2, chars.chunkCount, "chunkCount");
+
+        chars.discardBefore(size);
+        this.checkEquals(chunkCount - 2, chars.chunkCount, "chunkCount");
+
+        this.checkCharAt(chars, size * 2 + 1, text.charAt(size * 2 + 1));
+        this.checkCharAt(chars, size * 4 - 1, text.charAt(size * 4 - 1));
+        this.checkSubSequence(chars, size * 2 + 1, size * 4, text.substring(size * 2 + 1));
+        this.checkEquals(size * 4, chars.length(), "length");
+    }
+
+    @Test
+    public void testDiscardBeforeAll() {
+        final int size = ReaderConsumingCharSequence.CHUNK_SIZE;
+        final String text = text(size * 2 + 5);
+        final ReaderConsumingCharSequence chars = ReaderConsumingCharSequence.with(new StringReader(text), size);
+
+        chars.charAt(size * 2 - 1);
+        chars.discardBefore(size * 2);
+        this.checkEquals(1, chars.chunkCount, "chunkCount");
+
+        this.checkCharAt(chars, size * 2 + 4, text.charAt(size * 2 + 4));
+        this.toStringAndCheck(chars, text.substring(size * 2));
+    }
+
+    @Test
+    public void testHashCodeSameAsString() {
+        final String text = text(ReaderConsumingCharSequence.CHUNK_SIZE + 10);
+        final ReaderConsumingCharSequence chars = ReaderConsumingCharSequence.with(new StringReader(text), 100);
+        chars.charAt(text.length() - 1);
+
+        this.checkEquals(text.hashCode(), chars.hashCode());
+    }
+
+    @Test
+    public void testHashCodeAfterDiscardBefore() {
+        final String text = "abcdefghijklmnopqrstuvwxyz";
+        final ReaderConsumingCharSequence chars = this.createCharSequence(text);
+        chars.charAt(7);
+        chars.discardBefore(2);
+
+        this.checkEquals("cdefghij".hashCode(), chars.hashCode());
+    }
+
+    @Test
+    public void testEqualsDifferentDiscardBefore() {
+        final String text = "abcdefghijklmnopqrstuvwxyz";
+        final ReaderConsumingCharSequence chars = this.createCharSequence(text);
+        chars.charAt(1);
+
+        final ReaderConsumingCharSequence other = this.createCharSequence(text);
+        other.charAt(1);
+        other.discardBefore(1);
+
+        this.checkNotEquals(chars, other);
+    }
+
+    @Test
+    public void testEqualsDoesNotRead() {
+        final ReaderConsumingCharSequence chars = this.createCharSequence("abcdefghijklmnopqrstuvwxyz");
+        chars.charAt(1);
+
+        final ReaderConsumingCharSequence other = this.createCharSequence("abcdefghijklmnopqrstuvwxyz");
+        other.charAt(1);
+
+        this.checkEquals(chars, other);
+        this.toStringAndCheck(chars, "abcde");
+    }
+
+    private static String text(final int length) {
+        final StringBuilder b = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            b.append((char) ('a' + i % 26));
+        }
+        return b.toString();
+    }
+
     @Test
     public void testToString() {
         final String text = "abcdefghijklmnopqrstuvwxyz";
@@ -159,7 +333,7 @@ public class ReaderConsumingCharSequenceTest implements ClassTesting2<ReaderCons
 
     @Override
     public JavaVisibility typeVisibility() {
-        return JavaVisibility.PACKAGE_PRIVATE;
+        return JavaVisibility.PUBLIC;
     }
 
     @Override
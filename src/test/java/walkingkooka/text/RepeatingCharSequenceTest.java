@@ -80,6 +80,16 @@ final public class RepeatingCharSequenceTest implements ClassTesting2<RepeatingC
         this.checkNotEquals(RepeatingCharSequence.with(CHAR, 1));
     }
 
+    @Test
+    public void testEqualsConcatCharSequence() {
+        this.checkEquals(ConcatCharSequence.with("xx", "xxx"));
+    }
+
+    @Test
+    public void testHashCodeSameAsString() {
+        this.checkEquals("xxxxx".hashCode(), this.createCharSequence().hashCode());
+    }
+
     @Override
     public RepeatingCharSequence createCharSequence() {
         return (RepeatingCharSequence) RepeatingCharSequence.with(CHAR, LENGTH);
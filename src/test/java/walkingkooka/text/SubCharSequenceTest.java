@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final public class SubCharSequenceTest implements ClassTesting2<SubCharSequence>,
+        CharSequenceTesting<SubCharSequence> {
+
+    private final static String CHARS = "abc123xyz";
+    private final static int START = 3;
+    private final static int END = 6;
+
+    @Test
+    public void testWithAll() {
+        assertSame(CHARS, SubCharSequence.with(CHARS, 0, CHARS.length()));
+    }
+
+    @Test
+    public void testWithEmpty() {
+        this.checkEquals("", SubCharSequence.with(CHARS, 2, 2));
+    }
+
+    @Test
+    public void testCharAt() {
+        this.checkCharAt("123");
+    }
+
+    @Test
+    public void testLength() {
+        this.checkLength(END - START);
+    }
+
+    @Test
+    public void testSubSequence() {
+        final SubCharSequence sub = Cast.to(this.createCharSequence().subSequence(1, 3));
+        assertSame(CHARS, sub.chars, "chars");
+        this.checkEquals(START + 1, sub.start, "start");
+        this.checkEquals(START + 3, sub.end, "end");
+
+        this.checkEquals2(sub, "23");
+    }
+
+    @Test
+    public void testHashCodeSameAsString() {
+        this.checkEquals("123".hashCode(), this.createCharSequence().hashCode());
+    }
+
+    @Test
+    public void testEqualsDifferentCharsSameContent() {
+        this.checkEquals(SubCharSequence.with("..123..", 2, 5));
+    }
+
+    @Test
+    public void testEqualsDifferent() {
+        this.checkNotEquals(SubCharSequence.with(CHARS, 2, 5));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createCharSequence(), "123");
+    }
+
+    @Override
+    public SubCharSequence createCharSequence() {
+        return (SubCharSequence) SubCharSequence.with(CHARS, START, END);
+    }
+
+    @Override
+    public SubCharSequence createObject() {
+        return this.createCharSequence();
+    }
+
+    @Override
+    public Class<SubCharSequence> type() {
+        return SubCharSequence.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
@@ -105,6 +105,92 @@ final public class WhitespaceTest implements ClassTesting2<Whitespace>,
                 CharSequences.quoteAndEscape(text) + " has whitespace");
     }
 
+    @Test
+    public void testHasLongText() {
+        hasAndCheck("abcdefghijklmnopqrstuvwxyz0123456789\tabc", true);
+    }
+
+    @Test
+    public void testHasNonSpaceWhitespace() {
+        hasAndCheck("abc\u2003def", false);
+    }
+
+    // isAllWhitespace..................................................................................................
+
+    @Test
+    public void testIsAllWhitespaceNullFails() {
+        assertThrows(NullPointerException.class, () -> Whitespace.isAllWhitespace(null));
+    }
+
+    @Test
+    public void testIsAllWhitespaceEmpty() {
+        this.checkEquals(true, Whitespace.isAllWhitespace(""));
+    }
+
+    @Test
+    public void testIsAllWhitespace() {
+        this.checkEquals(true, Whitespace.isAllWhitespace(" \t\r\n\u000B\u001F\u2003 \t"));
+    }
+
+    @Test
+    public void testIsAllWhitespaceNonWhitespace() {
+        this.checkEquals(false, Whitespace.isAllWhitespace(" \t\r\n\u00A0  \t"));
+    }
+
+    @Test
+    public void testIsAllWhitespaceCharArray() {
+        this.checkEquals(true, Whitespace.isAllWhitespace("a      a".toCharArray(), 1, 7));
+    }
+
+    // firstNonWhitespace...............................................................................................
+
+    @Test
+    public void testFirstNonWhitespaceNullFails() {
+        assertThrows(NullPointerException.class, () -> Whitespace.firstNonWhitespace(null));
+    }
+
+    @Test
+    public void testFirstNonWhitespace() {
+        this.checkEquals(9, Whitespace.firstNonWhitespace("         abc  "));
+    }
+
+    @Test
+    public void testFirstNonWhitespaceNone() {
+        this.checkEquals(-1, Whitespace.firstNonWhitespace("          "));
+    }
+
+    @Test
+    public void testFirstNonWhitespaceCharArray() {
+        this.checkEquals(7, Whitespace.firstNonWhitespace("a      bc".toCharArray(), 1, 9));
+    }
+
+    @Test
+    public void testFirstNonWhitespaceCharArrayInvalidRangeFails() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Whitespace.firstNonWhitespace(new char[1], 2, 1));
+    }
+
+    // lastNonWhitespace................................................................................................
+
+    @Test
+    public void testLastNonWhitespaceNullFails() {
+        assertThrows(NullPointerException.class, () -> Whitespace.lastNonWhitespace(null));
+    }
+
+    @Test
+    public void testLastNonWhitespace() {
+        this.checkEquals(4, Whitespace.lastNonWhitespace("  abc          "));
+    }
+
+    @Test
+    public void testLastNonWhitespaceNone() {
+        this.checkEquals(-1, Whitespace.lastNonWhitespace("          "));
+    }
+
+    @Test
+    public void testLastNonWhitespaceCharArray() {
+        this.checkEquals(1, Whitespace.lastNonWhitespace("ab          c".toCharArray(), 0, 12));
+    }
+
     @Test
     public void testEqualsDifferent() {
         this.checkNotEquals(Whitespace.with("\t"));
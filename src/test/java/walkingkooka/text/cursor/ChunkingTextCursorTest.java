@@ -114,6 +114,43 @@ public final class ChunkingTextCursorTest implements ClassTesting2<ChunkingTextC
         this.checkEmpty(cursor);
     }
 
+    @Test
+    public void testLineInfoAfterMoreTextRead() {
+        final TextCursor cursor = this.createTextCursor0("a\n", "cd\n", "ef");
+
+        this.atAndCheck(cursor, 'a');
+        cursor.next();
+        this.lineInfoCheck(cursor.lineInfo(), 1, 2, "a");
+
+        cursor.end();
+        this.lineInfoCheck(cursor.lineInfo(), 3, 3, "ef");
+    }
+
+    @Test
+    public void testLineInfoBeforeAndAfterMoreTextRead() {
+        final TextCursor cursor = this.createTextCursor0("ab\n", "cd\n", "ef");
+
+        this.atAndCheck(cursor, 'a');
+        final TextCursorLineInfo first = cursor.lineInfo();
+        this.lineInfoCheck(first, 1, 1, "ab");
+
+        for (int i = 0; i < 6; i++) {
+            cursor.next();
+        }
+        this.atAndCheck(cursor, 'e');
+        this.lineInfoCheck(cursor.lineInfo(), 3, 1, "ef");
+        this.lineInfoCheck(first, 1, 1, "ab");
+    }
+
+    private void lineInfoCheck(final TextCursorLineInfo info,
+                               final int lineNumber,
+                               final int column,
+                               final String text) {
+        this.checkEquals(lineNumber, info.lineNumber(), "lineNumber");
+        this.checkEquals(column, info.column(), "column");
+        this.checkEquals(text, info.text().toString(), "text");
+    }
+
     // toString.........................................................................................................
 
     @Test
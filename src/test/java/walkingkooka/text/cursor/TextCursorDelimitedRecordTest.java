@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TextCursorDelimitedRecordTest implements ClassTesting2<TextCursorDelimitedRecord>,
+        ToStringTesting<TextCursorDelimitedRecord> {
+
+    @Test
+    public void testFieldInvalidIndexFails() {
+        final TextCursorDelimitedRecord record = this.createRecord("abc");
+        assertThrows(IndexOutOfBoundsException.class, () -> record.field(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> record.field(1));
+    }
+
+    @Test
+    public void testFields() {
+        final TextCursorDelimitedRecord record = this.createRecord("abc", "", "de");
+        this.checkEquals(3, record.fieldCount(), "fieldCount");
+        this.checkEquals(Lists.of("abc", "", "de"), record.toList());
+    }
+
+    @Test
+    public void testField() {
+        final TextCursorDelimitedRecord record = this.createRecord("abc", "defg");
+        final CharSequence field = record.field(1);
+
+        this.checkEquals(4, field.length(), "length");
+        this.checkEquals('e', field.charAt(1), "charAt");
+        this.checkEquals("ef", field.subSequence(1, 3), "subSequence");
+        this.checkEquals("defg", field.toString(), "toString");
+        assertSame(field, record.field(1));
+
+        assertThrows(StringIndexOutOfBoundsException.class, () -> field.charAt(4));
+        assertThrows(StringIndexOutOfBoundsException.class, () -> field.subSequence(2, 5));
+    }
+
+    @Test
+    public void testFieldAfterClear() {
+        final TextCursorDelimitedRecord record = this.createRecord("abc", "def");
+        final CharSequence field = record.field(1);
+
+        record.clear();
+        append(record, "1");
+        append(record, "23");
+
+        this.checkEquals("23", field.toString());
+    }
+
+    @Test
+    public void testManyFields() {
+        final TextCursorDelimitedRecord record = TextCursorDelimitedRecord.empty();
+        for (int i = 0; i < 100; i++) {
+            append(record, String.valueOf(i));
+        }
+        this.checkEquals(100, record.fieldCount(), "fieldCount");
+        this.checkEquals("99", record.field(99).toString());
+    }
+
+    private TextCursorDelimitedRecord createRecord(final String... fields) {
+        final TextCursorDelimitedRecord record = TextCursorDelimitedRecord.empty();
+        for (final String field : fields) {
+            append(record, field);
+        }
+        return record;
+    }
+
+    private static void append(final TextCursorDelimitedRecord record,
+                               final String field) {
+        for (final char c : field.toCharArray()) {
+            record.append(c);
+        }
+        record.endField();
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(this.createRecord("a", "b"), "[a, b]");
+    }
+
+    @Override
+    public Class<TextCursorDelimitedRecord> type() {
+        return TextCursorDelimitedRecord.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
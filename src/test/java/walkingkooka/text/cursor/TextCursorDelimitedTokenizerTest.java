@@ -0,0 +1,314 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.text.cursor;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.ToStringTesting;
+import walkingkooka.collect.list.Lists;
+import walkingkooka.predicate.character.CharPredicates;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+import walkingkooka.stream.push.PushableStreamConsumer;
+import walkingkooka.text.CharSequences;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class TextCursorDelimitedTokenizerTest implements ClassTesting2<TextCursorDelimitedTokenizer>,
+        ToStringTesting<TextCursorDelimitedTokenizer> {
+
+    @Test
+    public void testWithNullDelimiterFails() {
+        assertThrows(NullPointerException.class, () -> TextCursorDelimitedTokenizer.with(null, CharPredicates.never(), CharPredicates.never()));
+    }
+
+    @Test
+    public void testWithNullQuoteFails() {
+        assertThrows(NullPointerException.class, () -> TextCursorDelimitedTokenizer.with(CharPredicates.is(','), null, CharPredicates.never()));
+    }
+
+    @Test
+    public void testWithNullEscapeFails() {
+        assertThrows(NullPointerException.class, () -> TextCursorDelimitedTokenizer.with(CharPredicates.is(','), CharPredicates.never(), null));
+    }
+
+    @Test
+    public void testTokenizeNullCursorFails() {
+        assertThrows(NullPointerException.class, () -> TextCursorDelimitedTokenizer.csv().tokenize(null, new FakePushableStreamConsumer()));
+    }
+
+    @Test
+    public void testTokenizeNullConsumerFails() {
+        assertThrows(NullPointerException.class, () -> TextCursorDelimitedTokenizer.csv().tokenize(TextCursors.charSequence(""), null));
+    }
+
+    @Test
+    public void testCsvEmpty() {
+        this.csvAndCheck("");
+    }
+
+    @Test
+    public void testCsvSingleField() {
+        this.csvAndCheck("abc", Lists.of("abc"));
+    }
+
+    @Test
+    public void testCsvSeveralFields() {
+        this.csvAndCheck("a,bc,def", Lists.of("a", "bc", "def"));
+    }
+
+    @Test
+    public void testCsvEmptyFields() {
+        this.csvAndCheck(",a,,", Lists.of("", "a", "", ""));
+    }
+
+    @Test
+    public void testCsvLineEndings() {
+        this.csvAndCheck(
+                "a,b\nc,d\r\ne,f\rg,h\n",
+                Lists.of("a", "b"),
+                Lists.of("c", "d"),
+                Lists.of("e", "f"),
+                Lists.of("g", "h")
+        );
+    }
+
+    @Test
+    public void testCsvBlankLinesSkipped() {
+        this.csvAndCheck(
+                "\n\na,b\r\n\r\nc\n",
+                Lists.of("a", "b"),
+                Lists.of("c")
+        );
+    }
+
+    @Test
+    public void testCsvQuoted() {
+        this.csvAndCheck(
+                "\"a,b\",\"c\r\nd\",e",
+                Lists.of("a,b", "c\r\nd", "e")
+        );
+    }
+
+    @Test
+    public void testCsvQuotedEscapedQuote() {
+        this.csvAndCheck(
+                "\"say \"\"hi\"\"\",x\n\"\"\"\"",
+                Lists.of("say \"hi\"", "x"),
+                Lists.of("\"")
+        );
+    }
+
+    @Test
+    public void testCsvQuotedEmpty() {
+        this.csvAndCheck(
+                "\"\",\"\"",
+                Lists.of("", "")
+        );
+    }
+
+    @Test
+    public void testCsvQuoteWithinUnquotedFieldIsLiteral() {
+        this.csvAndCheck(
+                "a\"b,c",
+                Lists.of("a\"b", "c")
+        );
+    }
+
+    @Test
+    public void testCsvTextAfterClosingQuote() {
+        this.csvAndCheck(
+                "\"a\"b,c",
+                Lists.of("ab", "c")
+        );
+    }
+
+    @Test
+    public void testCsvMissingClosingQuoteFails() {
+        final TextCursorException thrown = assertThrows(
+                TextCursorException.class,
+                () -> this.tokenize(TextCursorDelimitedTokenizer.csv(), "a,\"bc")
+        );
+        this.checkEquals(true, thrown.getMessage().startsWith("Missing closing quote"), thrown::getMessage);
+    }
+
+    @Test
+    public void testTsv() {
+        this.tokenizeAndCheck(
+                TextCursorDelimitedTokenizer.tsv(),
+                "a\t\"b\"\tc\\d\n1\t2",
+                Lists.of("a", "\"b\"", "c\\d"),
+                Lists.of("1", "2")
+        );
+    }
+
+    @Test
+    public void testBackslashEscape() {
+        this.tokenizeAndCheck(
+                TextCursorDelimitedTokenizer.with(
+                        CharPredicates.is(';'),
+                        CharPredicates.is('\''),
+                        CharPredicates.is('\\')
+                ),
+                "a\\;b;'c\\'d;e';f\\",
+                Lists.of("a;b", "c'd;e", "f\\")
+        );
+    }
+
+    @Test
+    public void testDelimiterCharPredicate() {
+        this.tokenizeAndCheck(
+                TextCursorDelimitedTokenizer.with(
+                        CharPredicates.any(",;|"),
+                        CharPredicates.never(),
+                        CharPredicates.never()
+                ),
+                "a,b;c|d",
+                Lists.of("a", "b", "c", "d")
+        );
+    }
+
+    @Test
+    public void testManyFieldsAndLargeRecord() {
+        final StringBuilder text = new StringBuilder();
+        final List<String> expected = Lists.array();
+        for (int i = 0; i < 100; i++) {
+            final String field = CharSequences.repeating((char) ('a' + i % 26), i * 7).toString();
+            expected.add(field);
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(field);
+        }
+        text.append('\n');
+        text.append("x,y");
+
+        this.csvAndCheck(
+                text.toString(),
+                expected,
+                Lists.of("x", "y")
+        );
+    }
+
+    @Test
+    public void testRecordAndFieldsReused() {
+        final List<TextCursorDelimitedRecord> records = Lists.array();
+        final List<CharSequence> fields = Lists.array();
+        final List<String> values = Lists.array();
+
+        TextCursorDelimitedTokenizer.csv()
+                .tokenize(
+                        TextCursors.charSequence("a,b\nc,d\n"),
+                        new FakePushableStreamConsumer() {
+                            @Override
+                            public void accept(final TextCursorDelimitedRecord record) {
+                                records.add(record);
+                                fields.add(record.field(1));
+                                values.add(record.field(1).toString());
+                            }
+                        });
+
+        this.checkEquals(2, records.size(), "records");
+        assertSame(records.get(0), records.get(1), "record");
+        assertSame(fields.get(0), fields.get(1), "field");
+        this.checkEquals(Lists.of("b", "d"), values, "values");
+    }
+
+    @Test
+    public void testConsumerFinished() {
+        this.checkEquals(
+                Lists.of(Lists.of("a"), Lists.of("b")),
+                PushableStreamConsumer.<TextCursorDelimitedRecord>stream(
+                        c -> TextCursorDelimitedTokenizer.csv()
+                                .tokenize(TextCursors.charSequence("a\nb\nc\nd"), c)
+                ).limit(2)
+                        .map(TextCursorDelimitedRecord::toList)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    private void csvAndCheck(final String text,
+                             final List<?>... records) {
+        this.tokenizeAndCheck(
+                TextCursorDelimitedTokenizer.csv(),
+                text,
+                records
+        );
+    }
+
+    private void tokenizeAndCheck(final TextCursorDelimitedTokenizer tokenizer,
+                                  final String text,
+                                  final List<?>... records) {
+        this.checkEquals(
+                Lists.of(records),
+                this.tokenize(tokenizer, text),
+                () -> tokenizer + " " + CharSequences.quoteAndEscape(text)
+        );
+    }
+
+    private List<List<String>> tokenize(final TextCursorDelimitedTokenizer tokenizer,
+                                        final String text) {
+        return PushableStreamConsumer.<TextCursorDelimitedRecord>stream(
+                c -> tokenizer.tokenize(TextCursors.charSequence(text), c)
+        ).map(TextCursorDelimitedRecord::toList)
+                .collect(Collectors.toList());
+    }
+
+    static class FakePushableStreamConsumer implements PushableStreamConsumer<TextCursorDelimitedRecord> {
+
+        @Override
+        public boolean isFinished() {
+            return false;
+        }
+
+        @Override
+        public void accept(final TextCursorDelimitedRecord record) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(
+                TextCursorDelimitedTokenizer.with(
+                        CharPredicates.is(','),
+                        CharPredicates.is('"'),
+                        CharPredicates.never()
+                ),
+                "delimiter " + CharPredicates.is(',') + " quote " + CharPredicates.is('"') + " escape " + CharPredicates.never()
+        );
+    }
+
+    @Override
+    public Class<TextCursorDelimitedTokenizer> type() {
+        return TextCursorDelimitedTokenizer.class;
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PUBLIC;
+    }
+}
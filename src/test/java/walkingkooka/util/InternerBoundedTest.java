@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.util;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class InternerBoundedTest implements ClassTesting2<InternerBounded<?>>,
+        ToStringTesting<InternerBounded<?>> {
+
+    @Test
+    public void testWithZeroSizeFails() {
+        assertThrows(IllegalArgumentException.class, () -> InternerBounded.with(0));
+    }
+
+    @Test
+    public void testTableSize() {
+        this.checkEquals(1, InternerBounded.with(1).table.length, "1");
+        this.checkEquals(4, InternerBounded.with(3).table.length, "3");
+        this.checkEquals(4, InternerBounded.with(4).table.length, "4");
+        this.checkEquals(8, InternerBounded.with(5).table.length, "5");
+    }
+
+    @Test
+    public void testInternNullFails() {
+        assertThrows(NullPointerException.class, () -> InternerBounded.with(16).intern(null));
+    }
+
+    @Test
+    public void testIntern() {
+        final Interner<String> interner = InternerBounded.with(16);
+
+        final String value = new String("abc");
+        assertSame(value, interner.intern(value));
+        assertSame(value, interner.intern(new String("abc")));
+    }
+
+    @Test
+    public void testInternManyDistinct() {
+        final Interner<String> interner = InternerBounded.with(1024);
+
+        for (int i = 0; i < 100; i++) {
+            final String value = String.valueOf(i);
+            this.checkEquals(value, interner.intern(value));
+        }
+        for (int i = 0; i < 100; i++) {
+            final String value = String.valueOf(i);
+            this.checkEquals(value, interner.intern(new String(value)));
+        }
+    }
+
+    @Test
+    public void testInternReplacesCollision() {
+        final Interner<String> interner = InternerBounded.with(1);
+
+        final String first = new String("first");
+        final String second = new String("second");
+        assertSame(first, interner.intern(first));
+        assertSame(second, interner.intern(second));
+        assertSame(second, interner.intern(new String("second")));
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(InternerBounded.with(16), "bounded 16");
+    }
+
+    @Override
+    public Class<InternerBounded<?>> type() {
+        return Cast.to(InternerBounded.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}
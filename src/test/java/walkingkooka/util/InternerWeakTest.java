@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 Miroslav Pokorny (github.com/mP1)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package walkingkooka.util;
+
+import org.junit.jupiter.api.Test;
+import walkingkooka.Cast;
+import walkingkooka.ToStringTesting;
+import walkingkooka.reflect.ClassTesting2;
+import walkingkooka.reflect.JavaVisibility;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class InternerWeakTest implements ClassTesting2<InternerWeak<?>>,
+        ToStringTesting<InternerWeak<?>> {
+
+    @Test
+    public void testInternNullFails() {
+        assertThrows(NullPointerException.class, () -> InternerWeak.create().intern(null));
+    }
+
+    @Test
+    public void testIntern() {
+        final InternerWeak<String> interner = InternerWeak.create();
+
+        final String value = new String("abc");
+        assertSame(value, interner.intern(value));
+        assertSame(value, interner.intern(new String("abc")));
+        this.checkEquals(1, interner.size(), "size");
+    }
+
+    @Test
+    public void testInternMany() {
+        final InternerWeak<String> interner = InternerWeak.create();
+        final List<String> values = IntStream.range(0, 1000)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.toList());
+
+        values.forEach(interner::intern);
+
+        for (final String value : values) {
+            assertSame(value, interner.intern(new String(value)));
+        }
+        this.checkEquals(values.size(), interner.size(), "size");
+    }
+
+    @Test
+    public void testInternConcurrent() throws Exception {
+        final InternerWeak<String> interner = InternerWeak.create();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<String>> futures = IntStream.range(0, 100)
+                    .mapToObj(i -> executor.submit(() -> interner.intern(new String("abc"))))
+                    .collect(Collectors.toList());
+
+            final String first = futures.get(0).get();
+            for (final Future<String> future : futures) {
+                assertSame(first, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testToString() {
+        this.toStringAndCheck(InternerWeak.create(), "weak");
+    }
+
+    @Override
+    public Class<InternerWeak<?>> type() {
+        return Cast.to(InternerWeak.class);
+    }
+
+    @Override
+    public JavaVisibility typeVisibility() {
+        return JavaVisibility.PACKAGE_PRIVATE;
+    }
+}